@@ -0,0 +1,630 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.GrizzlyFuture;
+import org.glassfish.grizzly.impl.FutureImpl;
+import org.glassfish.grizzly.impl.SafeFutureImpl;
+import org.glassfish.grizzly.utils.DelayedExecutor;
+import org.glassfish.grizzly.utils.Futures;
+
+/**
+ * The {@link SingleEndpointPool}, which doesn't serialize the {@link Connection} take and release operations on the
+ * pool monitor, so it scales better, when many threads share one endpoint pool.
+ * <p>
+ * A released {@link Connection} is pushed to the lock-free ready {@link Connection}s stack, so the next take claims the
+ * most recently released (cache-warm) {@link Connection} without touching the pool monitor. The consumers waiting for a {@link Connection} are kept in a lock-free queue and get the released
+ * {@link Connection} directly from the releasing thread. The ready, busy and removed states of a {@link Connection} are
+ * switched with CAS, so exactly one thread wins a ready {@link Connection}. The pool monitor is still used to open,
+ * attach, detach and close the {@link Connection}s, and to keep the pool size.
+ * <p>
+ * The time each take operation has taken till a {@link Connection} was obtained is collected in the
+ * {@link #getBorrowLatencyHistogram() borrow latency histogram}.
+ *
+ * @param <E> the address type, for example for TCP transport it's {@link SocketAddress}
+ *
+ * @since 5.0.1
+ */
+public class ConcurrentSingleEndpointPool<E> extends SingleEndpointPool<E> {
+
+    /**
+     * Returns concurrent single endpoint pool {@link Builder}. The {@link Builder#build()} returns
+     * <tt>ConcurrentSingleEndpointPool</tt> instance.
+     *
+     * @param <T> endpoint type
+     * @param endpointType endpoint address type, for example {@link SocketAddress} for TCP and UDP transports
+     * @return {@link Builder}
+     */
+    public static <T> Builder<T> builder(Class<T> endpointType) {
+        return new ConcurrentBuilder<>();
+    }
+
+    private static final int BUSY = 0;
+    private static final int READY = 1;
+    private static final int REMOVED = 2;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ReadyStateInfo> STATE = AtomicIntegerFieldUpdater.newUpdater(ReadyStateInfo.class, "state");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ReadyStateInfo> IS_STACKED = AtomicIntegerFieldUpdater.newUpdater(ReadyStateInfo.class,
+            "isStacked");
+
+    private static final AtomicIntegerFieldUpdater<WaitingPoll> IS_DONE = AtomicIntegerFieldUpdater.newUpdater(WaitingPoll.class, "isDone");
+
+    /**
+     * The stack of ready connections, the most recently released first. A {@link ConnectionInfo} is pushed only if it's not
+     * in the stack yet, and the stack might contain the ones, which have been taken or removed since then, they're skipped
+     * by the poll
+     */
+    private final ConcurrentLinkedDeque<ReadyStateInfo<E>> readyStack = new ConcurrentLinkedDeque<>();
+
+    /**
+     * The waiting list of asynchronous polling clients. The cancelled and timed out ones are unlinked, but might be seen
+     * by a concurrent poll, which skips them
+     */
+    private final ConcurrentLinkedQueue<Link<AsyncPoll>> waitingQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of clients, which are still waiting for a {@link Connection}
+     */
+    private final AtomicInteger waitingCount = new AtomicInteger();
+
+    private final LatencyHistogram borrowLatencyHistogram = new LatencyHistogram();
+
+    /**
+     * Constructs ConcurrentSingleEndpointPool instance.
+     *
+     * @param endpoint {@link Endpoint} to be used to establish new {@link Connection}s
+     * @param corePoolSize the number of {@link Connection}s, kept in the pool, that are immune to keep-alive mechanism
+     * @param maxPoolSize the max number of {@link Connection}s kept by this pool
+     * @param delayedExecutor custom {@link DelayedExecutor} to be used by keep-alive and reconnect mechanisms
+     * @param connectTimeoutMillis timeout, after which, if a connection is not established, it is considered failed
+     * @param keepAliveTimeoutMillis the maximum number of milliseconds an idle {@link Connection} will be kept in the pool
+     * @param keepAliveCheckIntervalMillis the interval, which specifies how often the pool will perform idle
+     * {@link Connection}s check
+     * @param reconnectDelayMillis the delay to be used before the pool will repeat the attempt to connect to the endpoint
+     * after previous connect had failed
+     * @param maxReconnectAttempts the maximum number of reconnect attempts that may be made before failure notification.
+     * @param asyncPollTimeoutMillis the maximum time, the async poll operation could wait for a connection to become
+     * available
+     * @param connectionTTLMillis the maximum time, a connection could stay registered with the pool
+     * @param failFastWhenMaxSizeReached <tt>true</tt> if the "take" method should fail fast if there is no free connection
+     * in the pool and max pool size is reached
+     */
+    protected ConcurrentSingleEndpointPool(final Endpoint<E> endpoint, final int corePoolSize, final int maxPoolSize,
+            final DelayedExecutor delayedExecutor, final long connectTimeoutMillis, final long keepAliveTimeoutMillis,
+            final long keepAliveCheckIntervalMillis, final long reconnectDelayMillis, final int maxReconnectAttempts, final long asyncPollTimeoutMillis,
+            final long connectionTTLMillis, final boolean failFastWhenMaxSizeReached) {
+
+        super(endpoint, corePoolSize, maxPoolSize, delayedExecutor, connectTimeoutMillis, keepAliveTimeoutMillis, keepAliveCheckIntervalMillis,
+                reconnectDelayMillis, maxReconnectAttempts, asyncPollTimeoutMillis, connectionTTLMillis, failFastWhenMaxSizeReached);
+    }
+
+    /**
+     * @return the histogram of the time the take operations have taken till a {@link Connection} was obtained
+     */
+    public LatencyHistogram getBorrowLatencyHistogram() {
+        return borrowLatencyHistogram;
+    }
+
+    /**
+     * @return the number of {@link Connection}s ready to be retrieved and used.
+     */
+    @Override
+    public int getReadyConnectionsCount() {
+        int count = 0;
+        for (ConnectionInfo<E> info : connectionsMap.values()) {
+            if (readyState(info).state == READY) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean isRegistered(final Connection connection) {
+        return connectionsMap.containsKey(connection);
+    }
+
+    @Override
+    public boolean isBusy(final Connection connection) {
+        return isBusy0(connectionsMap.get(connection));
+    }
+
+    @Override
+    boolean isBusy0(final ConnectionInfo<E> connectionRecord) {
+        return connectionRecord != null && readyState(connectionRecord).state != READY;
+    }
+
+    @Override
+    public ConnectionInfo<E> getConnectionInfo(final Connection connection) {
+        return connectionsMap.get(connection);
+    }
+
+    @Override
+    public GrizzlyFuture<Connection> take() {
+        final long startNanos = System.nanoTime();
+
+        if (isClosed) {
+            return Futures.createReadyFuture(new IOException("The pool is closed"));
+        }
+
+        final ConnectionInfo<E> info = pollReady();
+        if (info != null) {
+            borrowLatencyHistogram.record(System.nanoTime() - startNanos);
+            return Futures.createReadyFuture(info.connection);
+        }
+
+        final AsyncPoll asyncPoll = new WaitingPoll(this);
+        final Link<AsyncPoll> pollLink = new Link<>(asyncPoll);
+
+        final FutureImpl<Connection> cancellableFuture = new SafeFutureImpl<Connection>() {
+            @Override
+            protected void onComplete() {
+                try {
+                    if (!isCancelled()) {
+                        get();
+                        borrowLatencyHistogram.record(System.nanoTime() - startNanos);
+                        return;
+                    }
+                } catch (Throwable ignored) {
+                    return;
+                }
+
+                unlinkWaiter(pollLink);
+            }
+        };
+
+        asyncPoll.future = cancellableFuture;
+
+        try {
+            switch (addWaiter(pollLink)) {
+            case 0:
+                return cancellableFuture;
+            case 1:
+                return Futures.createReadyFuture(new IOException("The pool is closed"));
+            default:
+                return Futures.createReadyFuture(new IOException("Max connections exceeded"));
+            }
+        } catch (Exception e) {
+            return Futures.createReadyFuture(e);
+        }
+    }
+
+    @Override
+    public void take(final CompletionHandler<Connection> completionHandler) {
+        if (completionHandler == null) {
+            throw new IllegalArgumentException("The completionHandler argument can not be null");
+        }
+
+        final long startNanos = System.nanoTime();
+
+        if (isClosed) {
+            completionHandler.failed(new IOException("The pool is closed"));
+            return;
+        }
+
+        final ConnectionInfo<E> info = pollReady();
+        if (info != null) {
+            borrowLatencyHistogram.record(System.nanoTime() - startNanos);
+            completionHandler.completed(info.connection);
+            return;
+        }
+
+        final AsyncPoll asyncPoll = new WaitingPoll(this);
+        asyncPoll.completionHandler = new TimedCompletionHandler(completionHandler, startNanos);
+        final Link<AsyncPoll> pollLink = new Link<>(asyncPoll);
+
+        try {
+            switch (addWaiter(pollLink)) {
+            case 0:
+                break;
+            case 1:
+                completionHandler.failed(new IOException("The pool is closed"));
+                break;
+            default:
+                completionHandler.failed(new IOException("Max connections exceeded"));
+            }
+        } catch (Exception e) {
+            completionHandler.failed(e);
+        }
+    }
+
+    @Override
+    public Connection poll() throws IOException {
+        if (isClosed) {
+            throw new IOException("The pool is closed");
+        }
+
+        final ConnectionInfo<E> info = pollReady();
+        return info != null ? info.connection : null;
+    }
+
+    @Override
+    public boolean release(final Connection connection) {
+        final ConnectionInfo<E> info = connectionsMap.get(connection);
+        if (info == null) {
+            connection.closeSilently();
+            return false;
+        }
+
+        return release0(info);
+    }
+
+    @Override
+    boolean release0(final ConnectionInfo<E> connectionInfo) {
+        final ReadyStateInfo<E> info = readyState(connectionInfo);
+        final int state = info.state;
+        if (state == READY) {
+            return false;
+        }
+
+        if (state == REMOVED) {
+            // the connection has been detached or the pool is closed
+            info.connection.closeSilently();
+            return false;
+        }
+
+        // close pooled connection, if keepAliveTimeoutMillis == 0
+        if (getKeepAliveTimeout(TimeUnit.MILLISECONDS) == 0 && poolSize > getCorePoolSize()) {
+            synchronized (poolSync) {
+                if (info.state != BUSY) {
+                    return false;
+                }
+
+                detach(info.connection);
+            }
+
+            info.connection.closeSilently();
+            return false;
+        }
+
+        info.readyTimeStamp = System.currentTimeMillis();
+        if (!STATE.compareAndSet(info, BUSY, READY)) {
+            return false;
+        }
+
+        push(info);
+        handOver();
+
+        return true;
+    }
+
+    @Override
+    protected int getWaitingListSize() {
+        return waitingCount.get();
+    }
+
+    @Override
+    ConnectionInfo<E> createConnectionInfo(final Connection connection) {
+        return new ReadyStateInfo<>(connection, this);
+    }
+
+    @Override
+    void addReady(final ConnectionInfo<E> connectionInfo) {
+        final ReadyStateInfo<E> info = readyState(connectionInfo);
+        info.readyTimeStamp = System.currentTimeMillis();
+        info.state = READY;
+        push(info);
+        handOver();
+    }
+
+    @Override
+    ReadyStateInfo<E> pollReady() {
+        ReadyStateInfo<E> info;
+        while ((info = readyStack.pollFirst()) != null) {
+            // reset the flag before the claim, so if the claim fails, because the connection is busy, its release pushes
+            // it back to the stack
+            info.isStacked = 0;
+            if (STATE.compareAndSet(info, READY, BUSY)) {
+                return info;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    void removeReady(final ConnectionInfo<E> connectionInfo) {
+        final ReadyStateInfo<E> info = readyState(connectionInfo);
+        info.state = REMOVED;
+        if (info.isStacked == 1) {
+            readyStack.remove(info);
+        }
+    }
+
+    @Override
+    boolean isReady0(final ConnectionInfo<E> info) {
+        return readyState(info).state == READY;
+    }
+
+    @Override
+    long getReadyTimeStamp0(final ConnectionInfo<E> connectionInfo) {
+        final ReadyStateInfo<E> info = readyState(connectionInfo);
+        return info.state == READY ? info.readyTimeStamp : -1;
+    }
+
+    @Override
+    AsyncPoll pollWaiter() {
+        Link<AsyncPoll> pollLink;
+        while ((pollLink = waitingQueue.poll()) != null) {
+            if (removeWaiter(pollLink)) {
+                return pollLink.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    boolean removeTimedOutWaiter(final Link<AsyncPoll> pollLink) {
+        return unlinkWaiter(pollLink);
+    }
+
+    @Override
+    void onConnectionTTLExpired(final ConnectionInfo<E> info) {
+        if (STATE.compareAndSet(readyState(info), READY, BUSY)) {
+            info.connection.close();
+        } else {
+            detach(info.connection);
+        }
+    }
+
+    @Override
+    boolean cleanupIdleConnections(final KeepAliveCleanerTask cleanerTask) {
+        synchronized (poolSync) {
+            if (isClosed) {
+                return true;
+            }
+
+            final int corePoolSize = getCorePoolSize();
+            if (poolSize > corePoolSize) {
+                final long keepAliveTimeoutMillis = getKeepAliveTimeout(TimeUnit.MILLISECONDS);
+                final long now = System.currentTimeMillis();
+
+                try {
+                    // the stack isn't strictly ordered by the release time, so check all the ready connections
+                    for (final Iterator<ReadyStateInfo<E>> it = readyStack.iterator(); it.hasNext() && poolSize > corePoolSize;) {
+                        final ReadyStateInfo<E> info = it.next();
+                        if (info.state == READY && now - info.readyTimeStamp >= keepAliveTimeoutMillis && STATE.compareAndSet(info, READY, BUSY)) {
+                            detach(info.connection);
+                            info.connection.closeSilently();
+                        }
+                    }
+                } catch (Exception ignore) {
+                }
+            }
+        }
+
+        cleanerTask.timeoutMillis = System.currentTimeMillis() + getKeepAliveCheckInterval(TimeUnit.MILLISECONDS);
+        return false;
+    }
+
+    /**
+     * @return the number of the clients in the waiting list, including the ones being taken off it.
+     */
+    int getWaitingQueueLength() {
+        return waitingQueue.size();
+    }
+
+    private void push(final ReadyStateInfo<E> info) {
+        if (IS_STACKED.compareAndSet(info, 0, 1)) {
+            readyStack.offerFirst(info);
+        }
+    }
+
+    /**
+     * Adds the client to the waiting list.
+     *
+     * @return <tt>0</tt> if the client is waiting for a {@link Connection}, <tt>1</tt> if the pool is closed, or <tt>2</tt>
+     * if max connections number is exceeded
+     */
+    private int addWaiter(final Link<AsyncPoll> pollLink) {
+        boolean isCreateNewConnection = false;
+
+        if (isFailFastWhenMaxSizeReached() || !isSaturated()) {
+            // a new connection might be needed, so check it consistently with the pool size
+            synchronized (poolSync) {
+                if (isClosed) {
+                    return 1;
+                }
+
+                if (isFailFastWhenMaxSizeReached() && isMaxCapacityReached() && pendingConnections < getWaitingListSize() + 1) {
+                    return 2;
+                }
+
+                enqueue(pollLink);
+                isCreateNewConnection = checkBeforeOpeningConnection();
+            }
+        } else {
+            // if a connection is closed since the check, its close listener sees the waiting client and opens a new one
+            enqueue(pollLink);
+
+            // close() sets the flag before failing the waiting clients, so either it sees the client or the client sees the flag
+            if (isClosed && unlinkWaiter(pollLink)) {
+                return 1;
+            }
+        }
+
+        if (isCreateNewConnection) {
+            connect();
+        }
+
+        // a connection might have been released, before the client was added to the waiting list
+        handOver();
+        return 0;
+    }
+
+    private void enqueue(final Link<AsyncPoll> pollLink) {
+        waitingQueue.offer(pollLink);
+        waitingCount.incrementAndGet();
+        scheduleAsyncPollTimeout(pollLink);
+    }
+
+    /**
+     * Takes the client off the waiting list, unless it has been taken off already.
+     *
+     * @return <tt>true</tt> if the client was waiting, or <tt>false</tt> otherwise
+     */
+    private boolean removeWaiter(final Link<AsyncPoll> pollLink) {
+        if (IS_DONE.compareAndSet((WaitingPoll) pollLink.getValue(), 0, 1)) {
+            waitingCount.decrementAndGet();
+            cancelAsyncPollTimeout(pollLink);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Takes the client, which is not being polled, off the waiting list, and unlinks it, so the cancelled and timed out
+     * clients don't pile up in the waiting list.
+     *
+     * @return <tt>true</tt> if the client was waiting, or <tt>false</tt> otherwise
+     */
+    private boolean unlinkWaiter(final Link<AsyncPoll> pollLink) {
+        if (removeWaiter(pollLink)) {
+            waitingQueue.remove(pollLink);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Passes the ready {@link Connection}s to the waiting clients. Both the releasing thread, after it pushes a
+     * {@link Connection} to the stack, and the waiting client, after it's added to the waiting list, call this method, so
+     * at least one of them sees the other.
+     */
+    private void handOver() {
+        while (waitingCount.get() > 0) {
+            final ReadyStateInfo<E> info = pollReady();
+            if (info == null) {
+                return;
+            }
+
+            final AsyncPoll asyncPoll = pollWaiter();
+            if (asyncPoll == null) {
+                // the client has been taken off by another thread, return the connection, unless it's been removed
+                if (STATE.compareAndSet(info, BUSY, READY)) {
+                    push(info);
+                }
+
+                continue;
+            }
+
+            Futures.notifyResult(asyncPoll.future, asyncPoll.completionHandler, info.connection);
+
+            if (asyncPoll.future != null && asyncPoll.future.isCancelled()) {
+                // the future has been cancelled after the client was taken off the waiting list
+                release0(info);
+            }
+        }
+    }
+
+    private boolean isSaturated() {
+        final int maxPoolSize = getMaxPoolSize();
+        return maxPoolSize != -1 && poolSize + pendingConnections >= maxPoolSize;
+    }
+
+    private static <E> ReadyStateInfo<E> readyState(final ConnectionInfo<E> info) {
+        return (ReadyStateInfo<E>) info;
+    }
+
+    /**
+     * The {@link ConnectionInfo} with the ready state, which is switched with CAS.
+     */
+    static final class ReadyStateInfo<E> extends ConnectionInfo<E> {
+        // busy, ready or removed, the "is in the ready connections stack" flag and the time the connection has been
+        // released at
+        volatile int state;
+        volatile int isStacked;
+        long readyTimeStamp;
+
+        ReadyStateInfo(final Connection connection, final SingleEndpointPool<E> endpointPool) {
+            super(connection, endpointPool);
+        }
+    }
+
+    /**
+     * The {@link AsyncPoll} with the flag, which is set by the thread that takes the client off the waiting list.
+     */
+    static final class WaitingPoll extends AsyncPoll {
+        volatile int isDone;
+
+        WaitingPoll(final SingleEndpointPool<?> pool) {
+            super(pool);
+        }
+    }
+
+    /**
+     * {@link CompletionHandler}, which records the borrow latency, once the {@link Connection} is obtained.
+     */
+    private final class TimedCompletionHandler implements CompletionHandler<Connection> {
+        private final CompletionHandler<Connection> completionHandler;
+        private final long startNanos;
+
+        private TimedCompletionHandler(final CompletionHandler<Connection> completionHandler, final long startNanos) {
+            this.completionHandler = completionHandler;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void cancelled() {
+            completionHandler.cancelled();
+        }
+
+        @Override
+        public void failed(final Throwable throwable) {
+            completionHandler.failed(throwable);
+        }
+
+        @Override
+        public void completed(final Connection result) {
+            borrowLatencyHistogram.record(System.nanoTime() - startNanos);
+            completionHandler.completed(result);
+        }
+
+        @Override
+        public void updated(final Connection result) {
+            completionHandler.updated(result);
+        }
+    }
+
+    private static final class ConcurrentBuilder<E> extends Builder<E> {
+
+        @Override
+        protected SingleEndpointPool<E> build0(final Endpoint<E> e) {
+            return new ConcurrentSingleEndpointPool<>(e, corePoolSize, maxPoolSize, delayedExecutor, connectTimeoutMillis, keepAliveTimeoutMillis,
+                    keepAliveCheckIntervalMillis, reconnectDelayMillis, maxReconnectAttempts, asyncPollTimeoutMillis, connectionTTLMillis,
+                    failFastWhenMaxSizeReached);
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -24,7 +25,7 @@ import org.glassfish.grizzly.Connection;
  * @param <E>
  * @author Alexey Stashok
  */
-public final class ConnectionInfo<E> {
+public class ConnectionInfo<E> {
     final Connection connection;
     final Link<ConnectionInfo<E>> readyStateLink;
     final SingleEndpointPool<E> endpointPool;
@@ -40,14 +41,19 @@ public final class ConnectionInfo<E> {
         pooledTimeStamp = System.currentTimeMillis();
     }
 
+    /**
+     * Closes the {@link Connection}, if it's idle, or detaches it from the pool, if it's being used.
+     */
+    void onTTLExpired() {
+        endpointPool.onConnectionTTLExpired(this);
+    }
+
     /**
      * @return <tt>true</tt> if the {@link Connection} is in ready state, waiting for a user to pull it out from the pool.
      * Returns <tt>false</tt> if the {@link Connection} is currently busy.
      */
     public boolean isReady() {
-        synchronized (endpointPool.poolSync) {
-            return readyStateLink.isAttached();
-        }
+        return endpointPool.isReady0(this);
     }
 
     /**
@@ -55,9 +61,7 @@ public final class ConnectionInfo<E> {
      * to ready, or <tt>-1</tt> if the {@link Connection} is currently in busy state.
      */
     public long getReadyTimeStamp() {
-        synchronized (endpointPool.poolSync) {
-            return readyStateLink.getAttachmentTimeStamp();
-        }
+        return endpointPool.getReadyTimeStamp0(this);
     }
 
     /**
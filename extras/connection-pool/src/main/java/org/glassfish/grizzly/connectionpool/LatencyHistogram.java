@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power of two nanosecond buckets. The bucket <tt>i</tt> counts the latencies in range
+ * <tt>[2<sup>i-1</sup>, 2<sup>i</sup>)</tt> nanoseconds, the bucket <tt>0</tt> counts zero latencies.
+ * <p>
+ * The histogram is updated by many threads at once, so every bucket is a {@link LongAdder} to not make the
+ * measurement itself a contention point.
+ *
+ * @since 5.0.1
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS_COUNT = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS_COUNT];
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    void record(final long nanos) {
+        buckets[bucketFor(Math.max(nanos, 0))].increment();
+    }
+
+    /**
+     * @return the number of the recorded latencies
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            count += buckets[i].sum();
+        }
+
+        return count;
+    }
+
+    /**
+     * @return the number of buckets
+     */
+    public int getBucketsCount() {
+        return BUCKETS_COUNT;
+    }
+
+    /**
+     * @param bucket the bucket index
+     * @return the number of the recorded latencies, which fall into the bucket
+     */
+    public long getBucketCount(final int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     * @param bucket the bucket index
+     * @param timeUnit {@link TimeUnit}
+     * @return the exclusive upper bound of the latencies the bucket counts
+     */
+    public long getBucketUpperBound(final int bucket, final TimeUnit timeUnit) {
+        return timeUnit.convert(bucket == BUCKETS_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the upper bound of the bucket, which the given percentile of the recorded latencies falls into, or
+     * <tt>0</tt> if nothing has been recorded yet.
+     *
+     * @param percentile the percentile in range <tt>(0, 100]</tt>
+     * @param timeUnit {@link TimeUnit}
+     * @return the upper bound of the latencies within the percentile
+     */
+    public long getPercentile(final double percentile, final TimeUnit timeUnit) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile has to be in range (0, 100]");
+        }
+
+        final long[] counts = new long[BUCKETS_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        final long threshold = (long) Math.ceil(total * percentile / 100);
+        long count = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            count += counts[i];
+            if (count >= threshold) {
+                return getBucketUpperBound(i, timeUnit);
+            }
+        }
+
+        return getBucketUpperBound(BUCKETS_COUNT - 1, timeUnit);
+    }
+
+    /**
+     * Resets all the buckets.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            buckets[i].reset();
+        }
+    }
+
+    private static int bucketFor(final long nanos) {
+        return Math.min(64 - Long.numberOfLeadingZeros(nanos), BUCKETS_COUNT - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount() + ", p50=" + getPercentile(50, TimeUnit.NANOSECONDS) + "ns, p99="
+                + getPercentile(99, TimeUnit.NANOSECONDS) + "ns, p99.9=" + getPercentile(99.9, TimeUnit.NANOSECONDS) + "ns}";
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -905,7 +906,7 @@ public class MultiEndpointPool<E> {
             final EndpointPoolImpl prioritizedPool;
 
             synchronized (countersSync) {
-                poolSize--;
+                MultiEndpointPool.this.poolSize--;
                 prioritizedPool = getPrioritizedPool();
             }
 
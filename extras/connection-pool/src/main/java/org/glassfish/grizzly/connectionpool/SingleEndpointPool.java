@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,8 +20,8 @@ package org.glassfish.grizzly.connectionpool;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.SocketAddress;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -100,7 +101,7 @@ public class SingleEndpointPool<E> {
     /**
      * The {@link Map} contains *all* pooled {@link Connection}s
      */
-    private final Map<Connection, ConnectionInfo<E>> connectionsMap = new HashMap<>();
+    final Map<Connection, ConnectionInfo<E>> connectionsMap = new ConcurrentHashMap<>();
 
     /**
      * Sync object
@@ -110,7 +111,7 @@ public class SingleEndpointPool<E> {
     /**
      * close flag
      */
-    private boolean isClosed;
+    volatile boolean isClosed;
 
     /**
      * The thread-pool used by theownDelayedExecutor
@@ -196,11 +197,11 @@ public class SingleEndpointPool<E> {
     /**
      * current pool size
      */
-    private int poolSize;
+    volatile int poolSize;
     /**
      * Number of connections we're currently trying to establish and waiting for the result
      */
-    protected int pendingConnections;
+    protected volatile int pendingConnections;
 
     /**
      * Number of failed connect attempts.
@@ -601,7 +602,7 @@ public class SingleEndpointPool<E> {
                             errorCode = 2;
                         }
                     } else {
-                        future = Futures.createReadyFuture(readyConnections.pollLast().getValue().connection);
+                        future = Futures.createReadyFuture(pollReady().connection);
                     }
                 } else {
                     errorCode = 1;
@@ -671,7 +672,7 @@ public class SingleEndpointPool<E> {
                             errorCode = 2;
                         }
                     } else {
-                        connection = readyConnections.pollLast().getValue().connection;
+                        connection = pollReady().connection;
                     }
                 } else {
                     errorCode = 1;
@@ -714,7 +715,8 @@ public class SingleEndpointPool<E> {
                 throw new IOException("The pool is closed");
             }
 
-            return !readyConnections.isEmpty() ? readyConnections.pollLast().getValue().connection : null;
+            final ConnectionInfo<E> info = pollReady();
+            return info != null ? info.connection : null;
         }
     }
 
@@ -762,9 +764,9 @@ public class SingleEndpointPool<E> {
                 isKeepAlive = false;
             } else {
                 isKeepAlive = true;
-                asyncPoller = getAsyncPoller();
+                asyncPoller = pollWaiter();
                 if (asyncPoller == null) {
-                    readyConnections.offerLast(info.readyStateLink);
+                    addReady(info);
                 }
             }
         }
@@ -858,16 +860,14 @@ public class SingleEndpointPool<E> {
                     ownDelayedExecutorThreadPool.shutdownNow();
                 }
 
-                final int size = readyConnections.size();
-                for (int i = 0; i < size; i++) {
-                    final Connection c = readyConnections.pollLast().getValue().connection;
-                    c.closeSilently();
+                ConnectionInfo<E> info;
+                while ((info = pollReady()) != null) {
+                    info.connection.closeSilently();
                 }
 
-                final int asyncWaitingListSize = asyncWaitingList.size();
+                AsyncPoll asyncPoll;
                 IOException exception = null;
-                for (int i = 0; i < asyncWaitingListSize; i++) {
-                    final AsyncPoll asyncPoll = obtainFromAsyncWaitingList();
+                while ((asyncPoll = pollWaiter()) != null) {
                     if (exception == null) {
                         exception = new IOException("The pool is closed");
                     }
@@ -896,7 +896,7 @@ public class SingleEndpointPool<E> {
      * @return <tt>true</tt> if new connection could be created, or <tt>false</tt> otherwise
      */
     protected boolean checkBeforeOpeningConnection() {
-        if (pendingConnections < asyncWaitingList.size() && !isMaxCapacityReached()) {
+        if (pendingConnections < getWaitingListSize() && !isMaxCapacityReached()) {
             pendingConnections++;
             return true;
         }
@@ -931,7 +931,7 @@ public class SingleEndpointPool<E> {
     ConnectionInfo<E> attach0(final Connection connection) {
         poolSize++;
 
-        final ConnectionInfo<E> info = new ConnectionInfo<>(connection, this);
+        final ConnectionInfo<E> info = createConnectionInfo(connection);
 
         connectionsMap.put(connection, info);
 
@@ -1024,7 +1024,7 @@ public class SingleEndpointPool<E> {
     /**
      * Establish new pool connection.
      */
-    private void connect() {
+    void connect() {
         final GrizzlyFuture<Connection> future = endpoint.connect();
         future.addCompletionHandler(defaultConnectionCompletionHandler);
 
@@ -1035,12 +1035,111 @@ public class SingleEndpointPool<E> {
         }
     }
 
-    private AsyncPoll getAsyncPoller() {
-        if (!asyncWaitingList.isEmpty()) {
-            return obtainFromAsyncWaitingList();
+    /**
+     * Creates the {@link ConnectionInfo} for the newly attached {@link Connection}.
+     */
+    ConnectionInfo<E> createConnectionInfo(final Connection connection) {
+        return new ConnectionInfo<>(connection, this);
+    }
+
+    /**
+     * Switches the {@link ConnectionInfo} to the ready state. The method is called with {@link #poolSync} held.
+     */
+    void addReady(final ConnectionInfo<E> info) {
+        readyConnections.offerLast(info.readyStateLink);
+    }
+
+    /**
+     * Returns the most recently released ready {@link ConnectionInfo} switching it to the busy state, or <tt>null</tt> if
+     * there are no ready {@link Connection}s. The method is called with {@link #poolSync} held.
+     */
+    ConnectionInfo<E> pollReady() {
+        final Link<ConnectionInfo<E>> link = readyConnections.pollLast();
+        return link != null ? link.getValue() : null;
+    }
+
+    /**
+     * Removes the {@link ConnectionInfo} from the ready {@link Connection}s, if it's there. The method is called with
+     * {@link #poolSync} held.
+     */
+    void removeReady(final ConnectionInfo<E> info) {
+        readyConnections.remove(info.readyStateLink);
+    }
+
+    /**
+     * @see ConnectionInfo#isReady()
+     */
+    boolean isReady0(final ConnectionInfo<E> info) {
+        synchronized (poolSync) {
+            return info.readyStateLink.isAttached();
+        }
+    }
+
+    /**
+     * @see ConnectionInfo#getReadyTimeStamp()
+     */
+    long getReadyTimeStamp0(final ConnectionInfo<E> info) {
+        synchronized (poolSync) {
+            return info.readyStateLink.getAttachmentTimeStamp();
+        }
+    }
+
+    /**
+     * Returns the first consumer from the waiting list, or <tt>null</tt> if nobody is waiting for a {@link Connection}. The
+     * method is called with {@link #poolSync} held.
+     */
+    AsyncPoll pollWaiter() {
+        final Link<AsyncPoll> link = asyncWaitingList.pollFirst();
+        if (link == null) {
+            return null;
+        }
+
+        cancelAsyncPollTimeout(link);
+        return link.getValue();
+    }
+
+    /**
+     * Removes the consumer, whose poll timeout has expired, from the waiting list.
+     *
+     * @return <tt>true</tt> if the consumer was still waiting for a {@link Connection} and has to be notified about the
+     * timeout, or <tt>false</tt> otherwise
+     */
+    boolean removeTimedOutWaiter(final Link<AsyncPoll> pollLink) {
+        // even though it's not volatile - dirty check should be good
+        // enough for us, because we don't plan to use pollLink in this thread
+        if (!pollLink.isAttached()) {
+            return false;
+        }
+
+        synchronized (poolSync) {
+            return asyncWaitingList.remove(pollLink);
+        }
+    }
+
+    /**
+     * Closes the {@link Connection}, whose time to live has expired, if it's idle, or detaches it from the pool, if it's
+     * being used.
+     */
+    void onConnectionTTLExpired(final ConnectionInfo<E> info) {
+        synchronized (poolSync) {
+            if (info.isReady()) {
+                info.connection.close();
+            } else {
+                detach(info.connection);
+            }
+        }
+    }
+
+    void scheduleAsyncPollTimeout(final Link<AsyncPoll> pollLink) {
+        if (asyncPollTimeoutMillis >= 0) {
+            asyncPollTimeoutQueue.add(pollLink, asyncPollTimeoutMillis, TimeUnit.MILLISECONDS);
         }
+    }
 
-        return null;
+    void cancelAsyncPollTimeout(final Link<AsyncPoll> pollLink) {
+        if (asyncPollTimeoutMillis >= 0) {
+            asyncPollTimeoutQueue.remove(pollLink);
+        }
     }
 
     private void notifyAsyncPollersOfFailure(final Throwable t) {
@@ -1048,7 +1147,11 @@ public class SingleEndpointPool<E> {
         final int waitersToFail = getWaitingListSize() - pendingConnections;
 
         for (int i = 0; i < waitersToFail; i++) {
-            final AsyncPoll asyncPoll = obtainFromAsyncWaitingList();
+            final AsyncPoll asyncPoll = pollWaiter();
+            if (asyncPoll == null) {
+                break;
+            }
+
             Futures.notifyFailure(asyncPoll.future, asyncPoll.completionHandler, t);
         }
     }
@@ -1058,7 +1161,7 @@ public class SingleEndpointPool<E> {
             connectionTTLQueue.remove(info);
         }
 
-        readyConnections.remove(info.readyStateLink);
+        removeReady(info);
         poolSize--;
 
         onCloseConnection(info);
@@ -1066,27 +1169,14 @@ public class SingleEndpointPool<E> {
 
     private void addToAsyncWaitingList(final Link<AsyncPoll> pollLink) {
         asyncWaitingList.offerLast(pollLink);
-
-        if (asyncPollTimeoutMillis >= 0) {
-            asyncPollTimeoutQueue.add(pollLink, asyncPollTimeoutMillis, TimeUnit.MILLISECONDS);
-        }
-    }
-
-    private AsyncPoll obtainFromAsyncWaitingList() {
-        final Link<AsyncPoll> link = asyncWaitingList.pollFirst();
-
-        if (asyncPollTimeoutMillis >= 0) {
-            asyncPollTimeoutQueue.remove(link);
-        }
-
-        return link.getValue();
+        scheduleAsyncPollTimeout(pollLink);
     }
 
     private boolean removeFromAsyncWaitingList(final Link<AsyncPoll> pollLink) {
         final boolean result = asyncWaitingList.remove(pollLink);
 
-        if (result && asyncPollTimeoutMillis >= 0) {
-            asyncPollTimeoutQueue.remove(pollLink);
+        if (result) {
+            cancelAsyncPollTimeout(pollLink);
         }
 
         return result;
@@ -1121,9 +1211,9 @@ public class SingleEndpointPool<E> {
                         isOk = true;
 
                         final ConnectionInfo<E> info = attach0(connection);
-                        asyncPoller = getAsyncPoller();
+                        asyncPoller = pollWaiter();
                         if (asyncPoller == null) {
-                            readyConnections.offerLast(info.readyStateLink);
+                            addReady(info);
                         }
                     }
                 }
@@ -1158,7 +1248,7 @@ public class SingleEndpointPool<E> {
 
                     // check if there is still a thread(s) waiting for a connection
                     // and reconnect mechanism is enabled
-                    if (reconnectQueue != null && !asyncWaitingList.isEmpty()) {
+                    if (reconnectQueue != null && getWaitingListSize() > 0) {
                         if (LOGGER.isLoggable(Level.FINEST)) {
                             LOGGER.log(Level.FINEST, "Pool connect operation failed, schedule reconnect");
                         }
@@ -1331,24 +1421,16 @@ public class SingleEndpointPool<E> {
 
         @Override
         public boolean doWork(final Link<AsyncPoll> asyncPollLink) {
-            // even though it's not volatile - dirty check should be good
-            // enough for us, because we don't plan to use asyncPollLink in this thread
-            if (asyncPollLink.isAttached()) {
-                final boolean removed;
-                // no volatile barrier, but should be safe, because we access final fields
-                final SingleEndpointPool<?> pool = asyncPollLink.getValue().pool;
-                synchronized (pool.poolSync) {
-                    removed = pool.asyncWaitingList.remove(asyncPollLink);
-                }
-
-                if (removed) {
-                    if (LOGGER.isLoggable(Level.FINEST)) {
-                        LOGGER.log(Level.FINEST, "Async poll timed out for {0}", asyncPollLink.getValue());
-                    }
+            // no volatile barrier, but should be safe, because we access final fields
+            final SingleEndpointPool<?> pool = asyncPollLink.getValue().pool;
 
-                    final AsyncPoll asyncPoll = asyncPollLink.getValue();
-                    Futures.notifyFailure(asyncPoll.future, asyncPoll.completionHandler, new TimeoutException("Poll timeout expired"));
+            if (pool.removeTimedOutWaiter(asyncPollLink)) {
+                if (LOGGER.isLoggable(Level.FINEST)) {
+                    LOGGER.log(Level.FINEST, "Async poll timed out for {0}", asyncPollLink.getValue());
                 }
+
+                final AsyncPoll asyncPoll = asyncPollLink.getValue();
+                Futures.notifyFailure(asyncPoll.future, asyncPoll.completionHandler, new TimeoutException("Poll timeout expired"));
             }
 
             return true;
@@ -1374,10 +1456,10 @@ public class SingleEndpointPool<E> {
         }
     }
 
-    protected static final class AsyncPoll {
+    protected static class AsyncPoll {
         private final SingleEndpointPool pool;
-        private FutureImpl<Connection> future;
-        private CompletionHandler<Connection> completionHandler;
+        FutureImpl<Connection> future;
+        CompletionHandler<Connection> completionHandler;
 
         private long timeout; // timeout stamp
 
@@ -1399,13 +1481,7 @@ public class SingleEndpointPool<E> {
                 LOGGER.log(Level.FINEST, "Connection {0} TTL expired", ci.connection);
             }
 
-            synchronized (ci.endpointPool.poolSync) {
-                if (ci.isReady()) {
-                    ci.connection.close();
-                } else {
-                    ci.endpointPool.detach(ci.connection);
-                }
-            }
+            ci.onTTLExpired();
 
             return true;
         }
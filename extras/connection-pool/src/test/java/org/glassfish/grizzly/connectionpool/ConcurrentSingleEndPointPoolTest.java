@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.connectionpool;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.glassfish.grizzly.Connection;
+import org.junit.Test;
+
+/**
+ * The {@link ConcurrentSingleEndpointPool} tests, on top of the {@link SingleEndpointPool} ones.
+ */
+public class ConcurrentSingleEndPointPoolTest extends SingleEndPointPoolTest {
+
+    @Override
+    SingleEndpointPool.Builder<SocketAddress> newBuilder() {
+        return ConcurrentSingleEndpointPool.builder(SocketAddress.class);
+    }
+
+    @Test
+    public void testLifoOrder() throws Exception {
+        ConcurrentSingleEndpointPool<SocketAddress> pool = (ConcurrentSingleEndpointPool<SocketAddress>) newBuilder().connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).maxPoolSize(2).build();
+
+        try {
+            Connection c1 = pool.take().get();
+            Connection c2 = pool.take().get();
+
+            pool.release(c1);
+            pool.release(c2);
+            assertEquals(2, pool.getReadyConnectionsCount());
+
+            // the most recently released connection comes first
+            assertSame(c2, pool.take().get());
+            assertSame(c1, pool.poll());
+            assertNull(pool.poll());
+
+            pool.release(c2);
+            pool.release(c1);
+            assertSame(c1, pool.poll());
+            assertSame(c2, pool.poll());
+            assertNull(pool.poll());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testContention() throws Exception {
+        final int threadsCount = 32;
+        final int iterations = 2000;
+
+        ConcurrentSingleEndpointPool<SocketAddress> pool = (ConcurrentSingleEndpointPool<SocketAddress>) newBuilder().connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).maxPoolSize(4).build();
+
+        final Set<Connection> busyConnections = ConcurrentHashMap.newKeySet();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(threadsCount);
+
+        try {
+            for (int i = 0; i < threadsCount; i++) {
+                new Thread(() -> {
+                    try {
+                        for (int j = 0; j < iterations; j++) {
+                            final Connection c = pool.take().get(10, SECONDS);
+                            if (!busyConnections.add(c)) {
+                                throw new IllegalStateException("The connection is taken twice " + c);
+                            }
+
+                            busyConnections.remove(c);
+                            pool.release(c);
+                        }
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        latch.countDown();
+                    }
+                }).start();
+            }
+
+            assertTrue(latch.await(60, SECONDS));
+            assertNull(failure.get());
+
+            assertTrue(pool.size() <= 4);
+            assertEquals(pool.size(), pool.getReadyConnectionsCount());
+            assertEquals(0, pool.getWaitingListSize());
+            assertEquals(threadsCount * iterations, pool.getBorrowLatencyHistogram().getCount());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testTimedOutAndCancelledWaitersUnlinked() throws Exception {
+        ConcurrentSingleEndpointPool<SocketAddress> pool = (ConcurrentSingleEndpointPool<SocketAddress>) newBuilder().connectorHandler(transport)
+                .endpointAddress(new InetSocketAddress("localhost", PORT)).maxPoolSize(1).asyncPollTimeout(10, MILLISECONDS).build();
+
+        try {
+            final Connection c = pool.take().get();
+
+            final List<Future<Connection>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(pool.take());
+            }
+            for (int i = 0; i < 100; i++) {
+                final Future<Connection> future = pool.take();
+                future.cancel(false);
+            }
+
+            for (int i = 0; i < 100; i++) {
+                try {
+                    futures.get(i).get(10, SECONDS);
+                    fail("TimeoutException is expected");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof TimeoutException);
+                }
+            }
+
+            assertEquals(0, pool.getWaitingListSize());
+            assertEquals(0, pool.getWaitingQueueLength());
+
+            pool.release(c);
+            assertSame(c, pool.poll());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99, NANOSECONDS));
+
+        histogram.record(0);
+        for (int i = 0; i < 98; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getBucketCount(0));
+        assertEquals(98, histogram.getBucketCount(7));
+        assertEquals(128, histogram.getPercentile(50, NANOSECONDS));
+        assertEquals(128, histogram.getPercentile(99, NANOSECONDS));
+        assertEquals(8192, histogram.getPercentile(100, NANOSECONDS));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -59,7 +60,7 @@ import org.junit.Test;
  * @author Alexey Stashok
  */
 public class SingleEndPointPoolTest {
-    private static int PORT = PORT();
+    static int PORT = PORT();
 
     static int PORT() {
         try {
@@ -73,7 +74,7 @@ public class SingleEndPointPoolTest {
 
     private Set<Connection> serverSideConnections = newSetFromMap(new ConcurrentHashMap<>());
 
-    private TCPNIOTransport transport;
+    TCPNIOTransport transport;
 
     @Before
     public void init() throws IOException {
@@ -113,10 +114,17 @@ public class SingleEndPointPoolTest {
         }
     }
 
+    /**
+     * @return the builder of the tested {@link SingleEndpointPool} implementation
+     */
+    SingleEndpointPool.Builder<SocketAddress> newBuilder() {
+        return SingleEndpointPool.builder(SocketAddress.class);
+    }
+
     @Test
     public void testLocalAddress() throws Exception {
         InetSocketAddress localAddress = new InetSocketAddress("localhost", 60000);
-        SingleEndpointPool<SocketAddress> pool = SingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+        SingleEndpointPool<SocketAddress> pool = newBuilder().connectorHandler(transport)
                 .endpointAddress(new InetSocketAddress("localhost", PORT)).localEndpointAddress(localAddress).build();
 
         try {
@@ -129,7 +137,7 @@ public class SingleEndPointPoolTest {
 
     @Test
     public void testBasicPollRelease() throws Exception {
-        SingleEndpointPool<SocketAddress> pool = SingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+        SingleEndpointPool<SocketAddress> pool = newBuilder().connectorHandler(transport)
                 .endpointAddress(new InetSocketAddress("localhost", PORT)).build();
 
         try {
@@ -182,7 +190,7 @@ public class SingleEndPointPoolTest {
 
     @Test
     public void testPollWaitForRelease() throws Exception {
-        SingleEndpointPool<SocketAddress> pool = SingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+        SingleEndpointPool<SocketAddress> pool = newBuilder().connectorHandler(transport)
                 .endpointAddress(new InetSocketAddress("localhost", PORT)).maxPoolSize(2).build();
 
         try {
@@ -223,7 +231,7 @@ public class SingleEndPointPoolTest {
 
     @Test
     public void testPollTimeout() throws Exception {
-        SingleEndpointPool<SocketAddress> pool = SingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+        SingleEndpointPool<SocketAddress> pool = newBuilder().connectorHandler(transport)
                 .endpointAddress(new InetSocketAddress("localhost", PORT)).corePoolSize(2).maxPoolSize(2).build();
 
         try {
@@ -258,7 +266,7 @@ public class SingleEndPointPoolTest {
 
     @Test
     public void testEmbeddedPollTimeout() throws Exception {
-        SingleEndpointPool<SocketAddress> pool = SingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+        SingleEndpointPool<SocketAddress> pool = newBuilder().connectorHandler(transport)
                 .endpointAddress(new InetSocketAddress("localhost", PORT)).corePoolSize(2).maxPoolSize(2).asyncPollTimeout(2, SECONDS).build();
 
         try {
@@ -302,7 +310,7 @@ public class SingleEndPointPoolTest {
         int corePoolSize = 2;
         int maxPoolSize = 5;
 
-        SingleEndpointPool<SocketAddress> pool = SingleEndpointPool.builder(SocketAddress.class).connectorHandler(transport)
+        SingleEndpointPool<SocketAddress> pool = newBuilder().connectorHandler(transport)
                 .endpointAddress(new InetSocketAddress("localhost", PORT)).corePoolSize(corePoolSize).maxPoolSize(maxPoolSize)
                 .keepAliveTimeout(keepAliveTimeoutMillis, MILLISECONDS).keepAliveCheckInterval(keepAliveCheckIntervalMillis, MILLISECONDS)
                 .build();
@@ -355,7 +363,7 @@ public class SingleEndPointPoolTest {
         };
 
         SingleEndpointPool<SocketAddress> pool = 
-            SingleEndpointPool.builder(SocketAddress.class)
+            newBuilder()
                               .connectorHandler(clientTransport)
                               .endpointAddress(new InetSocketAddress("localhost", PORT))
                               .corePoolSize(4)
@@ -390,7 +398,7 @@ public class SingleEndPointPoolTest {
         TCPNIOTransport clientTransport = TCPNIOTransportBuilder.newInstance().setProcessor(filterChain).build();
 
         SingleEndpointPool<SocketAddress> pool = 
-            SingleEndpointPool.builder(SocketAddress.class)
+            newBuilder()
                               .connectorHandler(clientTransport)
                               .endpointAddress(new InetSocketAddress("localhost", PORT))
                               .corePoolSize(4)
@@ -432,7 +440,7 @@ public class SingleEndPointPoolTest {
     @Test
     public void testConnectionTTL() throws Exception {
         SingleEndpointPool<SocketAddress> pool = 
-            SingleEndpointPool.builder(SocketAddress.class)
+            newBuilder()
                               .connectorHandler(transport)
                               .endpointAddress(new InetSocketAddress("localhost", PORT))
                               .connectionTTL(2, SECONDS)
@@ -472,7 +480,7 @@ public class SingleEndPointPoolTest {
     @Test
     public void testKeepAliveZero() throws Exception {
         SingleEndpointPool<SocketAddress> pool = 
-            SingleEndpointPool.builder(SocketAddress.class)
+            newBuilder()
                               .corePoolSize(2)
                               .maxPoolSize(4)
                               .failFastWhenMaxSizeReached(true)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2007, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,7 +21,6 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -112,9 +111,9 @@ public class CometContext<E> {
      */
     protected NotificationHandler notificationHandler;
     /**
-     * The list of registered {@link CometHandler}
+     * The registered {@link CometHandler}s
      */
-    private final List<CometHandler> handlers;
+    private final CometHandlerRegistry handlers;
     protected final CometEvent<CometContext> eventInterrupt;
     protected final CometEvent<CometContext> eventTerminate;
     private final CometEvent<CometContext> eventInitialize;
@@ -133,7 +132,7 @@ public class CometContext<E> {
     public CometContext(String contextTopic) {
         topic = contextTopic;
         attributes = new ConcurrentHashMap<>();
-        handlers = new CopyOnWriteArrayList<>();
+        handlers = new CometHandlerRegistry();
         eventInterrupt = new CometEvent<>(CometEvent.Type.INTERRUPT, this);
         eventInitialize = new CometEvent<>(CometEvent.Type.INITIALIZE, this);
         eventTerminate = new CometEvent<>(CometEvent.Type.TERMINATE, this, this);
@@ -428,7 +427,12 @@ public class CometContext<E> {
      * @param eventType The type of notification.
      */
     public void notify(E attachment, CometEvent.Type eventType) throws IOException {
-        notificationHandler.notify(new CometEvent<>(eventType, this, attachment), handlers.iterator());
+        final CometEvent<E> event = new CometEvent<>(eventType, this, attachment);
+        if (notificationHandler instanceof DefaultNotificationHandler) {
+            ((DefaultNotificationHandler) notificationHandler).notify(event, handlers);
+        } else {
+            notificationHandler.notify(event, handlers.iterator());
+        }
     }
 
     /**
@@ -462,11 +466,22 @@ public class CometContext<E> {
     }
 
     /**
-     * Return the current list of active {@link CometHandler}
+     * Return the snapshot of the active {@link CometHandler}s in the order they were registered. The snapshot is not
+     * updated when handlers are added or removed later, and modifying it doesn't change the registered handlers. A
+     * handler equal to an already registered one is registered only once.
      *
-     * @return the current list of active {@link CometHandler}
+     * @return the snapshot of the active {@link CometHandler}s
      */
     public List<CometHandler> getCometHandlers() {
+        return handlers.toList();
+    }
+
+    /**
+     * Return the registry of the active {@link CometHandler}s
+     *
+     * @return the registry of the active {@link CometHandler}s
+     */
+    public CometHandlerRegistry getCometHandlerRegistry() {
         return handlers;
     }
 
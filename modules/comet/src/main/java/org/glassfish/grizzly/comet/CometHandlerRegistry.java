@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.comet;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The registry of the {@link CometHandler}s suspended on a {@link CometContext}.
+ * <p>
+ * The handlers are spread over a number of concurrent segments by their hash code, so adding and removing a handler
+ * costs O(1) no matter how many handlers are registered, and the segments are the natural batches for the parallel
+ * notification (see {@link DefaultNotificationHandler#setParallelNotificationThreshold(int)}). The iteration doesn't
+ * copy the registry: it's weakly consistent, it sees every handler, which was registered before the iteration started
+ * and is not removed yet, and may or may not see the concurrent changes. The iteration order is not the registration
+ * order, but the {@link #toList()} snapshot is ordered the way the handlers were registered. Unlike the list the
+ * handlers were kept in before, a handler equal to an already registered one is not registered again.
+ *
+ * @since 5.0.1
+ */
+public final class CometHandlerRegistry implements Iterable<CometHandler> {
+    private static final int DEFAULT_SEGMENTS_COUNT = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1);
+
+    // the handler -> its registration sequence number
+    private final ConcurrentHashMap<CometHandler, Long>[] segments;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public CometHandlerRegistry() {
+        this(DEFAULT_SEGMENTS_COUNT);
+    }
+
+    /**
+     * @param segmentsCount the number of segments, it's rounded up to the power of two
+     */
+    @SuppressWarnings("unchecked")
+    public CometHandlerRegistry(final int segmentsCount) {
+        if (segmentsCount <= 0) {
+            throw new IllegalArgumentException("segmentsCount has to be positive");
+        }
+
+        final int count = segmentsCount == 1 ? 1 : Integer.highestOneBit(segmentsCount - 1) << 1;
+        segments = new ConcurrentHashMap[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new ConcurrentHashMap<>();
+        }
+
+        mask = count - 1;
+    }
+
+    /**
+     * @return <tt>true</tt> if the handler has been added, or <tt>false</tt> if it's already registered
+     */
+    public boolean add(final CometHandler handler) {
+        return segmentFor(handler).putIfAbsent(handler, sequence.getAndIncrement()) == null;
+    }
+
+    /**
+     * @return <tt>true</tt> if the handler has been removed, or <tt>false</tt> if it's not registered
+     */
+    public boolean remove(final CometHandler handler) {
+        return handler != null && segmentFor(handler).remove(handler) != null;
+    }
+
+    public boolean contains(final CometHandler handler) {
+        return handler != null && segmentFor(handler).containsKey(handler);
+    }
+
+    /**
+     * @return the number of the registered handlers, which is not exact, if the registry is being changed concurrently
+     */
+    public int size() {
+        int size = 0;
+        for (Map<CometHandler, Long> segment : segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (Map<CometHandler, Long> segment : segments) {
+            if (!segment.isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void clear() {
+        for (Map<CometHandler, Long> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return the snapshot of the registered handlers in the registration order, the changes of the returned list don't
+     * affect the registry
+     */
+    public List<CometHandler> toList() {
+        final List<Map.Entry<CometHandler, Long>> entries = new ArrayList<>(size());
+        for (Map<CometHandler, Long> segment : segments) {
+            entries.addAll(segment.entrySet());
+        }
+
+        entries.sort(Map.Entry.comparingByValue());
+
+        final List<CometHandler> list = new ArrayList<>(entries.size());
+        for (Map.Entry<CometHandler, Long> entry : entries) {
+            list.add(entry.getKey());
+        }
+
+        return list;
+    }
+
+    /**
+     * @return the number of segments
+     */
+    public int getSegmentsCount() {
+        return segments.length;
+    }
+
+    /**
+     * @param segment the segment index
+     * @return the weakly consistent iterator over the handlers of the segment
+     */
+    public Iterator<CometHandler> iterator(final int segment) {
+        return segments[segment].keySet().iterator();
+    }
+
+    /**
+     * @return the weakly consistent iterator over all the handlers
+     */
+    @Override
+    public Iterator<CometHandler> iterator() {
+        return new Iterator<CometHandler>() {
+            private int segment;
+            private Iterator<CometHandler> current = segments[0].keySet().iterator();
+            private Iterator<CometHandler> last;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (++segment == segments.length) {
+                        return false;
+                    }
+
+                    current = segments[segment].keySet().iterator();
+                }
+
+                return true;
+            }
+
+            @Override
+            public CometHandler next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                last = current;
+                return current.next();
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+
+                last.remove();
+                last = null;
+            }
+        };
+    }
+
+    private ConcurrentHashMap<CometHandler, Long> segmentFor(final CometHandler handler) {
+        final int h = handler.hashCode();
+        return segments[(h ^ (h >>> 16)) & mask];
+    }
+
+    @Override
+    public String toString() {
+        return "CometHandlerRegistry{size=" + size() + ", segments=" + segments.length + '}';
+    }
+}
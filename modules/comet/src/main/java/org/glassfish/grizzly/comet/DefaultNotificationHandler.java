@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2007, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,8 +18,12 @@
 package org.glassfish.grizzly.comet;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,16 +42,43 @@ public class DefaultNotificationHandler implements NotificationHandler {
      */
     protected ExecutorService threadPool;
 
+    /**
+     * The number of handlers, starting from which they're notified in parallel, or <tt>-1</tt>, if the parallel
+     * notification is disabled.
+     */
+    private volatile int parallelNotificationThreshold = -1;
+
     public DefaultNotificationHandler() {
     }
 
     /**
      * Set the {@link ExecutorService} used for notifying the CometHandler.
      */
-    protected void setThreadPool(ExecutorService threadPool) {
+    public void setThreadPool(ExecutorService threadPool) {
         this.threadPool = threadPool;
     }
 
+    /**
+     * @return the number of handlers, starting from which they're notified in parallel, or <tt>-1</tt>, if the parallel
+     * notification is disabled
+     */
+    public int getParallelNotificationThreshold() {
+        return parallelNotificationThreshold;
+    }
+
+    /**
+     * Enables the parallel notification of the {@link CometContext} handlers, if there are at least the given number of
+     * them. The {@link CometHandlerRegistry} segments are notified in parallel batches by the thread pool (see
+     * {@link #setThreadPool(ExecutorService)}) and the notifying thread, which returns once all the batches are
+     * notified. The parallel notification is disabled by default.
+     *
+     * @param parallelNotificationThreshold the number of handlers, starting from which they're notified in parallel, or
+     * <tt>-1</tt> to disable the parallel notification
+     */
+    public void setParallelNotificationThreshold(final int parallelNotificationThreshold) {
+        this.parallelNotificationThreshold = parallelNotificationThreshold;
+    }
+
     /**
      * Notify all {@link CometHandler}.
      *
@@ -60,6 +92,44 @@ public class DefaultNotificationHandler implements NotificationHandler {
         }
     }
 
+    /**
+     * Notify all the {@link CometHandler}s registered in the {@link CometHandlerRegistry}. The handlers are notified in
+     * parallel batches, if the parallel notification is enabled and there is a thread pool set, or by
+     * {@link #notify(CometEvent, Iterator)} otherwise.
+     *
+     * @param cometEvent the CometEvent used to notify CometHandler
+     * @param handlers the {@link CometHandlerRegistry}
+     */
+    public void notify(final CometEvent cometEvent, final CometHandlerRegistry handlers) throws IOException {
+        final int threshold = parallelNotificationThreshold;
+        final ExecutorService executor = threadPool;
+        final int segmentsCount = handlers.getSegmentsCount();
+
+        if (threshold < 0 || executor == null || segmentsCount == 1 || handlers.size() < threshold) {
+            notify(cometEvent, handlers.iterator());
+            return;
+        }
+
+        final ParallelNotification notification = new ParallelNotification(cometEvent, handlers);
+        for (int i = 1; i < segmentsCount; i++) {
+            try {
+                executor.execute(notification);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+
+        // the notifying thread takes the batches as well, so it's not blocked, if the thread pool is busy
+        notification.run();
+
+        try {
+            notification.batchesLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the notification to complete");
+        }
+    }
+
     /**
      * Notify the {@link CometHandler}.
      *
@@ -113,4 +183,39 @@ public class DefaultNotificationHandler implements NotificationHandler {
         }
     }
 
+    /**
+     * The parallel notification task, the threads running it take the {@link CometHandlerRegistry} segments one by one
+     * till there are no segments left.
+     */
+    private final class ParallelNotification implements Runnable {
+        private final CometEvent cometEvent;
+        private final CometHandlerRegistry handlers;
+        private final AtomicInteger nextSegment = new AtomicInteger();
+        private final CountDownLatch batchesLatch;
+
+        private ParallelNotification(final CometEvent cometEvent, final CometHandlerRegistry handlers) {
+            this.cometEvent = cometEvent;
+            this.handlers = handlers;
+            batchesLatch = new CountDownLatch(handlers.getSegmentsCount());
+        }
+
+        @Override
+        public void run() {
+            int segment;
+            while ((segment = nextSegment.getAndIncrement()) < handlers.getSegmentsCount()) {
+                try {
+                    for (final Iterator<CometHandler> it = handlers.iterator(segment); it.hasNext();) {
+                        try {
+                            DefaultNotificationHandler.this.notify(cometEvent, it.next());
+                        } catch (Throwable t) {
+                            logger.log(Level.FINE, "Notification failed: ", t);
+                        }
+                    }
+                } finally {
+                    batchesLatch.countDown();
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.comet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Test {@link CometHandlerRegistry} and the parallel notification of its handlers.
+ */
+public class CometHandlerRegistryTest {
+
+    @Test
+    public void addRemoveIterate() {
+        final CometHandlerRegistry registry = new CometHandlerRegistry(5);
+        assertEquals(8, registry.getSegmentsCount());
+        assertTrue(registry.isEmpty());
+
+        final List<CometHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            final CometHandler handler = new DefaultCometHandler();
+            handlers.add(handler);
+            assertTrue(registry.add(handler));
+        }
+
+        assertFalse(registry.add(handlers.get(0)));
+        assertEquals(10000, registry.size());
+
+        for (int i = 0; i < 10000; i += 2) {
+            assertTrue(registry.remove(handlers.get(i)));
+        }
+
+        assertFalse(registry.remove(handlers.get(0)));
+        assertFalse(registry.contains(handlers.get(0)));
+        assertTrue(registry.contains(handlers.get(1)));
+        assertEquals(5000, registry.size());
+        assertEquals(5000, registry.toList().size());
+
+        int count = 0;
+        for (final Iterator<CometHandler> it = registry.iterator(); it.hasNext();) {
+            final CometHandler handler = it.next();
+            assertTrue(handlers.indexOf(handler) % 2 == 1);
+            if (count++ % 2 == 0) {
+                it.remove();
+            }
+        }
+
+        assertEquals(5000, count);
+        assertEquals(2500, registry.size());
+
+        registry.clear();
+        assertTrue(registry.isEmpty());
+        assertFalse(registry.iterator().hasNext());
+    }
+
+    @Test
+    public void registrationOrder() {
+        final CometHandlerRegistry registry = new CometHandlerRegistry(16);
+        final List<CometHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final CometHandler handler = new DefaultCometHandler();
+            handlers.add(handler);
+            registry.add(handler);
+        }
+
+        assertEquals(handlers, registry.toList());
+
+        // a re-registered handler goes to the end
+        registry.remove(handlers.get(0));
+        registry.add(handlers.get(0));
+        handlers.add(handlers.remove(0));
+        assertEquals(handlers, registry.toList());
+
+        // the snapshot is not backed by the registry
+        registry.toList().clear();
+        assertEquals(1000, registry.size());
+    }
+
+    @Test
+    public void parallelNotification() throws Exception {
+        final ExecutorService threadPool = Executors.newFixedThreadPool(4);
+        try {
+            final DefaultNotificationHandler notificationHandler = new DefaultNotificationHandler();
+            notificationHandler.setThreadPool(threadPool);
+            notificationHandler.setParallelNotificationThreshold(100);
+
+            final CometHandlerRegistry registry = new CometHandlerRegistry(16);
+            final CountingCometHandler[] handlers = new CountingCometHandler[10000];
+            for (int i = 0; i < handlers.length; i++) {
+                handlers[i] = new CountingCometHandler();
+                registry.add(handlers[i]);
+            }
+
+            notificationHandler.notify(new CometEvent<>(CometEvent.Type.INITIALIZE, new CometContext<>("parallel")), registry);
+
+            // every handler is notified exactly once, before notify returns
+            for (CountingCometHandler handler : handlers) {
+                assertEquals(1, handler.initialized.get());
+            }
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void parallelNotificationBusyThreadPool() throws Exception {
+        final ExecutorService threadPool = Executors.newSingleThreadExecutor();
+        final CountDownLatch blocker = new CountDownLatch(1);
+        try {
+            // the only thread pool thread is busy, so the notifying thread has to notify all the batches itself
+            threadPool.execute(() -> {
+                try {
+                    blocker.await();
+                } catch (InterruptedException ignored) {
+                }
+            });
+
+            final DefaultNotificationHandler notificationHandler = new DefaultNotificationHandler();
+            notificationHandler.setThreadPool(threadPool);
+            notificationHandler.setParallelNotificationThreshold(0);
+
+            final CometHandlerRegistry registry = new CometHandlerRegistry(4);
+            final CountingCometHandler handler = new CountingCometHandler();
+            registry.add(handler);
+
+            notificationHandler.notify(new CometEvent<>(CometEvent.Type.INITIALIZE, new CometContext<>("busy")), registry);
+            assertEquals(1, handler.initialized.get());
+        } finally {
+            blocker.countDown();
+            threadPool.shutdown();
+            assertTrue(threadPool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static final class CountingCometHandler extends DefaultCometHandler<Object> {
+        private final AtomicInteger initialized = new AtomicInteger();
+
+        @Override
+        public void onInitialize(final CometEvent event) {
+            initialized.incrementAndGet();
+        }
+    }
+}
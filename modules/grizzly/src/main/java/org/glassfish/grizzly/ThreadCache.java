@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,10 +20,18 @@ package org.glassfish.grizzly;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.glassfish.grizzly.threadpool.DefaultWorkerThread;
 
 /**
+ * Per-thread object cache.
+ * <p>
+ * {@link DefaultWorkerThread}s keep the cached objects in their own fields, other platform threads use the
+ * {@link ThreadLocal} cache. Virtual threads are usually created per task, so the objects they put to the
+ * thread-local cache would die with them; instead they recycle the objects through the shared striped cache, which
+ * never blocks: if the stripe is busy the object is just not cached. The objects of the type, which was ever peeked
+ * using {@link #getFromCache(CachedTypeIndex)}, are bound to the thread, so they are never shared.
  *
  * @author oleksiys
  */
@@ -35,6 +44,8 @@ public final class ThreadCache {
 
     private static final ThreadLocal<ObjectCache> genericCacheAttr = new ThreadLocal<>();
 
+    private static final StripedObjectCache virtualThreadCache = new StripedObjectCache(Runtime.getRuntime().availableProcessors());
+
     public static synchronized <E> CachedTypeIndex<E> obtainIndex(Class<E> clazz, int size) {
         return obtainIndex(clazz.getName(), clazz, size);
 
@@ -59,6 +70,8 @@ public final class ThreadCache {
     public static <E> boolean putToCache(final Thread currentThread, final CachedTypeIndex<E> index, final E o) {
         if (currentThread instanceof DefaultWorkerThread) {
             return ((DefaultWorkerThread) currentThread).putToCache(index, o);
+        } else if (currentThread.isVirtual() && !index.threadBound) {
+            return virtualThreadCache.put(currentThread, index, o);
         } else {
             ObjectCache genericCache = genericCacheAttr.get();
             if (genericCache == null) {
@@ -97,6 +110,11 @@ public final class ThreadCache {
         if (currentThread instanceof DefaultWorkerThread) {
             return ((DefaultWorkerThread) currentThread).getFromCache(index);
         } else {
+            if (!index.threadBound) {
+                // the peeked object has to stay with the thread
+                index.threadBound = true;
+            }
+
             final ObjectCache genericCache = genericCacheAttr.get();
             if (genericCache != null) {
                 return genericCache.get(index);
@@ -130,6 +148,8 @@ public final class ThreadCache {
     public static <E> E takeFromCache(final Thread currentThread, final CachedTypeIndex<E> index) {
         if (currentThread instanceof DefaultWorkerThread) {
             return ((DefaultWorkerThread) currentThread).takeFromCache(index);
+        } else if (currentThread.isVirtual() && !index.threadBound) {
+            return virtualThreadCache.take(currentThread, index);
         } else {
             final ObjectCache genericCache = genericCacheAttr.get();
             if (genericCache != null) {
@@ -213,6 +233,83 @@ public final class ThreadCache {
         }
     }
 
+    /**
+     * The cache shared by virtual threads. The thread works with the stripe selected by its id, or the next one if the
+     * stripe is locked by another thread, so the contention doesn't make it wait.
+     */
+    static final class StripedObjectCache {
+        private static final int PROBES = 2;
+
+        private final Stripe[] stripes;
+        private final int mask;
+
+        StripedObjectCache(final int concurrencyLevel) {
+            final int size = Integer.highestOneBit(Math.max(PROBES, concurrencyLevel) - 1) << 1;
+            stripes = new Stripe[size];
+            for (int i = 0; i < size; i++) {
+                stripes[i] = new Stripe();
+            }
+
+            mask = size - 1;
+        }
+
+        <E> boolean put(final Thread thread, final CachedTypeIndex<E> index, final E o) {
+            final int home = stripeIndex(thread);
+            for (int i = 0; i < PROBES; i++) {
+                final Stripe stripe = stripes[home + i & mask];
+                if (stripe.tryLock()) {
+                    try {
+                        if (stripe.cache.put(index, o)) {
+                            return true;
+                        }
+                    } finally {
+                        stripe.unlock();
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        <E> E take(final Thread thread, final CachedTypeIndex<E> index) {
+            final int home = stripeIndex(thread);
+            for (int i = 0; i < PROBES; i++) {
+                final Stripe stripe = stripes[home + i & mask];
+                if (stripe.tryLock()) {
+                    try {
+                        final E o = stripe.cache.take(index);
+                        if (o != null) {
+                            return o;
+                        }
+                    } finally {
+                        stripe.unlock();
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        private int stripeIndex(final Thread thread) {
+            final long id = thread.threadId();
+            final int h = (int) (id ^ id >>> 32) * 0x9E3779B9;
+            return (h ^ h >>> 16) & mask;
+        }
+
+        @SuppressWarnings("serial")
+        private static final class Stripe extends AtomicBoolean {
+            private final ObjectCache cache = new ObjectCache();
+
+            boolean tryLock() {
+                return !get() && compareAndSet(false, true);
+            }
+
+            void unlock() {
+                set(false);
+            }
+        }
+    }
+
     public static final class ObjectCacheElement {
         private final int size;
         private final Object[] cache;
@@ -270,6 +367,9 @@ public final class ThreadCache {
         private final int size;
         private final String name;
 
+        // set once the object is peeked by the thread other than DefaultWorkerThread
+        private volatile boolean threadBound;
+
         public CachedTypeIndex(final int index, final String name, final Class<E> clazz, final int size) {
             this.index = index;
             this.name = name;
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -104,6 +105,24 @@ public interface TransportProbe {
      */
     void onErrorEvent(Transport transport, Throwable error);
 
+    /**
+     * Method will be called by the selector thread after each select, so it should be cheap.
+     *
+     * @param transport {@link Transport}, the event belongs to.
+     * @param selectedKeysCount the number of the selected keys
+     * @param tasksCount the number of the selector tasks executed before the select
+     */
+    default void onSelectEvent(Transport transport, int selectedKeysCount, int tasksCount) {
+    }
+
+    /**
+     * Method will be called, when the spinning selector gets replaced with the new one.
+     *
+     * @param transport {@link Transport}, the event belongs to.
+     */
+    default void onSelectorRebuildEvent(Transport transport) {
+    }
+
     // ---------------------------------------------------------- Nested Classes
 
     /**
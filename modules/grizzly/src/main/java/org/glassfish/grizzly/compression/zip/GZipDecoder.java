@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -69,6 +70,19 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
         return "gzip-decoder";
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(AttributeStorage storage) {
+        final GZipInputState state = (GZipInputState) stateAttr.get(storage);
+        if (state != null) {
+            state.releaseInflater();
+        }
+
+        super.release(storage);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -109,6 +123,7 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
             if (decodeTrailer(input, state)) {
                 state.setDecodeStatus(DecodeStatus.DONE);
                 state.setInitialized(false);
+                state.releaseInflater();
             }
         }
 
@@ -202,16 +217,15 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
 
     private boolean initializeInput(final Buffer buffer, final GZipInputState state) {
 
-        Inflater inflater = state.getInflater();
-        if (inflater == null) {
-            inflater = new Inflater(true);
-            final CRC32 crc32 = new CRC32();
-            crc32.reset();
-            state.setInflater(inflater);
-            state.setCrc32(crc32);
-        } else if (state.getDecodeStatus() == DecodeStatus.DONE) {
+        if (state.getInflater() == null) {
+            // the inflater of the previous GZIP member, if any, was returned to the pool
+            state.setInflater(ZlibPool.DEFAULT_POOL.takeInflater(true));
             state.setDecodeStatus(DecodeStatus.INITIAL);
-            inflater.reset();
+
+            if (state.getCrc32() == null) {
+                state.setCrc32(new CRC32());
+            }
+
             state.getCrc32().reset();
         }
         if (!parseHeader(buffer, state)) {
@@ -429,6 +443,13 @@ public class GZipDecoder extends AbstractTransformer<Buffer, Buffer> {
             this.inflater = inflater;
         }
 
+        private void releaseInflater() {
+            if (inflater != null) {
+                ZlibPool.DEFAULT_POOL.offerInflater(inflater, true);
+                inflater = null;
+            }
+        }
+
         public CRC32 getCrc32() {
             return crc32;
         }
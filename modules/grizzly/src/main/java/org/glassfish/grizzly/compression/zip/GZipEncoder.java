@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -94,6 +95,19 @@ public class GZipEncoder extends AbstractTransformer<Buffer, Buffer> {
         return input.hasRemaining();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(AttributeStorage storage) {
+        final GZipOutputState state = (GZipOutputState) stateAttr.get(storage);
+        if (state != null && state.isInitialized) {
+            state.reset();
+        }
+
+        super.release(storage);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -291,11 +305,9 @@ public class GZipEncoder extends AbstractTransformer<Buffer, Buffer> {
         private Deflater deflater;
 
         private void initialize(int compressionLevel, int compressionStrategy) {
-            final Deflater newDeflater = new Deflater(compressionLevel, true);
-            newDeflater.setStrategy(compressionStrategy);
             final CRC32 newCrc32 = new CRC32();
             newCrc32.reset();
-            deflater = newDeflater;
+            deflater = ZlibPool.DEFAULT_POOL.takeDeflater(compressionLevel, compressionStrategy, true);
             crc32 = newCrc32;
             isInitialized = true;
         }
@@ -303,7 +315,8 @@ public class GZipEncoder extends AbstractTransformer<Buffer, Buffer> {
         private void reset() {
             isInitialized = false;
             isHeaderWritten = false;
-            deflater.end(); // ensure we don't leak memory in native compression library
+            // the pool either keeps the deflater or ends it, so the native memory isn't leaked
+            ZlibPool.DEFAULT_POOL.offerDeflater(deflater, true);
             crc32 = null;
             deflater = null;
         }
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.compression.zip;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Bounded pool of the {@link Deflater}s and {@link Inflater}s, which lets the compression transformers reuse the
+ * native zlib streams instead of creating and ending them for every connection or HTTP message.
+ * <p>
+ * The pool is split into stripes and every thread starts with its own home stripe, so the objects released by a
+ * thread are usually taken by the same thread again, and the threads rarely contend. The pool never blocks: if the
+ * stripes are busy, a new object is created on take, and the released object is ended on offer. The objects, which
+ * don't fit the pool, are ended as well, so the native memory is freed right away rather than by the garbage
+ * collector.
+ *
+ * @since 5.0.1
+ */
+public final class ZlibPool {
+    /**
+     * The default pool, which is used by {@link GZipEncoder} and {@link GZipDecoder}.
+     */
+    public static final ZlibPool DEFAULT_POOL = new ZlibPool(Runtime.getRuntime().availableProcessors(),
+            Integer.getInteger(ZlibPool.class.getName() + ".stripe-size", 4));
+
+    // approximate native zlib memory of the stream with the default window and memory level
+    private static final long DEFLATER_FOOTPRINT = (1 << 17) + (1 << 17) + 6 * 1024;
+    private static final long INFLATER_FOOTPRINT = (1 << 15) + 7 * 1024;
+
+    private static final int PROBES = 2;
+
+    private static final int DEFLATER = 0;
+    private static final int DEFLATER_NOWRAP = 1;
+    private static final int INFLATER = 2;
+    private static final int INFLATER_NOWRAP = 3;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicInteger pooledDeflaters = new AtomicInteger();
+    private final AtomicInteger pooledInflaters = new AtomicInteger();
+
+    /**
+     * @param concurrencyLevel the expected number of threads, which use the pool concurrently
+     * @param stripeSize the max number of objects of every kind kept by a stripe
+     */
+    public ZlibPool(final int concurrencyLevel, final int stripeSize) {
+        if (stripeSize < 0) {
+            throw new IllegalArgumentException("stripeSize can't be negative");
+        }
+
+        final int size = Integer.highestOneBit(Math.max(PROBES, concurrencyLevel) - 1) << 1;
+        stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(stripeSize);
+        }
+
+        mask = size - 1;
+    }
+
+    /**
+     * Takes the pooled {@link Deflater}, or creates a new one if there is none.
+     *
+     * @param level the compression level
+     * @param strategy the compression strategy
+     * @param nowrap if <tt>true</tt> the ZLIB header and checksum fields are not used (the raw DEFLATE format)
+     * @return the {@link Deflater}
+     */
+    public Deflater takeDeflater(final int level, final int strategy, final boolean nowrap) {
+        final Deflater deflater = (Deflater) take(nowrap ? DEFLATER_NOWRAP : DEFLATER);
+        if (deflater == null) {
+            misses.incrementAndGet();
+            final Deflater newDeflater = new Deflater(level, nowrap);
+            newDeflater.setStrategy(strategy);
+            return newDeflater;
+        }
+
+        hits.incrementAndGet();
+        pooledDeflaters.decrementAndGet();
+        // the stream was reset on offer, so the new parameters apply to the whole next stream
+        deflater.setLevel(level);
+        deflater.setStrategy(strategy);
+        return deflater;
+    }
+
+    /**
+     * Returns the {@link Deflater} to the pool. The {@link Deflater} is reset, or ended if the pool is full, so it must
+     * not be used by the caller anymore.
+     *
+     * @param deflater the {@link Deflater}
+     * @param nowrap the <tt>nowrap</tt> mode the {@link Deflater} was taken with
+     */
+    public void offerDeflater(final Deflater deflater, final boolean nowrap) {
+        deflater.reset();
+        if (offer(nowrap ? DEFLATER_NOWRAP : DEFLATER, deflater)) {
+            pooledDeflaters.incrementAndGet();
+        } else {
+            evictions.incrementAndGet();
+            deflater.end();
+        }
+    }
+
+    /**
+     * Takes the pooled {@link Inflater}, or creates a new one if there is none.
+     *
+     * @param nowrap if <tt>true</tt> the ZLIB header and checksum fields are not used (the raw DEFLATE format)
+     * @return the {@link Inflater}
+     */
+    public Inflater takeInflater(final boolean nowrap) {
+        final Inflater inflater = (Inflater) take(nowrap ? INFLATER_NOWRAP : INFLATER);
+        if (inflater == null) {
+            misses.incrementAndGet();
+            return new Inflater(nowrap);
+        }
+
+        hits.incrementAndGet();
+        pooledInflaters.decrementAndGet();
+        return inflater;
+    }
+
+    /**
+     * Returns the {@link Inflater} to the pool. The {@link Inflater} is reset, or ended if the pool is full, so it must
+     * not be used by the caller anymore.
+     *
+     * @param inflater the {@link Inflater}
+     * @param nowrap the <tt>nowrap</tt> mode the {@link Inflater} was taken with
+     */
+    public void offerInflater(final Inflater inflater, final boolean nowrap) {
+        inflater.reset();
+        if (offer(nowrap ? INFLATER_NOWRAP : INFLATER, inflater)) {
+            pooledInflaters.incrementAndGet();
+        } else {
+            evictions.incrementAndGet();
+            inflater.end();
+        }
+    }
+
+    /**
+     * Ends and removes all the pooled objects.
+     */
+    public void clear() {
+        for (final Stripe stripe : stripes) {
+            while (!stripe.tryLock()) {
+                Thread.onSpinWait();
+            }
+
+            try {
+                for (int kind = 0; kind < stripe.stacks.length; kind++) {
+                    final Object[] stack = stripe.stacks[kind];
+                    for (int i = 0; i < stripe.sizes[kind]; i++) {
+                        if (kind < INFLATER) {
+                            ((Deflater) stack[i]).end();
+                            pooledDeflaters.decrementAndGet();
+                        } else {
+                            ((Inflater) stack[i]).end();
+                            pooledInflaters.decrementAndGet();
+                        }
+
+                        stack[i] = null;
+                    }
+
+                    stripe.sizes[kind] = 0;
+                }
+            } finally {
+                stripe.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return the number of takes, which were served by the pooled objects
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of takes, which had to create a new object
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of offered objects, which were ended, because the pool was full or busy
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the number of {@link Deflater}s kept by the pool
+     */
+    public int getPooledDeflatersCount() {
+        return pooledDeflaters.get();
+    }
+
+    /**
+     * @return the number of {@link Inflater}s kept by the pool
+     */
+    public int getPooledInflatersCount() {
+        return pooledInflaters.get();
+    }
+
+    /**
+     * Returns the estimate of the native zlib memory held by the pooled objects. The estimate assumes the default window
+     * size and memory level.
+     *
+     * @return the estimated native memory size in bytes
+     */
+    public long getNativeMemoryHeld() {
+        return pooledDeflaters.get() * DEFLATER_FOOTPRINT + pooledInflaters.get() * INFLATER_FOOTPRINT;
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private Object take(final int kind) {
+        final int home = stripeIndex();
+        for (int i = 0; i < PROBES; i++) {
+            final Stripe stripe = stripes[home + i & mask];
+            if (stripe.tryLock()) {
+                try {
+                    final int size = stripe.sizes[kind];
+                    if (size > 0) {
+                        final Object[] stack = stripe.stacks[kind];
+                        final Object o = stack[size - 1];
+                        stack[size - 1] = null;
+                        stripe.sizes[kind] = size - 1;
+                        return o;
+                    }
+                } finally {
+                    stripe.unlock();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private boolean offer(final int kind, final Object o) {
+        final int home = stripeIndex();
+        for (int i = 0; i < PROBES; i++) {
+            final Stripe stripe = stripes[home + i & mask];
+            if (stripe.tryLock()) {
+                try {
+                    final Object[] stack = stripe.stacks[kind];
+                    final int size = stripe.sizes[kind];
+                    if (size < stack.length) {
+                        stack[size] = o;
+                        stripe.sizes[kind] = size + 1;
+                        return true;
+                    }
+                } finally {
+                    stripe.unlock();
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private int stripeIndex() {
+        final long id = Thread.currentThread().threadId();
+        final int h = (int) (id ^ id >>> 32) * 0x9E3779B9;
+        return (h ^ h >>> 16) & mask;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Stripe extends AtomicBoolean {
+        private final Object[][] stacks;
+        private final int[] sizes = new int[4];
+
+        Stripe(final int stripeSize) {
+            stacks = new Object[4][stripeSize];
+        }
+
+        boolean tryLock() {
+            return !get() && compareAndSet(false, true);
+        }
+
+        void unlock() {
+            set(false);
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -43,6 +44,32 @@ public interface MemoryProbe {
      */
     void onBufferReleaseToPoolEvent(int size);
 
+    /**
+     * Called by the {@link PooledMemoryManager}, when buffer gets allocated from the pool slice, which is picked for the
+     * current thread (the home slice, if the slice affinity is enabled).
+     *
+     * @param size buffer size
+     */
+    default void onSliceHitEvent(int size) {
+    }
+
+    /**
+     * Called by the {@link PooledMemoryManager}, when the thread's home slice is empty and the buffer gets allocated from
+     * a neighbor slice.
+     *
+     * @param size buffer size
+     */
+    default void onSliceStealEvent(int size) {
+    }
+
+    /**
+     * Called by the {@link PooledMemoryManager}, when there was no pooled buffer to allocate, so the new one gets created.
+     *
+     * @param size buffer size
+     */
+    default void onSliceMissEvent(int size) {
+    }
+
     // ---------------------------------------------------------- Nested Classes
 
     /**
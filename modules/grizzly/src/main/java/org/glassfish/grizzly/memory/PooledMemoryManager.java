@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,8 +45,14 @@ import org.glassfish.grizzly.monitoring.MonitoringUtils;
  * <li>The percentage of the heap that this manager will use when populating the pools</li>
  * <li>The percentage of buffers to be pre-allocated during MemoryManager initialization</li>
  * <li>The flag indicating whether direct or heap based {@link Buffer}s will be allocated</li>
+ * <li>The flag indicating whether every thread allocates from its own home pool slice</li>
  * </ul>
  *
+ * By default the pool slice to allocate from is picked randomly, so the buffer is often returned to the slice, which
+ * is polled by other threads. In the slice affinity mode every thread gets its home slice assigned, so the slice indexes
+ * are mostly touched by the same thread; if the home slice is empty, the buffer is stolen from the neighbor slices
+ * before the new one gets allocated.
+ *
  * If no explicit configuration is provided, the following defaults will be used:
  * <ul>
  * <li>Base buffer size: 4 KiB ({@link #DEFAULT_BASE_BUFFER_SIZE})</li>
@@ -56,6 +63,8 @@ import org.glassfish.grizzly.monitoring.MonitoringUtils;
  * <li>Percentage of heap: 3% ({@link #DEFAULT_HEAP_USAGE_PERCENTAGE})</li>
  * <li>Percentage of buffers to be pre-allocated: 100% ({@link #DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE})</li>
  * <li>Heap based {@link Buffer}s will be allocated</li>
+ * <li>Slice affinity: disabled, unless the <tt>org.glassfish.grizzly.memory.PooledMemoryManager.slice-affinity</tt>
+ * system property is set</li>
  * </ul>
  *
  * The main advantage of this manager over {@link org.glassfish.grizzly.memory.HeapMemoryManager} or
@@ -76,6 +85,9 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
     private static final boolean FORCE_BYTE_BUFFER_BASED_BUFFERS = Boolean.getBoolean(PooledMemoryManager.class + ".force-byte-buffer-based-buffers");
 
     private static final long BACK_OFF_DELAY = Long.getLong(PooledMemoryManager.class + ".back-off-delay", 0L);
+
+    public static final boolean DEFAULT_SLICE_AFFINITY = Boolean.getBoolean(PooledMemoryManager.class.getName() + ".slice-affinity");
+
     /**
      * Basic monitoring support. Concrete implementations of this class need only to implement the
      * {@link #createJmxManagementObject()} method to plug into the Grizzly 2.0 JMX framework.
@@ -95,6 +107,9 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
     // the max buffer size pooled by this memory manager
     private final int maxPooledBufferSize;
 
+    // the home slice index of the thread, or null if the slice affinity is disabled
+    private final ThreadLocal<Integer> homeSliceIdx;
+
     // ------------------------------------------------------------ Constructors
 
     /**
@@ -139,6 +154,27 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
      */
     public PooledMemoryManager(final int baseBufferSize, final int numberOfPools, final int growthFactor, final int numberOfPoolSlices,
             final float percentOfHeap, final float percentPreallocated, final boolean isDirect) {
+        this(baseBufferSize, numberOfPools, growthFactor, numberOfPoolSlices, percentOfHeap, percentPreallocated, isDirect, DEFAULT_SLICE_AFFINITY);
+    }
+
+    /**
+     * Creates a new <code>PooledMemoryManager</code> using the specified parameters for configuration.
+     *
+     * @param baseBufferSize the base size of the buffer for the 1st pool, every next pool n will have buffer size equal to
+     * bufferSize(n-1) * 2^growthFactor
+     * @param numberOfPools the number of pools, responsible for allocation of buffers of a pool-specific size
+     * @param growthFactor the buffer size growth factor, that defines 2^x multiplier, used to calculate buffer size for
+     * next allocated pool
+     * @param numberOfPoolSlices the number of pool slices that every pool will stripe allocation requests across
+     * @param percentOfHeap percentage of the heap that will be used when populating the pools
+     * @param percentPreallocated percentage of buffers to be pre-allocated during MemoryManager initialization
+     * @param isDirect flag, indicating whether direct or heap based {@link Buffer}s will be allocated
+     * @param sliceAffinity flag, indicating whether every thread allocates from its own home pool slice
+     *
+     * @since 5.0.1
+     */
+    public PooledMemoryManager(final int baseBufferSize, final int numberOfPools, final int growthFactor, final int numberOfPoolSlices,
+            final float percentOfHeap, final float percentPreallocated, final boolean isDirect, final boolean sliceAffinity) {
         if (baseBufferSize <= 0) {
             throw new IllegalArgumentException("baseBufferSize must be greater than zero");
         }
@@ -170,9 +206,17 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         final long heapSize = Runtime.getRuntime().maxMemory();
         final long memoryPerSubPool = (long) (heapSize * percentOfHeap / numberOfPools);
 
+        if (sliceAffinity) {
+            // assign the home slices round-robin, so the threads are spread evenly
+            final AtomicInteger homeSliceCounter = new AtomicInteger();
+            homeSliceIdx = ThreadLocal.withInitial(() -> (homeSliceCounter.getAndIncrement() & Integer.MAX_VALUE) % numberOfPoolSlices);
+        } else {
+            homeSliceIdx = null;
+        }
+
         pools = new Pool[numberOfPools];
         for (int i = 0, bufferSize = baseBufferSize; i < numberOfPools; i++, bufferSize <<= growthFactor) {
-            pools[i] = new Pool(bufferSize, memoryPerSubPool, numberOfPoolSlices, percentPreallocated, isDirect, monitoringConfig);
+            pools[i] = new Pool(bufferSize, memoryPerSubPool, numberOfPoolSlices, percentPreallocated, isDirect, monitoringConfig, homeSliceIdx);
         }
         maxPooledBufferSize = pools[numberOfPools - 1].bufferSize;
     }
@@ -338,6 +382,16 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         return new ByteBufferWrapper(byteBuffer);
     }
 
+    /**
+     * @return <tt>true</tt>, if every thread allocates from its own home pool slice, or <tt>false</tt>, if the pool slice
+     * is picked randomly
+     *
+     * @since 5.0.1
+     */
+    public boolean isSliceAffinity() {
+        return homeSliceIdx != null;
+    }
+
     // ------------------------------------------------------- Protected Methods
 
     protected Object createJmxManagementObject() {
@@ -421,10 +475,19 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
     static final class Pool {
         private final PoolSlice[] slices;
         private final int bufferSize;
+        private final DefaultMonitoringConfig<MemoryProbe> monitoringConfig;
+        private final ThreadLocal<Integer> homeSliceIdx;
 
         public Pool(final int bufferSize, final long memoryPerSubPool, final int numberOfPoolSlices, final float percentPreallocated, final boolean isDirect,
                 final DefaultMonitoringConfig<MemoryProbe> monitoringConfig) {
+            this(bufferSize, memoryPerSubPool, numberOfPoolSlices, percentPreallocated, isDirect, monitoringConfig, null);
+        }
+
+        Pool(final int bufferSize, final long memoryPerSubPool, final int numberOfPoolSlices, final float percentPreallocated, final boolean isDirect,
+                final DefaultMonitoringConfig<MemoryProbe> monitoringConfig, final ThreadLocal<Integer> homeSliceIdx) {
             this.bufferSize = bufferSize;
+            this.monitoringConfig = monitoringConfig;
+            this.homeSliceIdx = homeSliceIdx;
             slices = new PoolSlice[numberOfPoolSlices];
             final long memoryPerSlice = memoryPerSubPool / numberOfPoolSlices;
 
@@ -455,10 +518,17 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         }
 
         public Buffer allocate() {
+            if (homeSliceIdx != null) {
+                return allocateFromHomeSlice();
+            }
+
             final PoolSlice slice = getSlice();
             PoolBuffer b = slice.poll();
-            if (b == null) {
+            if (b != null) {
+                ProbeNotifier.notifySliceHit(monitoringConfig, bufferSize);
+            } else {
                 b = slice.allocate();
+                ProbeNotifier.notifySliceMiss(monitoringConfig, bufferSize);
             }
 
             return b.prepare();
@@ -485,6 +555,29 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         private PoolSlice getSlice() {
             return slices[ThreadLocalRandom.current().nextInt(slices.length)];
         }
+
+        private Buffer allocateFromHomeSlice() {
+            final int home = homeSliceIdx.get();
+            final PoolSlice homeSlice = slices[home];
+
+            PoolBuffer b = homeSlice.poll();
+            if (b != null) {
+                ProbeNotifier.notifySliceHit(monitoringConfig, bufferSize);
+                return b.prepare();
+            }
+
+            // steal from the neighbors, the buffer will be returned to its owner slice
+            for (int i = home + 1; i < home + slices.length; i++) {
+                b = slices[i < slices.length ? i : i - slices.length].poll();
+                if (b != null) {
+                    ProbeNotifier.notifySliceSteal(monitoringConfig, bufferSize);
+                    return b.prepare();
+                }
+            }
+
+            ProbeNotifier.notifySliceMiss(monitoringConfig, bufferSize);
+            return homeSlice.allocate().prepare();
+        }
     }
 
     /*
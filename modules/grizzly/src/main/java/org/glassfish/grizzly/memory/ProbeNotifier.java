@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -70,4 +71,49 @@ final class ProbeNotifier {
         }
     }
 
+    /**
+     * Notify registered {@link MemoryProbe}s about the "pool slice hit" event.
+     *
+     * @param size buffer size
+     */
+    static void notifySliceHit(final DefaultMonitoringConfig<MemoryProbe> config, final int size) {
+
+        final MemoryProbe[] probes = config.getProbesUnsafe();
+        if (probes != null) {
+            for (MemoryProbe probe : probes) {
+                probe.onSliceHitEvent(size);
+            }
+        }
+    }
+
+    /**
+     * Notify registered {@link MemoryProbe}s about the "pool slice steal" event.
+     *
+     * @param size buffer size
+     */
+    static void notifySliceSteal(final DefaultMonitoringConfig<MemoryProbe> config, final int size) {
+
+        final MemoryProbe[] probes = config.getProbesUnsafe();
+        if (probes != null) {
+            for (MemoryProbe probe : probes) {
+                probe.onSliceStealEvent(size);
+            }
+        }
+    }
+
+    /**
+     * Notify registered {@link MemoryProbe}s about the "pool slice miss" event.
+     *
+     * @param size buffer size
+     */
+    static void notifySliceMiss(final DefaultMonitoringConfig<MemoryProbe> config, final int size) {
+
+        final MemoryProbe[] probes = config.getProbesUnsafe();
+        if (probes != null) {
+            for (MemoryProbe probe : probes) {
+                probe.onSliceMissEvent(size);
+            }
+        }
+    }
+
 }
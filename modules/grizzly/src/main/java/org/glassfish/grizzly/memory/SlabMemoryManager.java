@@ -0,0 +1,537 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.memory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.monitoring.DefaultMonitoringConfig;
+import org.glassfish.grizzly.monitoring.MonitoringConfig;
+import org.glassfish.grizzly.monitoring.MonitoringUtils;
+
+/**
+ * A {@link MemoryManager} implementation, which carves direct {@link Buffer}s out of the large direct memory slabs.
+ * <p>
+ * The buffers are grouped into the power-of-two size classes. Each size class allocates its own slabs on demand and
+ * splits them into the fixed size chunks, so the direct memory is allocated (and the GC cleaner is registered) once
+ * per slab rather than once per buffer. The disposed (or {@link #release(Buffer) released}) chunk goes back to its size
+ * class immediately; if the buffer was split, sliced or duplicated, the chunk is returned once all the views are
+ * disposed.
+ * <p>
+ * The total slab memory is bounded by the max memory parameter, which should be set below
+ * <tt>-XX:MaxDirectMemorySize</tt>. Once it's reached, the buffers are allocated on heap, so the allocation doesn't fail
+ * with the direct memory {@link OutOfMemoryError}. The requests larger than the biggest size class are served by the
+ * {@link CompositeBuffer} of chunks.
+ * <p>
+ * If no explicit configuration is provided, the following defaults will be used:
+ * <ul>
+ * <li>Min chunk size: 4 KiB ({@link #DEFAULT_MIN_CHUNK_SIZE})</li>
+ * <li>Number of size classes: 6 ({@link #DEFAULT_NUMBER_OF_SIZE_CLASSES}), which means the chunk sizes from 4 KiB to
+ * 128 KiB</li>
+ * <li>Slab size: 1 MiB ({@link #DEFAULT_SLAB_SIZE})</li>
+ * <li>Max memory: 64 MiB ({@link #DEFAULT_MAX_MEMORY})</li>
+ * </ul>
+ *
+ * @since 5.0.1
+ */
+public class SlabMemoryManager implements MemoryManager<Buffer>, WrapperAware {
+
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 4 * 1024;
+    public static final int DEFAULT_NUMBER_OF_SIZE_CLASSES = 6;
+    public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+    public static final long DEFAULT_MAX_MEMORY = 64L * 1024 * 1024;
+
+    /**
+     * Basic monitoring support. Concrete implementations of this class need only to implement the
+     * {@link #createJmxManagementObject()} method to plug into the Grizzly JMX framework.
+     */
+    protected final DefaultMonitoringConfig<MemoryProbe> monitoringConfig = new DefaultMonitoringConfig<MemoryProbe>(MemoryProbe.class) {
+
+        @Override
+        public Object createManagementObject() {
+            return createJmxManagementObject();
+        }
+
+    };
+
+    private final SizeClass[] sizeClasses;
+
+    private final int minChunkSize;
+
+    // the max buffer size served by a single chunk
+    private final int maxChunkSize;
+
+    private final int slabSize;
+
+    private final long maxMemory;
+
+    // the memory allocated for slabs
+    private final AtomicLong reservedMemory = new AtomicLong();
+
+    // ------------------------------------------------------------ Constructors
+
+    /**
+     * Creates a new <code>SlabMemoryManager</code> using the default configuration.
+     */
+    public SlabMemoryManager() {
+        this(DEFAULT_MIN_CHUNK_SIZE, DEFAULT_NUMBER_OF_SIZE_CLASSES, DEFAULT_SLAB_SIZE, DEFAULT_MAX_MEMORY);
+    }
+
+    /**
+     * Creates a new <code>SlabMemoryManager</code> using the specified parameters for configuration.
+     *
+     * @param minChunkSize the chunk size of the 1st size class, every next size class has twice bigger chunks
+     * @param numberOfSizeClasses the number of size classes
+     * @param slabSize the size of the slab, which is split into chunks; it has to fit at least one chunk of the biggest
+     * size class
+     * @param maxMemory the max amount of direct memory to be allocated for slabs
+     */
+    public SlabMemoryManager(final int minChunkSize, final int numberOfSizeClasses, final int slabSize, final long maxMemory) {
+        if (minChunkSize <= 0 || !isPowerOfTwo(minChunkSize)) {
+            throw new IllegalArgumentException("minChunkSize must be a power of two");
+        }
+        if (numberOfSizeClasses <= 0) {
+            throw new IllegalArgumentException("numberOfSizeClasses must be greater than zero");
+        }
+        if (numberOfSizeClasses > Integer.numberOfLeadingZeros(minChunkSize)) {
+            throw new IllegalArgumentException("The max chunk size is too big");
+        }
+
+        final int maxChunk = minChunkSize << numberOfSizeClasses - 1;
+        if (slabSize < maxChunk || !isPowerOfTwo(slabSize)) {
+            throw new IllegalArgumentException("slabSize must be a power of two and fit the max chunk size " + maxChunk);
+        }
+        if (maxMemory < slabSize) {
+            throw new IllegalArgumentException("maxMemory must be greater or equal to slabSize");
+        }
+
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunk;
+        this.slabSize = slabSize;
+        this.maxMemory = maxMemory;
+
+        sizeClasses = new SizeClass[numberOfSizeClasses];
+        for (int i = 0; i < numberOfSizeClasses; i++) {
+            sizeClasses[i] = new SizeClass(minChunkSize << i);
+        }
+    }
+
+    // ---------------------------------------------- Methods from MemoryManager
+
+    /**
+     * For this implementation, this method simply calls through to {@link #allocateAtLeast(int)};
+     */
+    @Override
+    public Buffer allocate(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requested allocation size must be greater than or equal to zero.");
+        }
+        return allocateAtLeast(size).limit(size);
+    }
+
+    /**
+     * Allocates a buffer of at least the size requested.
+     * <p/>
+     * Keep in mind that the capacity of the buffer may be greater than the allocation request. The limit however, will be
+     * set to the specified size. The memory beyond the limit, is available for use.
+     *
+     * @param size the min {@link Buffer} size to be allocated.
+     * @return a buffer with a limit of the specified <tt>size</tt>.
+     */
+    @Override
+    public Buffer allocateAtLeast(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requested allocation size must be greater than or equal to zero.");
+        }
+
+        if (size == 0) {
+            return Buffers.EMPTY_BUFFER;
+        }
+
+        return size <= maxChunkSize ? sizeClassFor(size).allocate() : allocateToCompositeBuffer(newCompositeBuffer(), size);
+    }
+
+    /**
+     * Reallocates an existing buffer to at least the specified size. The content between zero and the old buffer capacity
+     * (or the new size, whichever is smaller) is preserved.
+     *
+     * @param oldBuffer old {@link Buffer} to be reallocated.
+     * @param newSize new {@link Buffer} required size.
+     *
+     * @return potentially a new buffer of at least the specified size.
+     */
+    @Override
+    public Buffer reallocate(final Buffer oldBuffer, final int newSize) {
+        if (newSize == 0) {
+            oldBuffer.tryDispose();
+            return Buffers.EMPTY_BUFFER;
+        }
+
+        final int curBufSize = oldBuffer.capacity();
+        final int pos = oldBuffer.position();
+
+        if (!oldBuffer.isComposite() && curBufSize >= newSize && newSize <= maxChunkSize && sizeClassFor(newSize).chunkSize == curBufSize) {
+            // the buffer is in the right size class already
+            return oldBuffer.limit(newSize);
+        }
+
+        final Buffer newBuffer = allocateAtLeast(newSize);
+        Buffers.setPositionLimit(oldBuffer, 0, Math.min(curBufSize, newSize));
+        newBuffer.put(oldBuffer);
+        Buffers.setPositionLimit(newBuffer, Math.min(pos, newSize), newSize);
+
+        oldBuffer.tryDispose();
+
+        return newBuffer;
+    }
+
+    /**
+     * Returns the {@link Buffer} memory to its size class, so it can be reused immediately. If there are views of the
+     * buffer, which weren't disposed yet, the memory is returned once they all are disposed.
+     */
+    @Override
+    public void release(final Buffer buffer) {
+        buffer.tryDispose();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean willAllocateDirect(final int size) {
+        return canReserveSlab(reservedMemory.get()) || sizeClassFor(Math.min(Math.max(size, 1), maxChunkSize)).hasFreeChunks();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MonitoringConfig<MemoryProbe> getMonitoringConfig() {
+        return monitoringConfig;
+    }
+
+    // ----------------------------------------------- Methods from WrapperAware
+
+    @Override
+    public Buffer wrap(final byte[] data) {
+        return wrap(ByteBuffer.wrap(data));
+    }
+
+    @Override
+    public Buffer wrap(byte[] data, int offset, int length) {
+        return wrap(ByteBuffer.wrap(data, offset, length));
+    }
+
+    @Override
+    public Buffer wrap(final String s) {
+        return wrap(s.getBytes(Charset.defaultCharset()));
+    }
+
+    @Override
+    public Buffer wrap(final String s, final Charset charset) {
+        return wrap(s.getBytes(charset));
+    }
+
+    @Override
+    public Buffer wrap(final ByteBuffer byteBuffer) {
+        return new ByteBufferWrapper(byteBuffer);
+    }
+
+    // ---------------------------------------------------------- Public Methods
+
+    /**
+     * @return the amount of direct memory allocated for slabs
+     */
+    public long getReservedMemory() {
+        return reservedMemory.get();
+    }
+
+    /**
+     * @return the max amount of direct memory to be allocated for slabs
+     */
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * @return the slab size
+     */
+    public int getSlabSize() {
+        return slabSize;
+    }
+
+    // ------------------------------------------------------- Protected Methods
+
+    protected Object createJmxManagementObject() {
+        return MonitoringUtils.loadJmxObject("org.glassfish.grizzly.memory.jmx.MemoryManager", this, MemoryManager.class);
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private SizeClass sizeClassFor(final int size) {
+        if (size <= minChunkSize) {
+            return sizeClasses[0];
+        }
+
+        // the index of the smallest power of two chunk, which is not less than the size
+        return sizeClasses[Integer.numberOfLeadingZeros(minChunkSize - 1) - Integer.numberOfLeadingZeros(size - 1)];
+    }
+
+    private CompositeBuffer allocateToCompositeBuffer(final CompositeBuffer cb, int size) {
+        final SizeClass maxSizeClass = sizeClasses[sizeClasses.length - 1];
+        while (size > maxChunkSize) {
+            cb.append(maxSizeClass.allocate());
+            size -= maxChunkSize;
+        }
+
+        cb.append(sizeClassFor(size).allocate().limit(size));
+        return cb;
+    }
+
+    private CompositeBuffer newCompositeBuffer() {
+        final CompositeBuffer cb = CompositeBuffer.newBuffer(this);
+        cb.allowInternalBuffersDispose(true);
+        cb.allowBufferDispose(true);
+        return cb;
+    }
+
+    private boolean reserveSlab() {
+        for (;;) {
+            final long reserved = reservedMemory.get();
+            if (!canReserveSlab(reserved)) {
+                return false;
+            }
+
+            if (reservedMemory.compareAndSet(reserved, reserved + slabSize)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean canReserveSlab(final long reserved) {
+        return reserved + slabSize <= maxMemory;
+    }
+
+    SizeClass[] getSizeClasses() {
+        return sizeClasses.clone();
+    }
+
+    private static boolean isPowerOfTwo(final int valueToCheck) {
+        return (valueToCheck & valueToCheck - 1) == 0;
+    }
+
+    /**
+     * The chunks of the same size. The free chunks are kept in the LIFO stack, so the recently used (cache-warm) chunk is
+     * reused first.
+     */
+    final class SizeClass {
+        private final int chunkSize;
+
+        // the top of the free chunks stack, guarded by this
+        private SlabBuffer head;
+        private int freeChunks;
+
+        SizeClass(final int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        Buffer allocate() {
+            SlabBuffer b;
+            synchronized (this) {
+                b = pop();
+                if (b == null && reserveSlab()) {
+                    b = addSlab();
+                }
+            }
+
+            if (b == null) {
+                // the slab memory limit is reached
+                ProbeNotifier.notifyBufferAllocated(monitoringConfig, chunkSize);
+                final ByteBufferWrapper heapBuffer = new ByteBufferWrapper(ByteBuffer.allocate(chunkSize));
+                heapBuffer.allowBufferDispose(true);
+                return heapBuffer;
+            }
+
+            ProbeNotifier.notifyBufferAllocatedFromPool(monitoringConfig, chunkSize);
+            return b.prepare();
+        }
+
+        synchronized boolean hasFreeChunks() {
+            return freeChunks > 0;
+        }
+
+        synchronized int getFreeChunksCount() {
+            return freeChunks;
+        }
+
+        int getChunkSize() {
+            return chunkSize;
+        }
+
+        void offer(final SlabBuffer b) {
+            synchronized (this) {
+                b.next = head;
+                head = b;
+                freeChunks++;
+            }
+
+            ProbeNotifier.notifyBufferReleasedToPool(monitoringConfig, chunkSize);
+        }
+
+        private SlabBuffer pop() {
+            final SlabBuffer b = head;
+            if (b != null) {
+                head = b.next;
+                b.next = null;
+                freeChunks--;
+            }
+
+            return b;
+        }
+
+        // splits the new slab into chunks, returns the first one and keeps the rest
+        private SlabBuffer addSlab() {
+            final ByteBuffer slab = ByteBuffer.allocateDirect(slabSize);
+            ProbeNotifier.notifyBufferAllocated(monitoringConfig, slabSize);
+
+            SlabBuffer first = null;
+            for (int offset = 0; offset < slabSize; offset += chunkSize) {
+                slab.limit(offset + chunkSize).position(offset);
+                final SlabBuffer chunk = new SlabBuffer(slab.slice(), this);
+                if (first == null) {
+                    first = chunk;
+                } else {
+                    chunk.free = true;
+                    chunk.next = head;
+                    head = chunk;
+                    freeChunks++;
+                }
+            }
+
+            return first;
+        }
+    }
+
+    private static final class SlabBuffer extends ByteBufferWrapper {
+
+        // The size class to which this Buffer instance will be returned.
+        private final SizeClass owner;
+
+        // When this Buffer instance resides in the size class, this flag will
+        // be true.
+        private boolean free;
+
+        // the next free chunk in the size class stack
+        private SlabBuffer next;
+
+        // represents the number of 'child' buffers that have been created using
+        // this as the foundation. This source buffer can't be returned
+        // to the size class unless this value is zero.
+        private final AtomicInteger shareCount;
+
+        // represents the original chunk. This value will be
+        // non-null in any 'child' buffers created from the original.
+        private final SlabBuffer source;
+
+        // Used for the special case of the split() method. This maintains
+        // the original chunk, which must ultimately be returned.
+        private final ByteBuffer origVisible;
+
+        private SlabBuffer(final ByteBuffer chunk, final SizeClass owner) {
+            this(chunk, owner, null, new AtomicInteger());
+        }
+
+        private SlabBuffer(final ByteBuffer underlyingByteBuffer, final SizeClass owner, final SlabBuffer source, final AtomicInteger shareCount) {
+            super(underlyingByteBuffer);
+
+            this.owner = owner;
+            this.shareCount = shareCount;
+            this.source = source != null ? source : this;
+
+            this.origVisible = this.source.visible;
+        }
+
+        private SlabBuffer prepare() {
+            allowBufferDispose = true;
+            free = false;
+            return this;
+        }
+
+        // ------------------------------------------ Methods from ByteBufferWrapper
+
+        @Override
+        public void dispose() {
+            if (free) {
+                return;
+            }
+            free = true;
+
+            // check shared counter optimistically
+            boolean isNotShared = shareCount.get() == 0;
+            if (!isNotShared) {
+                // try pessimistic check using CAS loop
+                isNotShared = shareCount.getAndDecrement() == 0;
+                if (isNotShared) {
+                    // if the former check is true - the shared counter is negative,
+                    // so we have to reset it
+                    shareCount.set(0);
+                }
+            }
+
+            if (isNotShared) {
+                source.returnToSizeClass();
+            }
+        }
+
+        // ----------------------------------------------------- Protected Methods
+
+        @Override
+        protected ByteBufferWrapper wrapByteBuffer(final ByteBuffer buffer) {
+            final SlabBuffer b = new SlabBuffer(buffer, null, // don't keep track of the owner for child buffers
+                    source, // pass the 'parent' buffer along
+                    shareCount); // pass the shareCount
+            b.allowBufferDispose(true);
+            shareCount.incrementAndGet();
+
+            return b;
+        }
+
+        /**
+         * Override the default implementation to check the <tt>free</tt> status of this buffer (i.e., once released, operations
+         * on the buffer will no longer succeed).
+         */
+        @Override
+        protected void checkDispose() {
+            if (free) {
+                throw new IllegalStateException("SlabBuffer has already been disposed", disposeStackTrace);
+            }
+        }
+
+        // ----------------------------------------------------- Private Methods
+
+        private void returnToSizeClass() {
+            // should be called on "source" only
+            visible = origVisible;
+            visible.clear();
+            free = true;
+            owner.offer(this);
+        }
+    }
+}
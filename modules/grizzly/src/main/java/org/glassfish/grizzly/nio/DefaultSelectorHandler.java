@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -24,6 +25,7 @@ import java.nio.channels.Selector;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,8 +48,17 @@ public class DefaultSelectorHandler implements SelectorHandler {
     public static final boolean IS_WORKAROUND_SELECTOR_SPIN = Boolean.getBoolean(DefaultSelectorHandler.class.getName() + ".force-selector-spin-detection")
             || System.getProperty("os.name").equalsIgnoreCase("linux");
 
+    /**
+     * If <tt>true</tt>, the ready {@link SelectionKey}s are collected using the {@link Selector}'s selected-key set
+     * instead of the {@link Selector#select(Consumer, long)} action.
+     */
+    public static final boolean USE_SELECTED_KEY_SET = Boolean.getBoolean(DefaultSelectorHandler.class.getName() + ".use-selected-key-set");
+
     protected final long selectTimeout;
 
+    // true, if the selected-key set is used, because of the system property or a subclass, which overrides select(SelectorRunner)
+    private final boolean useSelectedKeySet;
+
     // Selector spin workaround artifacts
 
     /**
@@ -64,6 +75,7 @@ public class DefaultSelectorHandler implements SelectorHandler {
 
     public DefaultSelectorHandler(final long selectTimeout, final TimeUnit timeunit) {
         this.selectTimeout = TimeUnit.MILLISECONDS.convert(selectTimeout, timeunit);
+        this.useSelectedKeySet = USE_SELECTED_KEY_SET || isSelectOverridden(getClass());
     }
 
     @Override
@@ -99,10 +111,43 @@ public class DefaultSelectorHandler implements SelectorHandler {
         return selectedKeys;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unless {@link #USE_SELECTED_KEY_SET} is set, the keys are passed to the action by {@link Selector#select(Consumer, long)},
+     * which neither adds them to the selected-key set nor allocates its iterator. If a subclass overrides
+     * {@link #select(SelectorRunner)}, the keys are collected by the overridden method.
+     */
+    @Override
+    public int select(final SelectorRunner selectorRunner, final Consumer<SelectionKey> action) throws IOException {
+        if (useSelectedKeySet) {
+            return SelectorHandler.super.select(selectorRunner, action);
+        }
+
+        final Selector selector = selectorRunner.getSelector();
+        final boolean hasPostponedTasks = !selectorRunner.getPostponedTasks().isEmpty();
+
+        final int selectedKeysCount = !hasPostponedTasks ? selector.select(action, selectTimeout) : selector.selectNow(action);
+
+        if (IS_WORKAROUND_SELECTOR_SPIN) {
+            selectorRunner.checkSelectorSpin(selectedKeysCount != 0 || hasPostponedTasks, SPIN_RATE_THRESHOLD);
+        }
+
+        return selectedKeysCount;
+    }
+
     @Override
     public void postSelect(final SelectorRunner selectorRunner) throws IOException {
     }
 
+    private static boolean isSelectOverridden(final Class<?> clazz) {
+        try {
+            return clazz.getMethod("select", SelectorRunner.class).getDeclaringClass() != DefaultSelectorHandler.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     @Override
     public void registerKeyInterest(final SelectorRunner selectorRunner, final SelectionKey key, final int interest) throws IOException {
         if (isSelectorRunnerThread(selectorRunner)) {
@@ -236,14 +281,20 @@ public class DefaultSelectorHandler implements SelectorHandler {
     }
 
     private boolean processPendingTaskQueue(final SelectorRunner selectorRunner, final Queue<SelectorHandlerTask> selectorHandlerTasks) throws IOException {
-        SelectorHandlerTask selectorHandlerTask;
-        while ((selectorHandlerTask = selectorHandlerTasks.poll()) != null) {
-            if (!selectorHandlerTask.run(selectorRunner)) {
-                return false;
+        int tasksCount = 0;
+        try {
+            SelectorHandlerTask selectorHandlerTask;
+            while ((selectorHandlerTask = selectorHandlerTasks.poll()) != null) {
+                tasksCount++;
+                if (!selectorHandlerTask.run(selectorRunner)) {
+                    return false;
+                }
             }
-        }
 
-        return true;
+            return true;
+        } finally {
+            selectorRunner.onTasksProcessed(tasksCount);
+        }
     }
 
     private static void registerChannel0(final SelectorRunner selectorRunner, final SelectableChannel channel, final int interest, final Object attachment,
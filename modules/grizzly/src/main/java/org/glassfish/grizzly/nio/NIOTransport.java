@@ -386,6 +386,36 @@ public abstract class NIOTransport extends AbstractTransport
         }
     }
 
+    /**
+     * Notify registered {@link TransportProbe}s about the select event.
+     *
+     * @param transport the <tt>Transport</tt> event occurred on.
+     * @param selectedKeysCount the number of the selected keys
+     * @param tasksCount the number of the tasks executed before the select
+     */
+    protected static void notifyProbesSelect(final NIOTransport transport, final int selectedKeysCount, final int tasksCount) {
+        final TransportProbe[] probes = transport.transportMonitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (TransportProbe probe : probes) {
+                probe.onSelectEvent(transport, selectedKeysCount, tasksCount);
+            }
+        }
+    }
+
+    /**
+     * Notify registered {@link TransportProbe}s about the selector rebuild event.
+     *
+     * @param transport the <tt>Transport</tt> event occurred on.
+     */
+    protected static void notifyProbesSelectorRebuild(final NIOTransport transport) {
+        final TransportProbe[] probes = transport.transportMonitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (TransportProbe probe : probes) {
+                probe.onSelectorRebuildEvent(transport);
+            }
+        }
+    }
+
     /**
      * Start TCPNIOTransport.
      * <p/>
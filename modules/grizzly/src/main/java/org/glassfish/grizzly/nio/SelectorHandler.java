@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,7 +20,9 @@ package org.glassfish.grizzly.nio;
 import java.io.IOException;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.glassfish.grizzly.CompletionHandler;
 
@@ -40,6 +43,28 @@ public interface SelectorHandler {
 
     Set<SelectionKey> select(SelectorRunner selectorRunner) throws IOException;
 
+    /**
+     * Selects the ready {@link SelectionKey}s and passes each of them to the action. Unlike
+     * {@link #select(SelectorRunner)}, the implementation may avoid maintaining and iterating the {@link Selector}'s
+     * selected-key set. The default implementation passes and clears the keys returned by
+     * {@link #select(SelectorRunner)}.
+     *
+     * @param selectorRunner {@link SelectorRunner}
+     * @param action the action to be applied to each ready {@link SelectionKey}
+     * @return the number of the ready {@link SelectionKey}s
+     * @throws IOException if an I/O error occurs
+     */
+    default int select(final SelectorRunner selectorRunner, final Consumer<SelectionKey> action) throws IOException {
+        final Set<SelectionKey> selectedKeys = select(selectorRunner);
+        final int selectedKeysCount = selectedKeys.size();
+        if (selectedKeysCount != 0) {
+            selectedKeys.forEach(action);
+            selectedKeys.clear();
+        }
+
+        return selectedKeysCount;
+    }
+
     void postSelect(SelectorRunner selectorRunner) throws IOException;
 
     void registerKeyInterest(SelectorRunner selectorRunner, SelectionKey key, int interest) throws IOException;
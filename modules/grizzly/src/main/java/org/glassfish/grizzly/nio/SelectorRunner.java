@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,8 +24,8 @@ import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -34,6 +35,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -73,8 +75,14 @@ public final class SelectorRunner implements Runnable {
     private boolean isResume;
 
     private int lastSelectedKeysCount;
-    private Set<SelectionKey> readyKeySet;
-    private Iterator<SelectionKey> iterator;
+    private int lastTasksCount;
+
+    // the ready keys of the last select, reused between the selects
+    private SelectionKey[] readyKeys = new SelectionKey[64];
+    private int readyKeysCount;
+    private int readyKeyIdx;
+    private final Consumer<SelectionKey> readyKeysCollector = this::addReadyKey;
+
     private SelectionKey key = null;
     private int keyReadyOps;
 
@@ -284,8 +292,8 @@ public final class SelectorRunner implements Runnable {
                 // If resume SelectorRunner - finish postponed keys
                 isResume = false;
 
-                // readyKeySet==null means execution was suspended on preSelect(..)
-                if (readyKeySet != null) {
+                // readyKeysCount==0 means execution was suspended on preSelect(..)
+                if (readyKeysCount != 0) {
                     if (keyReadyOps != 0) {
                         if (!iterateKeyEvents()) {
                             return false;
@@ -295,35 +303,35 @@ public final class SelectorRunner implements Runnable {
                     if (!iterateKeys()) {
                         return false;
                     }
-                    readyKeySet.clear();
+                    clearReadyKeys();
                 }
             }
 
             lastSelectedKeysCount = 0;
+            lastTasksCount = 0;
+            clearReadyKeys();
 
             if (!selectorHandler.preSelect(this)) {
                 return false;
             }
 
-            readyKeySet = selectorHandler.select(this);
+            selectorHandler.select(this, readyKeysCollector);
             selectorWakeupFlag.set(false);
 
             if (stateHolder.get() == State.STOPPING) {
                 return true;
             }
 
-            lastSelectedKeysCount = readyKeySet.size();
+            lastSelectedKeysCount = readyKeysCount;
+            NIOTransport.notifyProbesSelect(transport, lastSelectedKeysCount, lastTasksCount);
 
             if (lastSelectedKeysCount != 0) {
-                iterator = readyKeySet.iterator();
                 if (!iterateKeys()) {
                     return false;
                 }
-                readyKeySet.clear();
+                clearReadyKeys();
             }
 
-            readyKeySet = null;
-            iterator = null;
             selectorHandler.postSelect(this);
         } catch (ClosedSelectorException e) {
             if (isRunning()) {
@@ -343,12 +351,30 @@ public final class SelectorRunner implements Runnable {
         return true;
     }
 
+    private void addReadyKey(final SelectionKey selectionKey) {
+        if (readyKeysCount == readyKeys.length) {
+            readyKeys = Arrays.copyOf(readyKeys, readyKeysCount << 1);
+        }
+
+        readyKeys[readyKeysCount++] = selectionKey;
+    }
+
+    private void clearReadyKeys() {
+        if (readyKeysCount != 0) {
+            // don't retain the keys of the closed channels
+            Arrays.fill(readyKeys, 0, readyKeysCount, null);
+            readyKeysCount = 0;
+        }
+
+        readyKeyIdx = 0;
+    }
+
     private boolean iterateKeys() {
-        final Iterator<SelectionKey> it = iterator;
+        final SelectionKey[] keys = readyKeys;
 
-        while (it.hasNext()) {
+        while (readyKeyIdx < readyKeysCount) {
             try {
-                key = it.next();
+                key = keys[readyKeyIdx++];
                 keyReadyOps = key.readyOps();
                 if (!iterateKeyEvents()) {
                     return false;
@@ -387,6 +413,10 @@ public final class SelectorRunner implements Runnable {
         return true;
     }
 
+    void onTasksProcessed(final int tasksCount) {
+        lastTasksCount += tasksCount;
+    }
+
     public Queue<SelectorHandlerTask> getPendingTasks() {
         hasPendingTasks = false;
         return pendingTasks;
@@ -457,6 +487,15 @@ public final class SelectorRunner implements Runnable {
         return lastSelectedKeysCount;
     }
 
+    /**
+     * Number of {@link SelectorHandlerTask}s, which were executed before the last select. Operation is not thread-safe.
+     *
+     * @return number of {@link SelectorHandlerTask}s, which were executed before the last select.
+     */
+    public int getLastTasksCount() {
+        return lastTasksCount;
+    }
+
     protected void switchToNewSelector() throws IOException {
         final Selector oldSelector = selector;
         final Selector newSelector = Selectors.newSelector(transport.getSelectorProvider());
@@ -541,6 +580,7 @@ public final class SelectorRunner implements Runnable {
 
         spinnedSelectorsHistory.put(getSelector(), System.currentTimeMillis());
         switchToNewSelector();
+        NIOTransport.notifyProbesSelectorRebuild(transport);
     }
 
     void checkSelectorSpin(final boolean hasSelectedKeys, final int spinRateThreshold) throws IOException {
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
@@ -44,7 +45,10 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Filter;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -120,6 +124,14 @@ public class SSLBaseFilter extends BaseFilter {
 
     private long handshakeTimeoutMillis = -1;
 
+    private volatile ExecutorService handshakeExecutor;
+
+    // the number of delegated task batches submitted to the handshake executor, but not started yet
+    private final AtomicInteger pendingHandshakeTasks = new AtomicInteger();
+
+    private final AtomicLong completedHandshakes = new AtomicLong();
+    private final AtomicLong totalHandshakeNanos = new AtomicLong();
+
     private SSLTransportFilterWrapper optimizedTransportFilter;
 
     // ------------------------------------------------------------ Constructors
@@ -206,6 +218,69 @@ public class SSLBaseFilter extends BaseFilter {
         }
     }
 
+    /**
+     * @return the {@link ExecutorService} the handshake delegated tasks are dispatched to, or <tt>null</tt> if the tasks
+     * are executed by the thread, which processes the handshake (default).
+     */
+    public ExecutorService getHandshakeExecutor() {
+        return handshakeExecutor;
+    }
+
+    /**
+     * Sets the {@link ExecutorService} to run the {@link SSLEngine} delegated tasks (key exchange, certificate validation)
+     * on, so they don't stall the thread, which processes the handshake. This matters most for the
+     * {@link org.glassfish.grizzly.strategies.SameThreadIOStrategy}, where the delegated tasks are otherwise executed by
+     * the selector thread. While the tasks are running, the {@link Connection} read processing is suspended, and the
+     * handshake is resumed by the {@link FilterChain} once they are finished.
+     * <p>
+     * The executor is expected to be bounded, for example a {@link org.glassfish.grizzly.threadpool.GrizzlyExecutorService}
+     * with a queue limit. If it rejects the tasks, they are executed by the current thread. The executor is not used in the
+     * blocking handshake mode (see {@link #setHandshakeTimeout(long, TimeUnit)}) and for the re-handshakes, and it's not
+     * shut down by the filter.
+     *
+     * @param handshakeExecutor the {@link ExecutorService} to run the delegated tasks on, or <tt>null</tt> to run them on the
+     * current thread.
+     *
+     * @since 5.0.1
+     */
+    public void setHandshakeExecutor(final ExecutorService handshakeExecutor) {
+        this.handshakeExecutor = handshakeExecutor;
+    }
+
+    /**
+     * @return the number of delegated task batches, which are waiting in the handshake executor queue.
+     *
+     * @since 5.0.1
+     */
+    public int getPendingHandshakeTasksCount() {
+        return pendingHandshakeTasks.get();
+    }
+
+    /**
+     * @return the number of successfully completed handshakes, including re-handshakes.
+     *
+     * @since 5.0.1
+     */
+    public long getCompletedHandshakesCount() {
+        return completedHandshakes.get();
+    }
+
+    /**
+     * @param timeUnit {@link TimeUnit}
+     * @return the average time between the handshake start and completion, or <code>0</code> if there were no completed
+     * handshakes.
+     *
+     * @since 5.0.1
+     */
+    public long getAverageHandshakeTime(final TimeUnit timeUnit) {
+        final long count = completedHandshakes.get();
+        if (count == 0) {
+            return 0;
+        }
+
+        return timeUnit.convert(totalHandshakeNanos.get() / count, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Completely disables renegotiation.
      *
@@ -282,8 +357,33 @@ public class SSLBaseFilter extends BaseFilter {
             }
 
             final Buffer buffer;
-            buffer = handshakeTimeoutMillis >= 0 ? doHandshakeSync(sslCtx, ctx, (Buffer) ctx.getMessage(), handshakeTimeoutMillis)
-                    : makeInputRemainder(sslCtx, ctx, doHandshakeStep(sslCtx, ctx, (Buffer) ctx.getMessage()));
+            if (handshakeTimeoutMillis >= 0) {
+                buffer = doHandshakeSync(sslCtx, ctx, (Buffer) ctx.getMessage(), handshakeTimeoutMillis);
+            } else {
+                final ExecutorService executor = handshakeExecutor;
+                Buffer input = (Buffer) ctx.getMessage();
+                while (true) {
+                    sslCtx.offloadDelegatedTasks = executor != null;
+                    try {
+                        input = makeInputRemainder(sslCtx, ctx, doHandshakeStep(sslCtx, ctx, input));
+                    } finally {
+                        sslCtx.offloadDelegatedTasks = false;
+                    }
+
+                    if (executor == null || sslEngine.getHandshakeStatus() != HandshakeStatus.NEED_TASK) {
+                        break;
+                    }
+
+                    final NextAction suspendAction = offloadDelegatedTasks(ctx, sslEngine, input, executor);
+                    if (suspendAction != null) {
+                        return suspendAction;
+                    }
+
+                    // the delegated tasks have been executed already, so the handshake goes on in the current thread
+                }
+
+                buffer = input;
+            }
 
             final boolean hasRemaining = buffer != null && buffer.hasRemaining();
 
@@ -534,6 +634,12 @@ public class SSLBaseFilter extends BaseFilter {
                     if (isLoggingFinest) {
                         LOGGER.log(Level.FINEST, "NEED_TASK Engine: {0}", sslCtx.getSslEngine());
                     }
+
+                    if (sslCtx.offloadDelegatedTasks) {
+                        // the caller dispatches the tasks to the handshake executor
+                        break _exitWhile;
+                    }
+
                     executeDelegatedTask(sslCtx.getSslEngine());
                     handshakeStatus = sslCtx.getSslEngine().getHandshakeStatus();
                     break;
@@ -635,6 +741,34 @@ public class SSLBaseFilter extends BaseFilter {
         }
     }
 
+    /**
+     * Runs the {@link SSLEngine} delegated tasks on the handshake executor and suspends the read processing. Once the
+     * tasks are finished, the {@link FilterChain} re-executes this filter with the remaining handshake data, so the
+     * handshake continues.
+     *
+     * @return the suspend action, or <tt>null</tt> if the processing hasn't been suspended, because the executor has
+     * rejected the tasks and they have been executed by the current thread, or because they have been finished already.
+     */
+    private NextAction offloadDelegatedTasks(final FilterChainContext ctx, final SSLEngine sslEngine, final Buffer remainder,
+            final ExecutorService executor) {
+
+        final DelegatedTasksRunner runner = new DelegatedTasksRunner(ctx, sslEngine);
+
+        pendingHandshakeTasks.incrementAndGet();
+        try {
+            executor.execute(runner);
+        } catch (RejectedExecutionException e) {
+            pendingHandshakeTasks.decrementAndGet();
+            LOGGER.log(Level.FINE, "The handshake executor rejected the delegated task, running it in the current thread", e);
+            executeDelegatedTask(sslEngine);
+            return null;
+        }
+
+        ctx.setMessage(remainder);
+        final NextAction suspendAction = ctx.getSuspendAction();
+        return runner.suspend() ? suspendAction : null;
+    }
+
     private Buffer silentRehandshake(final FilterChainContext context, final SSLConnectionContext sslCtx) throws SSLException {
         try {
             return doHandshakeSync(sslCtx, context, null, handshakeTimeoutMillis);
@@ -808,6 +942,11 @@ public class SSLBaseFilter extends BaseFilter {
     }
 
     protected void notifyHandshakeStart(final Connection connection) {
+        final SSLConnectionContext sslCtx = getSslConnectionContext(connection);
+        if (sslCtx != null) {
+            sslCtx.handshakeStartNanos = System.nanoTime();
+        }
+
         if (!handshakeListeners.isEmpty()) {
             for (final HandshakeListener listener : handshakeListeners) {
                 listener.onStart(connection);
@@ -816,6 +955,12 @@ public class SSLBaseFilter extends BaseFilter {
     }
 
     protected void notifyHandshakeComplete(final Connection<?> connection, final SSLEngine sslEngine) {
+        final SSLConnectionContext sslCtx = getSslConnectionContext(connection);
+        if (sslCtx != null && sslCtx.handshakeStartNanos != 0) {
+            totalHandshakeNanos.addAndGet(System.nanoTime() - sslCtx.handshakeStartNanos);
+            completedHandshakes.incrementAndGet();
+            sslCtx.handshakeStartNanos = 0;
+        }
 
         if (!handshakeListeners.isEmpty()) {
             for (final HandshakeListener listener : handshakeListeners) {
@@ -876,6 +1021,66 @@ public class SSLBaseFilter extends BaseFilter {
 
     } // END CertificateEvent
 
+    /**
+     * Runs the {@link SSLEngine} delegated tasks and resumes the suspended read processing. If the tasks are finished
+     * before the processing is suspended, it's not suspended at all, and the thread, which has submitted the tasks,
+     * continues the handshake.
+     */
+    private final class DelegatedTasksRunner implements Runnable {
+        private static final int SUBMITTED = 0;
+        private static final int SUSPENDING = 1;
+        private static final int SUSPENDED = 2;
+        private static final int FINISHED = 3;
+
+        private final FilterChainContext ctx;
+        private final SSLEngine sslEngine;
+        private final AtomicInteger state = new AtomicInteger(SUBMITTED);
+
+        private DelegatedTasksRunner(final FilterChainContext ctx, final SSLEngine sslEngine) {
+            this.ctx = ctx;
+            this.sslEngine = sslEngine;
+        }
+
+        @Override
+        public void run() {
+            pendingHandshakeTasks.decrementAndGet();
+            try {
+                executeDelegatedTask(sslEngine);
+            } catch (Throwable t) {
+                // the SSLEngine will report the failure on the next wrap/unwrap
+                LOGGER.log(Level.FINE, "Error running the handshake delegated task", t);
+            }
+
+            while (true) {
+                final int currentState = state.get();
+                if (currentState == SUBMITTED) {
+                    if (state.compareAndSet(SUBMITTED, FINISHED)) {
+                        return;
+                    }
+                } else if (currentState == SUSPENDED) {
+                    ctx.resume();
+                    return;
+                } else {
+                    // the suspension is in progress
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        /**
+         * @return <tt>true</tt> if the processing has been suspended, or <tt>false</tt> if the tasks are finished already
+         */
+        private boolean suspend() {
+            if (!state.compareAndSet(SUBMITTED, SUSPENDING)) {
+                return false;
+            }
+
+            ctx.suspend();
+            state.set(SUSPENDED);
+            return true;
+        }
+    }
+
     private static class InternalProcessingHandler extends Adapter {
         private final FilterChainContext parentContext;
 
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -76,6 +77,12 @@ public final class SSLConnectionContext {
     private final Connection connection;
     private FilterChain newConnectionFilterChain;
 
+    // the System.nanoTime() the current handshake was started at
+    long handshakeStartNanos;
+
+    // true, if the handshake delegated tasks may be dispatched to the SSLBaseFilter handshake executor
+    boolean offloadDelegatedTasks;
+
     public SSLConnectionContext(Connection connection) {
         this.connection = connection;
     }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2009, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -43,17 +44,33 @@ public class DelayedExecutor {
 
     private final long checkIntervalMillis;
 
+    private final boolean useTimingWheel;
+
     public DelayedExecutor(final ExecutorService threadPool) {
         this(threadPool, 1000, TimeUnit.MILLISECONDS);
     }
 
     public DelayedExecutor(final ExecutorService threadPool, final long checkInterval, final TimeUnit timeunit) {
+        this(threadPool, checkInterval, timeunit, false);
+    }
+
+    /**
+     * Constructs <tt>DelayedExecutor</tt>.
+     *
+     * @param threadPool the {@link ExecutorService} to run the timer thread on
+     * @param checkInterval the interval between timeout checks
+     * @param timeunit the {@link TimeUnit} of the check interval
+     * @param useTimingWheel if <tt>true</tt>, the {@link DelayQueue}s created by this executor will be backed by a
+     * {@link TimingWheel}, so the timer thread doesn't have to scan every registered element on each check
+     */
+    public DelayedExecutor(final ExecutorService threadPool, final long checkInterval, final TimeUnit timeunit, final boolean useTimingWheel) {
         if (checkInterval < 0) {
             throw new IllegalArgumentException("check interval can't be negative");
         }
 
         this.threadPool = threadPool;
         this.checkIntervalMillis = TimeUnit.MILLISECONDS.convert(checkInterval, timeunit);
+        this.useTimingWheel = useTimingWheel;
     }
 
     public void start() {
@@ -86,6 +103,13 @@ public class DelayedExecutor {
         return threadPool;
     }
 
+    /**
+     * @return <tt>true</tt>, if the {@link DelayQueue}s created by this executor are backed by a {@link TimingWheel}.
+     */
+    public boolean isUseTimingWheel() {
+        return useTimingWheel;
+    }
+
     public <E> DelayQueue<E> createDelayQueue(final Worker<E> worker, final Resolver<E> resolver) {
 
         final DelayQueue<E> queue = new DelayQueue<>(worker, resolver);
@@ -101,42 +125,13 @@ public class DelayedExecutor {
 
     private class DelayedRunnable implements Runnable {
 
-        @SuppressWarnings("unchecked")
         @Override
         public void run() {
             while (isStarted) {
                 final long currentTimeMillis = System.currentTimeMillis();
 
                 for (final DelayQueue delayQueue : queues) {
-                    if (delayQueue.queue.isEmpty()) {
-                        continue;
-                    }
-
-                    final Resolver resolver = delayQueue.resolver;
-
-                    for (Iterator it = delayQueue.queue.keySet().iterator(); it.hasNext();) {
-                        final Object element = it.next();
-                        final long timeoutMillis = resolver.getTimeoutMillis(element);
-
-                        if (timeoutMillis == UNSET_TIMEOUT) {
-                            it.remove();
-                            if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
-                                delayQueue.queue.put(element, delayQueue);
-                            }
-                        } else if (currentTimeMillis - timeoutMillis >= 0) {
-                            it.remove();
-                            if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
-                                delayQueue.queue.put(element, delayQueue);
-                            } else {
-                                try {
-                                    if (!delayQueue.worker.doWork(element)) {
-                                        delayQueue.queue.put(element, delayQueue);
-                                    }
-                                } catch (Exception ignored) {
-                                }
-                            }
-                        }
-                    }
+                    delayQueue.expire(currentTimeMillis);
                 }
 
                 synchronized (sync) {
@@ -154,7 +149,8 @@ public class DelayedExecutor {
     }
 
     public class DelayQueue<E> {
-        final ConcurrentMap<E, DelayQueue> queue = new ConcurrentHashMap<>();
+        final ConcurrentMap<E, DelayQueue> queue;
+        final TimingWheel<E> timingWheel;
 
         final Worker<E> worker;
         final Resolver<E> resolver;
@@ -162,22 +158,81 @@ public class DelayedExecutor {
         public DelayQueue(final Worker<E> worker, final Resolver<E> resolver) {
             this.worker = worker;
             this.resolver = resolver;
+
+            if (useTimingWheel) {
+                queue = null;
+                timingWheel = new TimingWheel<>(worker, resolver, checkIntervalMillis > 0 ? checkIntervalMillis : 1, TimeUnit.MILLISECONDS);
+            } else {
+                queue = new ConcurrentHashMap<>();
+                timingWheel = null;
+            }
         }
 
         public void add(final E elem, final long delay, final TimeUnit timeUnit) {
             if (delay >= 0) {
                 final long delayWithSysTime = System.currentTimeMillis() + TimeUnit.MILLISECONDS.convert(delay, timeUnit);
                 resolver.setTimeoutMillis(elem, delayWithSysTime < 0 ? Long.MAX_VALUE : delayWithSysTime);
-                queue.put(elem, this);
+                if (timingWheel != null) {
+                    timingWheel.schedule(elem);
+                } else {
+                    queue.put(elem, this);
+                }
             }
         }
 
         public void remove(final E elem) {
             resolver.removeTimeout(elem);
+            if (timingWheel != null) {
+                // let the timer thread re-check the element's timeout
+                timingWheel.schedule(elem);
+            }
         }
 
         public void destroy() {
             queues.remove(this);
+            if (timingWheel != null) {
+                // the timer thread might be expiring the wheel right now
+                synchronized (timingWheel) {
+                    timingWheel.clear();
+                }
+            }
+        }
+
+        void expire(final long currentTimeMillis) {
+            if (timingWheel != null) {
+                synchronized (timingWheel) {
+                    timingWheel.expire(currentTimeMillis);
+                }
+                return;
+            }
+
+            if (queue.isEmpty()) {
+                return;
+            }
+
+            for (Iterator<E> it = queue.keySet().iterator(); it.hasNext();) {
+                final E element = it.next();
+                final long timeoutMillis = resolver.getTimeoutMillis(element);
+
+                if (timeoutMillis == UNSET_TIMEOUT) {
+                    it.remove();
+                    if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
+                        queue.put(element, this);
+                    }
+                } else if (currentTimeMillis - timeoutMillis >= 0) {
+                    it.remove();
+                    if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
+                        queue.put(element, this);
+                    } else {
+                        try {
+                            if (!worker.doWork(element)) {
+                                queue.put(element, this);
+                            }
+                        } catch (Exception ignored) {
+                        }
+                    }
+                }
+            }
         }
     }
 
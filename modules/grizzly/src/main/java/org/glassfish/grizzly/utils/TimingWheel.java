@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hierarchical hashed timing wheel, which tracks elements using the same {@link DelayedExecutor.Worker} /
+ * {@link DelayedExecutor.Resolver} contract as {@link DelayedExecutor.DelayQueue}.
+ * <p>
+ * Unlike the scanning {@link DelayedExecutor.DelayQueue}, the cost of an {@link #expire(long)} call is proportional to
+ * the number of elements, whose slot is due, not to the number of tracked elements. {@link #schedule(Object)} may be
+ * called from any thread: it only enqueues the element, which is then (re)placed into the wheel by the thread calling
+ * {@link #expire(long)}, so the wheel itself is confined to a single thread.
+ * <p>
+ * The {@link DelayedExecutor.Resolver} remains the source of truth for element timeouts. When an element's slot is due,
+ * its timeout is re-read: if the timeout was prolonged the element is moved to the new slot, if it was unset the element
+ * is dropped. Elements with a timeout beyond the wheel horizon (like {@link Long#MAX_VALUE}) are parked and re-checked
+ * on every {@link #expire(long)} call, which is cheap as long as the number of such elements is small, for example
+ * connections with a request in progress.
+ *
+ * @param <E> the type of elements tracked by the wheel
+ */
+public class TimingWheel<E> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+    private static final int LEVELS = 4;
+
+    private final DelayedExecutor.Worker<E> worker;
+    private final DelayedExecutor.Resolver<E> resolver;
+
+    private final long tickMillis;
+    private final long startMillis;
+
+    private final Queue<E> scheduleQueue = new ConcurrentLinkedQueue<>();
+
+    // the fields below are accessed only by the thread calling expire(long)
+    private final Node<E>[][] wheel;
+    private final Node<E> parked = new Node<>(null);
+    private final Map<E, Node<E>> nodes = new HashMap<>();
+
+    private long currentTick;
+
+    public TimingWheel(final DelayedExecutor.Worker<E> worker, final DelayedExecutor.Resolver<E> resolver, final long tickDuration, final TimeUnit timeUnit) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tick duration has to be positive");
+        }
+
+        this.worker = worker;
+        this.resolver = resolver;
+        this.tickMillis = Math.max(1, TimeUnit.MILLISECONDS.convert(tickDuration, timeUnit));
+        this.startMillis = System.currentTimeMillis();
+
+        @SuppressWarnings("unchecked")
+        final Node<E>[][] w = new Node[LEVELS][SLOTS_PER_LEVEL];
+        for (int i = 0; i < LEVELS; i++) {
+            for (int j = 0; j < SLOTS_PER_LEVEL; j++) {
+                w[i][j] = new Node<>(null);
+            }
+        }
+
+        wheel = w;
+    }
+
+    /**
+     * @return the wheel tick duration in milliseconds.
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Schedules the element to be (re)placed into the wheel according to the timeout, returned by the
+     * {@link DelayedExecutor.Resolver}. The method is thread-safe and may be called for an element, which is already
+     * tracked by the wheel, in order to reschedule it.
+     *
+     * @param element the element to schedule
+     */
+    public void schedule(final E element) {
+        scheduleQueue.offer(element);
+    }
+
+    /**
+     * @return the number of elements tracked by the wheel. The method should be called by the thread calling
+     * {@link #expire(long)}.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Advances the wheel up to the passed time and executes the {@link DelayedExecutor.Worker} for every element, whose
+     * timeout has expired. The method is not thread-safe and is expected to be always called by the same thread.
+     *
+     * @param currentTimeMillis the current time in milliseconds
+     */
+    public void expire(final long currentTimeMillis) {
+        drainScheduleQueue();
+
+        final long targetTick = (currentTimeMillis - startMillis) / tickMillis;
+
+        while (currentTick < targetTick) {
+            final long tick = ++currentTick;
+            cascade(tick);
+
+            final Node<E> slot = wheel[0][(int) (tick & SLOT_MASK)];
+            Node<E> node;
+            while ((node = slot.next) != slot) {
+                node.unlink();
+                process(node, currentTimeMillis);
+            }
+        }
+
+        checkParked();
+    }
+
+    /**
+     * Removes all the elements from the wheel without executing the {@link DelayedExecutor.Worker}.
+     */
+    public void clear() {
+        scheduleQueue.clear();
+        for (final Node<E>[] level : wheel) {
+            for (final Node<E> slot : level) {
+                slot.next = slot.prev = slot;
+            }
+        }
+
+        parked.next = parked.prev = parked;
+        nodes.clear();
+    }
+
+    private void drainScheduleQueue() {
+        E element;
+        while ((element = scheduleQueue.poll()) != null) {
+            Node<E> node = nodes.get(element);
+            if (node == null) {
+                node = new Node<>(element);
+                nodes.put(element, node);
+            } else {
+                node.unlink();
+            }
+
+            place(node, resolver.getTimeoutMillis(element), currentTick + 1);
+        }
+    }
+
+    private void process(final Node<E> node, final long currentTimeMillis) {
+        final E element = node.element;
+        final long timeoutMillis = resolver.getTimeoutMillis(element);
+
+        if (timeoutMillis == DelayedExecutor.UNSET_TIMEOUT) {
+            nodes.remove(element);
+        } else if (currentTimeMillis - timeoutMillis >= 0) {
+            if (timeoutMillis != resolver.getTimeoutMillis(element)) {
+                place(node, resolver.getTimeoutMillis(element), currentTick + 1);
+                return;
+            }
+
+            boolean isDone = true;
+            try {
+                isDone = worker.doWork(element);
+            } catch (Exception ignored) {
+            }
+
+            if (isDone) {
+                nodes.remove(element);
+            } else {
+                place(node, resolver.getTimeoutMillis(element), currentTick + 1);
+            }
+        } else {
+            place(node, timeoutMillis, currentTick + 1);
+        }
+    }
+
+    private void checkParked() {
+        final Node<E> head = parked;
+        Node<E> node = head.next;
+        while (node != head) {
+            final Node<E> next = node.next;
+            final long timeoutMillis = resolver.getTimeoutMillis(node.element);
+            if (timeoutMillis == DelayedExecutor.UNSET_TIMEOUT) {
+                node.unlink();
+                nodes.remove(node.element);
+            } else if (timeoutMillis - startMillis <= horizonMillis()) {
+                node.unlink();
+                place(node, timeoutMillis, currentTick + 1);
+            }
+
+            node = next;
+        }
+    }
+
+    /**
+     * Re-distributes the elements of the higher level slots, which become due at the passed tick, to the lower levels.
+     */
+    private void cascade(final long tick) {
+        for (int level = 1; level < LEVELS; level++) {
+            final int shift = level * SLOT_BITS;
+            if ((tick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+
+            final Node<E> slot = wheel[level][(int) ((tick >>> shift) & SLOT_MASK)];
+            Node<E> node;
+            while ((node = slot.next) != slot) {
+                node.unlink();
+                place(node, resolver.getTimeoutMillis(node.element), tick);
+            }
+        }
+    }
+
+    private void place(final Node<E> node, final long timeoutMillis, final long minTick) {
+        if (timeoutMillis == DelayedExecutor.UNSET_TIMEOUT) {
+            nodes.remove(node.element);
+            return;
+        }
+
+        final long relativeMillis = timeoutMillis - startMillis;
+        if (relativeMillis > horizonMillis()) {
+            parked.append(node);
+            return;
+        }
+
+        // the first tick, which is processed after the timeout expires
+        long expireTick = relativeMillis <= 0 ? 0 : (relativeMillis + tickMillis - 1) / tickMillis;
+        if (expireTick < minTick) {
+            expireTick = minTick;
+        }
+
+        final long delta = expireTick - currentTick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+
+        if (level == LEVELS - 1 && delta >= 1L << (SLOT_BITS * LEVELS)) {
+            parked.append(node);
+            return;
+        }
+
+        wheel[level][(int) ((expireTick >>> (SLOT_BITS * level)) & SLOT_MASK)].append(node);
+    }
+
+    private long horizonMillis() {
+        return (currentTick + (1L << (SLOT_BITS * LEVELS)) - 1) * tickMillis;
+    }
+
+    private static final class Node<E> {
+        final E element;
+
+        Node<E> prev = this;
+        Node<E> next = this;
+
+        Node(final E element) {
+            this.element = element;
+        }
+
+        void append(final Node<E> node) {
+            node.prev = prev;
+            node.next = this;
+            prev.next = node;
+            prev = node;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = next = this;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2009, 2024 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -35,9 +36,12 @@ import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -72,6 +76,7 @@ import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
 import org.glassfish.grizzly.ssl.SSLFilter;
 import org.glassfish.grizzly.ssl.SSLStreamReader;
 import org.glassfish.grizzly.ssl.SSLStreamWriter;
+import org.glassfish.grizzly.strategies.SameThreadIOStrategy;
 import org.glassfish.grizzly.streams.StreamReader;
 import org.glassfish.grizzly.streams.StreamWriter;
 import org.glassfish.grizzly.utils.ChunkingFilter;
@@ -373,6 +378,94 @@ public class SSLTest {
     }
 
 
+    @Test
+    public void testHandshakeExecutor() throws Exception {
+        final AtomicInteger offloadedTasks = new AtomicInteger();
+        final ExecutorService handshakeExecutor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(64)) {
+            @Override
+            protected void beforeExecute(final Thread t, final Runnable r) {
+                offloadedTasks.incrementAndGet();
+            }
+        };
+
+        try {
+            doTestHandshakeExecutor(handshakeExecutor);
+            assertTrue(offloadedTasks.get() > 0);
+        } finally {
+            handshakeExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRejectingHandshakeExecutor() throws Exception {
+        final ExecutorService handshakeExecutor = Executors.newSingleThreadExecutor();
+        handshakeExecutor.shutdown();
+
+        // the delegated tasks are executed by the selector thread, which goes on with the handshake
+        doTestHandshakeExecutor(handshakeExecutor);
+    }
+
+    private void doTestHandshakeExecutor(final ExecutorService handshakeExecutor) throws Exception {
+        final SSLContextConfigurator sslContextConfigurator = createSSLContextConfigurator();
+        // createSSLContext(true) throws, if the configuration is not valid
+        final SSLEngineConfigurator clientSSLEngineConfigurator = new SSLEngineConfigurator(createSSLContext(), true, false, false);
+        final SSLEngineConfigurator serverSSLEngineConfigurator = new SSLEngineConfigurator(sslContextConfigurator.createSSLContext(true), false, false,
+                false);
+
+        final SSLFilter serverSSLFilter = new SSLFilter(serverSSLEngineConfigurator, null);
+        serverSSLFilter.setHandshakeExecutor(handshakeExecutor);
+        final SSLFilter clientSSLFilter = new SSLFilter(null, clientSSLEngineConfigurator);
+        clientSSLFilter.setHandshakeExecutor(handshakeExecutor);
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(serverSSLFilter);
+        filterChainBuilder.add(new EchoFilter());
+
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setIOStrategy(SameThreadIOStrategy.getInstance()).build();
+        transport.setProcessor(filterChainBuilder.build());
+        transport.setMemoryManager(manager);
+
+        final FutureImpl<String> echoFuture = Futures.createSafeFuture();
+        TCPNIOTransport cTransport = TCPNIOTransportBuilder.newInstance().setIOStrategy(SameThreadIOStrategy.getInstance()).build();
+        FilterChainBuilder clientChain = FilterChainBuilder.stateless();
+        clientChain.add(new TransportFilter());
+        clientChain.add(clientSSLFilter);
+        clientChain.add(new StringFilter());
+        clientChain.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+                echoFuture.result(ctx.<String>getMessage());
+                return ctx.getStopAction();
+            }
+        });
+        cTransport.setProcessor(clientChain.build());
+        cTransport.setMemoryManager(manager);
+
+        Connection connection = null;
+        try {
+            transport.bind(PORT);
+            transport.start();
+            cTransport.start();
+
+            connection = cTransport.connect("localhost", PORT).get(10, TimeUnit.SECONDS);
+            connection.write("message");
+
+            assertEquals("message", echoFuture.get(10, TimeUnit.SECONDS));
+            assertEquals(1, serverSSLFilter.getCompletedHandshakesCount());
+            assertEquals(1, clientSSLFilter.getCompletedHandshakesCount());
+            assertEquals(0, serverSSLFilter.getPendingHandshakeTasksCount());
+            assertTrue(serverSSLFilter.getAverageHandshakeTime(TimeUnit.NANOSECONDS) > 0);
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+            cTransport.shutdownNow();
+            transport.shutdownNow();
+        }
+    }
+
+
     @Test
     public void testSetSSLParameters() {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
 import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
@@ -29,6 +31,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,6 +44,7 @@ import org.glassfish.grizzly.impl.FutureImpl;
 import org.glassfish.grizzly.impl.SafeFutureImpl;
 import org.glassfish.grizzly.memory.ByteBufferWrapper;
 import org.glassfish.grizzly.nio.AbstractNIOConnectionDistributor;
+import org.glassfish.grizzly.nio.DefaultSelectorHandler;
 import org.glassfish.grizzly.nio.NIOConnection;
 import org.glassfish.grizzly.nio.NIOTransport;
 import org.glassfish.grizzly.nio.RegisterChannelResult;
@@ -140,6 +144,61 @@ public class TCPNIOTransportTest {
         }
     }
 
+    @Test
+    public void testSelectProbe() throws Exception {
+        final AtomicLong selectedKeys = new AtomicLong();
+        final AtomicLong tasks = new AtomicLong();
+        transport.getMonitoringConfig().addProbes(new TransportProbe.Adapter() {
+            @Override
+            public void onSelectEvent(Transport transport, int selectedKeysCount, int tasksCount) {
+                selectedKeys.addAndGet(selectedKeysCount);
+                tasks.addAndGet(tasksCount);
+            }
+        });
+
+        Connection<?> connection = null;
+        try {
+            bindToPort(transport);
+
+            connection = transport.connect("localhost", PORT).get(10, SECONDS);
+            assertNotNull(connection);
+
+            // at least the connect and the accept keys, and the channel registration tasks
+            final long deadline = System.currentTimeMillis() + 10000;
+            while ((selectedKeys.get() < 2 || tasks.get() < 2) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertTrue("selected keys: " + selectedKeys.get(), selectedKeys.get() >= 2);
+            assertTrue("tasks: " + tasks.get(), tasks.get() >= 2);
+        } finally {
+            close(connection);
+        }
+    }
+
+    @Test
+    public void testOverriddenSelect() throws Exception {
+        final AtomicInteger selectCount = new AtomicInteger();
+        transport.setSelectorHandler(new DefaultSelectorHandler() {
+            @Override
+            public Set<SelectionKey> select(SelectorRunner selectorRunner) throws IOException {
+                selectCount.incrementAndGet();
+                return super.select(selectorRunner);
+            }
+        });
+
+        Connection<?> connection = null;
+        try {
+            bindToPort(transport);
+
+            connection = transport.connect("localhost", PORT).get(10, SECONDS);
+            assertNotNull(connection);
+            assertTrue(selectCount.get() > 0);
+        } finally {
+            close(connection);
+        }
+    }
+
     @Test
     public void testMultiBind() throws Exception {
         logger.info("Starting test");
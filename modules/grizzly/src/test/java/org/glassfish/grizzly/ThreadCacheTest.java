@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,6 +20,12 @@ package org.glassfish.grizzly;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 
@@ -62,4 +69,35 @@ public class ThreadCacheTest {
 
     }
 
+    @Test
+    public void testVirtualThreadsShareCache() throws Exception {
+        final ThreadCache.CachedTypeIndex<Object> CACHE_IDX = ThreadCache.obtainIndex("testVirtualThreadsShareCache", Object.class, 4);
+        // two stripes, so each thread probes all of them
+        final ThreadCache.StripedObjectCache cache = new ThreadCache.StripedObjectCache(1);
+        final Object obj = new Object();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertTrue(executor.submit(() -> cache.put(Thread.currentThread(), CACHE_IDX, obj)).get());
+            assertSame(obj, executor.submit(() -> cache.take(Thread.currentThread(), CACHE_IDX)).get());
+            assertNull(executor.submit(() -> cache.take(Thread.currentThread(), CACHE_IDX)).get());
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPeekedTypeIsThreadBound() throws Exception {
+        final ThreadCache.CachedTypeIndex<Object> CACHE_IDX = ThreadCache.obtainIndex("testVirtualThreadPeekedTypeIsThreadBound", Object.class, 1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Callable<Boolean> task = () -> {
+                assertNull(ThreadCache.getFromCache(CACHE_IDX));
+                final Object obj = new Object();
+                ThreadCache.putToCache(CACHE_IDX, obj);
+                return ThreadCache.getFromCache(CACHE_IDX) == obj;
+            };
+
+            assertTrue(executor.submit(task).get());
+            // the object, put by the other virtual thread, is not visible
+            assertTrue(executor.submit(task).get());
+        }
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.compression.zip;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.TransformationResult;
+import org.glassfish.grizzly.attributes.AttributeBuilder;
+import org.glassfish.grizzly.attributes.AttributeHolder;
+import org.glassfish.grizzly.attributes.AttributeStorage;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.HeapMemoryManager;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.junit.Test;
+
+/**
+ * Test {@link ZlibPool}.
+ */
+public class ZlibPoolTest {
+
+    private static final byte[] DATA = "{\"id\":1,\"name\":\"grizzly\",\"tags\":[\"nio\",\"http\",\"http\",\"http\"]}"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void reuse() throws Exception {
+        final ZlibPool pool = new ZlibPool(1, 2);
+
+        final Deflater deflater = pool.takeDeflater(Deflater.BEST_SPEED, Deflater.DEFAULT_STRATEGY, true);
+        assertEquals(1, pool.getMisses());
+        deflate(deflater);
+        pool.offerDeflater(deflater, true);
+        assertEquals(1, pool.getPooledDeflatersCount());
+
+        // the wrap mode is kept apart
+        final Deflater zlibDeflater = pool.takeDeflater(Deflater.BEST_SPEED, Deflater.DEFAULT_STRATEGY, false);
+        assertNotSame(deflater, zlibDeflater);
+        assertEquals(2, pool.getMisses());
+
+        // the reused deflater starts the new stream with the new level
+        final Deflater reused = pool.takeDeflater(Deflater.BEST_COMPRESSION, Deflater.DEFAULT_STRATEGY, true);
+        assertSame(deflater, reused);
+        assertEquals(1, pool.getHits());
+        assertEquals(0, pool.getPooledDeflatersCount());
+
+        final Inflater inflater = pool.takeInflater(true);
+        assertArrayEquals(DATA, inflate(inflater, deflate(reused)));
+        pool.offerInflater(inflater, true);
+        pool.offerDeflater(reused, true);
+
+        assertSame(inflater, pool.takeInflater(true));
+        final Deflater stored = pool.takeDeflater(Deflater.NO_COMPRESSION, Deflater.DEFAULT_STRATEGY, true);
+        assertSame(deflater, stored);
+        assertArrayEquals(DATA, inflate(inflater, deflate(stored)));
+    }
+
+    @Test
+    public void bounded() {
+        final ZlibPool pool = new ZlibPool(1, 1);
+
+        // two stripes are probed, so the pool keeps two objects of a kind
+        final Inflater[] inflaters = new Inflater[3];
+        for (int i = 0; i < inflaters.length; i++) {
+            inflaters[i] = pool.takeInflater(false);
+        }
+
+        for (final Inflater inflater : inflaters) {
+            pool.offerInflater(inflater, false);
+        }
+
+        assertEquals(2, pool.getPooledInflatersCount());
+        assertEquals(1, pool.getEvictions());
+        assertTrue(pool.getNativeMemoryHeld() > 0);
+
+        pool.clear();
+        assertEquals(0, pool.getPooledInflatersCount());
+        assertEquals(0, pool.getNativeMemoryHeld());
+    }
+
+    @Test
+    public void gzipRoundTrip() {
+        final MemoryManager mm = new HeapMemoryManager();
+        final GZipEncoder encoder = new GZipEncoder();
+        final GZipDecoder decoder = new GZipDecoder();
+        final ZlibPool pool = ZlibPool.DEFAULT_POOL;
+
+        for (int i = 0; i < 3; i++) {
+            final AttributeStorage storage = new Storage();
+
+            final TransformationResult<Buffer, Buffer> encoded = encoder.transform(storage, Buffers.wrap(mm, DATA));
+            final Buffer gzip = Buffers.appendBuffers(mm, encoded.getMessage(), encoder.finish(storage));
+            encoded.recycle();
+
+            final TransformationResult<Buffer, Buffer> decoded = decoder.transform(storage, gzip);
+            final Buffer plain = decoded.getMessage();
+            final byte[] bytes = new byte[plain.remaining()];
+            plain.get(bytes);
+            decoded.recycle();
+            assertArrayEquals(DATA, bytes);
+
+            decoder.release(storage);
+            encoder.release(storage);
+        }
+
+        // the deflater and inflater are pooled after the stream is done
+        assertTrue(pool.getPooledDeflatersCount() > 0);
+        assertTrue(pool.getPooledInflatersCount() > 0);
+        assertTrue(pool.getHits() >= 4);
+    }
+
+    private static byte[] deflate(final Deflater deflater) {
+        deflater.setInput(DATA);
+        deflater.finish();
+        final byte[] out = new byte[256];
+        int len = 0;
+        // the changed parameters may take an extra call to apply
+        while (!deflater.finished()) {
+            len += deflater.deflate(out, len, out.length - len);
+        }
+
+        final byte[] result = new byte[len];
+        System.arraycopy(out, 0, result, 0, len);
+        return result;
+    }
+
+    private static byte[] inflate(final Inflater inflater, final byte[] input) throws Exception {
+        inflater.setInput(input);
+        final byte[] out = new byte[DATA.length];
+        assertEquals(DATA.length, inflater.inflate(out));
+        return out;
+    }
+
+    private static final class Storage implements AttributeStorage {
+        private final AttributeHolder attributes = AttributeBuilder.DEFAULT_ATTRIBUTE_BUILDER.createUnsafeAttributeHolder();
+
+        @Override
+        public AttributeHolder getAttributes() {
+            return attributes;
+        }
+    }
+}
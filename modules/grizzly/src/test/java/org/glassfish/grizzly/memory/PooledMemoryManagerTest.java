@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -133,6 +134,54 @@ public class PooledMemoryManagerTest {
         assertEquals((int) (slice0.getMaxElementsCount() * preallocatedPercentage), slice0.elementsCount());
     }
 
+    @Test
+    public void testSliceAffinity() throws Exception {
+        final PooledMemoryManager mm = new PooledMemoryManager(1024, 1, 0, 2, 0.01f, 0.0f, isDirect, true);
+        assertTrue(mm.isSliceAffinity());
+
+        final AtomicInteger hits = new AtomicInteger();
+        final AtomicInteger steals = new AtomicInteger();
+        final AtomicInteger misses = new AtomicInteger();
+        mm.getMonitoringConfig().addProbes(new MemoryProbe.Adapter() {
+            @Override
+            public void onSliceHitEvent(int size) {
+                hits.incrementAndGet();
+            }
+
+            @Override
+            public void onSliceStealEvent(int size) {
+                steals.incrementAndGet();
+            }
+
+            @Override
+            public void onSliceMissEvent(int size) {
+                misses.incrementAndGet();
+            }
+        });
+
+        final PoolSlice[] slices = mm.getPools()[0].getSlices();
+
+        // nothing is preallocated, so the buffer is created and then returned to the home slice
+        mm.allocate(1024).tryDispose();
+        assertEquals(1, misses.get());
+        final int homeSlice = slices[0].elementsCount() == 1 ? 0 : 1;
+        assertEquals(1, slices[homeSlice].elementsCount());
+
+        mm.allocate(1024).tryDispose();
+        assertEquals(1, hits.get());
+
+        // the other thread gets the other home slice, which is empty, so it steals the buffer
+        final Thread thread = new Thread(() -> mm.allocate(1024).tryDispose());
+        thread.start();
+        thread.join();
+
+        assertEquals(1, steals.get());
+        assertEquals(1, misses.get());
+        // the stolen buffer is returned to its owner slice
+        assertEquals(1, slices[homeSlice].elementsCount());
+        assertEquals(0, slices[1 - homeSlice].elementsCount());
+    }
+
     @Test
     public void testInvalidConstructorArguments() {
 
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.glassfish.grizzly.Buffer;
+import org.junit.Test;
+
+/**
+ * Test {@link SlabMemoryManager}.
+ */
+public class SlabMemoryManagerTest {
+
+    private static final int SLAB_SIZE = 64 * 1024;
+
+    @Test
+    public void testSizeClasses() {
+        final SlabMemoryManager mm = new SlabMemoryManager(1024, 4, SLAB_SIZE, 4 * SLAB_SIZE);
+
+        assertEquals(1024, mm.allocate(1).capacity());
+        assertEquals(1024, mm.allocate(1024).capacity());
+        assertEquals(2048, mm.allocate(1025).capacity());
+        assertEquals(8192, mm.allocate(8192).capacity());
+        assertTrue(mm.allocate(100).isDirect());
+        assertEquals(100, mm.allocate(100).limit());
+
+        // one slab per used size class
+        assertEquals(3 * SLAB_SIZE, mm.getReservedMemory());
+    }
+
+    @Test
+    public void testReuseAfterRelease() {
+        final SlabMemoryManager mm = new SlabMemoryManager(1024, 4, SLAB_SIZE, SLAB_SIZE);
+        final SlabMemoryManager.SizeClass sizeClass = mm.getSizeClasses()[0];
+        final int chunks = SLAB_SIZE / 1024;
+
+        final Buffer b = mm.allocate(512);
+        assertEquals(chunks - 1, sizeClass.getFreeChunksCount());
+
+        b.put(0, (byte) 1);
+        mm.release(b);
+        assertEquals(chunks, sizeClass.getFreeChunksCount());
+
+        try {
+            b.get(0);
+            fail("Disposed buffer should not be accessible");
+        } catch (IllegalStateException expected) {
+        }
+
+        // LIFO reuse of the same chunk
+        final Buffer b2 = mm.allocate(1024);
+        assertSame(b, b2);
+        assertEquals(0, b2.position());
+        assertEquals(1024, b2.limit());
+        assertEquals(SLAB_SIZE, mm.getReservedMemory());
+    }
+
+    @Test
+    public void testViewsKeepChunk() {
+        final SlabMemoryManager mm = new SlabMemoryManager(1024, 1, SLAB_SIZE, SLAB_SIZE);
+        final SlabMemoryManager.SizeClass sizeClass = mm.getSizeClasses()[0];
+        final int chunks = SLAB_SIZE / 1024;
+
+        final Buffer b = mm.allocate(1024);
+        final Buffer slice = b.slice(0, 100);
+        final Buffer tail = b.split(512);
+
+        b.tryDispose();
+        assertEquals(chunks - 1, sizeClass.getFreeChunksCount());
+        slice.tryDispose();
+        assertEquals(chunks - 1, sizeClass.getFreeChunksCount());
+        tail.tryDispose();
+        assertEquals(chunks, sizeClass.getFreeChunksCount());
+
+        // the chunk is returned with the original capacity
+        final Buffer b2 = mm.allocate(1024);
+        assertSame(b, b2);
+        assertEquals(1024, b2.capacity());
+    }
+
+    @Test
+    public void testCompositeForLargeSize() {
+        final SlabMemoryManager mm = new SlabMemoryManager(1024, 2, SLAB_SIZE, 4 * SLAB_SIZE);
+
+        final Buffer b = mm.allocate(5000);
+        assertTrue(b.isComposite());
+        assertEquals(5000, b.remaining());
+
+        for (int i = 0; i < 5000; i++) {
+            b.put((byte) i);
+        }
+        b.flip();
+        for (int i = 0; i < 5000; i++) {
+            assertEquals((byte) i, b.get());
+        }
+
+        final SlabMemoryManager.SizeClass[] sizeClasses = mm.getSizeClasses();
+        b.tryDispose();
+        assertEquals(SLAB_SIZE / 1024, sizeClasses[0].getFreeChunksCount());
+        assertEquals(SLAB_SIZE / 2048, sizeClasses[1].getFreeChunksCount());
+    }
+
+    @Test
+    public void testReallocate() {
+        final SlabMemoryManager mm = new SlabMemoryManager(1024, 4, SLAB_SIZE, 4 * SLAB_SIZE);
+
+        final Buffer b = mm.allocate(10);
+        b.put(Buffers.wrap(mm, "0123456789"));
+
+        final Buffer grown = mm.reallocate(b, 3000);
+        assertEquals(4096, grown.capacity());
+        assertEquals(10, grown.position());
+        assertEquals(3000, grown.limit());
+        grown.flip();
+        assertEquals("0123456789", grown.toStringContent());
+
+        final Buffer shrunk = mm.reallocate(grown.limit(4096), 3500);
+        assertSame(grown, shrunk);
+        assertEquals(3500, shrunk.limit());
+    }
+
+    @Test
+    public void testReallocateAboveMaxChunkSize() {
+        final SlabMemoryManager mm = new SlabMemoryManager(1024, 2, SLAB_SIZE, 4 * SLAB_SIZE);
+
+        final Buffer b = mm.allocate(10);
+        b.put(Buffers.wrap(mm, "0123456789"));
+
+        final Buffer grown = mm.reallocate(b, 5000);
+        assertTrue(grown.isComposite());
+        assertEquals(10, grown.position());
+        assertEquals(5000, grown.limit());
+        grown.flip();
+        assertEquals("0123456789", grown.toStringContent());
+
+        // the non-composite buffer, which is bigger than the max chunk
+        final Buffer wrapped = mm.wrap(new byte[10000]);
+        final Buffer shrunk = mm.reallocate(wrapped, 6000);
+        assertEquals(6000, shrunk.limit());
+    }
+
+    @Test
+    public void testNoDirectWhenSlabDoesNotFit() {
+        final SlabMemoryManager mm = new SlabMemoryManager(1024, 1, SLAB_SIZE, SLAB_SIZE + SLAB_SIZE / 2);
+        final int chunks = SLAB_SIZE / 1024;
+
+        for (int i = 0; i < chunks; i++) {
+            assertTrue(mm.allocate(1024).isDirect());
+        }
+
+        // the reserved memory is below the limit, but the next slab doesn't fit
+        assertFalse(mm.willAllocateDirect(1024));
+        assertFalse(mm.allocate(1024).isDirect());
+    }
+
+    @Test
+    public void testHeapFallback() {
+        final SlabMemoryManager mm = new SlabMemoryManager(1024, 1, SLAB_SIZE, SLAB_SIZE);
+        final int chunks = SLAB_SIZE / 1024;
+
+        for (int i = 0; i < chunks; i++) {
+            assertTrue(mm.allocate(1024).isDirect());
+        }
+
+        assertFalse(mm.willAllocateDirect(1024));
+        final Buffer heap = mm.allocate(1024);
+        assertFalse(heap.isDirect());
+        assertEquals(SLAB_SIZE, mm.getReservedMemory());
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertIllegal(1000, 4, SLAB_SIZE, SLAB_SIZE);
+        assertIllegal(1024, 0, SLAB_SIZE, SLAB_SIZE);
+        assertIllegal(1024, 8, SLAB_SIZE, SLAB_SIZE);
+        assertIllegal(1024, 4, SLAB_SIZE, SLAB_SIZE - 1);
+    }
+
+    private static void assertIllegal(final int minChunkSize, final int numberOfSizeClasses, final int slabSize, final long maxMemory) {
+        try {
+            new SlabMemoryManager(minChunkSize, numberOfSizeClasses, slabSize, maxMemory);
+            fail("IllegalArgumentException is expected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
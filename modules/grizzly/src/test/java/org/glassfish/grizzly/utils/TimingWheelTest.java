@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test {@link TimingWheel}.
+ */
+public class TimingWheelTest {
+
+    @Test
+    public void testExpireInOrder() {
+        final List<Task> expired = new ArrayList<>();
+        final TimingWheel<Task> wheel = new TimingWheel<>(new RecordingWorker(expired), new TaskResolver(), 10, TimeUnit.MILLISECONDS);
+
+        final long now = System.currentTimeMillis();
+        // cover all the wheel levels
+        final long[] delays = { 5, 50, 700, 5_000, 90_000, 3_000_000 };
+        for (final long delay : delays) {
+            final Task task = new Task(now + delay);
+            wheel.schedule(task);
+        }
+
+        wheel.expire(now);
+        assertEquals(delays.length, wheel.size());
+        assertTrue(expired.isEmpty());
+
+        for (int i = 0; i < delays.length; i++) {
+            wheel.expire(now + delays[i] - 20);
+            assertEquals(i, expired.size());
+
+            wheel.expire(now + delays[i] + 20);
+            assertEquals(i + 1, expired.size());
+            assertEquals(now + delays[i], expired.get(i).timeoutMillis);
+        }
+
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testRescheduleAndRemove() {
+        final List<Task> expired = new ArrayList<>();
+        final TimingWheel<Task> wheel = new TimingWheel<>(new RecordingWorker(expired), new TaskResolver(), 10, TimeUnit.MILLISECONDS);
+
+        final long now = System.currentTimeMillis();
+        final Task prolonged = new Task(now + 100);
+        final Task removed = new Task(now + 100);
+        final Task forever = new Task(Long.MAX_VALUE);
+
+        wheel.schedule(prolonged);
+        wheel.schedule(removed);
+        wheel.schedule(forever);
+        wheel.expire(now);
+
+        // prolong the timeout without rescheduling, the wheel has to notice it once the old slot is due
+        prolonged.timeoutMillis = now + 1000;
+        removed.timeoutMillis = DelayedExecutor.UNSET_TIMEOUT;
+
+        wheel.expire(now + 200);
+        assertTrue(expired.isEmpty());
+        assertEquals(2, wheel.size());
+
+        // parked elements are re-checked on every expire
+        forever.timeoutMillis = now + 300;
+        wheel.expire(now + 250);
+        wheel.expire(now + 350);
+        assertEquals(1, expired.size());
+        assertEquals(forever, expired.get(0));
+
+        wheel.expire(now + 1100);
+        assertEquals(2, expired.size());
+        assertEquals(prolonged, expired.get(1));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testDelayedExecutorWithTimingWheel() throws Exception {
+        final ExecutorService threadPool = Executors.newSingleThreadExecutor();
+        final DelayedExecutor delayedExecutor = new DelayedExecutor(threadPool, 10, TimeUnit.MILLISECONDS, true);
+        delayedExecutor.start();
+
+        try {
+            final CountDownLatch latch = new CountDownLatch(2);
+            final DelayedExecutor.DelayQueue<Task> queue = delayedExecutor.createDelayQueue(new DelayedExecutor.Worker<Task>() {
+                @Override
+                public boolean doWork(final Task element) {
+                    latch.countDown();
+                    return true;
+                }
+            }, new TaskResolver());
+
+            final Task removed = new Task(0);
+            queue.add(new Task(0), 50, TimeUnit.MILLISECONDS);
+            queue.add(removed, 50, TimeUnit.MILLISECONDS);
+            queue.add(new Task(0), 100, TimeUnit.MILLISECONDS);
+            queue.remove(removed);
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+            // the destroyed queue doesn't retain its elements
+            queue.add(new Task(0), 1, TimeUnit.HOURS);
+            queue.destroy();
+            assertEquals(0, queue.timingWheel.size());
+        } finally {
+            delayedExecutor.destroy();
+            threadPool.shutdownNow();
+        }
+    }
+
+    private static final class Task {
+        volatile long timeoutMillis;
+
+        Task(final long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+    }
+
+    private static final class TaskResolver implements DelayedExecutor.Resolver<Task> {
+
+        @Override
+        public boolean removeTimeout(final Task element) {
+            element.timeoutMillis = DelayedExecutor.UNSET_TIMEOUT;
+            return true;
+        }
+
+        @Override
+        public long getTimeoutMillis(final Task element) {
+            return element.timeoutMillis;
+        }
+
+        @Override
+        public void setTimeoutMillis(final Task element, final long timeoutMillis) {
+            element.timeoutMillis = timeoutMillis;
+        }
+    }
+
+    private static final class RecordingWorker implements DelayedExecutor.Worker<Task> {
+        private final List<Task> expired;
+
+        RecordingWorker(final List<Task> expired) {
+            this.expired = expired;
+        }
+
+        @Override
+        public boolean doWork(final Task element) {
+            expired.add(element);
+            return true;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -314,7 +315,7 @@ public class AjpHandlerFilter extends BaseFilter {
     private NextAction processForwardRequest(final FilterChainContext ctx, final Buffer content) throws IOException {
         final Connection connection = ctx.getConnection();
 
-        final AjpHttpRequest httpRequestPacket = AjpHttpRequest.create();
+        final AjpHttpRequest httpRequestPacket = AjpHttpRequest.create(connection);
         final HttpContext httpContext = HttpContext.newInstance(connection, connection, connection, httpRequestPacket).attach(ctx);
 
         httpRequestPacket.setConnection(connection);
@@ -324,8 +325,8 @@ public class AjpHandlerFilter extends BaseFilter {
         AjpMessageUtils.decodeRequest(content, httpRequestPacket, isTomcatAuthentication);
 
         if (secret != null) {
-            final String epSecret = httpRequestPacket.getSecret();
-            if (epSecret == null || !secret.equals(epSecret)) {
+            // compare the secret bytes as they came, a missing secret doesn't match
+            if (!httpRequestPacket.secret().equals(secret)) {
                 throw new IllegalStateException("Secret doesn't match");
             }
         }
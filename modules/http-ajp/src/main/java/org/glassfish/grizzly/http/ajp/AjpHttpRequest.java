@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,12 +24,15 @@ import java.security.cert.X509Certificate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.grizzly.Connection;
 import org.glassfish.grizzly.Grizzly;
 import org.glassfish.grizzly.ThreadCache;
+import org.glassfish.grizzly.attributes.Attribute;
 import org.glassfish.grizzly.http.HttpRequestPacket;
 import org.glassfish.grizzly.http.ProcessingState;
 import org.glassfish.grizzly.http.util.BufferChunk;
 import org.glassfish.grizzly.http.util.DataChunk;
+import org.glassfish.grizzly.http.util.Header;
 import org.glassfish.grizzly.ssl.SSLSupport;
 import org.glassfish.grizzly.utils.BufferInputStream;
 
@@ -42,6 +46,10 @@ public final class AjpHttpRequest extends HttpRequestPacket {
 
     private static final ThreadCache.CachedTypeIndex<AjpHttpRequest> CACHE_IDX = ThreadCache.obtainIndex(AjpHttpRequest.class, 2);
 
+    // the request recycled on the connection, the web server sends the next request over
+    private static final Attribute<AjpHttpRequest> CONNECTION_CACHE_ATTR = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
+            .createAttribute(AjpHttpRequest.class.getName() + ".connectionCache");
+
     public static AjpHttpRequest create() {
         AjpHttpRequest httpRequestImpl = ThreadCache.takeFromCache(CACHE_IDX);
         if (httpRequestImpl == null) {
@@ -51,12 +59,36 @@ public final class AjpHttpRequest extends HttpRequestPacket {
         return httpRequestImpl.init();
     }
 
+    /**
+     * Returns the request recycled on the given {@link Connection}, if any. The web server keeps the AJP connection open
+     * and sends the requests over it one by one, so the connection reuses the same request and response objects, no
+     * matter what thread processes the request.
+     *
+     * @param connection the {@link Connection}
+     * @return the {@link AjpHttpRequest}
+     *
+     * @since 5.0.1
+     */
+    public static AjpHttpRequest create(final Connection connection) {
+        final AjpHttpRequest httpRequestImpl = CONNECTION_CACHE_ATTR.remove(connection);
+        if (httpRequestImpl == null) {
+            return create();
+        }
+
+        return httpRequestImpl.init();
+    }
+
     private final DataChunk instanceId = DataChunk.newInstance();
     private final DataChunk sslCert = DataChunk.newInstance();
+    private final DataChunk sslCipher = DataChunk.newInstance();
+    private final DataChunk sslSession = DataChunk.newInstance();
+    private int sslKeySize = -1;
 
     final DataChunk tmpDataChunk = DataChunk.newInstance();
 
-    private String secret;
+    private final DataChunk secret = DataChunk.newInstance();
+
+    private boolean contentTypeParsed;
 
     private final AjpHttpResponse cachedResponse = new AjpHttpResponse();
 
@@ -70,9 +102,30 @@ public final class AjpHttpRequest extends HttpRequestPacket {
     @Override
     public Object getAttribute(final String name) {
         Object result = super.getAttribute(name);
+        if (result != null) {
+            return result;
+        }
+
+        // the SSL attributes are kept as they came, initialize them on demand
+        if (SSLSupport.CIPHER_SUITE_KEY.equals(name)) {
+            return lazyAttribute(name, sslCipher);
+        }
+
+        if (SSLSupport.SESSION_ID_KEY.equals(name)) {
+            return lazyAttribute(name, sslSession);
+        }
+
+        if (SSLSupport.KEY_SIZE_KEY.equals(name)) {
+            if (sslKeySize >= 0) {
+                result = sslKeySize;
+                setAttribute(name, result);
+            }
+
+            return result;
+        }
 
         // If it's CERTIFICATE_KEY request - lazy initialize it, if required
-        if (result == null && SSLSupport.CERTIFICATE_KEY.equals(name)) {
+        if (SSLSupport.CERTIFICATE_KEY.equals(name)) {
             // Extract SSL certificate information (if requested)
             if (!sslCert.isNull()) {
                 final BufferChunk bc = sslCert.getBufferChunk();
@@ -98,6 +151,64 @@ public final class AjpHttpRequest extends HttpRequestPacket {
         return result;
     }
 
+    private Object lazyAttribute(final String name, final DataChunk value) {
+        if (value.isNull()) {
+            return null;
+        }
+
+        final String result = value.toString();
+        setAttribute(name, result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getContentType() {
+        if (!contentTypeParsed) {
+            parseContentTypeHeader();
+        }
+
+        return super.getContentType();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCharacterEncoding() {
+        if (!contentTypeParsed) {
+            parseContentTypeHeader();
+        }
+
+        return super.getCharacterEncoding();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCharacterEncoding(final String charset) {
+        if (!contentTypeParsed) {
+            parseContentTypeHeader();
+        }
+
+        super.setCharacterEncoding(charset);
+    }
+
+    private void parseContentTypeHeader() {
+        contentTypeParsed = true;
+
+        if (!contentType.isSet()) {
+            final DataChunk dc = headers.getValue(Header.ContentType);
+
+            if (dc != null && !dc.isNull()) {
+                setContentType(dc.toString());
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -183,12 +294,20 @@ public final class AjpHttpRequest extends HttpRequestPacket {
         return sslCert;
     }
 
-    String getSecret() {
-        return secret;
+    DataChunk sslCipher() {
+        return sslCipher;
+    }
+
+    DataChunk sslSession() {
+        return sslSession;
+    }
+
+    void setSslKeySize(final int sslKeySize) {
+        this.sslKeySize = sslKeySize;
     }
 
-    void setSecret(final String secret) {
-        this.secret = secret;
+    DataChunk secret() {
+        return secret;
     }
 
     private AjpHttpRequest init() {
@@ -233,18 +352,28 @@ public final class AjpHttpRequest extends HttpRequestPacket {
 
         instanceId.recycle();
         sslCert.recycle();
+        sslCipher.recycle();
+        sslSession.recycle();
+        sslKeySize = -1;
         tmpDataChunk.recycle();
 
-        secret = null;
+        secret.recycle();
+        contentTypeParsed = false;
 
         super.reset();
     }
 
     @Override
     public void recycle() {
+        final Connection connection = getConnection();
+
         reset();
 
-        ThreadCache.putToCache(CACHE_IDX, this);
+        if (connection == null || !connection.isOpen() || CONNECTION_CACHE_ATTR.isSet(connection)) {
+            ThreadCache.putToCache(CACHE_IDX, this);
+        } else {
+            CONNECTION_CACHE_ATTR.set(connection, this);
+        }
     }
 
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -28,6 +29,7 @@ import org.glassfish.grizzly.http.HttpResponsePacket;
 import org.glassfish.grizzly.http.util.Ascii;
 import org.glassfish.grizzly.http.util.BufferChunk;
 import org.glassfish.grizzly.http.util.DataChunk;
+import org.glassfish.grizzly.http.util.Header;
 import org.glassfish.grizzly.http.util.HexUtils;
 import org.glassfish.grizzly.http.util.HttpUtils;
 import org.glassfish.grizzly.http.util.MimeHeaders;
@@ -46,6 +48,15 @@ final class AjpMessageUtils {
     private static final int[] DEC = HexUtils.getDecBytes();
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
+    // the known Headers matching the AJP coded request header names, null if there's no such Header
+    private static final Header[] CODED_HEADERS = new Header[AjpConstants.headerTransArray.length];
+
+    static {
+        for (int i = 0; i < CODED_HEADERS.length; i++) {
+            CODED_HEADERS[i] = Header.find(AjpConstants.headerTransArray[i]);
+        }
+    }
+
     static void decodeRequest(final Buffer requestContent, final AjpHttpRequest req, final boolean tomcatAuthentication) throws IOException {
         // FORWARD_REQUEST handler
 
@@ -83,13 +94,11 @@ final class AjpMessageUtils {
 
         decodeAttributes(requestContent, offset, req, tomcatAuthentication);
 
-        req.setUnparsedHostHeader(req.getHeaders().getValue("host"));
+        req.setUnparsedHostHeader(req.getHeaders().getValue(Header.Host));
     }
 
     private static int decodeAttributes(final Buffer requestContent, int offset, final AjpHttpRequest req, final boolean tomcatAuthentication) {
 
-        final DataChunk tmpDataChunk = req.tmpDataChunk;
-
         boolean moreAttr = true;
 
         while (moreAttr) {
@@ -102,8 +111,8 @@ final class AjpMessageUtils {
              * Special case ( XXX in future API make it separate type !)
              */
             if (attributeCode == AjpConstants.SC_A_SSL_KEY_SIZE) {
-                // Bug 1326: it's an Integer.
-                req.setAttribute(SSLSupport.KEY_SIZE_KEY, readShort(requestContent, offset));
+                // Bug 1326: it's an Integer, boxed on demand
+                req.setSslKeySize(readShort(requestContent, offset));
                 offset += 2;
             }
 
@@ -153,20 +162,16 @@ final class AjpMessageUtils {
 
             case AjpConstants.SC_A_SSL_CIPHER:
                 req.setSecure(true);
-                offset = setStringAttributeValue(req, SSLSupport.CIPHER_SUITE_KEY, requestContent, offset);
+                offset = getBytesToDataChunk(requestContent, offset, req.sslCipher());
                 break;
 
             case AjpConstants.SC_A_SSL_SESSION:
                 req.setSecure(true);
-                offset = setStringAttributeValue(req, SSLSupport.SESSION_ID_KEY, requestContent, offset);
+                offset = getBytesToDataChunk(requestContent, offset, req.sslSession());
                 break;
 
             case AjpConstants.SC_A_SECRET:
-                offset = getBytesToDataChunk(requestContent, offset, tmpDataChunk);
-
-                req.setSecret(tmpDataChunk.toString());
-                tmpDataChunk.recycle();
-
+                offset = getBytesToDataChunk(requestContent, offset, req.secret());
                 break;
 
             case AjpConstants.SC_A_STORED_METHOD:
@@ -189,51 +194,52 @@ final class AjpMessageUtils {
         offset += 2;
 
         for (int i = 0; i < hCount; i++) {
-            String hName;
+            final Header header;
 
             // Header names are encoded as either an integer code starting
             // with 0xA0, or as a normal string (in which case the first
             // two bytes are the length).
             int isc = readShort(requestContent, offset);
-            int hId = isc & 0xFF;
+            final int hId = isc & 0xFF;
 
-            DataChunk valueDC;
+            final DataChunk valueDC;
             isc &= 0xFF00;
             if (0xA000 == isc) {
                 offset += 2;
-                hName = AjpConstants.headerTransArray[hId - 1];
-                valueDC = headers.addValue(hName);
+                header = CODED_HEADERS[hId - 1];
+                if (header != null) {
+                    // the name refers the shared Header bytes, no copy
+                    final byte[] name = header.getLowerCaseBytes();
+                    valueDC = headers.addValue(name, 0, name.length, header);
+                } else {
+                    valueDC = headers.addValue(AjpConstants.headerTransArray[hId - 1]);
+                }
             } else {
-                // reset hId -- if the header currently being read
-                // happens to be 7 or 8 bytes long, the code below
-                // will think it's the content-type header or the
+                // the header code is not checked for the named headers -- if the
+                // header currently being read happens to be 7 or 8 bytes long,
+                // it could be taken for the content-type header or the
                 // content-length header - SC_REQ_CONTENT_TYPE=7,
                 // SC_REQ_CONTENT_LENGTH=8 - leading to unexpected
                 // behaviour. see bug 5861 for more information.
-                hId = -1;
-
                 final int headerNameLen = readShort(requestContent, offset);
                 offset += 2;
-                valueDC = headers.addValue(requestContent, offset, headerNameLen);
+                header = Header.find(requestContent, offset, offset + headerNameLen);
+                valueDC = headers.addValue(requestContent, offset, headerNameLen, header);
                 // Don't forget to skip the terminating \0 (that's why "+ 1")
                 offset += headerNameLen + 1;
             }
 
             offset = getBytesToDataChunk(requestContent, offset, valueDC);
 
-            // Get the last added header name (the one we need)
-            final DataChunk headerNameDC = headers.getName(headers.size() - 1);
-
-            if (hId == AjpConstants.SC_REQ_CONTENT_LENGTH || hId == -1 && headerNameDC.equalsIgnoreCase("Content-Length")) {
+            if (header == Header.ContentLength) {
                 // just read the content-length header, so set it
                 final long cl = Ascii.parseLong(valueDC);
                 if (cl < Integer.MAX_VALUE) {
                     req.setContentLength((int) cl);
                 }
-            } else if (hId == AjpConstants.SC_REQ_CONTENT_TYPE || hId == -1 && headerNameDC.equalsIgnoreCase("Content-Type")) {
-                // just read the content-type header, so set it
-                req.setContentType(valueDC.toString());
             }
+
+            // the content-type header is parsed on demand, see AjpHttpRequest.getContentType()
         }
 
         return offset;
@@ -354,19 +360,6 @@ final class AjpMessageUtils {
         return offset;
     }
 
-    private static int setStringAttributeValue(final AjpHttpRequest req, final String key, final Buffer buffer, int offset) {
-
-        final DataChunk tmpDataChunk = req.tmpDataChunk;
-
-        offset = getBytesToDataChunk(buffer, offset, tmpDataChunk);
-        final String value = tmpDataChunk.toString();
-
-        tmpDataChunk.recycle();
-
-        req.setAttribute(key, value);
-        return offset;
-    }
-
     public static Buffer encodeHeaders(final MemoryManager mm, final HttpResponsePacket httpResponsePacket) {
         Buffer encodedBuffer = mm.allocate(4096);
         int startPos = encodedBuffer.position();
@@ -426,68 +419,118 @@ final class AjpMessageUtils {
     private static final int BODY_CHUNK_HEADER_SIZE = 7;
     private static final int MAX_BODY_CHUNK_CONTENT_SIZE = AjpConstants.SUGGESTED_MAX_PAYLOAD_SIZE - BODY_CHUNK_HEADER_SIZE - 1; // -1 because of terminating \0
 
-    public static Buffer appendContentAndTrim(final MemoryManager memoryManager, Buffer dstBuffer, Buffer httpContentBuffer) {
+    // the content size, up to which the content is copied into the SEND_BODY_CHUNK message buffer
+    private static final int MAX_COPIED_CONTENT_SIZE = 1024;
+
+    public static Buffer appendContentAndTrim(final MemoryManager memoryManager, final Buffer dstBuffer, final Buffer httpContentBuffer) {
+        final int size = httpContentBuffer.remaining();
+        if (size <= MAX_COPIED_CONTENT_SIZE
+                || size <= MAX_BODY_CHUNK_CONTENT_SIZE && dstBuffer != null && dstBuffer.remaining() >= BODY_CHUNK_HEADER_SIZE + size + 1) {
+            // small chunk - write it as a single buffer instead of header, content and terminator composite
+            return copyContentChunkAndTrim(memoryManager, dstBuffer, httpContentBuffer);
+        }
+
         Buffer resultBuffer = null;
+        Buffer contentBuffer = httpContentBuffer;
+        boolean isFirst = true;
         do {
             Buffer contentRemainder = null;
-            if (httpContentBuffer.remaining() > MAX_BODY_CHUNK_CONTENT_SIZE) {
-                contentRemainder = httpContentBuffer.split(httpContentBuffer.position() + MAX_BODY_CHUNK_CONTENT_SIZE);
+            if (contentBuffer.remaining() > MAX_BODY_CHUNK_CONTENT_SIZE) {
+                contentRemainder = contentBuffer.split(contentBuffer.position() + MAX_BODY_CHUNK_CONTENT_SIZE);
             }
 
-            final Buffer encodedContentChunk = appendContentChunkAndTrim(memoryManager, dstBuffer, httpContentBuffer);
-            resultBuffer = Buffers.appendBuffers(memoryManager, resultBuffer, encodedContentChunk);
+            final Buffer headerBuffer;
+            if (isFirst && dstBuffer != null && dstBuffer.remaining() >= BODY_CHUNK_HEADER_SIZE) {
+                // dstBuffer use only once, when it comes from caller
+                headerBuffer = dstBuffer;
+            } else {
+                if (isFirst) {
+                    if (dstBuffer != null) {
+                        dstBuffer.trim();
+                        resultBuffer = dstBuffer;
+                    }
+                    headerBuffer = memoryManager.allocate(BODY_CHUNK_HEADER_SIZE);
+                } else {
+                    // the previous chunk terminating \0 goes together with this chunk header
+                    headerBuffer = memoryManager.allocate(1 + BODY_CHUNK_HEADER_SIZE);
+                    headerBuffer.put((byte) 0);
+                }
+                headerBuffer.allowBufferDispose(true);
+            }
+
+            putBodyChunkHeader(headerBuffer, contentBuffer.remaining());
+            headerBuffer.trim();
+
+            resultBuffer = Buffers.appendBuffers(memoryManager, resultBuffer, headerBuffer);
+            resultBuffer = Buffers.appendBuffers(memoryManager, resultBuffer, contentBuffer);
+
+            isFirst = false;
+            contentBuffer = contentRemainder;
+        } while (contentBuffer != null && contentBuffer.hasRemaining());
+
+        // Add terminating \0
+        final Buffer terminatingBuffer = memoryManager.allocate(1);
+        terminatingBuffer.allowBufferDispose(true);
+        terminatingBuffer.put((byte) 0);
+        terminatingBuffer.trim();
 
-            // dstBuffer use only once, when it comes from caller
-            dstBuffer = null;
-            httpContentBuffer = contentRemainder;
-        } while (httpContentBuffer != null && httpContentBuffer.hasRemaining());
+        resultBuffer = Buffers.appendBuffers(memoryManager, resultBuffer, terminatingBuffer);
+
+        if (resultBuffer.isComposite()) {
+            // If during buffer appending - composite buffer was created -
+            // allow buffer disposing
+            ((CompositeBuffer) resultBuffer).allowInternalBuffersDispose(true);
+        }
 
         return resultBuffer;
     }
 
-    private static Buffer appendContentChunkAndTrim(final MemoryManager memoryManager, final Buffer dstBuffer, final Buffer httpContentBuffer) {
+    private static Buffer copyContentChunkAndTrim(final MemoryManager memoryManager, final Buffer dstBuffer, final Buffer httpContentBuffer) {
+        final int size = httpContentBuffer.remaining();
+        final int chunkSize = BODY_CHUNK_HEADER_SIZE + size + 1;
 
-        final boolean useDstBufferForHeaders = dstBuffer != null && dstBuffer.remaining() >= BODY_CHUNK_HEADER_SIZE;
+        final boolean useDstBuffer = dstBuffer != null && dstBuffer.remaining() >= chunkSize;
 
-        final Buffer headerBuffer;
-        if (useDstBufferForHeaders) {
-            headerBuffer = dstBuffer;
+        final Buffer chunkBuffer;
+        if (useDstBuffer) {
+            chunkBuffer = dstBuffer;
         } else {
             if (dstBuffer != null) {
                 dstBuffer.trim();
             }
-            headerBuffer = memoryManager.allocate(BODY_CHUNK_HEADER_SIZE);
-            headerBuffer.allowBufferDispose(true);
+            chunkBuffer = memoryManager.allocate(chunkSize);
+            chunkBuffer.allowBufferDispose(true);
         }
 
-        headerBuffer.put((byte) 'A');
-        headerBuffer.put((byte) 'B');
-        headerBuffer.putShort((short) (4 + httpContentBuffer.remaining()));
-        headerBuffer.put(AjpConstants.JK_AJP13_SEND_BODY_CHUNK);
-        headerBuffer.putShort((short) httpContentBuffer.remaining());
-        headerBuffer.trim();
-
-        Buffer resultBuffer = Buffers.appendBuffers(memoryManager, headerBuffer, httpContentBuffer);
-
+        putBodyChunkHeader(chunkBuffer, size);
+        chunkBuffer.put(httpContentBuffer);
         // Add terminating \0
-        final Buffer terminatingBuffer = memoryManager.allocate(1);
-        terminatingBuffer.allowBufferDispose(true);
+        chunkBuffer.put((byte) 0);
+        chunkBuffer.trim();
 
-        resultBuffer = Buffers.appendBuffers(memoryManager, resultBuffer, terminatingBuffer);
+        // the content has been copied, so it's not needed anymore
+        httpContentBuffer.tryDispose();
 
-        if (!useDstBufferForHeaders && dstBuffer != null) {
-            resultBuffer = Buffers.appendBuffers(memoryManager, dstBuffer, resultBuffer);
+        if (useDstBuffer || dstBuffer == null) {
+            return chunkBuffer;
         }
 
+        final Buffer resultBuffer = Buffers.appendBuffers(memoryManager, dstBuffer, chunkBuffer);
         if (resultBuffer.isComposite()) {
-            // If during buffer appending - composite buffer was created -
-            // allow buffer disposing
             ((CompositeBuffer) resultBuffer).allowInternalBuffersDispose(true);
         }
 
         return resultBuffer;
     }
 
+    private static void putBodyChunkHeader(final Buffer headerBuffer, final int size) {
+        headerBuffer.put((byte) 'A');
+        headerBuffer.put((byte) 'B');
+        headerBuffer.putShort((short) (4 + size));
+        headerBuffer.put(AjpConstants.JK_AJP13_SEND_BODY_CHUNK);
+        headerBuffer.putShort((short) size);
+    }
+
     private static Buffer putBytes(final MemoryManager memoryManager, Buffer dstBuffer, final DataChunk dataChunk, final byte[] tempBuffer) {
         if (dataChunk == null || dataChunk.isNull()) {
             return putBytes(memoryManager, dstBuffer, EMPTY_BYTE_ARRAY);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -27,6 +28,8 @@ public class AjpForwardRequestPacket extends AjpPacket {
     private final String resource;
     private final MimeHeaders headers = new MimeHeaders();
     private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final Map<Byte, String> codedAttributes = new LinkedHashMap<>();
+    private int sslKeySize = -1;
     private final int port;
 
     public AjpForwardRequestPacket(String method, String resource, int port, int remotePort) {
@@ -40,6 +43,14 @@ public class AjpForwardRequestPacket extends AjpPacket {
         headers.addValue(header).setString(value);
     }
 
+    public void addAttribute(byte code, String value) {
+        codedAttributes.put(code, value);
+    }
+
+    public void setSslKeySize(int sslKeySize) {
+        this.sslKeySize = sslKeySize;
+    }
+
     @Override
     protected ByteBuffer buildContent() {
         ByteBuffer header = ByteBuffer.allocate(2);
@@ -61,6 +72,14 @@ public class AjpForwardRequestPacket extends AjpPacket {
 
     private ByteBuffer putAttributes(ByteBuffer header) {
         ByteBuffer buffer = header;
+        for (Map.Entry<Byte, String> entry : codedAttributes.entrySet()) {
+            buffer = ensureCapacity(buffer, 1).put(entry.getKey());
+            buffer = putString(buffer, entry.getValue());
+        }
+        if (sslKeySize >= 0) {
+            buffer = ensureCapacity(buffer, 1).put(AjpConstants.SC_A_SSL_KEY_SIZE);
+            buffer = putShort(buffer, (short) sslKeySize);
+        }
         for (Map.Entry<String, String> entry : attributes.entrySet()) {
             buffer = ensureCapacity(buffer, 1).put(AjpConstants.SC_A_REQ_ATTRIBUTE);
             buffer = putString(buffer, entry.getKey());
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.ajp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.glassfish.grizzly.ssl.SSLSupport;
+import org.junit.Test;
+
+/**
+ * Test the requests sent one by one over the same Ajp connection, the way the web server does.
+ */
+public class AjpKeepAliveTest extends AjpTestBase {
+
+    private static final int[] CONTENT_SIZES = { 0, 10, 1000, 5000, 20000 };
+
+    @Test
+    public void testKeepAliveRequests() throws Exception {
+        startHttpServer(new HttpHandler() {
+
+            @Override
+            public void service(Request request, Response response) throws Exception {
+                final String error = checkRequest(request);
+                if (error != null) {
+                    response.sendError(500, error);
+                    return;
+                }
+
+                final int size = Integer.parseInt(request.getHeader("X-Size"));
+                final OutputStream os = response.getOutputStream();
+                for (int i = 0; i < size; i++) {
+                    os.write(content(i));
+                }
+            }
+
+        }, "/");
+
+        for (int i = 0; i < 50; i++) {
+            final int size = CONTENT_SIZES[i % CONTENT_SIZES.length];
+
+            final AjpForwardRequestPacket headersPacket = new AjpForwardRequestPacket("GET", "/keepalive", 80, PORT);
+            headersPacket.addHeader("Content-Length", "0");
+            headersPacket.addHeader("Host", "localhost:" + (8000 + i));
+            headersPacket.addHeader("Content-Type", "text/plain; charset=UTF-16");
+            headersPacket.addHeader("Cookie", "id=" + i);
+            headersPacket.addHeader("Cache-Control", "no-cache");
+            headersPacket.addHeader("X-Request", Integer.toString(i));
+            headersPacket.addHeader("X-Size", Integer.toString(size));
+
+            send(headersPacket.toByteArray());
+
+            final AjpResponse ajpResponse = Utils.parseResponse(readAjpMessage());
+            assertEquals(ajpResponse.getResponseMessage(), 200, ajpResponse.getResponseCode());
+
+            assertEquals("Request #" + i, size, readContent());
+        }
+    }
+
+    @Test
+    public void testSslAttributesAndSecret() throws Exception {
+        ajpAddon.configure(false, "bigSecret");
+
+        startHttpServer(new HttpHandler() {
+
+            @Override
+            public void service(Request request, Response response) throws Exception {
+                response.setHeader("X-Cipher", String.valueOf(request.getAttribute(SSLSupport.CIPHER_SUITE_KEY)));
+                response.setHeader("X-Session", String.valueOf(request.getAttribute(SSLSupport.SESSION_ID_KEY)));
+                response.setHeader("X-Key-Size", String.valueOf(request.getAttribute(SSLSupport.KEY_SIZE_KEY)));
+                response.setHeader("X-Secure", String.valueOf(request.isSecure()));
+            }
+
+        }, "/");
+
+        for (int i = 0; i < 2; i++) {
+            final AjpForwardRequestPacket headersPacket = new AjpForwardRequestPacket("GET", "/ssl", 443, PORT);
+            headersPacket.addHeader("Content-Length", "0");
+            headersPacket.addAttribute(AjpConstants.SC_A_SECRET, "bigSecret");
+            if (i == 0) {
+                headersPacket.addAttribute(AjpConstants.SC_A_SSL_CIPHER, "TLS_AES_128_GCM_SHA256");
+                headersPacket.addAttribute(AjpConstants.SC_A_SSL_SESSION, "5e5510n");
+                headersPacket.setSslKeySize(128);
+            }
+
+            send(headersPacket.toByteArray());
+
+            final AjpResponse ajpResponse = Utils.parseResponse(readAjpMessage());
+            assertEquals(ajpResponse.getResponseMessage(), 200, ajpResponse.getResponseCode());
+            if (i == 0) {
+                assertEquals("TLS_AES_128_GCM_SHA256", ajpResponse.getHeaders().getHeader("X-Cipher"));
+                assertEquals("5e5510n", ajpResponse.getHeaders().getHeader("X-Session"));
+                assertEquals("128", ajpResponse.getHeaders().getHeader("X-Key-Size"));
+                assertEquals("true", ajpResponse.getHeaders().getHeader("X-Secure"));
+            } else {
+                // the attributes of the previous request must not leak into the reused one
+                assertEquals("null", ajpResponse.getHeaders().getHeader("X-Cipher"));
+                assertEquals("null", ajpResponse.getHeaders().getHeader("X-Session"));
+                assertEquals("null", ajpResponse.getHeaders().getHeader("X-Key-Size"));
+                assertEquals("false", ajpResponse.getHeaders().getHeader("X-Secure"));
+            }
+            assertEquals(0, readContent());
+        }
+
+        final AjpForwardRequestPacket headersPacket = new AjpForwardRequestPacket("GET", "/ssl", 443, PORT);
+        headersPacket.addHeader("Content-Length", "0");
+        headersPacket.addAttribute(AjpConstants.SC_A_SECRET, "bigSecreT");
+
+        send(headersPacket.toByteArray());
+        try {
+            readAjpMessage();
+            fail("The request with the wrong secret has been processed");
+        } catch (IOException expected) {
+            // the connection is closed
+        }
+    }
+
+    @Test
+    public void testRequestCachedOnConnection() throws Exception {
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            final Connection connection = transport.connect("localhost", PORT).get(10, TimeUnit.SECONDS);
+
+            final AjpHttpRequest request = AjpHttpRequest.create(connection);
+            request.setConnection(connection);
+            request.recycle();
+
+            // the request is taken from the connection, not from the thread cache
+            assertSame(request, executor.submit(() -> AjpHttpRequest.create(connection)).get(10, TimeUnit.SECONDS));
+            assertNotSame(request, AjpHttpRequest.create(connection));
+
+            request.setConnection(connection);
+            connection.closeSilently();
+            request.recycle();
+
+            assertNotSame(request, executor.submit(() -> AjpHttpRequest.create(connection)).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+            transport.shutdownNow();
+        }
+    }
+
+    private static String checkRequest(final Request request) {
+        final String id = request.getHeader("X-Request");
+        if (!"text/plain; charset=UTF-16".equals(request.getContentType())) {
+            return "Unexpected content-type: " + request.getContentType();
+        }
+        if (!"UTF-16".equals(request.getCharacterEncoding())) {
+            return "Unexpected character encoding: " + request.getCharacterEncoding();
+        }
+        if (!("id=" + id).equals(request.getHeader("cookie"))) {
+            return "Unexpected cookie: " + request.getHeader("cookie");
+        }
+        if (!"no-cache".equals(request.getHeader("Cache-Control"))) {
+            return "Unexpected cache-control: " + request.getHeader("Cache-Control");
+        }
+        if (!"localhost".equals(request.getServerName()) || request.getServerPort() != 8000 + Integer.parseInt(id)) {
+            return "Unexpected host: " + request.getServerName() + ":" + request.getServerPort();
+        }
+        if (request.getContentLength() != 0) {
+            return "Unexpected content-length: " + request.getContentLength();
+        }
+
+        return null;
+    }
+
+    private static int content(final int i) {
+        return 'a' + i % 26;
+    }
+
+    // reads the body chunks up to the end response message, checking the chunks framing and content
+    private int readContent() throws Exception {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        while (true) {
+            final byte[] message = readAjpMessage();
+            final byte type = message[4];
+            if (type == AjpConstants.JK_AJP13_END_RESPONSE) {
+                break;
+            }
+
+            assertEquals(AjpConstants.JK_AJP13_SEND_BODY_CHUNK, type);
+            final int size = Utils.getShort(message, 5);
+            assertEquals(size + 4, Utils.getShort(message, 2));
+            assertEquals("Missing terminating \\0", 0, message[message.length - 1]);
+            content.write(message, 7, size);
+        }
+
+        final byte[] bytes = content.toByteArray();
+        for (int i = 0; i < bytes.length; i++) {
+            assertEquals("Unexpected content at " + i, content(i), bytes[i]);
+        }
+
+        return bytes.length;
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -137,8 +138,11 @@ public class Utils {
             final int size = AjpMessageUtils.readShort(buffer, pos);
             pos += 2;
 
+            final int oldPos = buffer.position();
+            buffer.position(pos);
             body = new byte[size];
-            System.arraycopy(buffer, pos, body, 0, size);
+            buffer.get(body, 0, size);
+            buffer.position(oldPos);
             pos += size;
 
             pos++;
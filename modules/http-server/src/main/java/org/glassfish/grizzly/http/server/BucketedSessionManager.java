@@ -0,0 +1,627 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.http.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.http.Cookie;
+import org.glassfish.grizzly.http.server.util.Globals;
+
+/**
+ * {@link SessionManager}, which expires sessions without scanning all of them.
+ * <p>
+ * Every session is put to one of the time buckets, which are checked one after another each second, like the hands of
+ * a clock. A bucket holds the sessions, which might expire by the time the bucket is checked, the session, which has
+ * been accessed meanwhile, is put to the bucket of its new expiration time. So the expirer touches a session about once
+ * per session timeout, instead of every few seconds.
+ * <p>
+ * If the {@link SessionStore} is set, the sessions, which are idle for the passivation time, are serialized to the
+ * store and leave the heap, until they are requested again. The session attributes have to be {@link java.io.Serializable}
+ * to be passivated. The session, which is used by a request in progress, is not passivated until the request is
+ * completed. When the manager is closed, the active sessions are written to the store as well, so the persistent
+ * store, like {@link MappedFileSessionStore}, keeps the sessions for the next manager, created with the same store.
+ * The stored attributes are deserialized with the {@link ObjectInputFilter} (see {@link #setSerialFilter(ObjectInputFilter)}),
+ * which by default limits the object graph and applies the JVM-wide filter, configured by <tt>jdk.serialFilter</tt>.
+ * <p>
+ * The manager can be used directly, or by the Servlet-aware session manager, which wraps it.
+ *
+ * @since 5.0.1
+ */
+public class BucketedSessionManager implements SessionManager, Closeable {
+
+    private static final Logger LOGGER = Grizzly.logger(BucketedSessionManager.class);
+
+    private static final long DEFAULT_TICK_MILLIS = 1000;
+    private static final int DEFAULT_BUCKETS_COUNT = 1024;
+
+    /**
+     * The limits of the deserialized session attributes graph, which are applied by the default serial filter.
+     */
+    public static final String DEFAULT_SERIAL_FILTER_LIMITS = "maxdepth=64;maxrefs=100000;maxarray=1000000;maxbytes=16777216";
+
+    // session id -> active or passivated session
+    private final ConcurrentMap<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+
+    private final SessionStore store;
+    private final long passivationIdleMillis;
+
+    private final long tickMillis;
+    private final Queue<SessionEntry>[] buckets;
+    private final int bucketsMask;
+    // the last checked bucket tick
+    private volatile long checkedTick;
+
+    private final Random rnd = new Random();
+
+    private String sessionCookieName = Globals.SESSION_COOKIE_NAME;
+
+    private volatile ObjectInputFilter serialFilter = createDefaultSerialFilter();
+
+    private final ScheduledThreadPoolExecutor sessionExpirer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread t = new Thread(r, "Grizzly-HttpSession-Expirer");
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    /**
+     * Creates the manager, which keeps all the sessions in the heap.
+     */
+    public BucketedSessionManager() {
+        this(null, -1, DEFAULT_TICK_MILLIS, DEFAULT_BUCKETS_COUNT);
+    }
+
+    /**
+     * Creates the manager, which passivates the idle sessions to the given {@link SessionStore}.
+     *
+     * @param store the {@link SessionStore}, which also gets the active sessions when the manager is closed
+     * @param passivationIdleTime the idle time, after which the session is passivated, or a negative value if the
+     * sessions are written to the store just on close
+     * @param unit the idle time unit
+     * @throws IOException if the sessions, which have been stored before, can't be read
+     */
+    public BucketedSessionManager(final SessionStore store, final long passivationIdleTime, final TimeUnit unit) throws IOException {
+        this(store, passivationIdleTime >= 0 ? unit.toMillis(passivationIdleTime) : -1, DEFAULT_TICK_MILLIS, DEFAULT_BUCKETS_COUNT);
+
+        if (store != null) {
+            try {
+                restore();
+            } catch (IOException e) {
+                sessionExpirer.shutdownNow();
+                throw e;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    BucketedSessionManager(final SessionStore store, final long passivationIdleMillis, final long tickMillis, final int bucketsCount) {
+        if (store == null && passivationIdleMillis >= 0) {
+            throw new IllegalArgumentException("The passivation requires the session store");
+        }
+
+        this.store = store;
+        this.passivationIdleMillis = passivationIdleMillis;
+        this.tickMillis = tickMillis;
+
+        final int capacity = Integer.highestOneBit(Math.max(2, bucketsCount) - 1) << 1;
+        buckets = new Queue[capacity];
+        for (int i = 0; i < capacity; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        bucketsMask = capacity - 1;
+        checkedTick = System.currentTimeMillis() / tickMillis;
+
+        sessionExpirer.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    expire();
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Session expiration failed", e);
+                }
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Session getSession(final Request request, final String requestedSessionId) {
+        if (requestedSessionId == null) {
+            return null;
+        }
+
+        final SessionEntry entry = sessions.get(requestedSessionId);
+        if (entry == null) {
+            return null;
+        }
+
+        synchronized (entry) {
+            Session session = entry.session;
+            if (session == null) {
+                session = activate(entry);
+                if (session == null) {
+                    return null;
+                }
+            }
+
+            final long now = System.currentTimeMillis();
+            if (isExpired(session, now)) {
+                session.setValid(false);
+                sessions.remove(requestedSessionId, entry);
+                return null;
+            }
+
+            session.access();
+            use(entry, request);
+            return session;
+        }
+    }
+
+    @Override
+    public Session createSession(final Request request) {
+        final Session session = new Session();
+
+        String requestedSessionId;
+        SessionEntry entry;
+        do {
+            requestedSessionId = String.valueOf(generateRandomLong());
+            session.setIdInternal(requestedSessionId);
+            entry = new SessionEntry(requestedSessionId, session);
+        } while (sessions.putIfAbsent(requestedSessionId, entry) != null);
+
+        // the session timeout is not set yet, so check the session soon
+        synchronized (entry) {
+            schedule(entry, 0, checkedTick);
+            use(entry, request);
+        }
+
+        return session;
+    }
+
+    @Override
+    public String changeSessionId(final Request request, final Session session) {
+        final String oldSessionId = session.getIdInternal();
+
+        String newSessionId;
+        SessionEntry entry;
+        do {
+            newSessionId = String.valueOf(generateRandomLong());
+            entry = new SessionEntry(newSessionId, session);
+        } while (sessions.putIfAbsent(newSessionId, entry) != null);
+
+        session.setIdInternal(newSessionId);
+
+        final SessionEntry oldEntry = sessions.remove(oldSessionId);
+        if (oldEntry != null && oldEntry.session == null) {
+            removeStored(oldSessionId);
+        }
+
+        synchronized (entry) {
+            schedule(entry, nextCheckTime(session), checkedTick);
+        }
+
+        return oldSessionId;
+    }
+
+    @Override
+    public void configureSessionCookie(final Request request, final Cookie cookie) {
+    }
+
+    @Override
+    public void setSessionCookieName(final String name) {
+        if (name != null && !name.isEmpty()) {
+            sessionCookieName = name;
+        }
+    }
+
+    @Override
+    public String getSessionCookieName() {
+        return sessionCookieName;
+    }
+
+    /**
+     * @return the {@link ObjectInputFilter}, which checks the session attributes read from the {@link SessionStore}, or
+     * <tt>null</tt> if just the JVM-wide filter is applied
+     */
+    public ObjectInputFilter getSerialFilter() {
+        return serialFilter;
+    }
+
+    /**
+     * Sets the {@link ObjectInputFilter}, which checks the session attributes read from the {@link SessionStore}. The
+     * session, whose attributes are rejected, is dropped. The default filter applies the
+     * {@link #DEFAULT_SERIAL_FILTER_LIMITS} and the JVM-wide filter, if it's configured.
+     *
+     * @param serialFilter the filter, or <tt>null</tt> to apply just the JVM-wide filter
+     */
+    public void setSerialFilter(final ObjectInputFilter serialFilter) {
+        this.serialFilter = serialFilter;
+    }
+
+    /**
+     * @return the number of the active and passivated sessions
+     */
+    public int getSessionsCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops the session expiration, writes the active sessions to the {@link SessionStore}, if it's set, and closes the
+     * store.
+     */
+    @Override
+    public void close() {
+        sessionExpirer.shutdownNow();
+
+        if (store != null) {
+            for (SessionEntry entry : sessions.values()) {
+                synchronized (entry) {
+                    final Session session = entry.session;
+                    if (session != null && session.isValid()) {
+                        try {
+                            store.store(entry.id, serialize(session));
+                        } catch (IOException e) {
+                            LOGGER.log(Level.FINE, "Session " + entry.id + " can't be stored", e);
+                        }
+                    }
+                }
+            }
+
+            try {
+                store.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Session store can't be closed", e);
+            }
+        }
+
+        sessions.clear();
+    }
+
+    /**
+     * Checks the buckets, whose time has come.
+     */
+    void expire() {
+        final long now = System.currentTimeMillis();
+        final long currentTick = now / tickMillis;
+
+        long tick = Math.max(checkedTick, currentTick - buckets.length);
+        while (tick < currentTick) {
+            tick++;
+
+            final Queue<SessionEntry> bucket = buckets[(int) (tick & bucketsMask)];
+            SessionEntry entry;
+            while ((entry = bucket.poll()) != null) {
+                check(entry, now, tick);
+            }
+
+            checkedTick = tick;
+        }
+    }
+
+    private void check(final SessionEntry entry, final long now, final long tick) {
+        synchronized (entry) {
+            entry.isScheduled = false;
+            if (sessions.get(entry.id) != entry) {
+                // the session has been removed, or its id has been changed
+                return;
+            }
+
+            final Session session = entry.session;
+            if (session == null) {
+                final long expirationTime = entry.expirationTime;
+                if (expirationTime < 0) {
+                    // stays in the store until it's requested
+                    return;
+                }
+
+                if (now <= expirationTime) {
+                    schedule(entry, expirationTime, tick);
+                } else if (sessions.remove(entry.id, entry)) {
+                    removeStored(entry.id);
+                }
+
+                return;
+            }
+
+            if (isExpired(session, now)) {
+                session.setValid(false);
+                sessions.remove(entry.id, entry);
+                return;
+            }
+
+            if (passivationIdleMillis >= 0 && entry.usesCount == 0 && now - session.getTimestamp() >= passivationIdleMillis
+                    && passivate(entry, session)) {
+                if (entry.expirationTime >= 0) {
+                    schedule(entry, entry.expirationTime, tick);
+                }
+
+                return;
+            }
+
+            schedule(entry, nextCheckTime(session), tick);
+        }
+    }
+
+    /**
+     * Puts the session to the bucket of the given time, the time beyond the buckets range goes to the farthest bucket.
+     * Must be called with the entry lock.
+     */
+    private void schedule(final SessionEntry entry, final long time, final long currentTick) {
+        long tick = time / tickMillis + 1;
+        if (tick <= currentTick) {
+            tick = currentTick + 1;
+        } else if (tick - currentTick >= buckets.length) {
+            tick = currentTick + buckets.length - 1;
+        }
+
+        entry.isScheduled = true;
+        buckets[(int) (tick & bucketsMask)].offer(entry);
+    }
+
+    private long nextCheckTime(final Session session) {
+        final long timestamp = session.getTimestamp();
+        final long timeout = session.getSessionTimeout();
+
+        long time = timeout > 0 ? timestamp + timeout : Long.MAX_VALUE;
+        if (passivationIdleMillis >= 0) {
+            time = Math.min(time, timestamp + passivationIdleMillis);
+        }
+
+        return time;
+    }
+
+    /**
+     * Marks the session as used by the request until the request is completed, so the session isn't passivated, while
+     * the request might change it. Must be called with the entry lock.
+     */
+    private static void use(final SessionEntry entry, final Request request) {
+        if (request != null) {
+            entry.usesCount++;
+            request.addAfterServiceListener(entry);
+        }
+    }
+
+    /**
+     * Moves the session to the store. Must be called with the entry lock.
+     */
+    private boolean passivate(final SessionEntry entry, final Session session) {
+        final long timestamp = session.getTimestamp();
+        try {
+            store.store(entry.id, serialize(session));
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Session " + entry.id + " can't be passivated", e);
+            return false;
+        }
+
+        entry.session = null;
+        if (session.getTimestamp() != timestamp) {
+            // the session has been accessed meanwhile
+            entry.session = session;
+            removeStored(entry.id);
+            return false;
+        }
+
+        final long timeout = session.getSessionTimeout();
+        entry.expirationTime = timeout > 0 ? timestamp + timeout : -1;
+        return true;
+    }
+
+    private Session activate(final SessionEntry entry) {
+        synchronized (entry) {
+            Session session = entry.session;
+            if (session != null || sessions.get(entry.id) != entry) {
+                return session;
+            }
+
+            try {
+                final byte[] data = store.load(entry.id);
+                if (data != null) {
+                    session = deserialize(entry.id, data, serialFilter);
+                }
+            } catch (IOException | ClassNotFoundException e) {
+                LOGGER.log(Level.WARNING, "Session " + entry.id + " can't be restored", e);
+            }
+
+            removeStored(entry.id);
+            if (session == null) {
+                sessions.remove(entry.id, entry);
+                return null;
+            }
+
+            entry.session = session;
+            if (!entry.isScheduled) {
+                schedule(entry, nextCheckTime(session), checkedTick);
+            }
+
+            return session;
+        }
+    }
+
+    /**
+     * Registers the sessions, which have been left in the store.
+     */
+    void restore() throws IOException {
+        final long now = System.currentTimeMillis();
+        for (String id : store.getIds()) {
+            final byte[] data = store.load(id);
+            if (data == null) {
+                continue;
+            }
+
+            final long expirationTime;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+                in.readLong();
+                final long timestamp = in.readLong();
+                final long timeout = in.readLong();
+                expirationTime = timeout > 0 ? timestamp + timeout : -1;
+            }
+
+            if (expirationTime >= 0 && now > expirationTime) {
+                store.remove(id);
+                continue;
+            }
+
+            final SessionEntry entry = new SessionEntry(id, null);
+            entry.expirationTime = expirationTime;
+            sessions.put(id, entry);
+
+            if (expirationTime >= 0) {
+                synchronized (entry) {
+                    schedule(entry, expirationTime, checkedTick);
+                }
+            }
+        }
+    }
+
+    private void removeStored(final String id) {
+        try {
+            store.remove(id);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Session " + id + " can't be removed from the store", e);
+        }
+    }
+
+    private static boolean isExpired(final Session session, final long now) {
+        return !session.isValid() || session.getSessionTimeout() > 0 && now - session.getTimestamp() > session.getSessionTimeout();
+    }
+
+    private static byte[] serialize(final Session session) throws IOException {
+        final Map<String, Object> attributes = new HashMap<>(session.attributes());
+
+        final ByteArrayOutputStream data = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(data)) {
+            out.writeLong(session.getCreationTime());
+            out.writeLong(session.getTimestamp());
+            out.writeLong(session.getSessionTimeout());
+            out.writeBoolean(session.isNew());
+            out.writeInt(attributes.size());
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                out.writeUTF(attribute.getKey());
+                out.writeObject(attribute.getValue());
+            }
+        }
+
+        return data.toByteArray();
+    }
+
+    private static Session deserialize(final String id, final byte[] data, final ObjectInputFilter filter) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new SessionInputStream(new ByteArrayInputStream(data))) {
+            if (filter != null) {
+                in.setObjectInputFilter(filter);
+            }
+
+            final long creationTime = in.readLong();
+            final long timestamp = in.readLong();
+            final long timeout = in.readLong();
+            final boolean isNew = in.readBoolean();
+
+            final Session session = new Session(id, creationTime, timestamp, isNew);
+            session.setSessionTimeout(timeout);
+
+            final int attributesCount = in.readInt();
+            for (int i = 0; i < attributesCount; i++) {
+                session.setAttribute(in.readUTF(), in.readObject());
+            }
+
+            return session;
+        }
+    }
+
+    /**
+     * Merges the default limits with the JVM-wide filter, which the stream filter would otherwise replace.
+     */
+    private static ObjectInputFilter createDefaultSerialFilter() {
+        final ObjectInputFilter limits = ObjectInputFilter.Config.createFilter(DEFAULT_SERIAL_FILTER_LIMITS);
+        final ObjectInputFilter jvmFilter = ObjectInputFilter.Config.getSerialFilter();
+        return jvmFilter != null ? ObjectInputFilter.merge(limits, jvmFilter) : limits;
+    }
+
+    /**
+     * Returns pseudorandom positive long value.
+     */
+    private long generateRandomLong() {
+        return rnd.nextLong() & 0x7FFFFFFFFFFFFFFFL;
+    }
+
+    private static final class SessionEntry implements AfterServiceListener {
+        private final String id;
+        // null, if the session is passivated
+        private volatile Session session;
+        // the passivated session expiration time, or -1 if it never expires
+        private long expirationTime = -1;
+        // is the entry in one of the buckets
+        private boolean isScheduled;
+        // the number of the requests in progress, which use the session
+        private int usesCount;
+
+        private SessionEntry(final String id, final Session session) {
+            this.id = id;
+            this.session = session;
+        }
+
+        @Override
+        public synchronized void onAfterService(final Request request) {
+            usesCount--;
+        }
+    }
+
+    /**
+     * Resolves the attribute classes with the context class loader, which loads the web application classes.
+     */
+    private static final class SessionInputStream extends ObjectInputStream {
+
+        private SessionInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException ignored) {
+                }
+            }
+
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.http.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SessionStore}, which appends the session records to a {@link ByteBuffer}. The heap holds just the index of
+ * the record positions.
+ * <p>
+ * Each record is the id and data lengths followed by the UTF-8 id and the data, the removal record has the <tt>-1</tt>
+ * data length. The id length is written after the rest of the record, so the records written before the buffer, which
+ * is zero filled past the last record, can be read back. When the buffer is full, the live records are copied to the
+ * start of the compaction buffer, which is the same buffer by default, and if that's not enough, the buffer grows.
+ */
+abstract class BufferSessionStore implements SessionStore {
+
+    private static final int HEADER_SIZE = 8;
+
+    // session id -> record position
+    private final Map<String, Integer> index = new HashMap<>();
+
+    private ByteBuffer buffer;
+    private int writePosition;
+    // the size of the replaced and removed records
+    private int garbageSize;
+
+    /**
+     * Sets the buffer and reads the records, which have been written before.
+     *
+     * @param buffer the buffer
+     */
+    protected final void init(final ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        final int capacity = buffer.capacity();
+        int position = 0;
+        while (capacity - position >= HEADER_SIZE) {
+            final int idLength = buffer.getInt(position);
+            final int dataLength = buffer.getInt(position + 4);
+            if (idLength <= 0 || dataLength < -1 || (long) position + HEADER_SIZE + idLength + Math.max(dataLength, 0) > capacity) {
+                break;
+            }
+
+            final String id = readId(position, idLength);
+            final Integer oldPosition = dataLength >= 0 ? index.put(id, position) : index.remove(id);
+            if (oldPosition != null) {
+                garbageSize += recordSize(oldPosition);
+            }
+
+            final int size = recordSize(position);
+            if (dataLength < 0) {
+                garbageSize += size;
+            }
+
+            position += size;
+        }
+
+        writePosition = position;
+    }
+
+    /**
+     * Returns the buffer, which has the given capacity and contains the given buffer data.
+     *
+     * @param buffer the current buffer
+     * @param used the number of used bytes at the current buffer start
+     * @param capacity the new buffer capacity
+     * @return the new buffer
+     * @throws IOException if the buffer can't grow
+     */
+    protected abstract ByteBuffer grow(ByteBuffer buffer, int used, int capacity) throws IOException;
+
+    /**
+     * Returns the buffer, which has the current buffer capacity and where the live records are copied to, when the
+     * buffer is compacted. By default the records are moved within the current buffer.
+     *
+     * @param buffer the current buffer
+     * @return the compaction buffer
+     * @throws IOException if the compaction buffer can't be created
+     */
+    protected ByteBuffer compactionBuffer(final ByteBuffer buffer) throws IOException {
+        return buffer;
+    }
+
+    /**
+     * Replaces the current buffer with the compaction buffer, where the live records have been copied to, if it's not
+     * the current buffer.
+     *
+     * @param buffer the current buffer
+     * @param compacted the compaction buffer
+     * @param used the number of used bytes at the compaction buffer start
+     * @throws IOException if the buffer can't be replaced, the current buffer stays unchanged then
+     */
+    protected void replace(final ByteBuffer buffer, final ByteBuffer compacted, final int used) throws IOException {
+    }
+
+    /**
+     * Releases the buffer, when the store is closed.
+     *
+     * @param buffer the buffer
+     * @throws IOException if the buffer can't be released
+     */
+    protected abstract void release(ByteBuffer buffer) throws IOException;
+
+    @Override
+    public synchronized void store(final String id, final byte[] data) throws IOException {
+        final int position = append(id.getBytes(StandardCharsets.UTF_8), data);
+        final Integer oldPosition = index.put(id, position);
+        if (oldPosition != null) {
+            garbageSize += recordSize(oldPosition);
+        }
+    }
+
+    @Override
+    public synchronized byte[] load(final String id) {
+        final Integer position = index.get(id);
+        if (position == null) {
+            return null;
+        }
+
+        final byte[] data = new byte[buffer.getInt(position + 4)];
+        buffer.get(position + HEADER_SIZE + buffer.getInt(position), data);
+        return data;
+    }
+
+    @Override
+    public synchronized void remove(final String id) throws IOException {
+        final Integer position = index.remove(id);
+        if (position == null) {
+            return;
+        }
+
+        garbageSize += recordSize(position);
+        garbageSize += recordSize(append(id.getBytes(StandardCharsets.UTF_8), null));
+    }
+
+    @Override
+    public synchronized Collection<String> getIds() {
+        return new ArrayList<>(index.keySet());
+    }
+
+    /**
+     * @return the number of stored sessions
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * @return the current capacity of the store, in bytes
+     */
+    public synchronized int getCapacity() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer != null) {
+            index.clear();
+            release(buffer);
+            buffer = null;
+        }
+    }
+
+    /**
+     * Appends the record, the <tt>null</tt> data means the removal record.
+     */
+    private int append(final byte[] id, final byte[] data) throws IOException {
+        if (buffer == null) {
+            throw new IOException("The session store is closed");
+        }
+
+        final int size = HEADER_SIZE + id.length + (data != null ? data.length : 0);
+        ensureCapacity(size);
+
+        final int position = writePosition;
+        buffer.put(position + HEADER_SIZE, id);
+        if (data != null) {
+            buffer.put(position + HEADER_SIZE + id.length, data);
+        }
+        buffer.putInt(position + 4, data != null ? data.length : -1);
+        buffer.putInt(position, id.length);
+
+        writePosition += size;
+        return position;
+    }
+
+    private void ensureCapacity(final int size) throws IOException {
+        if (buffer.capacity() - writePosition >= size) {
+            return;
+        }
+
+        if (garbageSize > 0) {
+            compact();
+            if (buffer.capacity() - writePosition >= size) {
+                return;
+            }
+        }
+
+        final long required = (long) writePosition + size;
+        if (required > Integer.MAX_VALUE) {
+            throw new IOException("The session store is full");
+        }
+
+        final int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(required, buffer.capacity() * 2L));
+        buffer = grow(buffer, writePosition, capacity);
+    }
+
+    /**
+     * Copies the live records to the compaction buffer start.
+     */
+    private void compact() throws IOException {
+        final List<Map.Entry<String, Integer>> records = new ArrayList<>(index.entrySet());
+        records.sort(Comparator.comparing(Map.Entry::getValue));
+
+        final ByteBuffer compacted = compactionBuffer(buffer);
+        final int[] positions = new int[records.size()];
+
+        int to = 0;
+        byte[] tmp = new byte[0];
+        for (int i = 0; i < positions.length; i++) {
+            final int from = records.get(i).getValue();
+            final int size = recordSize(from);
+            if (from != to || compacted != buffer) {
+                if (tmp.length < size) {
+                    tmp = new byte[size];
+                }
+
+                buffer.get(from, tmp, 0, size);
+                compacted.put(to, tmp, 0, size);
+            }
+
+            positions[i] = to;
+            to += size;
+        }
+
+        if (compacted == buffer) {
+            // zero the tail, so it's not taken for records
+            for (int i = to; i < writePosition; i++) {
+                buffer.put(i, (byte) 0);
+            }
+        } else {
+            replace(buffer, compacted, to);
+            buffer = compacted;
+        }
+
+        for (int i = 0; i < positions.length; i++) {
+            records.get(i).setValue(positions[i]);
+        }
+
+        writePosition = to;
+        garbageSize = 0;
+    }
+
+    private int recordSize(final int position) {
+        return HEADER_SIZE + buffer.getInt(position) + Math.max(buffer.getInt(position + 4), 0);
+    }
+
+    private String readId(final int position, final int idLength) {
+        final byte[] id = new byte[idLength];
+        buffer.get(position + HEADER_SIZE, id);
+        return new String(id, StandardCharsets.UTF_8);
+    }
+}
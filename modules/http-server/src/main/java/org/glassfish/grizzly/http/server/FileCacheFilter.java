@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -82,23 +83,23 @@ public class FileCacheFilter extends BaseFilter {
 
                 // check if we can send plain or compressed data back.
                 // depends on client request headers and file cache entry
-                final boolean isServeCompressed = cacheEntry.canServeCompressed(request);
+                final String contentEncoding = cacheEntry.selectContentEncoding(request);
 
                 // The client doesn't have this resource cached, so
                 // we have to send entire payload
-                prepareResponseWithPayload(cacheEntry, response, isServeCompressed);
+                prepareResponseWithPayload(cacheEntry, response, contentEncoding);
 
                 if (cacheEntry.type != CacheType.FILE) {
                     // the payload is available in a ByteBuffer
-                    final Buffer buffer = Buffers.wrap(ctx.getMemoryManager(), cacheEntry.getByteBuffer(isServeCompressed).duplicate());
+                    final Buffer buffer = Buffers.wrap(ctx.getMemoryManager(), cacheEntry.getByteBuffer(contentEncoding).duplicate());
 
                     ctx.write(HttpContent.builder(response).content(buffer).last(true).build());
 
                     return flush(ctx);
                 }
 
-                return fileCache.isFileSendEnabled() && !request.isSecure() ? sendFileZeroCopy(ctx, response, cacheEntry, isServeCompressed)
-                        : sendFileUsingBuffers(ctx, response, cacheEntry, isServeCompressed);
+                return fileCache.isFileSendEnabled() && !request.isSecure() ? sendFileZeroCopy(ctx, response, cacheEntry, contentEncoding)
+                        : sendFileUsingBuffers(ctx, response, cacheEntry, contentEncoding);
             }
         }
 
@@ -119,27 +120,32 @@ public class FileCacheFilter extends BaseFilter {
         if (entry.server != null) {
             response.addHeader(Header.Server, entry.server);
         }
+
+        if (entry.isContentEncodingNegotiated()) {
+            // the not modified responses carry it as well
+            response.addHeader(Header.Vary, Header.AcceptEncoding.toString());
+        }
     }
 
     /**
      * Prepare response with payload headers.
      */
-    private void prepareResponseWithPayload(final FileCacheEntry entry, final HttpResponsePacket response, final boolean isServeCompressed) throws IOException {
+    private void prepareResponseWithPayload(final FileCacheEntry entry, final HttpResponsePacket response, final String contentEncoding) throws IOException {
         response.addHeader(Header.ETag, entry.Etag);
         response.addHeader(Header.LastModified, entry.lastModifiedHeader);
 
-        response.setContentLengthLong(entry.getFileSize(isServeCompressed));
+        response.setContentLengthLong(entry.getFileSize(contentEncoding));
 
-        if (isServeCompressed) {
-            response.addHeader(Header.ContentEncoding, "gzip");
+        if (contentEncoding != null) {
+            response.addHeader(Header.ContentEncoding, contentEncoding);
         }
     }
 
     private NextAction sendFileUsingBuffers(final FilterChainContext ctx, final HttpResponsePacket response, final FileCacheEntry cacheEntry,
-            final boolean isServeCompressed) {
+            final String contentEncoding) {
         try {
-            final FileSendEntry sendEntry = FileSendEntry.create(ctx, response, cacheEntry.getFile(isServeCompressed),
-                    cacheEntry.getFileSize(isServeCompressed));
+            final FileSendEntry sendEntry = FileSendEntry.create(ctx, response, cacheEntry.getFile(contentEncoding),
+                    cacheEntry.getFileSize(contentEncoding));
 
             ctx.suspend();
             sendEntry.send();
@@ -152,13 +158,13 @@ public class FileCacheFilter extends BaseFilter {
     }
 
     private NextAction sendFileZeroCopy(final FilterChainContext ctx, final HttpResponsePacket response, final FileCacheEntry cacheEntry,
-            final boolean isServeCompressed) {
+            final String contentEncoding) {
 
         // flush response
         ctx.write(response);
 
         // send-file
-        final FileTransfer f = new FileTransfer(cacheEntry.getFile(isServeCompressed), 0, cacheEntry.getFileSize(isServeCompressed));
+        final FileTransfer f = new FileTransfer(cacheEntry.getFile(contentEncoding), 0, cacheEntry.getFileSize(contentEncoding));
         ctx.write(f, new EmptyCompletionHandler<WriteResult>() {
             @Override
             public void failed(Throwable throwable) {
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -98,6 +99,10 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
      * The default host.
      */
     private final static String LOCAL_HOST = "localhost";
+    /**
+     * The number of recently resolved request URIs, whose mapping is cached.
+     */
+    private final static int MAPPING_CACHE_SIZE = 256;
     /**
      * Flag indicating this HttpHandler has been started. Any subsequent HttpHandler instances added to this chain after is
      * has been started will have their start() method invoked.
@@ -114,6 +119,7 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
         this.httpServer = httpServer;
         mapper = new Mapper();
         mapper.setDefaultHostName(LOCAL_HOST);
+        mapper.setMappingCacheSize(MAPPING_CACHE_SIZE);
         dispatchHelper = new DispatchHelperImpl();
         // We will decode it
         setDecodeUrl(false);
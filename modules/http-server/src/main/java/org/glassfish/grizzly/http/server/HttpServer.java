@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -218,7 +219,7 @@ public class HttpServer {
 
         configureAuxThreadPool();
 
-        delayedExecutor = new DelayedExecutor(auxExecutorService);
+        delayedExecutor = new DelayedExecutor(auxExecutorService, 1000, TimeUnit.MILLISECONDS, serverConfig.isUseTimingWheel());
         delayedExecutor.start();
 
         for (final NetworkListener listener : listeners.values()) {
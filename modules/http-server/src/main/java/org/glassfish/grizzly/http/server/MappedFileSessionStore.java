@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.http.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link SessionStore}, which keeps the serialized sessions in a memory-mapped file, so they are available after
+ * restart, when the store is opened with the same file again.
+ * <p>
+ * The file is up to 2G long, the records are written to the mapped memory and are flushed to the disk by the operating
+ * system, or when the store is closed. When the file is full, the live records are copied to a new file, which then
+ * atomically replaces the store file, so the file, which is left after a crash, never has partly moved records.
+ *
+ * @since 5.0.1
+ */
+public class MappedFileSessionStore extends BufferSessionStore {
+
+    private static final int DEFAULT_CAPACITY = 16 * 1024 * 1024;
+
+    private final Path file;
+    private final Path compactionFile;
+
+    private FileChannel channel;
+    private FileChannel compactionChannel;
+
+    /**
+     * Opens the store with the 16M initial capacity.
+     *
+     * @param file the store file, which is created if it doesn't exist
+     * @throws IOException if the file can't be opened or mapped
+     */
+    public MappedFileSessionStore(final Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the store.
+     *
+     * @param file the store file, which is created if it doesn't exist
+     * @param initialCapacity the initial file size, if the file is new or shorter, the file grows when it's needed
+     * @throws IOException if the file can't be opened or mapped
+     */
+    public MappedFileSessionStore(final Path file, final int initialCapacity) throws IOException {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity has to be positive");
+        }
+
+        this.file = file;
+        compactionFile = file.resolveSibling(file.getFileName() + ".compact");
+        // left by the crash during the compaction
+        Files.deleteIfExists(compactionFile);
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The session store file is too large: " + file);
+            }
+
+            init(channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, initialCapacity)));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    protected ByteBuffer grow(final ByteBuffer buffer, final int used, final int capacity) throws IOException {
+        ((MappedByteBuffer) buffer).force();
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    @Override
+    protected ByteBuffer compactionBuffer(final ByteBuffer buffer) throws IOException {
+        compactionChannel = FileChannel.open(compactionFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return compactionChannel.map(FileChannel.MapMode.READ_WRITE, 0, buffer.capacity());
+        } catch (IOException | RuntimeException e) {
+            discardCompaction();
+            throw e;
+        }
+    }
+
+    @Override
+    protected void replace(final ByteBuffer buffer, final ByteBuffer compacted, final int used) throws IOException {
+        try {
+            ((MappedByteBuffer) compacted).force();
+            Files.move(compactionFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            discardCompaction();
+            throw e;
+        }
+
+        final FileChannel oldChannel = channel;
+        channel = compactionChannel;
+        compactionChannel = null;
+        oldChannel.close();
+    }
+
+    @Override
+    protected void release(final ByteBuffer buffer) throws IOException {
+        try {
+            ((MappedByteBuffer) buffer).force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void discardCompaction() {
+        try {
+            compactionChannel.close();
+            Files.deleteIfExists(compactionFile);
+        } catch (IOException ignored) {
+        } finally {
+            compactionChannel = null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.http.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link SessionStore}, which keeps the serialized sessions in a direct {@link ByteBuffer}, out of the Java heap. The
+ * stored sessions are lost, when the store is closed.
+ *
+ * @since 5.0.1
+ */
+public class OffHeapSessionStore extends BufferSessionStore {
+
+    private static final int DEFAULT_CAPACITY = 1024 * 1024;
+
+    /**
+     * Creates the store with the 1M initial capacity.
+     */
+    public OffHeapSessionStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the initial store capacity in bytes, the store grows when it's needed
+     */
+    public OffHeapSessionStore(final int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity has to be positive");
+        }
+
+        init(ByteBuffer.allocateDirect(initialCapacity));
+    }
+
+    @Override
+    protected ByteBuffer grow(final ByteBuffer buffer, final int used, final int capacity) {
+        final ByteBuffer newBuffer = ByteBuffer.allocateDirect(capacity);
+        newBuffer.put(0, buffer, 0, used);
+        return newBuffer;
+    }
+
+    @Override
+    protected void release(final ByteBuffer buffer) {
+    }
+}
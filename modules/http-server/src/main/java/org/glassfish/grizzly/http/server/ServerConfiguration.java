@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -66,6 +67,9 @@ public class ServerConfiguration extends ServerFilterConfiguration {
      */
     private long maxPayloadRemainderToSkip = -1;
 
+    // flag, which switches the server's DelayedExecutor to the timing wheel based timeout tracking
+    private boolean useTimingWheel;
+
     final Object handlersSync = new Object();
 
     // ------------------------------------------------------------ Constructors
@@ -328,6 +332,25 @@ public class ServerConfiguration extends ServerFilterConfiguration {
         this.allowPayloadForUndefinedHttpMethods = allowPayloadForUndefinedHttpMethods;
     }
 
+    /**
+     * @return <tt>true</tt> if the {@link HttpServer} tracks keep-alive, suspend and file cache timeouts using
+     * {@link org.glassfish.grizzly.utils.TimingWheel}s, or <tt>false</tt> if the timeouts are tracked by periodic scans
+     */
+    public boolean isUseTimingWheel() {
+        return useTimingWheel;
+    }
+
+    /**
+     * Sets the flag, which makes the {@link HttpServer} track keep-alive, suspend and file cache timeouts using
+     * {@link org.glassfish.grizzly.utils.TimingWheel}s instead of periodic scans of all the registered elements. The
+     * setting takes effect on the next {@link HttpServer} start.
+     *
+     * @param useTimingWheel <tt>true</tt> to use timing wheels
+     */
+    public void setUseTimingWheel(boolean useTimingWheel) {
+        this.useTimingWheel = useTimingWheel;
+    }
+
     /**
      * @return the maximum request payload remainder (in bytes) HttpServerFilter will try to swallow after HTTP request
      * processing is over in order to keep the connection alive. If the remainder is too large - the connection will be
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -75,6 +76,16 @@ public class Session {
         creationTime = timestamp = System.currentTimeMillis();
     }
 
+    /**
+     * Restores the stored session.
+     */
+    Session(final String id, final long creationTime, final long timestamp, final boolean isNew) {
+        this.id = id;
+        this.creationTime = creationTime;
+        this.timestamp = timestamp;
+        this.isNew = isNew;
+    }
+
     /**
      * Is the current Session valid?
      * 
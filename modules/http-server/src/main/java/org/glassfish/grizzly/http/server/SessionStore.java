@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.http.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Storage of serialized {@link Session}s, which {@link BucketedSessionManager} uses to keep idle sessions out of the
+ * heap, and to keep sessions between restarts if the storage is persistent.
+ *
+ * @see OffHeapSessionStore
+ * @see MappedFileSessionStore
+ *
+ * @since 5.0.1
+ */
+public interface SessionStore extends Closeable {
+
+    /**
+     * Stores the serialized session, replacing the session previously stored with the same id.
+     *
+     * @param id the session id
+     * @param data the serialized session
+     * @throws IOException if the session can't be stored
+     */
+    void store(String id, byte[] data) throws IOException;
+
+    /**
+     * @param id the session id
+     * @return the serialized session, or <tt>null</tt> if there is no session with the given id
+     * @throws IOException if the session can't be loaded
+     */
+    byte[] load(String id) throws IOException;
+
+    /**
+     * Removes the session with the given id, if any.
+     *
+     * @param id the session id
+     * @throws IOException if the session can't be removed
+     */
+    void remove(String id) throws IOException;
+
+    /**
+     * @return the ids of the stored sessions
+     * @throws IOException if the ids can't be read
+     */
+    Collection<String> getIds() throws IOException;
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -53,6 +53,10 @@ public class AccessLogBuilder {
     private String rotationPattern;
     /* Non-synchronous, always use a Queue+Thread */
     private boolean synchronous;
+    /* Zero ring buffer capacity, do NOT use the ring buffer by default */
+    private int ringBufferCapacity;
+    /* The policy of the ring buffer, when full */
+    private RingBufferAppender.OverflowPolicy overflowPolicy = RingBufferAppender.OverflowPolicy.DROP;
 
     /* The base file name of the access log */
     private final File file;
@@ -89,7 +93,14 @@ public class AccessLogBuilder {
         /* Build an appender, plain or rotating */
         AccessLogAppender appender;
         try {
-            if (rotationPattern == null) {
+            if (ringBufferCapacity > 0) {
+                if (rotationPattern != null) {
+                    throw new IllegalStateException("Access log rotation is not supported by the ring buffer");
+                }
+                /* The ring buffer has its own writer thread, no need to queue */
+                return new AccessLogProbe(new RingBufferAppender(file.getCanonicalFile(), ringBufferCapacity, overflowPolicy), format,
+                        statusThreshold);
+            } else if (rotationPattern == null) {
                 appender = new FileAppender(file.getCanonicalFile());
             } else {
                 /* Get directory and base file name (encode ' single quotes) */
@@ -271,4 +282,27 @@ public class AccessLogBuilder {
         this.synchronous = synchronous;
         return this;
     }
+
+    /**
+     * Specify that access log entries should be passed to the writer thread through a pre-allocated ring buffer of the
+     * specified capacity, and formatted by the writer thread.
+     *
+     * <p>
+     * When the ring buffer is full the entries will be dropped, or the request threads will wait for a free slot,
+     * according to the specified policy. Log-file rotation is not supported by the ring buffer.
+     * </p>
+     *
+     * @see RingBufferAppender
+     */
+    public AccessLogBuilder ringBuffer(int capacity, RingBufferAppender.OverflowPolicy overflowPolicy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        if (overflowPolicy == null) {
+            throw new NullPointerException("Null overflow policy");
+        }
+        this.ringBufferCapacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        return this;
+    }
 }
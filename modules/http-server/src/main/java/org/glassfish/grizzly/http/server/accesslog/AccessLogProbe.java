@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -120,14 +121,27 @@ public class AccessLogProbe extends HttpServerProbe.Adapter {
         final long nanoStamp = System.nanoTime();
 
         final long responseNanos = requestNanos == null ? -1 : nanoStamp - requestNanos;
-        final Date requestMillis = new Date(timeStamp - responseNanos / 1000000L);
 
         /* Create a formatted log entry string and append it */
         try {
+            if (appender instanceof RingBufferAppender) {
+                /* Let the ring buffer capture the data, and format it in its own thread */
+                ((RingBufferAppender) appender).append(format, response, timeStamp - responseNanos / 1000000L, responseNanos);
+                return;
+            }
+            final Date requestMillis = new Date(timeStamp - responseNanos / 1000000L);
             appender.append(format.format(response, requestMillis, responseNanos));
         } catch (Throwable throwable) {
             LOGGER.log(WARNING, "Exception caught appending to access log", throwable);
         }
     }
 
+    /**
+     * Return the number of access log entries dropped by the {@linkplain AccessLogAppender appender}, because it was not
+     * able to keep up with the requests (only a {@link RingBufferAppender} drops entries).
+     */
+    public long getDroppedRecordsCount() {
+        return appender instanceof RingBufferAppender ? ((RingBufferAppender) appender).getDroppedRecordsCount() : 0;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -242,6 +242,8 @@ public class ApacheLogFormat implements AccessLogFormat {
 
     /* Log log log, never enough */
     private static final Logger LOGGER = Grizzly.logger(HttpServer.class);
+    /* The captured value of a field, which has failed to capture it */
+    private static final Object CAPTURE_FAILED = new Object();
 
     /* Our list of fields for formatting */
     private final List<Field> fields;
@@ -295,6 +297,52 @@ public class ApacheLogFormat implements AccessLogFormat {
         return builder.toString();
     }
 
+    /**
+     * Returns the number of values captured by {@link #capture(Object[], long[], Response)}.
+     */
+    int getCapturedValuesCount() {
+        return fields.size();
+    }
+
+    /**
+     * Captures the {@link Response} data, so the entry can be formatted by
+     * {@link #formatCaptured(StringBuilder, Object[], long[], Date, long)} once the {@link Response} is recycled,
+     * possibly by another thread. Each field keeps either a number or a reference to an immutable value, like the
+     * {@link String}s the {@link Request} returns, so nothing is formatted here. The fields, which depend only on the
+     * time stamp and the response time (the time fields and the literals), capture nothing.
+     */
+    void capture(Object[] values, long[] numbers, Response response) {
+        final Request request = response.getRequest();
+        for (int i = 0; i < fields.size(); i++) {
+            try {
+                fields.get(i).capture(values, numbers, i, request, response);
+            } catch (Exception exception) {
+                LOGGER.log(WARNING, "Exception capturing access log entry", exception);
+                values[i] = CAPTURE_FAILED;
+            }
+        }
+    }
+
+    /**
+     * Formats the entry from the values captured by {@link #capture(Object[], long[], Response)}.
+     */
+    StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, Date timeStamp, long responseNanos) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (values[i] == CAPTURE_FAILED) {
+                builder.append('-');
+                continue;
+            }
+
+            try {
+                fields.get(i).formatCaptured(builder, values, numbers, i, timeStamp, responseNanos);
+            } catch (Exception exception) {
+                LOGGER.log(WARNING, "Exception formatting access log entry", exception);
+                builder.append('-');
+            }
+        }
+        return builder;
+    }
+
     String unsafeFormat(Response response, Date timeStamp, long responseNanos) {
         final StringBuilder builder = new StringBuilder();
         final Request request = response.getRequest();
@@ -526,6 +574,20 @@ public class ApacheLogFormat implements AccessLogFormat {
 
         abstract StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos);
 
+        /**
+         * Captures the field value at the given index of the values or the numbers. The fields, which don't depend on the
+         * {@link Request} and {@link Response}, capture nothing.
+         */
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+        }
+
+        /**
+         * Formats the value captured by {@link #capture(Object[], long[], int, Request, Response)}.
+         */
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            return format(builder, null, null, timeStamp, responseNanos);
+        }
+
         @Override
         public abstract String toString();
 
@@ -544,6 +606,12 @@ public class ApacheLogFormat implements AccessLogFormat {
             this.parameter = parameter;
         }
 
+        @Override
+        abstract void capture(Object[] values, long[] numbers, int index, Request request, Response response);
+
+        @Override
+        abstract StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos);
+
         @Override
         public final String toString() {
             final StringBuilder builder = new StringBuilder().append('%');
@@ -575,6 +643,115 @@ public class ApacheLogFormat implements AccessLogFormat {
             }
             return builder;
         }
+
+        /**
+         * Returns the header value, the list of the values if the header is repeated, or <b>null</b> if there is no
+         * header.
+         */
+        Object capture(MimeHeaders headers) {
+            final Iterator<String> iterator = headers.values(name).iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+
+            final String value = iterator.next();
+            if (!iterator.hasNext()) {
+                return value;
+            }
+
+            final List<String> values = new ArrayList<>(2);
+            values.add(value);
+            while (iterator.hasNext()) {
+                values.add(iterator.next());
+            }
+            return values;
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            final Object value = values[index];
+            if (value instanceof String) {
+                return builder.append((String) value);
+            }
+            if (value != null) {
+                final List<?> list = (List<?>) value;
+                builder.append(list.get(0));
+                for (int i = 1; i < list.size(); i++) {
+                    builder.append("; ").append(list.get(i));
+                }
+            }
+            return builder;
+        }
+    }
+
+    /* ====================================================================== */
+
+    /**
+     * The field formatting a {@link String} value of the {@link Request}, or <em>-</em> if there is no value.
+     */
+    private abstract static class RequestValueField extends AbstractField {
+
+        RequestValueField(char format) {
+            super(format);
+        }
+
+        RequestValueField(char format, String parameter) {
+            super(format, parameter);
+        }
+
+        abstract String value(Request request);
+
+        @Override
+        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
+            final String value = value(request);
+            return builder.append(value == null ? "-" : value);
+        }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            values[index] = value(request);
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            final Object value = values[index];
+            return builder.append(value == null ? "-" : (String) value);
+        }
+    }
+
+    /* ====================================================================== */
+
+    /**
+     * The field formatting a port number of the {@link Request}, or <em>-</em> if the port is unknown.
+     */
+    private abstract static class PortField extends AbstractField {
+
+        PortField(char format) {
+            super(format);
+        }
+
+        PortField(char format, String parameter) {
+            super(format, parameter);
+        }
+
+        abstract int port(Request request);
+
+        @Override
+        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
+            final int port = port(request);
+            return port < 1 ? builder.append('-') : builder.append(port);
+        }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            numbers[index] = port(request);
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            final long port = numbers[index];
+            return port < 1 ? builder.append('-') : builder.append(port);
+        }
     }
 
     /* ====================================================================== */
@@ -622,106 +799,99 @@ public class ApacheLogFormat implements AccessLogFormat {
 
     /* ====================================================================== */
 
-    private static class ServerNameField extends AbstractField {
+    private static class ServerNameField extends RequestValueField {
 
         ServerNameField() {
             super('v');
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final String name = request.getServerName();
-            return builder.append(name == null ? "-" : name);
+        String value(Request request) {
+            return request.getServerName();
         }
     }
 
     /* ====================================================================== */
 
-    private static class LocalHostField extends AbstractField {
+    private static class LocalHostField extends RequestValueField {
 
         LocalHostField() {
             super('h', "local");
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final String host = request.getLocalName();
-            return builder.append(host == null ? "-" : host);
+        String value(Request request) {
+            return request.getLocalName();
         }
     }
 
     /* ====================================================================== */
 
-    private static class LocalAddressField extends AbstractField {
+    private static class LocalAddressField extends RequestValueField {
 
         LocalAddressField() {
             super('A');
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final String address = request.getLocalAddr();
-            return builder.append(address == null ? "-" : address);
+        String value(Request request) {
+            return request.getLocalAddr();
         }
     }
 
     /* ====================================================================== */
 
-    private static class LocalPortField extends AbstractField {
+    private static class LocalPortField extends PortField {
 
         LocalPortField() {
             super('p');
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final int port = request.getLocalPort();
-            return builder.append(port < 1 ? "-" : port);
+        int port(Request request) {
+            return request.getLocalPort();
         }
     }
 
     /* ====================================================================== */
 
-    private static class RemoteHostField extends AbstractField {
+    private static class RemoteHostField extends RequestValueField {
 
         RemoteHostField() {
             super('h');
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final String host = request.getRemoteHost();
-            return builder.append(host == null ? "-" : host);
+        String value(Request request) {
+            return request.getRemoteHost();
         }
     }
 
     /* ====================================================================== */
 
-    private static class RemoteAddressField extends AbstractField {
+    private static class RemoteAddressField extends RequestValueField {
 
         RemoteAddressField() {
             super('a');
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final String address = request.getRemoteAddr();
-            return builder.append(address == null ? "-" : address);
+        String value(Request request) {
+            return request.getRemoteAddr();
         }
     }
 
     /* ====================================================================== */
 
-    private static class RemotePortField extends AbstractField {
+    private static class RemotePortField extends PortField {
 
         RemotePortField() {
             super('p', "remote");
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final int port = request.getRemotePort();
-            return builder.append(port < 1 ? "-" : port);
+        int port(Request request) {
+            return request.getRemotePort();
         }
     }
 
@@ -796,35 +966,44 @@ public class ApacheLogFormat implements AccessLogFormat {
             final Method method = request.getMethod();
             return builder.append(method == null ? "-" : method.toString());
         }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            values[index] = request.getMethod();
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            final Object method = values[index];
+            return builder.append(method == null ? "-" : method.toString());
+        }
     }
 
     /* ====================================================================== */
 
-    private static class RequestUserField extends AbstractField {
+    private static class RequestUserField extends RequestValueField {
 
         RequestUserField() {
             super('u');
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final String user = request.getRemoteUser();
-            return builder.append(user == null ? "-" : user);
+        String value(Request request) {
+            return request.getRemoteUser();
         }
     }
 
     /* ====================================================================== */
 
-    private static class RequestURIField extends AbstractField {
+    private static class RequestURIField extends RequestValueField {
 
         RequestURIField() {
             super('U');
         }
 
         @Override
-        StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final String uri = request.getRequestURI();
-            return builder.append(uri == null ? "-" : uri);
+        String value(Request request) {
+            return request.getRequestURI();
         }
     }
 
@@ -844,6 +1023,20 @@ public class ApacheLogFormat implements AccessLogFormat {
             }
             return builder;
         }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            values[index] = request.getQueryString();
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            final Object query = values[index];
+            if (query != null) {
+                builder.append('?').append((String) query);
+            }
+            return builder;
+        }
     }
 
     /* ====================================================================== */
@@ -856,7 +1049,20 @@ public class ApacheLogFormat implements AccessLogFormat {
 
         @Override
         StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final Protocol protocol = request.getProtocol();
+            return format(builder, request.getProtocol());
+        }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            values[index] = request.getProtocol();
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            return format(builder, (Protocol) values[index]);
+        }
+
+        private static StringBuilder format(StringBuilder builder, Protocol protocol) {
             if (protocol == null) {
                 return builder.append("-");
             }
@@ -885,6 +1091,11 @@ public class ApacheLogFormat implements AccessLogFormat {
         StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
             return this.format(builder, request.getRequest().getHeaders());
         }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            values[index] = this.capture(request.getRequest().getHeaders());
+        }
     }
 
     /* ====================================================================== */
@@ -900,15 +1111,31 @@ public class ApacheLogFormat implements AccessLogFormat {
 
         @Override
         StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
+            final String value = value(request);
+            return value == null ? builder : builder.append(value);
+        }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            values[index] = value(request);
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            final Object value = values[index];
+            return value == null ? builder : builder.append((String) value);
+        }
+
+        private String value(Request request) {
             final Cookie[] cookies = request.getCookies();
             if (cookies != null) {
                 for (Cookie cookie : cookies) {
-                    if (name.equals(cookie.getName().toLowerCase())) {
-                        return builder.append(cookie.getValue());
+                    if (name.equalsIgnoreCase(cookie.getName())) {
+                        return cookie.getValue();
                     }
                 }
             }
-            return builder;
+            return null;
         }
     }
 
@@ -922,7 +1149,20 @@ public class ApacheLogFormat implements AccessLogFormat {
 
         @Override
         StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final int status = response.getStatus();
+            return format(builder, response.getStatus());
+        }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            numbers[index] = response.getStatus();
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            return format(builder, (int) numbers[index]);
+        }
+
+        private static StringBuilder format(StringBuilder builder, int status) {
             if (status < 10) {
                 builder.append('0');
             }
@@ -946,8 +1186,21 @@ public class ApacheLogFormat implements AccessLogFormat {
 
         @Override
         StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
-            final long size = response.getContentLengthLong();
-            return builder.append(size < 1 ? zero : Long.toString(size));
+            return format(builder, response.getContentLengthLong());
+        }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            numbers[index] = response.getContentLengthLong();
+        }
+
+        @Override
+        StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, int index, Date timeStamp, long responseNanos) {
+            return format(builder, numbers[index]);
+        }
+
+        private StringBuilder format(StringBuilder builder, long size) {
+            return size < 1 ? builder.append(zero) : builder.append(size);
         }
     }
 
@@ -1019,5 +1272,10 @@ public class ApacheLogFormat implements AccessLogFormat {
         StringBuilder format(StringBuilder builder, Request request, Response response, Date timeStamp, long responseNanos) {
             return this.format(builder, response.getResponse().getHeaders());
         }
+
+        @Override
+        void capture(Object[] values, long[] numbers, int index, Request request, Response response) {
+            values[index] = this.capture(response.getResponse().getHeaders());
+        }
     }
 }
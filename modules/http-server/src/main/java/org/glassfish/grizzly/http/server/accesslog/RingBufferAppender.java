@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.accesslog;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.Response;
+
+/**
+ * An {@link AccessLogAppender appender} passing log entries to a secondary, separate {@link Thread} through a
+ * pre-allocated ring buffer, and writing them to a {@link File}.
+ *
+ * <p>
+ * Unlike the {@link QueueingAppender}, the request threads don't need to format the entries produced by an
+ * {@link ApacheLogFormat}: only the request and response values (numbers and references to the immutable values) are
+ * captured into the arrays the ring buffer slot reuses, while the values are formatted and the entries are assembled by
+ * the secondary thread. The secondary thread drains the ring buffer in batches and writes each batch with a single
+ * gathering {@link FileChannel} write.
+ * </p>
+ *
+ * <p>
+ * When the ring buffer is full, the entries are either dropped or the request threads wait for a free slot, according
+ * to the {@link OverflowPolicy}. The entries, which failed to be formatted by the secondary thread, are dropped as well.
+ * The number of dropped entries is available from {@link #getDroppedRecordsCount()} and
+ * {@link AccessLogProbe#getDroppedRecordsCount()}.
+ * </p>
+ *
+ * @since 5.0.1
+ */
+public class RingBufferAppender implements AccessLogAppender {
+
+    /**
+     * The policy applied to the new log entries, when the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** The entry is dropped and counted. */
+        DROP,
+        /** The request thread waits until the secondary thread frees a slot. */
+        BLOCK
+    }
+
+    /** The default ring buffer capacity. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final Logger LOGGER = Grizzly.logger(HttpServer.class);
+
+    /* Line separator for entries, respect Windoshhhh */
+    private static final byte[] LINE_SEPARATOR = System.getProperty("line.separator").getBytes(StandardCharsets.UTF_8);
+    /* The max number of entries written at once */
+    private static final int MAX_BATCH_SIZE = 256;
+    /* How long to wait for a free slot (BLOCK) or a new entry (the secondary thread) */
+    private static final long PARK_NANOS = 100_000L;
+    private static final long IDLE_PARK_NANOS = 100_000_000L;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final OverflowPolicy overflowPolicy;
+    private final FileChannel channel;
+
+    /* The sequence of the next slot to be claimed by the request threads */
+    private final AtomicLong producerSequence = new AtomicLong();
+    /* The sequence of the next slot to be consumed by the secondary thread */
+    private volatile long consumerSequence;
+    /* True, if the secondary thread is going to park waiting for the new entries */
+    private volatile boolean consumerIdle;
+    private volatile boolean closed;
+
+    private final AtomicLong droppedRecords = new AtomicLong();
+
+    /* The thread doing the writing */
+    private final Thread thread;
+
+    /**
+     * Create a new {@link RingBufferAppender} <em>appending to</em> the specified {@link File}, using a ring buffer of
+     * the {@linkplain #DEFAULT_CAPACITY default capacity}, which drops the entries when it's full.
+     *
+     * @throws IOException If an I/O error occurred opening the file.
+     */
+    public RingBufferAppender(File file) throws IOException {
+        this(file, DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    /**
+     * Create a new {@link RingBufferAppender} <em>appending to</em> the specified {@link File}.
+     *
+     * @param capacity The ring buffer capacity, rounded up to the power of two.
+     * @param overflowPolicy The policy applied to the new log entries, when the ring buffer is full.
+     * @throws IOException If an I/O error occurred opening the file.
+     */
+    public RingBufferAppender(File file, int capacity, OverflowPolicy overflowPolicy) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("Null file");
+        }
+        if (overflowPolicy == null) {
+            throw new NullPointerException("Null overflow policy");
+        }
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i - size);
+        }
+        mask = size - 1;
+        this.overflowPolicy = overflowPolicy;
+
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        LOGGER.info("Access log file \"" + file.getAbsolutePath() + "\" opened");
+
+        thread = new Thread(new Writer());
+        thread.setName(toString());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Append the already formatted access log entry.
+     */
+    @Override
+    public void append(String accessLogEntry) throws IOException {
+        final Slot slot = claim();
+        if (slot != null) {
+            slot.entry = accessLogEntry;
+            publish(slot);
+        }
+    }
+
+    /**
+     * Append the access log entry for the specified {@link Response}. If the format is an {@link ApacheLogFormat}, only
+     * the {@link Response} values are captured, and the entry is formatted by the secondary thread.
+     *
+     * @param format The format to format the entry with.
+     * @param response The {@link Response} holding the data to format.
+     * @param timeStamp The time, in milliseconds, at which the request was originated.
+     * @param responseNanos The time, in nanoseconds, the {@link Response} took to complete.
+     */
+    public void append(AccessLogFormat format, Response response, long timeStamp, long responseNanos) {
+        final Slot slot = claim();
+        if (slot == null) {
+            return;
+        }
+
+        try {
+            if (format instanceof ApacheLogFormat) {
+                final ApacheLogFormat apacheFormat = (ApacheLogFormat) format;
+                final int count = apacheFormat.getCapturedValuesCount();
+                if (slot.values == null || slot.values.length < count) {
+                    slot.values = new Object[count];
+                    slot.numbers = new long[count];
+                }
+
+                apacheFormat.capture(slot.values, slot.numbers, response);
+                slot.format = apacheFormat;
+                slot.timeStamp = timeStamp;
+                slot.responseNanos = responseNanos;
+            } else {
+                slot.entry = format.format(response, new Date(timeStamp), responseNanos);
+            }
+        } finally {
+            // the claimed slot has to be published anyway, the empty one is skipped
+            publish(slot);
+        }
+    }
+
+    /**
+     * Return the number of log entries dropped, because the ring buffer was full or the entry failed to be formatted.
+     */
+    public long getDroppedRecordsCount() {
+        return droppedRecords.get();
+    }
+
+    /**
+     * Return the {@link OverflowPolicy} applied, when the ring buffer is full.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException exception) {
+            LOGGER.log(FINE, "Interrupted stopping writer", exception);
+            Thread.currentThread().interrupt();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /* ====================================================================== */
+
+    /**
+     * Claim the next free slot, or return <b>null</b> if the entry has to be dropped.
+     */
+    private Slot claim() {
+        while (!closed) {
+            final long sequence = producerSequence.get();
+            if (sequence - consumerSequence >= slots.length) {
+                if (overflowPolicy == OverflowPolicy.DROP) {
+                    droppedRecords.incrementAndGet();
+                    return null;
+                }
+
+                LockSupport.parkNanos(PARK_NANOS);
+                continue;
+            }
+
+            if (producerSequence.compareAndSet(sequence, sequence + 1)) {
+                final Slot slot = slots[(int) sequence & mask];
+                slot.claimedSequence = sequence;
+                return slot;
+            }
+        }
+
+        return null;
+    }
+
+    private void publish(final Slot slot) {
+        slot.publishedSequence = slot.claimedSequence;
+        if (consumerIdle) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /* ====================================================================== */
+    /* OUR WRITER */
+    /* ====================================================================== */
+
+    private final class Writer implements Runnable {
+        private final ByteBuffer[] buffers = new ByteBuffer[MAX_BATCH_SIZE * 2];
+        private final ByteBuffer separator = ByteBuffer.wrap(LINE_SEPARATOR);
+        private final StringBuilder builder = new StringBuilder();
+
+        @Override
+        public void run() {
+            while (true) {
+                final boolean wasClosed = closed;
+                final int written = drain();
+                if (written == 0) {
+                    if (wasClosed) {
+                        return;
+                    }
+
+                    consumerIdle = true;
+                    // re-check, so the entry published concurrently with the flag is not missed
+                    if (!isPublished(consumerSequence)) {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    consumerIdle = false;
+                }
+            }
+        }
+
+        private boolean isPublished(final long sequence) {
+            return slots[(int) sequence & mask].publishedSequence == sequence;
+        }
+
+        /**
+         * Format and write the next batch of the published entries, returning the number of consumed slots.
+         */
+        private int drain() {
+            final long first = consumerSequence;
+            long sequence = first;
+            int count = 0;
+            while (sequence - first < MAX_BATCH_SIZE && isPublished(sequence)) {
+                final Slot slot = slots[(int) sequence & mask];
+                String entry;
+                try {
+                    entry = slot.toEntry(builder);
+                } catch (Throwable throwable) {
+                    // don't let a single entry stop the writer thread, the ring buffer would never be drained
+                    LOGGER.log(WARNING, "Exception caught formatting access log entry", throwable);
+                    droppedRecords.incrementAndGet();
+                    entry = null;
+                } finally {
+                    slot.clear();
+                }
+                if (entry != null) {
+                    buffers[count++] = ByteBuffer.wrap(entry.getBytes(StandardCharsets.UTF_8));
+                    buffers[count++] = separator.duplicate();
+                }
+                sequence++;
+            }
+
+            if (sequence == first) {
+                return 0;
+            }
+
+            // the slots have been copied out, so they can be reused by the request threads
+            consumerSequence = sequence;
+
+            try {
+                long remaining = 0;
+                for (int i = 0; i < count; i++) {
+                    remaining += buffers[i].remaining();
+                }
+                while (remaining > 0) {
+                    remaining -= channel.write(buffers, 0, count);
+                }
+            } catch (Throwable throwable) {
+                LOGGER.log(WARNING, "Exception caught writing access log entries", throwable);
+            } finally {
+                for (int i = 0; i < count; i++) {
+                    buffers[i] = null;
+                }
+            }
+
+            return (int) (sequence - first);
+        }
+    }
+
+    /* ====================================================================== */
+
+    private static final class Slot {
+        /* The sequence of the last claim, written and read by the claiming request thread */
+        long claimedSequence;
+        /* The sequence of the last published entry */
+        volatile long publishedSequence;
+
+        /* Either the formatted entry... */
+        String entry;
+        /* ...or the values captured by the format */
+        ApacheLogFormat format;
+        Object[] values;
+        long[] numbers;
+        long timeStamp;
+        long responseNanos;
+
+        Slot(final long initialSequence) {
+            // no sequence is published initially
+            publishedSequence = initialSequence;
+        }
+
+        String toEntry(final StringBuilder builder) {
+            if (entry != null) {
+                return entry;
+            }
+            if (format == null) {
+                return null;
+            }
+
+            builder.setLength(0);
+            return format.formatCaptured(builder, values, numbers, new Date(timeStamp), responseNanos).toString();
+        }
+
+        void clear() {
+            entry = null;
+            format = null;
+            if (values != null) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = null;
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -27,9 +27,15 @@ import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -42,6 +48,7 @@ import org.glassfish.grizzly.http.CompressionConfig;
 import org.glassfish.grizzly.http.HttpRequestPacket;
 import org.glassfish.grizzly.http.HttpResponsePacket;
 import org.glassfish.grizzly.http.Method;
+import org.glassfish.grizzly.http.server.filecache.FileCacheEntry.PrecompressedFile;
 import org.glassfish.grizzly.http.server.util.DateTimeFormatters;
 import org.glassfish.grizzly.http.util.ContentType;
 import org.glassfish.grizzly.http.util.Header;
@@ -66,6 +73,13 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
     final static String[] COMPRESSION_ALIASES = { "gzip" };
 
+    /**
+     * The content-codings and file name extensions of the precompressed sibling files, in the order of preference.
+     */
+    private static final String[][] PRECOMPRESSED_EXTENSIONS = { { "br", ".br" }, { "zstd", ".zst" }, { "gzip", ".gz" } };
+
+    private static final int COMPRESSION_QUEUE_LIMIT = 64;
+
     public enum CacheType {
         HEAP, MAPPED, FILE, TIMESTAMP
     }
@@ -135,6 +149,11 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
     private DelayedExecutor.DelayQueue<FileCacheEntry> delayQueue;
 
+    /**
+     * The policy to evict entries, when the cache is full, or <tt>null</tt> if new entries have to be rejected.
+     */
+    private volatile FileCacheEvictionPolicy evictionPolicy;
+
     /**
      * Folder to store compressed cached files
      */
@@ -144,6 +163,17 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
      */
     private final CompressionConfig compressionConfig = new CompressionConfig();
 
+    /**
+     * <tt>true</tt>, if the precompressed sibling files have to be served, and the missing gzip representations have to
+     * be produced in the background.
+     */
+    private volatile boolean precompressedFilesEnabled;
+
+    /**
+     * The {@link Executor} to produce the gzip representations in the background.
+     */
+    private volatile Executor compressionExecutor;
+
     /**
      * <tt>true</tt>, if zero-copy file-send feature could be used, or <tt>false</tt> otherwise.
      */
@@ -202,13 +232,17 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
             return CacheResult.FAILED_ENTRY_EXISTS;
         }
 
-        final int size = cacheSize.incrementAndGet();
+        int size = cacheSize.incrementAndGet();
         // cache is full.
-        if (size > getMaxCacheEntries()) {
+        while (size > getMaxCacheEntries()) {
             cacheSize.decrementAndGet();
-            fileCacheMap.remove(key);
-            key.recycle();
-            return CacheResult.FAILED_CACHE_FULL;
+            if (!evict(key.hashCode(), null)) {
+                fileCacheMap.remove(key);
+                key.recycle();
+                return CacheResult.FAILED_CACHE_FULL;
+            }
+
+            size = cacheSize.incrementAndGet();
         }
 
         final HttpResponsePacket response = request.getResponse();
@@ -218,8 +252,12 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
         final FileCacheEntry entry;
         if (cacheFile != null) { // If we have a file - try to create File-aware cache resource
-            entry = createEntry(cacheFile);
+            entry = createEntry(cacheFile, key.hashCode());
             entry.setCanBeCompressed(canBeCompressed(cacheFile, contentType));
+
+            if (precompressedFilesEnabled) {
+                entry.precompressedFiles = mapPrecompressedFiles(entry, key.hashCode());
+            }
         } else {
             entry = new FileCacheEntry(this);
             entry.type = CacheType.TIMESTAMP;
@@ -239,8 +277,18 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
         fileCacheMap.put(key, entry);
 
+        final FileCacheEvictionPolicy evictionPolicyLocal = evictionPolicy;
+        if (evictionPolicyLocal != null) {
+            evictionPolicyLocal.onEntryAdded(entry);
+        }
+
         notifyProbesEntryAdded(this, entry);
 
+        if (precompressedFilesEnabled && entry.canBeCompressed() && !hasPrecompressedGzip(entry)) {
+            // compress once, ahead of the first request accepting gzip
+            entry.compressInBackground();
+        }
+
         final int secondsMaxAgeLocal = getSecondsMaxAge();
         if (secondsMaxAgeLocal > 0) {
             delayQueue.add(entry, secondsMaxAgeLocal, TimeUnit.SECONDS);
@@ -261,6 +309,8 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
         final LazyFileCacheKey key = LazyFileCacheKey.create(request);
         final FileCacheEntry entry = fileCacheMap.get(key);
+        final FileCacheEvictionPolicy evictionPolicyLocal = evictionPolicy;
+        final int keyHash = evictionPolicyLocal != null ? key.hashCode() : 0;
         key.recycle();
         try {
             if (entry != null && entry != NULL_CACHE_ENTRY) {
@@ -275,10 +325,18 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
                 request.getResponse().setStatus(httpStatus != null ? httpStatus : HttpStatus.OK_200);
 
+                if (evictionPolicyLocal != null) {
+                    evictionPolicyLocal.onEntryHit(entry);
+                }
+
                 notifyProbesEntryHit(this, entry);
                 return entry;
             }
 
+            if (evictionPolicyLocal != null) {
+                evictionPolicyLocal.onEntryMissed(keyHash);
+            }
+
             notifyProbesEntryMissed(this, request);
         } catch (Exception e) {
             notifyProbesError(this, e);
@@ -291,19 +349,84 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
     }
 
     protected void remove(final FileCacheEntry entry) {
-        if (fileCacheMap.remove(entry.key) != null) {
-            cacheSize.decrementAndGet();
+        // the entry could be removed concurrently by expiration and eviction
+        if (!fileCacheMap.remove(entry.key, entry)) {
+            return;
         }
 
+        cacheSize.decrementAndGet();
+
         if (entry.type == FileCache.CacheType.MAPPED) {
-            subMappedMemorySize(entry.bb.remaining());
+            subMappedMemorySize(entry.bb.remaining() + getPrecompressedFilesSize(entry));
         } else if (entry.type == FileCache.CacheType.HEAP) {
-            subHeapSize(entry.bb.remaining());
+            subHeapSize(entry.bb.remaining() + getPrecompressedFilesSize(entry));
+        }
+
+        final FileCacheEvictionPolicy evictionPolicyLocal = evictionPolicy;
+        if (evictionPolicyLocal != null) {
+            evictionPolicyLocal.onEntryRemoved(entry);
         }
 
         notifyProbesEntryRemoved(this, entry);
     }
 
+    /**
+     * Evicts the entry, selected by the {@link FileCacheEvictionPolicy}, in order to make room for the candidate resource.
+     *
+     * @param candidateKeyHash the candidate resource key hash code
+     * @param type the type of the entry to be evicted, or <tt>null</tt> for any type
+     * @return <tt>true</tt> if an entry has been evicted, or <tt>false</tt> if the candidate should be rejected
+     */
+    private boolean evict(final int candidateKeyHash, final CacheType type) {
+        final FileCacheEvictionPolicy evictionPolicyLocal = evictionPolicy;
+        if (evictionPolicyLocal == null) {
+            return false;
+        }
+
+        final FileCacheEntry victim = evictionPolicyLocal.selectVictim(candidateKeyHash, type);
+        if (victim == null) {
+            return false;
+        }
+
+        if (fileCacheMap.get(victim.key) == victim) {
+            if (delayQueue != null) {
+                delayQueue.remove(victim);
+            }
+
+            remove(victim);
+            notifyProbesEntryEvicted(this, victim);
+        } else {
+            // stale entry, which was removed concurrently
+            evictionPolicyLocal.onEntryRemoved(victim);
+        }
+
+        return true;
+    }
+
+    /**
+     * Reserves the memory for a new entry, evicting entries of the same type if needed.
+     */
+    private boolean reserveMemory(final CacheType type, final long size, final int candidateKeyHash) {
+        final long maxSize = type == CacheType.MAPPED ? getMaxLargeFileCacheSize() : getMaxSmallFileCacheSize();
+        while (true) {
+            final long newSize = type == CacheType.MAPPED ? addMappedMemorySize(size) : addHeapSize(size);
+            if (newSize <= maxSize) {
+                return true;
+            }
+
+            // Cache full
+            if (type == CacheType.MAPPED) {
+                subMappedMemorySize(size);
+            } else {
+                subHeapSize(size);
+            }
+
+            if (size > maxSize || !evict(candidateKeyHash, type)) {
+                return false;
+            }
+        }
+    }
+
     protected Object createJmxManagementObject() {
         return MonitoringUtils.loadJmxObject("org.glassfish.grizzly.http.server.filecache.jmx.FileCache", this, FileCache.class);
     }
@@ -311,8 +434,8 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
     /**
      * Creates {@link FileCacheEntry}.
      */
-    private FileCacheEntry createEntry(final File file) {
-        FileCacheEntry entry = tryMapFileToBuffer(file);
+    private FileCacheEntry createEntry(final File file, final int keyHash) {
+        FileCacheEntry entry = tryMapFileToBuffer(file, keyHash);
         if (entry == null) {
             entry = new FileCacheEntry(this);
             entry.type = CacheType.FILE;
@@ -329,7 +452,7 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
      * 
      * @return the preinitialized {@link FileCacheEntry}
      */
-    private FileCacheEntry tryMapFileToBuffer(final File file) {
+    private FileCacheEntry tryMapFileToBuffer(final File file, final int keyHash) {
 
         final long size = file.length();
         if (size > getMaxEntrySize()) {
@@ -341,22 +464,9 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         FileChannel fileChannel = null;
         FileInputStream stream = null;
         try {
-            if (size > getMinEntrySize()) {
-                if (addMappedMemorySize(size) > getMaxLargeFileCacheSize()) {
-                    // Cache full
-                    subMappedMemorySize(size);
-                    return null;
-                }
-
-                type = CacheType.MAPPED;
-            } else {
-                if (addHeapSize(size) > getMaxSmallFileCacheSize()) {
-                    // Cache full
-                    subHeapSize(size);
-                    return null;
-                }
-
-                type = CacheType.HEAP;
+            type = size > getMinEntrySize() ? CacheType.MAPPED : CacheType.HEAP;
+            if (!reserveMemory(type, size, keyHash)) {
+                return null;
             }
 
             stream = new FileInputStream(file);
@@ -395,6 +505,81 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         return entry;
     }
 
+    /**
+     * Finds and maps the precompressed siblings of the entry file, which are not older than the file itself. The mapped
+     * siblings take the memory of the entry type, a sibling which doesn't fit is skipped.
+     *
+     * @return the precompressed files in the order of preference, or <tt>null</tt> if there are none
+     */
+    private PrecompressedFile[] mapPrecompressedFiles(final FileCacheEntry entry, final int keyHash) {
+        List<PrecompressedFile> precompressedFiles = null;
+        for (final String[] encodingAndExtension : PRECOMPRESSED_EXTENSIONS) {
+            final File file = new File(entry.plainFile.getPath() + encodingAndExtension[1]);
+            if (!file.isFile() || file.lastModified() < entry.plainFile.lastModified()) {
+                continue;
+            }
+
+            final long size = file.length();
+            ByteBuffer bb = null;
+            if (entry.type != CacheType.FILE) {
+                if (!reserveMemory(entry.type, size, keyHash)) {
+                    continue;
+                }
+
+                try (FileInputStream stream = new FileInputStream(file)) {
+                    final MappedByteBuffer mappedBb = stream.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size);
+                    if (entry.type == CacheType.HEAP) {
+                        mappedBb.load();
+                    }
+
+                    bb = mappedBb;
+                } catch (IOException e) {
+                    if (entry.type == CacheType.MAPPED) {
+                        subMappedMemorySize(size);
+                    } else {
+                        subHeapSize(size);
+                    }
+
+                    notifyProbesError(this, e);
+                    continue;
+                }
+            }
+
+            if (precompressedFiles == null) {
+                precompressedFiles = new ArrayList<>(PRECOMPRESSED_EXTENSIONS.length);
+            }
+
+            precompressedFiles.add(new PrecompressedFile(encodingAndExtension[0], file, size, bb));
+        }
+
+        return precompressedFiles != null ? precompressedFiles.toArray(new PrecompressedFile[0]) : null;
+    }
+
+    private static long getPrecompressedFilesSize(final FileCacheEntry entry) {
+        long size = 0;
+        if (entry.precompressedFiles != null) {
+            for (final PrecompressedFile precompressedFile : entry.precompressedFiles) {
+                if (precompressedFile.bb != null) {
+                    size += precompressedFile.size;
+                }
+            }
+        }
+
+        return size;
+    }
+
+    private static boolean hasPrecompressedGzip(final FileCacheEntry entry) {
+        if (entry.precompressedFiles != null) {
+            for (final PrecompressedFile precompressedFile : entry.precompressedFiles) {
+                if (COMPRESSION_ALIASES[0].equals(precompressedFile.encoding)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Checks if the {@link File} with the given content-type could be compressed.
      */
@@ -517,6 +702,24 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         this.maxSmallFileCacheSize = maxSmallFileCacheSize;
     }
 
+    /**
+     * @return the {@link FileCacheEvictionPolicy}, or <tt>null</tt> if new resources are rejected once the cache is full.
+     */
+    public FileCacheEvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * Sets the {@link FileCacheEvictionPolicy} to be used to make room for new resources, once the cache reaches the
+     * maximum number of entries, or the heap or mapped memory limit. If <tt>null</tt> (default), new resources are
+     * rejected once the cache is full. The policy should be set before the cache starts to be populated.
+     *
+     * @param evictionPolicy the {@link FileCacheEvictionPolicy}
+     */
+    public void setEvictionPolicy(final FileCacheEvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+    }
+
     /**
      * @return <code>true</code> if the {@link FileCache} is enabled, otherwise <code>false</code>
      */
@@ -554,6 +757,62 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         this.compressedFilesFolder = compressedFilesFolder != null ? compressedFilesFolder : TMP_DIR;
     }
 
+    /**
+     * @return <tt>true</tt> if the precompressed sibling files are served, and the missing gzip representations are
+     * produced in the background.
+     * @since 5.0.1
+     */
+    public boolean isPrecompressedFilesEnabled() {
+        return precompressedFilesEnabled;
+    }
+
+    /**
+     * Enables/disables the precompressed files mode. If enabled, the <tt>.br</tt>, <tt>.zst</tt> and <tt>.gz</tt> siblings
+     * of the cached file (for example <tt>app.js.br</tt> for <tt>app.js</tt>) are served with the corresponding
+     * content-coding to the clients, which accept it. The sibling files are memory mapped along with the cached file,
+     * unless the file is sent from the disk. If there is no gzip sibling, and the file could be compressed according to
+     * the {@link #getCompressionConfig()}, the gzip representation is produced once by the compression {@link Executor}
+     * instead of the request thread; the file is served uncompressed until it's ready. Only the entries added after the
+     * mode is enabled are affected.
+     *
+     * @param precompressedFilesEnabled <tt>true</tt> to enable the precompressed files mode
+     * @since 5.0.1
+     */
+    public void setPrecompressedFilesEnabled(final boolean precompressedFilesEnabled) {
+        this.precompressedFilesEnabled = precompressedFilesEnabled;
+    }
+
+    /**
+     * @return the {@link Executor} producing the gzip representations in the precompressed files mode
+     * @since 5.0.1
+     */
+    public Executor getCompressionExecutor() {
+        Executor executor = compressionExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = compressionExecutor;
+                if (executor == null) {
+                    compressionExecutor = executor = createCompressionExecutor();
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * Sets the {@link Executor} producing the gzip representations in the precompressed files mode. The {@link Executor}
+     * should be bounded and reject the tasks it can't keep up with; the rejected files are served uncompressed until
+     * the next attempt succeeds. By default, a single thread with the queue of {@value #COMPRESSION_QUEUE_LIMIT} tasks
+     * is used, which stops when idle.
+     *
+     * @param compressionExecutor the {@link Executor}, or <tt>null</tt> to use the default one
+     * @since 5.0.1
+     */
+    public void setCompressionExecutor(final Executor compressionExecutor) {
+        this.compressionExecutor = compressionExecutor;
+    }
+
     /**
      * <p>
      * Returns <code>true</code> if File resources may be be sent using
@@ -596,6 +855,31 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         this.fileSendEnabled = fileSendEnabled;
     }
 
+    /**
+     * Submits the compression of the given cache entry to the compression {@link Executor}.
+     *
+     * @return <tt>false</tt> if the compression has been rejected
+     */
+    boolean compressFileInBackground(final FileCacheEntry entry) {
+        try {
+            getCompressionExecutor().execute(() -> compressFile(entry));
+            return true;
+        } catch (RejectedExecutionException e) {
+            LOGGER.log(Level.FINE, "Compression of file {0} has been rejected", entry.plainFile);
+            return false;
+        }
+    }
+
+    private static Executor createCompressionExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(COMPRESSION_QUEUE_LIMIT), r -> {
+            final Thread thread = new Thread(r, "Grizzly-FileCache-compressor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Creates a temporary compressed representation of the given cache entry.
      */
@@ -923,6 +1207,21 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         }
     }
 
+    /**
+     * Notify registered {@link FileCacheProbe}s about the "entry evicted" event.
+     *
+     * @param fileCache the <tt>FileCache</tt> event occurred on.
+     * @param entry entry been evicted
+     */
+    protected static void notifyProbesEntryEvicted(final FileCache fileCache, final FileCacheEntry entry) {
+        final FileCacheProbe[] probes = fileCache.monitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (FileCacheProbe probe : probes) {
+                probe.onEntryEvictedEvent(fileCache, entry);
+            }
+        }
+    }
+
     /**
      * Notify registered {@link FileCacheProbe}s about the "entry hit event.
      *
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -52,6 +53,9 @@ public final class FileCacheEntry implements Runnable {
     ByteBuffer compressedBb;
     long compressedFileSize = -1;
 
+    // the precompressed sibling files in the order of preference, or null
+    PrecompressedFile[] precompressedFiles;
+
     public String xPoweredBy;
     public FileCache.CacheType type;
     public String date;
@@ -79,6 +83,20 @@ public final class FileCacheEntry implements Runnable {
         }
     }
 
+    boolean canBeCompressed() {
+        return canBeCompressed;
+    }
+
+    /**
+     * Starts the compression of this entry in the background, unless it has been started already.
+     */
+    void compressInBackground() {
+        if (isCompressed.compareAndSet(false, true) && !fileCache.compressFileInBackground(this)) {
+            // the compression was rejected, so let the next request try again
+            isCompressed.set(false);
+        }
+    }
+
     /**
      * Returns <tt>true</tt> if this entry could be served compressed as response to this (passed) specific
      * {@link HttpRequestPacket}. Or <tt>false</tt> will be returned otherwise.
@@ -88,7 +106,9 @@ public final class FileCacheEntry implements Runnable {
             return false;
         }
 
-        if (isCompressed.compareAndSet(false, true)) {
+        if (fileCache.isPrecompressedFilesEnabled()) {
+            compressInBackground();
+        } else if (isCompressed.compareAndSet(false, true)) {
             fileCache.compressFile(this);
         }
 
@@ -97,6 +117,38 @@ public final class FileCacheEntry implements Runnable {
         return compressedFile != null;
     }
 
+    /**
+     * Returns <tt>true</tt> if the representation of this entry depends on the request <tt>Accept-Encoding</tt> header,
+     * so the responses have to carry <tt>Vary: Accept-Encoding</tt>.
+     *
+     * @since 5.0.1
+     */
+    public boolean isContentEncodingNegotiated() {
+        return canBeCompressed || precompressedFiles != null;
+    }
+
+    /**
+     * Returns the content-coding, this entry should be served with as response to this (passed) specific
+     * {@link HttpRequestPacket}. The precompressed sibling files, if any, are preferred to the gzip representation
+     * produced by the {@link FileCache}.
+     *
+     * @param request the {@link HttpRequestPacket}
+     * @return the content-coding name, or <tt>null</tt> if the entry should be served as it is
+     * @since 5.0.1
+     */
+    public String selectContentEncoding(final HttpRequestPacket request) {
+        final PrecompressedFile[] precompressedFilesLocal = precompressedFiles;
+        if (precompressedFilesLocal != null && fileCache.getCompressionConfig().checkUserAgent(request)) {
+            for (final PrecompressedFile precompressedFile : precompressedFilesLocal) {
+                if (CompressionConfig.isClientSupportContentEncoding(request, precompressedFile.aliases)) {
+                    return precompressedFile.encoding;
+                }
+            }
+        }
+
+        return canServeCompressed(request) ? FileCache.COMPRESSION_ALIASES[0] : null;
+    }
+
     /**
      * Returns the entry file size.
      * 
@@ -108,6 +160,18 @@ public final class FileCacheEntry implements Runnable {
         return isCompressed ? compressedFileSize : plainFileSize;
     }
 
+    /**
+     * Returns the entry file size.
+     *
+     * @param contentEncoding the content-coding returned by {@link #selectContentEncoding(HttpRequestPacket)}
+     * @return the entry file size
+     * @since 5.0.1
+     */
+    public long getFileSize(final String contentEncoding) {
+        final PrecompressedFile precompressedFile = getPrecompressedFile(contentEncoding);
+        return precompressedFile != null ? precompressedFile.size : getFileSize(contentEncoding != null);
+    }
+
     /**
      * Returns the entry's {@link File} reference.
      * 
@@ -119,6 +183,18 @@ public final class FileCacheEntry implements Runnable {
         return isCompressed ? compressedFile : plainFile;
     }
 
+    /**
+     * Returns the entry's {@link File} reference.
+     *
+     * @param contentEncoding the content-coding returned by {@link #selectContentEncoding(HttpRequestPacket)}
+     * @return the entry's {@link File} reference
+     * @since 5.0.1
+     */
+    public File getFile(final String contentEncoding) {
+        final PrecompressedFile precompressedFile = getPrecompressedFile(contentEncoding);
+        return precompressedFile != null ? precompressedFile.file : getFile(contentEncoding != null);
+    }
+
     /**
      * Returns the entry's {@link ByteBuffer} representation.
      * 
@@ -130,6 +206,31 @@ public final class FileCacheEntry implements Runnable {
         return isCompressed ? compressedBb : bb;
     }
 
+    /**
+     * Returns the entry's {@link ByteBuffer} representation.
+     *
+     * @param contentEncoding the content-coding returned by {@link #selectContentEncoding(HttpRequestPacket)}
+     * @return the entry's {@link ByteBuffer} reference
+     * @since 5.0.1
+     */
+    public ByteBuffer getByteBuffer(final String contentEncoding) {
+        final PrecompressedFile precompressedFile = getPrecompressedFile(contentEncoding);
+        return precompressedFile != null ? precompressedFile.bb : getByteBuffer(contentEncoding != null);
+    }
+
+    private PrecompressedFile getPrecompressedFile(final String contentEncoding) {
+        final PrecompressedFile[] precompressedFilesLocal = precompressedFiles;
+        if (contentEncoding != null && precompressedFilesLocal != null) {
+            for (final PrecompressedFile precompressedFile : precompressedFilesLocal) {
+                if (precompressedFile.encoding.equals(contentEncoding)) {
+                    return precompressedFile;
+                }
+            }
+        }
+
+        return null;
+    }
+
     @Override
     public void run() {
         fileCache.remove(this);
@@ -167,4 +268,25 @@ public final class FileCacheEntry implements Runnable {
 
         super.finalize();
     }
+
+    /**
+     * The precompressed sibling of the plain file, like <tt>index.html.br</tt> for <tt>index.html</tt>, which is served
+     * as it is.
+     */
+    static final class PrecompressedFile {
+        final String encoding;
+        final String[] aliases;
+        final File file;
+        final long size;
+        // the mapped file content, or null if the file is sent from the disk
+        final ByteBuffer bb;
+
+        PrecompressedFile(final String encoding, final File file, final long size, final ByteBuffer bb) {
+            this.encoding = encoding;
+            this.aliases = new String[] { encoding };
+            this.file = file;
+            this.size = size;
+            this.bb = bb;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.filecache;
+
+/**
+ * Admission and eviction policy of the {@link FileCache}. When the {@link FileCache} reaches one of its limits (number
+ * of entries, heap or mapped memory size) the policy is asked for a victim entry to be evicted in order to make room for
+ * the new resource. If no policy is set, the {@link FileCache} rejects new resources once it is full.
+ * <p>
+ * Implementations have to be thread-safe. The {@link #onEntryHit(FileCacheEntry)} and {@link #onEntryMissed(int)}
+ * callbacks are executed on the request processing path, so they are expected to be cheap.
+ *
+ * @see LruEvictionPolicy
+ * @see TinyLfuEvictionPolicy
+ */
+public interface FileCacheEvictionPolicy {
+
+    /**
+     * Method will be called, when the entry gets added to the {@link FileCache}.
+     *
+     * @param entry {@link FileCacheEntry} been added
+     */
+    void onEntryAdded(FileCacheEntry entry);
+
+    /**
+     * Method will be called, when the entry gets hit.
+     *
+     * @param entry {@link FileCacheEntry} been hit
+     */
+    void onEntryHit(FileCacheEntry entry);
+
+    /**
+     * Method will be called, when the resource is missed in the {@link FileCache}.
+     *
+     * @param keyHash the hash code of the missed resource {@link FileCacheKey}
+     */
+    void onEntryMissed(int keyHash);
+
+    /**
+     * Method will be called, when the entry gets removed from the {@link FileCache} (expired or evicted).
+     *
+     * @param entry {@link FileCacheEntry} been removed
+     */
+    void onEntryRemoved(FileCacheEntry entry);
+
+    /**
+     * Selects the entry to be evicted in order to make room for the candidate resource.
+     *
+     * @param candidateKeyHash the hash code of the candidate resource {@link FileCacheKey}
+     * @param type the {@link FileCache.CacheType} of the entry to be evicted, or <tt>null</tt> if the entry of any type may
+     * be evicted
+     * @return the {@link FileCacheEntry} to be evicted, or <tt>null</tt> if the candidate resource should not be admitted
+     */
+    FileCacheEntry selectVictim(int candidateKeyHash, FileCache.CacheType type);
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -57,6 +58,16 @@ public interface FileCacheProbe {
      */
     void onEntryMissedEvent(FileCache fileCache, String host, String requestURI);
 
+    /**
+     * Method will be called, when file cache entry gets evicted by the {@link FileCacheEvictionPolicy} to make room for a
+     * new resource. The {@link #onEntryRemovedEvent(FileCache, FileCacheEntry)} is called for the evicted entry as well.
+     *
+     * @param fileCache {@link FileCache}, the event belongs to.
+     * @param entry {@link FileCacheEntry} been evicted.
+     */
+    default void onEntryEvictedEvent(FileCache fileCache, FileCacheEntry entry) {
+    }
+
     /**
      * Method will be called, when error occurs on the {@link FileCache}.
      *
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.filecache;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+
+/**
+ * Access-ordered {@link FileCacheEntry} set, which keeps the recency order of all the entries and, separately, of the
+ * entries of each {@link FileCache.CacheType}, so the least recently used entry, of any type or of the given one, is
+ * found in O(1) even if the entries of the different types are mixed. The entry type must not change while the entry
+ * is in the set. Not thread-safe.
+ *
+ * @since 5.0.1
+ */
+final class LruEntries {
+
+    private final LinkedHashMap<FileCacheEntry, Boolean> all = new LinkedHashMap<>(16, 0.75f, true);
+    private final EnumMap<FileCache.CacheType, LinkedHashMap<FileCacheEntry, Boolean>> byType = new EnumMap<>(FileCache.CacheType.class);
+
+    void add(final FileCacheEntry entry) {
+        all.put(entry, Boolean.TRUE);
+        byType.computeIfAbsent(entry.type, type -> new LinkedHashMap<>(16, 0.75f, true)).put(entry, Boolean.TRUE);
+    }
+
+    /**
+     * Marks the entry as the most recently used one.
+     *
+     * @return <tt>true</tt> if the entry is in the set
+     */
+    boolean touch(final FileCacheEntry entry) {
+        if (all.get(entry) == null) {
+            return false;
+        }
+
+        byType.get(entry.type).get(entry);
+        return true;
+    }
+
+    /**
+     * @return <tt>true</tt> if the entry has been removed, or <tt>false</tt> if it's not in the set
+     */
+    boolean remove(final FileCacheEntry entry) {
+        if (all.remove(entry) == null) {
+            return false;
+        }
+
+        byType.get(entry.type).remove(entry);
+        return true;
+    }
+
+    /**
+     * @param type the {@link FileCache.CacheType} of the entry, or <tt>null</tt> for any type
+     * @return the least recently used entry of the type, or <tt>null</tt> if there is none
+     */
+    FileCacheEntry eldest(final FileCache.CacheType type) {
+        final LinkedHashMap<FileCacheEntry, Boolean> entries = type == null ? all : byType.get(type);
+        return entries == null || entries.isEmpty() ? null : entries.keySet().iterator().next();
+    }
+
+    int size() {
+        return all.size();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.filecache;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link FileCacheEvictionPolicy}, which evicts the least recently used entry. New resources are always admitted.
+ * <p>
+ * Entry hits are recorded only if the policy lock is not contended, so under heavy load the recency order is
+ * approximate, but the request processing threads never block on the policy.
+ */
+public class LruEvictionPolicy implements FileCacheEvictionPolicy {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LruEntries entries = new LruEntries();
+
+    @Override
+    public void onEntryAdded(final FileCacheEntry entry) {
+        lock.lock();
+        try {
+            entries.add(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onEntryHit(final FileCacheEntry entry) {
+        if (lock.tryLock()) {
+            try {
+                entries.touch(entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onEntryMissed(final int keyHash) {
+    }
+
+    @Override
+    public void onEntryRemoved(final FileCacheEntry entry) {
+        lock.lock();
+        try {
+            entries.remove(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public FileCacheEntry selectVictim(final int candidateKeyHash, final FileCache.CacheType type) {
+        lock.lock();
+        try {
+            return entries.eldest(type);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of entries tracked by the policy
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.filecache;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Frequency-aware W-TinyLFU {@link FileCacheEvictionPolicy}.
+ * <p>
+ * New entries are placed into a small LRU admission window. When room has to be made, the least recently used window
+ * entry competes with the least recently used entry of the main LRU region: the one, which was requested less often
+ * according to a compact count-min frequency sketch, gets evicted, and the winning window entry is promoted to the main
+ * region. This way a burst of one-time requests can't flush the frequently requested resources out of the cache. The
+ * sketch counters are periodically halved, so the policy adapts when the hot set changes.
+ * <p>
+ * Entry hits are recorded only if the policy lock is not contended, so the request processing threads never block on
+ * the policy.
+ */
+public class TinyLfuEvictionPolicy implements FileCacheEvictionPolicy {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LruEntries window = new LruEntries();
+    private final LruEntries main = new LruEntries();
+
+    private final FrequencySketch sketch;
+
+    private final int windowPercentage;
+
+    public TinyLfuEvictionPolicy() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedEntries the expected number of the {@link FileCache} entries, used to size the frequency sketch
+     */
+    public TinyLfuEvictionPolicy(final int expectedEntries) {
+        this(expectedEntries, 1);
+    }
+
+    /**
+     * @param expectedEntries the expected number of the {@link FileCache} entries, used to size the frequency sketch
+     * @param windowPercentage the admission window size as percentage of the total number of entries
+     */
+    public TinyLfuEvictionPolicy(final int expectedEntries, final int windowPercentage) {
+        if (windowPercentage < 0 || windowPercentage > 100) {
+            throw new IllegalArgumentException("window percentage has to be in [0, 100] range");
+        }
+
+        this.sketch = new FrequencySketch(expectedEntries);
+        this.windowPercentage = windowPercentage;
+    }
+
+    @Override
+    public void onEntryAdded(final FileCacheEntry entry) {
+        lock.lock();
+        try {
+            window.add(entry);
+
+            // the window overflow is promoted to the main region, evictions happen only in selectVictim()
+            while (window.size() > windowCapacity()) {
+                final FileCacheEntry eldest = window.eldest(null);
+                window.remove(eldest);
+                main.add(eldest);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onEntryHit(final FileCacheEntry entry) {
+        if (lock.tryLock()) {
+            try {
+                sketch.increment(entry.key.hashCode());
+                if (!window.touch(entry)) {
+                    main.touch(entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onEntryMissed(final int keyHash) {
+        if (lock.tryLock()) {
+            try {
+                sketch.increment(keyHash);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onEntryRemoved(final FileCacheEntry entry) {
+        lock.lock();
+        try {
+            if (!window.remove(entry)) {
+                main.remove(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public FileCacheEntry selectVictim(final int candidateKeyHash, final FileCache.CacheType type) {
+        lock.lock();
+        try {
+            final FileCacheEntry mainVictim = main.eldest(type);
+
+            // the candidate is going to be added to the window, so if the window is full its LRU entry has to leave it
+            final FileCacheEntry windowVictim = window.size() >= windowCapacity() ? window.eldest(type) : null;
+
+            if (windowVictim == null) {
+                if (mainVictim == null) {
+                    return null;
+                }
+
+                // nothing to promote, so the candidate itself competes for the room
+                return sketch.frequency(candidateKeyHash) > sketch.frequency(mainVictim.key.hashCode()) ? mainVictim : null;
+            }
+
+            if (mainVictim == null || sketch.frequency(windowVictim.key.hashCode()) <= sketch.frequency(mainVictim.key.hashCode())) {
+                return windowVictim;
+            }
+
+            window.remove(windowVictim);
+            main.add(windowVictim);
+
+            return mainVictim;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int windowCapacity() {
+        return (window.size() + main.size()) * windowPercentage / 100;
+    }
+
+    /**
+     * Returns the estimated number of requests of the resource with the given key hash code.
+     *
+     * @param keyHash the {@link FileCacheKey} hash code
+     * @return the estimated request frequency
+     */
+    public int frequency(final int keyHash) {
+        lock.lock();
+        try {
+            return sketch.frequency(keyHash);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Count-min sketch with 4-bit counters, sixteen counters are packed into a <tt>long</tt>.
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+
+        private int size;
+
+        FrequencySketch(final int expectedEntries) {
+            final int length = Integer.highestOneBit(Math.max(16, Math.min(expectedEntries, 1 << 24)) - 1) << 1;
+            table = new long[length];
+            tableMask = length - 1;
+            sampleSize = length * 10;
+        }
+
+        int frequency(final int keyHash) {
+            final int hash = spread(keyHash);
+            final int start = (hash & 3) << 2;
+
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                final int offset = (start + i) << 2;
+                final int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+
+            return frequency;
+        }
+
+        void increment(final int keyHash) {
+            final int hash = spread(keyHash);
+            final int start = (hash & 3) << 2;
+
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                final int index = indexOf(hash, i);
+                final int offset = (start + i) << 2;
+                final long mask = 0xfL << offset;
+                if ((table[index] & mask) != mask) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+
+            if (added && ++size == sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+
+            size >>>= 1;
+        }
+
+        private int indexOf(final int hash, final int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
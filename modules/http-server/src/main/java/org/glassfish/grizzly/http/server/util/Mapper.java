@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -19,6 +20,7 @@ package org.glassfish.grizzly.http.server.util;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -90,6 +92,11 @@ public class Mapper {
      */
     private int port = 0;
 
+    /**
+     * The recently resolved mappings, or <tt>null</tt> if they are not cached.
+     */
+    private volatile MappingCache mappingCache;
+
     // --------------------------------------------------------- Public Methods
 
     /**
@@ -122,6 +129,35 @@ public class Mapper {
         return port;
     }
 
+    /**
+     * Sets the number of the recently resolved host name and URI pairs, whose mapping is cached, so mapping the same
+     * URI again skips the mapping rules. The mapping is cached, when the URI is mapped the second time, so the URIs,
+     * which are mapped once, don't allocate the cache entries. The cache is dropped every time the mapping changes. The
+     * mappings of contexts with static resources, which depend on the resources content, and the redirects are never
+     * cached.
+     * <p>
+     * The size is rounded up to the power of two, <tt>0</tt> (the default) disables the cache.
+     *
+     * @param size the number of cached mappings
+     * @since 5.0.1
+     */
+    public void setMappingCacheSize(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size can't be negative");
+        }
+
+        mappingCache = size > 0 ? new MappingCache(size) : null;
+    }
+
+    /**
+     * @return the number of cached mappings, or <tt>0</tt> if the mapping cache is disabled
+     * @since 5.0.1
+     */
+    public int getMappingCacheSize() {
+        final MappingCache cache = mappingCache;
+        return cache != null ? cache.size() : 0;
+    }
+
     /**
      * @return Default host name
      */
@@ -136,6 +172,7 @@ public class Mapper {
      */
     public void setDefaultHostName(String defaultHostName) {
         this.defaultHostName = defaultHostName;
+        resetMappingCache();
     }
 
     /**
@@ -185,6 +222,8 @@ public class Mapper {
         if (defaultContextPath != null) {
             newHost.defaultContextPaths[0] = defaultContextPath;
         }
+
+        resetMappingCache();
     }
 
     /**
@@ -216,6 +255,8 @@ public class Mapper {
         // START GlassFish 1024
         defaultContextPathsMap.remove(name);
         // END GlassFish 1024
+
+        resetMappingCache();
     }
 
     public String[] getHosts() {
@@ -236,6 +277,7 @@ public class Mapper {
         context.name = path;
         context.welcomeResources = welcomeResources;
         context.resources = resources;
+        resetMappingCache();
     }
 
     /**
@@ -295,6 +337,7 @@ public class Mapper {
                 Context oldElem = (Context) insertMap(contexts, newContexts, newContext);
                 if (oldElem == null) {
                     host.contextList.contexts = newContexts;
+                    host.contextList.contextTrie = PathTrie.compile(newContexts);
                     // START GlassFish 1024
                     if (path.equals(host.defaultContextPaths[0])) {
                         host.defaultContexts[0] = newContext;
@@ -307,6 +350,8 @@ public class Mapper {
                 }
             }
         }
+
+        resetMappingCache();
     }
 
     /**
@@ -332,6 +377,7 @@ public class Mapper {
                 Context[] newContexts = new Context[contexts.length - 1];
                 if (removeMap(contexts, newContexts, path)) {
                     host.contextList.contexts = newContexts;
+                    host.contextList.contextTrie = PathTrie.compile(newContexts);
                     // Recalculate nesting
                     host.contextList.nesting = 0;
                     for (Context newContext : newContexts) {
@@ -343,6 +389,8 @@ public class Mapper {
                 }
             }
         }
+
+        resetMappingCache();
     }
 
     /**
@@ -473,6 +521,7 @@ public class Mapper {
                 Wrapper oldElem = (Wrapper) insertMap(oldWrappers, newWrappers, newWrapper);
                 if (oldElem == null) {
                     context.wildcardWrappers = newWrappers;
+                    context.wildcardTrie = PathTrie.compile(newWrappers);
                     int slashCount = slashCount(newWrapper.name);
                     if (slashCount > context.nesting) {
                         context.nesting = slashCount;
@@ -489,6 +538,7 @@ public class Mapper {
                 Wrapper oldElem = (Wrapper) insertMap(oldWrappers, newWrappers, newWrapper);
                 if (oldElem == null) {
                     context.extensionWrappers = newWrappers;
+                    context.extensionTrie = PathTrie.compile(newWrappers);
                 } else if (allowReplacement) {
                     oldElem.object = wrapper;
                     oldElem.jspWildCard = jspWildCard;
@@ -513,6 +563,7 @@ public class Mapper {
                         Wrapper oldElem = (Wrapper) insertMap(oldWrappers, newWrappers, newWrapper);
                         if (oldElem == null) {
                             context.exactWrappers = newWrappers;
+                            context.exactTrie = PathTrie.compile(newWrappers);
                         } else if (allowReplacement) {
                             oldElem.object = wrapper;
                             oldElem.jspWildCard = jspWildCard;
@@ -521,6 +572,8 @@ public class Mapper {
                 }
             }
         }
+
+        resetMappingCache();
     }
 
     /**
@@ -577,6 +630,7 @@ public class Mapper {
                         }
                     }
                     context.wildcardWrappers = newWrappers;
+                    context.wildcardTrie = PathTrie.compile(newWrappers);
                 }
             } else if (path.startsWith("*.")) {
                 // Extension wrapper
@@ -585,6 +639,7 @@ public class Mapper {
                 Wrapper[] newWrappers = new Wrapper[oldWrappers.length - 1];
                 if (removeMap(oldWrappers, newWrappers, name)) {
                     context.extensionWrappers = newWrappers;
+                    context.extensionTrie = PathTrie.compile(newWrappers);
                 }
             } else if ("/".equals(path)) {
                 // Default wrapper
@@ -595,9 +650,12 @@ public class Mapper {
                 Wrapper[] newWrappers = new Wrapper[oldWrappers.length - 1];
                 if (removeMap(oldWrappers, newWrappers, path)) {
                     context.exactWrappers = newWrappers;
+                    context.exactTrie = PathTrie.compile(newWrappers);
                 }
             }
         }
+
+        resetMappingCache();
     }
 
     public String getWrappersString(String host, String context) {
@@ -672,6 +730,8 @@ public class Mapper {
             hosts[pos].defaultContexts[0] = null;
             defaultContextPathsMap.remove(hostName);
         }
+
+        resetMappingCache();
     }
 
     /**
@@ -842,15 +902,63 @@ public class Mapper {
     // -------------------------------------------------------- Private Methods
 
     /**
-     * Map the specified URI.
+     * Drops the cached mappings, must be called after the mapping changes.
+     */
+    private void resetMappingCache() {
+        final MappingCache cache = mappingCache;
+        if (cache != null) {
+            mappingCache = new MappingCache(cache.size());
+        }
+    }
+
+    /**
+     * Map the specified URI, using the cached mapping if it's available.
      */
     private void internalMap(CharChunk host, CharChunk uri, MappingData mappingData) throws Exception {
 
+        final MappingCache cache = mappingCache;
+        if (cache == null || mappingData.host != null || mappingData.context != null || mappingData.wrapper != null) {
+            internalMap0(host, uri, mappingData);
+            return;
+        }
+
+        if (host != null && host.isNull()) {
+            host = null;
+        }
+
+        uri.setLimit(-1);
+        final int hash = MappingCache.hash(host, uri);
+        if (cache.get(hash, host, uri, mappingData)) {
+            return;
+        }
+
+        if (!cache.isRepeatedMiss(hash)) {
+            internalMap0(host, uri, mappingData);
+            return;
+        }
+
+        // copy the key before mapping, which may change the URI
+        final char[] hostKey = host != null ? Arrays.copyOfRange(host.getBuffer(), host.getStart(), host.getEnd()) : null;
+        final char[] uriKey = Arrays.copyOfRange(uri.getBuffer(), uri.getStart(), uri.getEnd());
+
+        final Context ctx = internalMap0(host, uri, mappingData);
+        if ((ctx == null || ctx.resources == null) && mappingData.redirectPath.isNull()) {
+            cache.put(hash, hostKey, uriKey, mappingData);
+        }
+    }
+
+    /**
+     * Map the specified URI.
+     *
+     * @return the mapped context, or <tt>null</tt> if the context hasn't been mapped
+     */
+    private Context internalMap0(CharChunk host, CharChunk uri, MappingData mappingData) throws Exception {
+
         uri.setLimit(-1);
 
         Context[] contexts = null;
+        PathTrie<Context> contextTrie = null;
         Context ctx = null;
-        int nesting = 0;
 
         int hostPos = -1;
 
@@ -862,19 +970,19 @@ public class Mapper {
                 mappingData.host = newHosts[pos].object;
                 hostPos = pos;
                 contexts = newHosts[pos].contextList.contexts;
-                nesting = newHosts[pos].contextList.nesting;
+                contextTrie = newHosts[pos].contextList.contextTrie;
             } else {
                 if (defaultHostName == null) {
-                    return;
+                    return null;
                 }
                 pos = findIgnoreCase(newHosts, defaultHostName);
                 if (pos != -1 && defaultHostName.equalsIgnoreCase(newHosts[pos].name)) {
                     mappingData.host = newHosts[pos].object;
                     hostPos = pos;
                     contexts = newHosts[pos].contextList.contexts;
-                    nesting = newHosts[pos].contextList.nesting;
+                    contextTrie = newHosts[pos].contextList.contextTrie;
                 } else {
-                    return;
+                    return null;
                 }
             }
         }
@@ -882,72 +990,24 @@ public class Mapper {
         // Context mapping
         if (mappingData.context == null) {
 
-            // START GlassFish 1024
-            boolean found = false;
-            // END GlassFish 1024
+            if (contextTrie != null) {
+                ctx = contextTrie.getLongestPrefix(uri);
+            }
 
-            int pos = find(contexts, uri);
-            if (pos == -1) {
-                // START GlassFish 1024
-                if (hosts[hostPos].defaultContexts[0] == null) {
-                    // END GlassFish 1024
-                    return;
+            if (ctx == null) {
+                if (contexts != null && contexts.length > 0 && "".equals(contexts[0].name)) {
+                    ctx = contexts[0];
                     // START GlassFish 1024
+                } else if (hosts[hostPos].defaultContexts[0] != null) {
+                    ctx = hosts[hostPos].defaultContexts[0];
+                    mappingData.isDefaultContext = true;
+                    // END GlassFish 1024
                 }
-                ctx = hosts[hostPos].defaultContexts[0];
-                mappingData.context = ctx.object;
-                mappingData.contextPath.setString(ctx.name);
-                found = true;
-                mappingData.isDefaultContext = true;
-                // END GlassFish 1024
             }
 
-            // START GlassFish 1024
-            if (!found) {
-                // END GlassFish 1024
-                int lastSlash = -1;
-                int uriEnd = uri.getEnd();
-                int length;
-                /*
-                 * GlassFish 1024 boolean found = false;
-                 */
-                while (pos >= 0) {
-                    if (contexts != null && uri.startsWith(contexts[pos].name)) {
-                        length = contexts[pos].name.length();
-                        if (uri.getLength() == length) {
-                            found = true;
-                            break;
-                        } else if (uri.startsWithIgnoreCase("/", length)) {
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (lastSlash == -1) {
-                        lastSlash = nthSlash(uri, nesting + 1);
-                    } else {
-                        lastSlash = lastSlash(uri);
-                    }
-                    uri.setEnd(lastSlash);
-                    pos = find(contexts, uri);
-                }
-                uri.setEnd(uriEnd);
-
-                if (!found) {
-                    if (contexts != null && "".equals(contexts[0].name)) {
-                        ctx = contexts[0];
-                        // START GlassFish 1024
-                    } else if (hosts[hostPos].defaultContexts[0] != null) {
-                        ctx = hosts[hostPos].defaultContexts[0];
-                        mappingData.isDefaultContext = true;
-                        // END GlassFish 1024
-                    }
-                } else {
-                    ctx = contexts[pos];
-                }
-                if (ctx != null) {
-                    mappingData.context = ctx.object;
-                    mappingData.contextPath.setString(ctx.name);
-                }
+            if (ctx != null) {
+                mappingData.context = ctx.object;
+                mappingData.contextPath.setString(ctx.name);
             }
         }
 
@@ -956,6 +1016,7 @@ public class Mapper {
             internalMapWrapper(ctx, uri, mappingData);
         }
 
+        return ctx;
     }
 
     /**
@@ -1003,16 +1064,16 @@ public class Mapper {
         }
 
         // Rule 1 -- Exact Match
-        Wrapper[] exactWrappers = context.exactWrappers;
+        PathTrie<Wrapper> exactWrappers = context.exactTrie;
         if (mappingData.wrapper == null) {
             internalMapExactWrapper(exactWrappers, path, mappingData);
         }
 
         // Rule 2 -- Prefix Match
         boolean checkJspWelcomeFiles = false;
-        Wrapper[] wildcardWrappers = context.wildcardWrappers;
+        PathTrie<Wrapper> wildcardWrappers = context.wildcardTrie;
         if (mappingData.wrapper == null) {
-            internalMapWildcardWrapper(wildcardWrappers, context.nesting, path, mappingData);
+            internalMapWildcardWrapper(wildcardWrappers, path, mappingData);
             if (mappingData.wrapper != null && mappingData.jspWildCard) {
                 char[] buf = path.getBuffer();
                 if (buf[pathEnd - 1] == '/') {
@@ -1048,7 +1109,7 @@ public class Mapper {
         }
 
         // Rule 3 -- Extension Match
-        Wrapper[] extensionWrappers = context.extensionWrappers;
+        PathTrie<Wrapper> extensionWrappers = context.extensionTrie;
         if (mappingData.wrapper == null && !checkJspWelcomeFiles) {
             internalMapExtensionWrapper(extensionWrappers, path, mappingData);
         }
@@ -1105,7 +1166,7 @@ public class Mapper {
 
                             // Rule 4a2 -- prefix match
                             if (mappingData.wrapper == null) {
-                                internalMapWildcardWrapper(wildcardWrappers, context.nesting, path, mappingData);
+                                internalMapWildcardWrapper(wildcardWrappers, path, mappingData);
                             }
 
                             // Rule 4a3 -- extension match
@@ -1142,7 +1203,7 @@ public class Mapper {
 
                         // Rule 4b2 -- Welcome resources processing for prefix match
                         if (mappingData.wrapper == null) {
-                            internalMapWildcardWrapper(wildcardWrappers, context.nesting, path, mappingData);
+                            internalMapWildcardWrapper(wildcardWrappers, path, mappingData);
                         }
 
                         // Rule 4b3 -- Welcome resources processing for extension match
@@ -1225,14 +1286,14 @@ public class Mapper {
     /**
      * Exact mapping.
      */
-    private void internalMapExactWrapper(Wrapper[] wrappers, CharChunk path, MappingData mappingData) {
-        int pos = find(wrappers, path);
-        if (pos != -1 && path.equals(wrappers[pos].name)) {
-            mappingData.requestPath.setString(wrappers[pos].name);
-            mappingData.wrapperPath.setString(wrappers[pos].name);
-            mappingData.wrapper = wrappers[pos].object;
-            mappingData.servletName = wrappers[pos].servletName;
-            mappingData.descriptorPath = wrappers[pos].path;
+    private void internalMapExactWrapper(PathTrie<Wrapper> wrappers, CharChunk path, MappingData mappingData) {
+        Wrapper wrapper = wrappers.get(path);
+        if (wrapper != null) {
+            mappingData.requestPath.setString(wrapper.name);
+            mappingData.wrapperPath.setString(wrapper.name);
+            mappingData.wrapper = wrapper.object;
+            mappingData.servletName = wrapper.servletName;
+            mappingData.descriptorPath = wrapper.path;
             mappingData.matchedPath = path.toString();
             mappingData.mappingType = "/".equals(mappingData.matchedPath) ? MappingData.DEFAULT : MappingData.EXACT;
         }
@@ -1241,55 +1302,28 @@ public class Mapper {
     /**
      * Wildcard mapping.
      */
-    private void internalMapWildcardWrapper(Wrapper[] wrappers, int nesting, CharChunk path, MappingData mappingData) {
-
-        int pathEnd = path.getEnd();
-
-        int lastSlash = -1;
-        int length = -1;
-        int pos = find(wrappers, path);
-        if (pos != -1) {
-            boolean found = false;
-            while (pos >= 0) {
-                if (path.startsWith(wrappers[pos].name)) {
-                    length = wrappers[pos].name.length();
-                    if (path.getLength() == length) {
-                        found = true;
-                        break;
-                    } else if (path.startsWithIgnoreCase("/", length)) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (lastSlash == -1) {
-                    lastSlash = nthSlash(path, nesting + 1);
-                } else {
-                    lastSlash = lastSlash(path);
-                }
-                path.setEnd(lastSlash);
-                pos = find(wrappers, path);
-            }
-            path.setEnd(pathEnd);
-            if (found) {
-                mappingData.wrapperPath.setString(wrappers[pos].name);
-                if (path.getLength() > length) {
-                    mappingData.pathInfo.setChars(path.getBuffer(), path.getStart() + length, path.getEnd());
-                }
-                mappingData.requestPath.setChars(path.getBuffer(), path.getStart(), path.getEnd());
-                mappingData.wrapper = wrappers[pos].object;
-                mappingData.servletName = wrappers[pos].servletName;
-                mappingData.jspWildCard = wrappers[pos].jspWildCard;
-                mappingData.mappingType = MappingData.PATH;
-                mappingData.descriptorPath = wrappers[pos].path;
-                mappingData.matchedPath = path.toString();
+    private void internalMapWildcardWrapper(PathTrie<Wrapper> wrappers, CharChunk path, MappingData mappingData) {
+        Wrapper wrapper = wrappers.getLongestPrefix(path);
+        if (wrapper != null) {
+            int length = wrapper.name.length();
+            mappingData.wrapperPath.setString(wrapper.name);
+            if (path.getLength() > length) {
+                mappingData.pathInfo.setChars(path.getBuffer(), path.getStart() + length, path.getEnd());
             }
+            mappingData.requestPath.setChars(path.getBuffer(), path.getStart(), path.getEnd());
+            mappingData.wrapper = wrapper.object;
+            mappingData.servletName = wrapper.servletName;
+            mappingData.jspWildCard = wrapper.jspWildCard;
+            mappingData.mappingType = MappingData.PATH;
+            mappingData.descriptorPath = wrapper.path;
+            mappingData.matchedPath = path.toString();
         }
     }
 
     /**
      * Extension mappings.
      */
-    private void internalMapExtensionWrapper(Wrapper[] wrappers, CharChunk path, MappingData mappingData) {
+    private void internalMapExtensionWrapper(PathTrie<Wrapper> wrappers, CharChunk path, MappingData mappingData) {
         char[] buf = path.getBuffer();
         int pathEnd = path.getEnd();
         int servletPath = path.getStart();
@@ -1311,14 +1345,14 @@ public class Mapper {
             if (period >= 0) {
                 path.setStart(period + 1);
                 path.setEnd(pathEnd);
-                int pos = find(wrappers, path);
-                if (pos != -1 && path.equals(wrappers[pos].name)) {
+                Wrapper wrapper = wrappers.get(path);
+                if (wrapper != null) {
                     mappingData.wrapperPath.setChars(buf, servletPath, pathEnd);
                     mappingData.requestPath.setChars(buf, servletPath, pathEnd);
-                    mappingData.wrapper = wrappers[pos].object;
-                    mappingData.servletName = wrappers[pos].servletName;
+                    mappingData.wrapper = wrapper.object;
+                    mappingData.servletName = wrapper.servletName;
                     mappingData.mappingType = MappingData.EXTENSION;
-                    mappingData.descriptorPath = wrappers[pos].path;
+                    mappingData.descriptorPath = wrapper.path;
                 }
                 path.setStart(servletPath);
                 path.setEnd(pathEnd);
@@ -1327,57 +1361,6 @@ public class Mapper {
         }
     }
 
-    /**
-     * Find a map element given its name in a sorted array of map elements. This will return the index for the closest
-     * inferior or equal item in the given array.
-     */
-    private static int find(MapElement[] map, CharChunk name) {
-        return find(map, name, name.getStart(), name.getEnd());
-    }
-
-    /**
-     * Find a map element given its name in a sorted array of map elements. This will return the index for the closest
-     * inferior or equal item in the given array.
-     */
-    private static int find(MapElement[] map, CharChunk name, int start, int end) {
-
-        int a = 0;
-        int b = map.length - 1;
-
-        // Special cases: -1 and 0
-        if (b == -1) {
-            return -1;
-        }
-
-        if (compare(name, start, end, map[0].name) < 0) {
-            return -1;
-        }
-        if (b == 0) {
-            return 0;
-        }
-
-        int i;
-        while (true) {
-            i = b + a >>> 1;
-            int result = compare(name, start, end, map[i].name);
-            if (result == 1) {
-                a = i;
-            } else if (result == 0) {
-                return i;
-            } else {
-                b = i;
-            }
-            if (b - a == 1) {
-                int result2 = compare(name, start, end, map[b].name);
-                if (result2 < 0) {
-                    return a;
-                } else {
-                    return b;
-                }
-            }
-        }
-    }
-
 //    /**
 //     * Find a map element given its name in a sorted array of map elements.
 //     * This will return the index for the closest inferior or equal item in the
@@ -1528,33 +1511,6 @@ public class Mapper {
 
     }
 
-    /**
-     * Compare given char chunk with String. Return -1, 0 or +1 if inferior, equal, or superior to the String.
-     */
-    private static int compare(CharChunk name, int start, int end, String compareTo) {
-        int result = 0;
-        char[] c = name.getBuffer();
-        int len = compareTo.length();
-        if (end - start < len) {
-            len = end - start;
-        }
-        for (int i = 0; i < len && result == 0; i++) {
-            if (c[i + start] > compareTo.charAt(i)) {
-                result = 1;
-            } else if (c[i + start] < compareTo.charAt(i)) {
-                result = -1;
-            }
-        }
-        if (result == 0) {
-            if (compareTo.length() > end - start) {
-                result = -1;
-            } else if (compareTo.length() < end - start) {
-                result = 1;
-            }
-        }
-        return result;
-    }
-
     /**
      * Compare given char chunk with String ignoring case. Return -1, 0 or +1 if inferior, equal, or superior to the String.
      */
@@ -1611,47 +1567,6 @@ public class Mapper {
         return result;
     }
 
-    /**
-     * Find the position of the last slash in the given char chunk.
-     */
-    private static int lastSlash(CharChunk name) {
-
-        char[] c = name.getBuffer();
-        int end = name.getEnd();
-        int start = name.getStart();
-        int pos = end;
-
-        while (pos > start) {
-            if (c[--pos] == '/') {
-                break;
-            }
-        }
-
-        return pos;
-
-    }
-
-    /**
-     * Find the position of the nth slash, in the given char chunk.
-     */
-    private static int nthSlash(CharChunk name, int n) {
-
-        char[] c = name.getBuffer();
-        int end = name.getEnd();
-        int pos = name.getStart();
-        int count = 0;
-
-        while (pos < end) {
-            if (c[pos++] == '/' && ++count == n) {
-                pos--;
-                break;
-            }
-        }
-
-        return pos;
-
-    }
-
     /**
      * Return the slash count in a given string.
      */
@@ -1761,6 +1676,7 @@ public class Mapper {
 
         public Context[] contexts = new Context[0];
         public int nesting = 0;
+        volatile PathTrie<Context> contextTrie = PathTrie.empty();
 
     }
 
@@ -1778,6 +1694,9 @@ public class Mapper {
         public Wrapper[] wildcardWrappers = new Wrapper[0];
         public Wrapper[] extensionWrappers = new Wrapper[0];
         public int nesting = 0;
+        volatile PathTrie<Wrapper> exactTrie = PathTrie.empty();
+        volatile PathTrie<Wrapper> wildcardTrie = PathTrie.empty();
+        volatile PathTrie<Wrapper> extensionTrie = PathTrie.empty();
 
     }
 
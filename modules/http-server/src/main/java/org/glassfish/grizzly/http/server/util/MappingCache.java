@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.http.server.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.glassfish.grizzly.http.util.CharChunk;
+import org.glassfish.grizzly.http.util.DataChunk;
+
+/**
+ * Small cache of the recently resolved {@link MappingData}, keyed by the host name and URI.
+ * <p>
+ * The cache is a direct-mapped table: each host name and URI pair has just one slot, where the most recently resolved
+ * mapping replaces the older one, so lookups and updates never lock. The {@link Mapper} drops the whole cache when its
+ * mapping changes, the entries are never updated.
+ * <p>
+ * The mapping is cached when its slot misses the second time in a row with the same hash, so the URIs, which are
+ * requested once, don't allocate the entries, and don't evict the frequently requested ones.
+ */
+final class MappingCache {
+
+    private final AtomicReferenceArray<Entry> entries;
+    // the hash of the last missed host name and URI pair of each slot, the lost racy updates just delay the caching
+    private final int[] misses;
+    private final int mask;
+
+    /**
+     * @param size the number of entries, rounded up to the power of two
+     */
+    MappingCache(final int size) {
+        final int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        entries = new AtomicReferenceArray<>(capacity);
+        misses = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    int size() {
+        return entries.length();
+    }
+
+    /**
+     * Copies the cached mapping of the given host name and URI, if any, into the {@link MappingData}.
+     *
+     * @param hash the host name and URI hash
+     * @param host the host name, or <tt>null</tt> if the default host is used
+     * @param uri the URI
+     * @param mappingData the {@link MappingData} to copy the mapping to
+     * @return <tt>true</tt> if the cached mapping has been found, or <tt>false</tt> otherwise
+     */
+    boolean get(final int hash, final CharChunk host, final CharChunk uri, final MappingData mappingData) {
+        final Entry entry = entries.get(hash & mask);
+        if (entry == null || entry.hash != hash || !entry.matches(host, uri)) {
+            return false;
+        }
+
+        mappingData.mappingType = entry.mappingType;
+        mappingData.host = entry.host;
+        mappingData.context = entry.context;
+        mappingData.wrapper = entry.wrapper;
+        mappingData.servletName = entry.servletName;
+        mappingData.descriptorPath = entry.descriptorPath;
+        mappingData.matchedPath = entry.matchedPath;
+        mappingData.jspWildCard = entry.jspWildCard;
+        mappingData.isDefaultContext = entry.isDefaultContext;
+        set(mappingData.contextPath, entry.contextPath);
+        set(mappingData.requestPath, entry.requestPath);
+        set(mappingData.wrapperPath, entry.wrapperPath);
+        set(mappingData.pathInfo, entry.pathInfo);
+
+        return true;
+    }
+
+    /**
+     * Records the miss of the given host name and URI hash.
+     *
+     * @param hash the host name and URI hash
+     * @return <tt>true</tt> if the previous miss of the same slot has had the same hash, so the mapping is worth caching
+     */
+    boolean isRepeatedMiss(final int hash) {
+        final int slot = hash & mask;
+        if (misses[slot] == hash) {
+            return true;
+        }
+
+        misses[slot] = hash;
+        return false;
+    }
+
+    /**
+     * Caches the mapping of the given host name and URI.
+     *
+     * @param hash the host name and URI hash
+     * @param host the host name, or <tt>null</tt> if the default host is used
+     * @param uri the URI
+     * @param mappingData the resolved mapping
+     */
+    void put(final int hash, final char[] host, final char[] uri, final MappingData mappingData) {
+        entries.lazySet(hash & mask, new Entry(hash, host, uri, mappingData));
+    }
+
+    /**
+     * @param host the host name, or <tt>null</tt> if the default host is used
+     * @param uri the URI
+     * @return the host name and URI hash
+     */
+    static int hash(final CharChunk host, final CharChunk uri) {
+        int hash = host == null ? 0 : hash(host.getBuffer(), host.getStart(), host.getEnd(), 1);
+        hash = hash(uri.getBuffer(), uri.getStart(), uri.getEnd(), hash);
+
+        return hash ^ hash >>> 16;
+    }
+
+    private static int hash(final char[] buf, final int start, final int end, int hash) {
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + buf[i];
+        }
+
+        return hash;
+    }
+
+    private static void set(final DataChunk dataChunk, final String value) {
+        if (value != null) {
+            dataChunk.setString(value);
+        }
+    }
+
+    private static String get(final DataChunk dataChunk) {
+        return dataChunk.isNull() ? null : dataChunk.toString();
+    }
+
+    private static boolean equals(final char[] key, final CharChunk chunk) {
+        return Arrays.equals(key, 0, key.length, chunk.getBuffer(), chunk.getStart(), chunk.getEnd());
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final char[] hostKey;
+        private final char[] uriKey;
+
+        private final byte mappingType;
+        private final Object host;
+        private final Object context;
+        private final Object wrapper;
+        private final String servletName;
+        private final String descriptorPath;
+        private final String matchedPath;
+        private final boolean jspWildCard;
+        private final boolean isDefaultContext;
+        private final String contextPath;
+        private final String requestPath;
+        private final String wrapperPath;
+        private final String pathInfo;
+
+        private Entry(final int hash, final char[] hostKey, final char[] uriKey, final MappingData mappingData) {
+            this.hash = hash;
+            this.hostKey = hostKey;
+            this.uriKey = uriKey;
+
+            mappingType = mappingData.mappingType;
+            host = mappingData.host;
+            context = mappingData.context;
+            wrapper = mappingData.wrapper;
+            servletName = mappingData.servletName;
+            descriptorPath = mappingData.descriptorPath;
+            matchedPath = mappingData.matchedPath;
+            jspWildCard = mappingData.jspWildCard;
+            isDefaultContext = mappingData.isDefaultContext;
+            contextPath = get(mappingData.contextPath);
+            requestPath = get(mappingData.requestPath);
+            wrapperPath = get(mappingData.wrapperPath);
+            pathInfo = get(mappingData.pathInfo);
+        }
+
+        private boolean matches(final CharChunk host, final CharChunk uri) {
+            if (host == null ? hostKey != null : hostKey == null || !MappingCache.equals(hostKey, host)) {
+                return false;
+            }
+
+            return MappingCache.equals(uriKey, uri);
+        }
+    }
+}
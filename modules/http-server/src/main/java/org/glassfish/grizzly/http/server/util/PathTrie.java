@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.http.server.util;
+
+import java.util.Arrays;
+
+import org.glassfish.grizzly.http.util.CharChunk;
+
+/**
+ * Immutable radix trie of {@link Mapper} elements, keyed by the element names.
+ * <p>
+ * The trie is compiled from the sorted element array every time the array changes and is swapped in as a whole, so the
+ * request mapping always sees a complete trie without taking a lock. Both lookups walk the path characters just once:
+ * {@link #get(CharChunk)} finds the element with exactly the same name, {@link #getLongestPrefix(CharChunk)} finds the
+ * element with the longest name, which is the path prefix ending either at the path end or at a <tt>'/'</tt>, the way
+ * context paths and wildcard wrapper mappings are matched.
+ *
+ * @param <E> the {@link Mapper} element type
+ */
+final class PathTrie<E extends Mapper.MapElement> {
+
+    private static final PathTrie<?> EMPTY = new PathTrie<>(null);
+
+    private final Node<E> root;
+
+    private PathTrie(final Node<E> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Mapper.MapElement> PathTrie<E> empty() {
+        return (PathTrie<E>) EMPTY;
+    }
+
+    /**
+     * Compiles the trie of the given elements, which are sorted by their unique names the way the {@link Mapper} keeps
+     * them.
+     *
+     * @param sorted the sorted {@link Mapper} elements
+     * @return the compiled trie
+     */
+    static <E extends Mapper.MapElement> PathTrie<E> compile(final E[] sorted) {
+        if (sorted.length == 0) {
+            return empty();
+        }
+
+        return new PathTrie<>(build(sorted, 0, sorted.length, 0, 0));
+    }
+
+    /**
+     * @param path the path to look up
+     * @return the element, whose name is equal to the path, or <tt>null</tt> if there is no such element
+     */
+    E get(final CharChunk path) {
+        final char[] buf = path.getBuffer();
+        final int end = path.getEnd();
+
+        int pos = path.getStart();
+        Node<E> node = root;
+        while (node != null) {
+            pos = node.match(buf, pos, end);
+            if (pos < 0) {
+                return null;
+            }
+
+            if (pos == end) {
+                return node.value;
+            }
+
+            node = node.child(buf[pos]);
+        }
+
+        return null;
+    }
+
+    /**
+     * @param path the path to look up
+     * @return the element with the longest name, which is equal to the path or to the path part preceding a
+     * <tt>'/'</tt>, or <tt>null</tt> if there is no such element
+     */
+    E getLongestPrefix(final CharChunk path) {
+        final char[] buf = path.getBuffer();
+        final int end = path.getEnd();
+
+        E longest = null;
+        int pos = path.getStart();
+        Node<E> node = root;
+        while (node != null) {
+            pos = node.match(buf, pos, end);
+            if (pos < 0) {
+                break;
+            }
+
+            if (node.value != null && (pos == end || buf[pos] == '/')) {
+                longest = node.value;
+            }
+
+            if (pos == end) {
+                break;
+            }
+
+            node = node.child(buf[pos]);
+        }
+
+        return longest;
+    }
+
+    /**
+     * Builds the node of the sorted elements [from, to), which all share the first <tt>depth</tt> name characters.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Mapper.MapElement> Node<E> build(final E[] sorted, int from, final int to, final int labelStart, final int depth) {
+        final String name = sorted[from].name;
+        final char[] label = name.substring(labelStart, depth).toCharArray();
+
+        E value = null;
+        if (name.length() == depth) {
+            // the sort order puts the element, which ends at this node, first
+            value = sorted[from++];
+        }
+
+        int childrenCount = 0;
+        for (int i = from; i < to; i++) {
+            if (i == from || sorted[i].name.charAt(depth) != sorted[i - 1].name.charAt(depth)) {
+                childrenCount++;
+            }
+        }
+
+        final char[] firstChars = new char[childrenCount];
+        final Node<E>[] children = new Node[childrenCount];
+
+        int groupStart = from;
+        for (int i = 0; i < childrenCount; i++) {
+            final char c = sorted[groupStart].name.charAt(depth);
+            int groupEnd = groupStart + 1;
+            while (groupEnd < to && sorted[groupEnd].name.charAt(depth) == c) {
+                groupEnd++;
+            }
+
+            // the first and the last names of a sorted group share the group's common prefix
+            final String first = sorted[groupStart].name;
+            final String last = sorted[groupEnd - 1].name;
+            final int maxLength = Math.min(first.length(), last.length());
+            int prefixLength = depth + 1;
+            while (prefixLength < maxLength && first.charAt(prefixLength) == last.charAt(prefixLength)) {
+                prefixLength++;
+            }
+
+            firstChars[i] = c;
+            children[i] = build(sorted, groupStart, groupEnd, depth, prefixLength);
+            groupStart = groupEnd;
+        }
+
+        return new Node<>(label, value, firstChars, children);
+    }
+
+    private static final class Node<E> {
+        private final char[] label;
+        private final E value;
+        private final char[] firstChars;
+        private final Node<E>[] children;
+
+        private Node(final char[] label, final E value, final char[] firstChars, final Node<E>[] children) {
+            this.label = label;
+            this.value = value;
+            this.firstChars = firstChars;
+            this.children = children;
+        }
+
+        /**
+         * @return the position following the matched label, or <tt>-1</tt> if the label doesn't match
+         */
+        private int match(final char[] buf, final int pos, final int end) {
+            final char[] l = label;
+            if (end - pos < l.length) {
+                return -1;
+            }
+
+            for (int i = 0; i < l.length; i++) {
+                if (buf[pos + i] != l[i]) {
+                    return -1;
+                }
+            }
+
+            return pos + l.length;
+        }
+
+        private Node<E> child(final char c) {
+            final int idx = Arrays.binarySearch(firstChars, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.http.server;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ObjectInputFilter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test {@link BucketedSessionManager} expiration and passivation, and the {@link SessionStore} implementations.
+ */
+public class BucketedSessionManagerTest {
+
+    @Test
+    public void testExpiration() throws Exception {
+        final BucketedSessionManager manager = new BucketedSessionManager(null, -1, 10, 64);
+        try {
+            final Session expiring = manager.createSession(null);
+            expiring.setSessionTimeout(50);
+            final Session eternal = manager.createSession(null);
+
+            assertSame(expiring, manager.getSession(null, expiring.getIdInternal()));
+            assertEquals(2, manager.getSessionsCount());
+
+            waitForSessionsCount(manager, 1);
+            assertFalse(expiring.isValid());
+            assertNull(manager.getSession(null, expiring.getIdInternal()));
+            assertSame(eternal, manager.getSession(null, eternal.getIdInternal()));
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testAccessDelaysExpiration() throws Exception {
+        final BucketedSessionManager manager = new BucketedSessionManager(null, -1, 10, 64);
+        try {
+            final Session session = manager.createSession(null);
+            session.setSessionTimeout(200);
+
+            for (int i = 0; i < 10; i++) {
+                Thread.sleep(50);
+                session.access();
+                assertSame(session, manager.getSession(null, session.getIdInternal()));
+            }
+
+            waitForSessionsCount(manager, 0);
+            assertFalse(session.isValid());
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testChangeSessionId() throws Exception {
+        final BucketedSessionManager manager = new BucketedSessionManager();
+        try {
+            final Session session = manager.createSession(null);
+            final String oldId = session.getIdInternal();
+
+            assertEquals(oldId, manager.changeSessionId(null, session));
+            assertNull(manager.getSession(null, oldId));
+            assertSame(session, manager.getSession(null, session.getIdInternal()));
+            assertEquals(1, manager.getSessionsCount());
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testPassivation() throws Exception {
+        final OffHeapSessionStore store = new OffHeapSessionStore();
+        final BucketedSessionManager manager = new BucketedSessionManager(store, 50, 10, 64);
+        try {
+            final Session session = manager.createSession(null);
+            session.setSessionTimeout(TimeUnit.MINUTES.toMillis(1));
+            session.setAttribute("name", "value");
+            session.setAttribute("list", new ArrayList<>(List.of(1, 2, 3)));
+            final String id = session.getIdInternal();
+
+            waitForStoredSession(store, id);
+
+            final Session activated = manager.getSession(null, id);
+            assertNotNull(activated);
+            assertTrue(activated != session);
+            assertEquals(session.getCreationTime(), activated.getCreationTime());
+            assertEquals(session.getSessionTimeout(), activated.getSessionTimeout());
+            assertEquals("value", activated.getAttribute("name"));
+            assertEquals(List.of(1, 2, 3), activated.getAttribute("list"));
+            assertNull(store.load(id));
+
+            // not serializable sessions stay in the heap
+            activated.setAttribute("thread", Thread.currentThread());
+            Thread.sleep(200);
+            assertSame(activated, manager.getSession(null, id));
+            assertNull(store.load(id));
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testSerialFilter() throws Exception {
+        final OffHeapSessionStore store = new OffHeapSessionStore();
+        final BucketedSessionManager manager = new BucketedSessionManager(store, 50, 10, 64);
+        try {
+            assertNotNull(manager.getSerialFilter());
+            manager.setSerialFilter(ObjectInputFilter.Config.createFilter("maxdepth=3"));
+
+            final Session shallow = manager.createSession(null);
+            shallow.setAttribute("list", new ArrayList<>(List.of(1, 2, 3)));
+            final Session deep = manager.createSession(null);
+            deep.setAttribute("list", new ArrayList<>(List.of(new ArrayList<>(List.of(new ArrayList<>(List.of(1)))))));
+
+            waitForStoredSession(store, shallow.getIdInternal());
+            waitForStoredSession(store, deep.getIdInternal());
+
+            assertNotNull(manager.getSession(null, shallow.getIdInternal()));
+            // the rejected session is dropped
+            assertNull(manager.getSession(null, deep.getIdInternal()));
+            assertNull(store.load(deep.getIdInternal()));
+            assertEquals(1, manager.getSessionsCount());
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testInUseSessionNotPassivated() throws Exception {
+        final OffHeapSessionStore store = new OffHeapSessionStore();
+        final BucketedSessionManager manager = new BucketedSessionManager(store, 20, 10, 64);
+        final Request request = Request.create();
+        try {
+            final Session session = manager.createSession(null);
+            session.setSessionTimeout(TimeUnit.MINUTES.toMillis(1));
+            final String id = session.getIdInternal();
+
+            assertSame(session, manager.getSession(request, id));
+            Thread.sleep(200);
+            assertNull(store.load(id));
+
+            // the request changes the session, which must not be lost
+            session.setAttribute("name", "value");
+            for (AfterServiceListener listener : new ArrayList<>(request.afterServicesList)) {
+                listener.onAfterService(request);
+            }
+
+            waitForStoredSession(store, id);
+            assertEquals("value", manager.getSession(null, id).getAttribute("name"));
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testPassivatedSessionExpiration() throws Exception {
+        final OffHeapSessionStore store = new OffHeapSessionStore();
+        final BucketedSessionManager manager = new BucketedSessionManager(store, 20, 10, 64);
+        try {
+            final Session session = manager.createSession(null);
+            session.setSessionTimeout(200);
+            final String id = session.getIdInternal();
+
+            waitForStoredSession(store, id);
+            waitForSessionsCount(manager, 0);
+            assertNull(store.load(id));
+            assertNull(manager.getSession(null, id));
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testRestart() throws Exception {
+        final Path file = Files.createTempFile("grizzly-sessions-", ".dat");
+        try {
+            final String id;
+            BucketedSessionManager manager = new BucketedSessionManager(new MappedFileSessionStore(file, 4096), -1, TimeUnit.MILLISECONDS);
+            try {
+                final Session session = manager.createSession(null);
+                session.setSessionTimeout(TimeUnit.MINUTES.toMillis(1));
+                session.setAttribute("name", "value");
+                id = session.getIdInternal();
+
+                final Session expired = manager.createSession(null);
+                expired.setSessionTimeout(1);
+                expired.setTimestamp(System.currentTimeMillis() - 10);
+                expired.setValid(false);
+            } finally {
+                manager.close();
+            }
+
+            manager = new BucketedSessionManager(new MappedFileSessionStore(file, 4096), -1, TimeUnit.MILLISECONDS);
+            try {
+                assertEquals(1, manager.getSessionsCount());
+                final Session session = manager.getSession(null, id);
+                assertNotNull(session);
+                assertEquals("value", session.getAttribute("name"));
+            } finally {
+                manager.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testStoreCompaction() throws Exception {
+        final OffHeapSessionStore store = new OffHeapSessionStore(256);
+        try {
+            final byte[] data = new byte[100];
+            for (int i = 0; i < 100; i++) {
+                data[0] = (byte) i;
+                store.store("a", data);
+                store.store("b", data);
+                store.remove("b");
+            }
+
+            // the replaced records are compacted, so the buffer doesn't grow
+            assertEquals(256, store.getCapacity());
+            assertEquals(List.of("a"), new ArrayList<>(store.getIds()));
+            assertEquals(99, store.load("a")[0]);
+            assertNull(store.load("b"));
+
+            for (int i = 0; i < 10; i++) {
+                store.store(String.valueOf(i), data);
+            }
+
+            assertTrue(store.getCapacity() > 256);
+            assertEquals(11, store.getIds().size());
+            assertArrayEquals(data, store.load("9"));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testMappedFileStoreGrowth() throws Exception {
+        final Path file = Files.createTempFile("grizzly-sessions-", ".dat");
+        try {
+            final byte[] data = new byte[1000];
+            MappedFileSessionStore store = new MappedFileSessionStore(file, 1024);
+            try {
+                for (int i = 0; i < 10; i++) {
+                    data[0] = (byte) i;
+                    store.store(String.valueOf(i), data);
+                }
+                store.remove("0");
+            } finally {
+                store.close();
+            }
+
+            store = new MappedFileSessionStore(file, 1024);
+            try {
+                assertEquals(9, store.getIds().size());
+                assertNull(store.load("0"));
+                assertEquals(5, store.load("5")[0]);
+            } finally {
+                store.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testMappedFileStoreCompaction() throws Exception {
+        final Path file = Files.createTempFile("grizzly-sessions-", ".dat");
+        final Path compactionFile = file.resolveSibling(file.getFileName() + ".compact");
+        try {
+            final byte[] data = new byte[100];
+            MappedFileSessionStore store = new MappedFileSessionStore(file, 1024);
+            try {
+                for (int i = 0; i < 50; i++) {
+                    data[0] = (byte) i;
+                    store.store("a", data);
+                }
+
+                // compacted to the new file, which has replaced the old one
+                assertEquals(1024, store.getCapacity());
+                assertFalse(Files.exists(compactionFile));
+                store.store("b", data);
+            } finally {
+                store.close();
+            }
+
+            // the compaction file, which is left by a crash, is ignored
+            Files.write(compactionFile, new byte[16]);
+            store = new MappedFileSessionStore(file, 1024);
+            try {
+                assertFalse(Files.exists(compactionFile));
+                assertEquals(2, store.getIds().size());
+                assertEquals(49, store.load("a")[0]);
+                assertEquals(49, store.load("b")[0]);
+            } finally {
+                store.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(compactionFile);
+        }
+    }
+
+    private static void waitForSessionsCount(final BucketedSessionManager manager, final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (manager.getSessionsCount() != count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(count, manager.getSessionsCount());
+    }
+
+    private static void waitForStoredSession(final SessionStore store, final String id) throws Exception {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (store.load(id) == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertNotNull(store.load(id));
+    }
+}
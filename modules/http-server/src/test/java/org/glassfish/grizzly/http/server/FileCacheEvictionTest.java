@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.http.HttpResponsePacket;
+import org.glassfish.grizzly.http.ProcessingState;
+import org.glassfish.grizzly.http.server.filecache.FileCache;
+import org.glassfish.grizzly.http.server.filecache.FileCacheEntry;
+import org.glassfish.grizzly.http.server.filecache.FileCacheProbe;
+import org.glassfish.grizzly.http.server.filecache.LruEvictionPolicy;
+import org.glassfish.grizzly.http.server.filecache.TinyLfuEvictionPolicy;
+import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.utils.DelayedExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test {@link FileCache} eviction policies.
+ */
+public class FileCacheEvictionTest {
+
+    private ExecutorService threadPool;
+    private FileCache fileCache;
+    private final EvictionProbe probe = new EvictionProbe();
+
+    @Before
+    public void before() {
+        threadPool = Executors.newSingleThreadExecutor();
+        fileCache = new FileCache();
+        fileCache.initialize(new DelayedExecutor(threadPool));
+        fileCache.getMonitoringConfig().addProbes(probe);
+    }
+
+    @After
+    public void after() {
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void testRejectWhenFullWithoutPolicy() throws Exception {
+        fileCache.setMaxCacheEntries(2);
+
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/a"), file(16)));
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/b"), file(16)));
+        assertEquals(FileCache.CacheResult.FAILED_CACHE_FULL, fileCache.add(request("/c"), file(16)));
+        assertEquals(0, probe.evicted.get());
+    }
+
+    @Test
+    public void testLruEntriesLimit() throws Exception {
+        fileCache.setEvictionPolicy(new LruEvictionPolicy());
+        fileCache.setMaxCacheEntries(2);
+
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/a"), file(16)));
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/b"), file(16)));
+        assertNotNull(fileCache.get(request("/a")));
+
+        // "/b" is the least recently used entry
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/c"), file(16)));
+        assertEquals(1, probe.evicted.get());
+        assertNotNull(fileCache.get(request("/a")));
+        assertNull(fileCache.get(request("/b")));
+        assertNotNull(fileCache.get(request("/c")));
+    }
+
+    @Test
+    public void testLruHeapSizeLimit() throws Exception {
+        fileCache.setEvictionPolicy(new LruEvictionPolicy());
+        fileCache.setMinEntrySize(1000);
+        fileCache.setMaxSmallFileCacheSize(100);
+
+        fileCache.add(request("/a"), file(40));
+        fileCache.add(request("/b"), file(40));
+        assertEquals(80, fileCache.getHeapCacheSize());
+
+        fileCache.add(request("/c"), file(40));
+        assertEquals(80, fileCache.getHeapCacheSize());
+        assertNull(fileCache.get(request("/a")));
+        assertEquals(1, probe.evicted.get());
+
+        // the file exceeds the limit, nothing should be evicted
+        fileCache.add(request("/d"), file(120));
+        assertEquals(80, fileCache.getHeapCacheSize());
+        assertEquals(1, probe.evicted.get());
+    }
+
+    @Test
+    public void testLruEvictsEntryOfSameType() throws Exception {
+        fileCache.setEvictionPolicy(new LruEvictionPolicy());
+        fileCache.setMinEntrySize(100);
+        fileCache.setMaxSmallFileCacheSize(100);
+
+        // the least recently used entry is a mapped one
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/mapped"), file(200)));
+        fileCache.add(request("/a"), file(40));
+        fileCache.add(request("/b"), file(40));
+
+        // the heap is full, only a heap entry may be evicted
+        fileCache.add(request("/c"), file(40));
+        assertEquals(80, fileCache.getHeapCacheSize());
+        assertEquals(1, probe.evicted.get());
+        assertNotNull(fileCache.get(request("/mapped")));
+        assertNull(fileCache.get(request("/a")));
+        assertNotNull(fileCache.get(request("/b")));
+        assertNotNull(fileCache.get(request("/c")));
+    }
+
+    @Test
+    public void testTinyLfuKeepsFrequentEntries() throws Exception {
+        fileCache.setEvictionPolicy(new TinyLfuEvictionPolicy(16, 0));
+        fileCache.setMaxCacheEntries(2);
+
+        fileCache.add(request("/hot1"), file(16));
+        fileCache.add(request("/hot2"), file(16));
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(fileCache.get(request("/hot1")));
+            assertNotNull(fileCache.get(request("/hot2")));
+        }
+
+        // one-time resources are not admitted
+        for (int i = 0; i < 10; i++) {
+            assertNull(fileCache.get(request("/cold" + i)));
+            assertEquals(FileCache.CacheResult.FAILED_CACHE_FULL, fileCache.add(request("/cold" + i), file(16)));
+        }
+
+        // a resource, which becomes popular, is admitted
+        for (int i = 0; i < 10; i++) {
+            assertNull(fileCache.get(request("/warm")));
+        }
+
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/warm"), file(16)));
+        assertEquals(1, probe.evicted.get());
+        assertNotNull(fileCache.get(request("/warm")));
+    }
+
+    private static HttpRequestPacket request(final String uri) {
+        final TestRequestPacket request = new TestRequestPacket();
+        request.setRequestURI(uri);
+        request.setHeader(Header.Host, "localhost");
+        return request;
+    }
+
+    private static File file(final int size) throws IOException {
+        final File file = File.createTempFile("grizzly-file-cache", ".txt");
+        file.deleteOnExit();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[size]);
+        }
+
+        return file;
+    }
+
+    private static final class TestRequestPacket extends HttpRequestPacket {
+        private final ProcessingState processingState = new ProcessingState();
+
+        TestRequestPacket() {
+            setResponse(HttpResponsePacket.builder(this).build());
+        }
+
+        @Override
+        public ProcessingState getProcessingState() {
+            return processingState;
+        }
+    }
+
+    private static final class EvictionProbe extends FileCacheProbe.Adapter {
+        final AtomicInteger evicted = new AtomicInteger();
+
+        @Override
+        public void onEntryEvictedEvent(final FileCache fileCache, final FileCacheEntry entry) {
+            evicted.incrementAndGet();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -28,6 +28,7 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.time.Instant;
@@ -44,6 +45,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
 
 import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.Connection;
@@ -495,6 +497,118 @@ public class FileCacheTest {
         }
     }
 
+    @Test
+    public void testPrecompressedSiblings() throws Exception {
+        final File file = createTempFile();
+        final String pattern = new String(Files.readAllBytes(file.toPath()));
+
+        final File gzFile = new File(file.getPath() + ".gz");
+        gzFile.deleteOnExit();
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(gzFile))) {
+            out.write(pattern.getBytes());
+        }
+
+        final File brFile = new File(file.getPath() + ".br");
+        brFile.deleteOnExit();
+        Files.write(brFile.toPath(), "brotli-bytes".getBytes());
+
+        final StatsCacheProbe probe = new StatsCacheProbe();
+        httpServer.getServerConfiguration().getMonitoringConfig().getFileCacheConfig().addProbes(probe);
+        // the siblings are served, even though the cache doesn't compress on its own
+        httpServer.getListener("grizzly").getFileCache().setPrecompressedFilesEnabled(true);
+
+        startHttpServer(new StaticHttpHandler() {
+
+            @Override
+            public void onMissingResource(final Request req, final Response res) throws Exception {
+                addToFileCache(req, null, file);
+                final NIOWriter writer = res.getNIOWriter();
+                writer.write("Hello not cached data");
+                writer.close();
+            }
+        });
+
+        final ReusableFuture<HttpContent> responseFuture = new ReusableFuture<>();
+        final Connection c = getConnection("localhost", PORT, responseFuture);
+        c.write(HttpRequestPacket.builder().method("GET").uri("/somedata").protocol("HTTP/1.1").header("Host", "localhost").build());
+        assertEquals("Hello not cached data", responseFuture.get(10, TimeUnit.SECONDS).getContent().toStringContent());
+
+        responseFuture.reset();
+        c.write(HttpRequestPacket.builder().method("GET").uri("/somedata").protocol("HTTP/1.1").header("Host", "localhost")
+                .header("Accept-Encoding", "gzip, br").build());
+        final HttpContent brResponse = responseFuture.get(10, TimeUnit.SECONDS);
+        assertEquals(probe.toString(), "br", brResponse.getHttpHeader().getHeader("Content-Encoding"));
+        assertEquals("brotli-bytes", brResponse.getContent().toStringContent());
+        assertEquals("Accept-Encoding", brResponse.getHttpHeader().getHeader("Vary"));
+
+        // the mapped siblings are counted in the cache memory
+        final FileCache fileCache = httpServer.getListener("grizzly").getFileCache();
+        assertEquals(file.length() + gzFile.length() + brFile.length(), fileCache.getHeapCacheSize() + fileCache.getMappedCacheSize());
+
+        responseFuture.reset();
+        c.write(HttpRequestPacket.builder().method("GET").uri("/somedata").protocol("HTTP/1.1").header("Host", "localhost")
+                .header("Accept-Encoding", "gzip, br;q=0").build());
+        final HttpContent gzipResponse = responseFuture.get(10, TimeUnit.SECONDS);
+        assertEquals(probe.toString(), "gzip", gzipResponse.getHttpHeader().getHeader("Content-Encoding"));
+        assertEquals(pattern, gzipResponse.getContent().toStringContent());
+
+        responseFuture.reset();
+        c.write(HttpRequestPacket.builder().method("GET").uri("/somedata").protocol("HTTP/1.1").header("Host", "localhost").build());
+        final HttpContent plainResponse = responseFuture.get(10, TimeUnit.SECONDS);
+        assertNull(plainResponse.getHttpHeader().getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", plainResponse.getHttpHeader().getHeader("Vary"));
+        assertEquals(pattern, plainResponse.getContent().toStringContent());
+    }
+
+    @Test
+    public void testBackgroundCompression() throws Exception {
+        final File file = createTempFile();
+        final String pattern = new String(Files.readAllBytes(file.toPath()));
+
+        final AtomicInteger compressions = new AtomicInteger();
+        final FileCache fileCache = httpServer.getListener("grizzly").getFileCache();
+        fileCache.getCompressionConfig().setCompressionMode(CompressionMode.FORCE);
+        fileCache.setPrecompressedFilesEnabled(true);
+        fileCache.setCompressionExecutor(task -> new Thread(() -> {
+            compressions.incrementAndGet();
+            task.run();
+        }).start());
+
+        startHttpServer(new StaticHttpHandler() {
+
+            @Override
+            public void onMissingResource(final Request req, final Response res) throws Exception {
+                addToFileCache(req, null, file);
+                final NIOWriter writer = res.getNIOWriter();
+                writer.write("Hello not cached data");
+                writer.close();
+            }
+        });
+
+        final ReusableFuture<HttpContent> responseFuture = new ReusableFuture<>();
+        final Connection c = getConnection("localhost", PORT, responseFuture);
+        c.write(HttpRequestPacket.builder().method("GET").uri("/somedata").protocol("HTTP/1.1").header("Host", "localhost").build());
+        assertEquals("Hello not cached data", responseFuture.get(10, TimeUnit.SECONDS).getContent().toStringContent());
+
+        // the file is served uncompressed until the gzip representation is ready
+        String contentEncoding = null;
+        for (int i = 0; i < 100 && contentEncoding == null; i++) {
+            responseFuture.reset();
+            c.write(HttpRequestPacket.builder().method("GET").uri("/somedata").protocol("HTTP/1.1").header("Host", "localhost")
+                    .header("Accept-Encoding", "gzip").build());
+            final HttpContent response = responseFuture.get(10, TimeUnit.SECONDS);
+            assertEquals(pattern, response.getContent().toStringContent());
+            contentEncoding = response.getHttpHeader().getHeader("Content-Encoding");
+            if (contentEncoding == null) {
+                Thread.sleep(50);
+            }
+        }
+
+        assertEquals("gzip", contentEncoding);
+        // the file is compressed once
+        assertEquals(1, compressions.get());
+    }
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @Test
     public void testIfModifiedSince() throws Exception {
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -95,4 +96,137 @@ public class MapperTest {
         assertEquals(wrapper21, md.wrapper);
 
     }
+
+    @Test
+    public void testContextMapping() throws Exception {
+        final Mapper mapper = new Mapper();
+        mapper.setDefaultHostName("localhost");
+
+        final Object root = new Object();
+        final Object ctx = new Object();
+        final Object sub = new Object();
+        mapper.addContext("localhost", "", root, new String[0], null);
+        mapper.addContext("localhost", "/ctx", ctx, new String[0], null);
+        mapper.addContext("localhost", "/ctx/sub", sub, new String[0], null);
+
+        assertEquals(ctx, map(mapper, "/ctx").context);
+        assertEquals(ctx, map(mapper, "/ctx/").context);
+        assertEquals(ctx, map(mapper, "/ctx/subway").context);
+        assertEquals(sub, map(mapper, "/ctx/sub/x").context);
+        assertEquals("/ctx/sub", map(mapper, "/ctx/sub/x").contextPath.toString());
+        assertEquals(root, map(mapper, "/ctxx").context);
+        assertEquals(root, map(mapper, "/").context);
+
+        mapper.removeContext("localhost", "/ctx/sub");
+        assertEquals(ctx, map(mapper, "/ctx/sub/x").context);
+    }
+
+    @Test
+    public void testWrapperMapping() throws Exception {
+        final Mapper mapper = new Mapper();
+        mapper.setDefaultHostName("localhost");
+        mapper.addContext("localhost", "/ctx", new Object(), new String[0], null);
+
+        final Object exact = new Object();
+        final Object a = new Object();
+        final Object ab = new Object();
+        final Object aDashB = new Object();
+        final Object jsp = new Object();
+        final Object def = new Object();
+        mapper.addWrapper("localhost", "/ctx", "/exact", exact);
+        mapper.addWrapper("localhost", "/ctx", "/a/*", a);
+        mapper.addWrapper("localhost", "/ctx", "/a/b/*", ab);
+        mapper.addWrapper("localhost", "/ctx", "/a-b/*", aDashB);
+        mapper.addWrapper("localhost", "/ctx", "*.jsp", jsp);
+        mapper.addWrapper("localhost", "/ctx", "/", def);
+
+        MappingData md = map(mapper, "/ctx/exact");
+        assertEquals(exact, md.wrapper);
+        assertEquals(MappingData.EXACT, md.mappingType);
+        assertEquals("/exact", md.wrapperPath.toString());
+
+        md = map(mapper, "/ctx/a/b/c");
+        assertEquals(ab, md.wrapper);
+        assertEquals("/a/b", md.wrapperPath.toString());
+        assertEquals("/c", md.pathInfo.toString());
+
+        md = map(mapper, "/ctx/a/bc");
+        assertEquals(a, md.wrapper);
+        assertEquals("/a", md.wrapperPath.toString());
+        assertEquals("/bc", md.pathInfo.toString());
+
+        md = map(mapper, "/ctx/a");
+        assertEquals(a, md.wrapper);
+        assertEquals(MappingData.PATH, md.mappingType);
+        assertNull(md.pathInfo.toString());
+
+        assertEquals(aDashB, map(mapper, "/ctx/a-b/x").wrapper);
+
+        md = map(mapper, "/ctx/x/y.jsp");
+        assertEquals(jsp, md.wrapper);
+        assertEquals(MappingData.EXTENSION, md.mappingType);
+
+        // the prefix match wins over the extension match
+        assertEquals(a, map(mapper, "/ctx/a/y.jsp").wrapper);
+
+        md = map(mapper, "/ctx/exact/x");
+        assertEquals(def, md.wrapper);
+        assertEquals(MappingData.DEFAULT, md.mappingType);
+
+        mapper.removeWrapper("localhost", "/ctx", "/a/b/*");
+        assertEquals(a, map(mapper, "/ctx/a/b/c").wrapper);
+        assertEquals("/b/c", map(mapper, "/ctx/a/b/c").pathInfo.toString());
+    }
+
+    @Test
+    public void testMappingCache() throws Exception {
+        final Mapper mapper = new Mapper();
+        mapper.setDefaultHostName("localhost");
+        mapper.setMappingCacheSize(10);
+        assertEquals(16, mapper.getMappingCacheSize());
+
+        mapper.addContext("localhost", "/ctx", new Object(), new String[0], null);
+        final Object a = new Object();
+        mapper.addWrapper("localhost", "/ctx", "/a/*", a);
+
+        // mapped, cached on the second miss, and found in the cache
+        for (int i = 0; i < 3; i++) {
+            final MappingData md = map(mapper, "/ctx/a/b");
+            assertEquals(a, md.wrapper);
+            assertEquals("/ctx", md.contextPath.toString());
+            assertEquals("/a", md.wrapperPath.toString());
+            assertEquals("/b", md.pathInfo.toString());
+            assertEquals(MappingData.PATH, md.mappingType);
+        }
+
+        // the cached mapping is dropped when the mapping changes
+        final Object ab = new Object();
+        mapper.addWrapper("localhost", "/ctx", "/a/b", ab);
+        assertEquals(ab, map(mapper, "/ctx/a/b").wrapper);
+
+        mapper.removeWrapper("localhost", "/ctx", "/a/b");
+        assertEquals(a, map(mapper, "/ctx/a/b").wrapper);
+
+        // the redirect isn't cached
+        for (int i = 0; i < 3; i++) {
+            final MappingData md = map(mapper, "/ctx");
+            assertNull(md.wrapper);
+            assertEquals("/ctx/", md.redirectPath.toString());
+        }
+
+        mapper.setMappingCacheSize(0);
+        assertEquals(0, mapper.getMappingCacheSize());
+        assertEquals(a, map(mapper, "/ctx/a/b").wrapper);
+    }
+
+    private static MappingData map(final Mapper mapper, final String uri) throws Exception {
+        final DataChunk host = DataChunk.newInstance();
+        host.setBytes("localhost".getBytes());
+        final DataChunk uriChunk = DataChunk.newInstance();
+        uriChunk.setBytes(uri.getBytes());
+
+        final MappingData md = new MappingData();
+        mapper.map(host, uriChunk, md);
+        return md;
+    }
 }
@@ -163,6 +163,24 @@ public class ApacheLogFormatTest {
         assertEquals(ApacheLogFormat.AGENT_UTC.unsafeFormat(response, date, nanos), "");
     }
 
+    @Test
+    public void testCapturedFormats() {
+        final String[] formats = { ApacheLogFormat.VHOST_COMBINED_UTC.getFormat(), "%h %{local}h %a %A %p %{remote}p %u %U%q %m %H",
+                "%s %b %B %D %{m}T %{yyyy@UTC}t %{Test-Cookie}C %{Missing}C", "%{multi-request}i|%{multi-response}o|%{content-type}o|%{missing}i" };
+
+        for (Response response : new Response[] { mockSimpleResponse(), mockEmptyResponse() }) {
+            for (String pattern : formats) {
+                final ApacheLogFormat format = new ApacheLogFormat(ZoneId.of("UTC"), pattern);
+                final Object[] values = new Object[format.getCapturedValuesCount()];
+                final long[] numbers = new long[values.length];
+                format.capture(values, numbers, response);
+
+                final String captured = format.formatCaptured(new StringBuilder(), values, numbers, date, nanos).toString();
+                assertEquals(format.unsafeFormat(response, date, nanos), captured);
+            }
+        }
+    }
+
     @Test
     public void testEscapes() {
         final Response response = mockSimpleResponse();
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.accesslog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import org.glassfish.grizzly.http.server.Response;
+import org.glassfish.grizzly.http.server.accesslog.RingBufferAppender.OverflowPolicy;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test {@link RingBufferAppender}.
+ */
+public class RingBufferAppenderTest {
+
+    @Test
+    public void formatsCapturedEntries() throws Exception {
+        final File file = File.createTempFile("access", ".log");
+        file.deleteOnExit();
+
+        final Response response = Mockito.mock(Response.class);
+        Mockito.doReturn(210).when(response).getStatus();
+
+        final ApacheLogFormat format = new ApacheLogFormat(ZoneOffset.UTC, "%s [%{yyyy}t] %D");
+        final RingBufferAppender appender = new RingBufferAppender(file, 4, OverflowPolicy.BLOCK);
+        try {
+            for (int i = 0; i < 100; i++) {
+                appender.append(format, response, 1389829512345L, i * 1000L);
+            }
+            appender.append("last");
+        } finally {
+            appender.close();
+        }
+
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(101, lines.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("210 [2014] " + i, lines.get(i));
+        }
+        assertEquals("last", lines.get(100));
+        assertEquals(0, appender.getDroppedRecordsCount());
+    }
+
+    @Test
+    public void dropsFailedEntries() throws Exception {
+        final File file = File.createTempFile("access", ".log");
+        file.deleteOnExit();
+
+        final Response response = Mockito.mock(Response.class);
+        Mockito.doReturn(210).when(response).getStatus();
+
+        final ApacheLogFormat format = new ApacheLogFormat(ZoneOffset.UTC, "%s") {
+            @Override
+            StringBuilder formatCaptured(StringBuilder builder, Object[] values, long[] numbers, Date timeStamp, long responseNanos) {
+                if (responseNanos % 2 == 0) {
+                    throw new IllegalStateException("format failed");
+                }
+                return super.formatCaptured(builder, values, numbers, timeStamp, responseNanos);
+            }
+        };
+
+        // the writer thread has to survive the failures, or the request thread would block forever
+        final RingBufferAppender appender = new RingBufferAppender(file, 4, OverflowPolicy.BLOCK);
+        try {
+            for (int i = 0; i < 100; i++) {
+                appender.append(format, response, 1389829512345L, i);
+            }
+            appender.append("last");
+        } finally {
+            appender.close();
+        }
+
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(51, lines.size());
+        assertEquals("210", lines.get(0));
+        assertEquals("last", lines.get(50));
+        assertEquals(50, appender.getDroppedRecordsCount());
+    }
+
+    @Test
+    public void dropsWhenFull() throws Exception {
+        final File file = File.createTempFile("access", ".log");
+        file.deleteOnExit();
+
+        final RingBufferAppender appender = new RingBufferAppender(file, 2, OverflowPolicy.DROP);
+        final AccessLogProbe probe = new AccessLogProbe(appender, ApacheLogFormat.COMMON);
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                appender.append("entry " + i);
+            }
+        } finally {
+            appender.close();
+        }
+
+        final long dropped = probe.getDroppedRecordsCount();
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertTrue(dropped > 0);
+        assertEquals(100_000, lines.size() + dropped);
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -39,11 +40,24 @@ public class ServletSessionManager implements SessionManager {
         private static final ServletSessionManager INSTANCE = new ServletSessionManager();
     }
 
-    private final SessionManager defaultManager = DefaultSessionManager.instance();
+    private final SessionManager defaultManager;
 
     private String sessionCookieName = Globals.SESSION_COOKIE_NAME;
 
     private ServletSessionManager() {
+        this(DefaultSessionManager.instance());
+    }
+
+    /**
+     * Creates the Servlet-aware session manager, which keeps the sessions in the given {@link SessionManager}, like
+     * {@link org.glassfish.grizzly.http.server.BucketedSessionManager}.
+     *
+     * @param defaultManager the {@link SessionManager} to keep the sessions in
+     *
+     * @since 5.0.1
+     */
+    public ServletSessionManager(final SessionManager defaultManager) {
+        this.defaultManager = defaultManager;
     }
 
     @Override
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -338,7 +339,18 @@ public final class CompressionConfig {
 
     }
 
-    private static boolean isClientSupportContentEncoding(HttpRequestPacket request, final String[] aliases) {
+    /**
+     * Returns <tt>true</tt> if the {@link HttpRequestPacket} <tt>Accept-Encoding</tt> header lists any of the given
+     * content-coding aliases, which isn't declined with the zero quality value. Unlike
+     * {@link #isClientSupportCompression(CompressionConfig, HttpRequestPacket, String[])}, the compression mode, protocol
+     * version and user-agent are not checked.
+     *
+     * @param request the {@link HttpRequestPacket}
+     * @param aliases the content-coding aliases
+     * @return <tt>true</tt> if the client accepts the content-coding
+     * @since 5.0.1
+     */
+    public static boolean isClientSupportContentEncoding(HttpRequestPacket request, final String[] aliases) {
         // Check if browser support gzip encoding
         final DataChunk acceptEncodingDC = request.getHeaders().getValue(Header.AcceptEncoding);
         if (acceptEncodingDC == null) {
@@ -361,11 +373,12 @@ public final class CompressionConfig {
         assert alias != null;
 
         // we only care about q=0/q=0.0. If present, the user-agent
-        // doesn't support this particular compression.
+        // doesn't support this particular compression. The parameters of the
+        // codings, which follow the comma, don't count.
+        final int commaIdx = acceptEncodingDC.indexOf(',', idx + alias.length());
         int qvalueStart = acceptEncodingDC.indexOf(';', idx + alias.length());
-        if (qvalueStart != -1) {
+        if (qvalueStart != -1 && (commaIdx == -1 || qvalueStart < commaIdx)) {
             qvalueStart = acceptEncodingDC.indexOf('=', qvalueStart);
-            final int commaIdx = acceptEncodingDC.indexOf(',', qvalueStart);
             final int qvalueEnd = commaIdx != -1 ? commaIdx : acceptEncodingDC.getLength();
             if (HttpUtils.convertQValueToFloat(acceptEncodingDC, qvalueStart + 1, qvalueEnd) == 0.0f) {
                 return false;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,6 +45,7 @@ import org.glassfish.grizzly.http.util.CookieHeaderParser;
 import org.glassfish.grizzly.http.util.DataChunk;
 import org.glassfish.grizzly.http.util.Header;
 import org.glassfish.grizzly.http.util.MimeHeaders;
+import org.glassfish.grizzly.http.util.SwarScanner;
 import org.glassfish.grizzly.memory.Buffers;
 import org.glassfish.grizzly.memory.CompositeBuffer;
 import org.glassfish.grizzly.memory.CompositeBuffer.DisposeOrder;
@@ -140,6 +141,13 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
 
     protected boolean preserveHeaderCase;
 
+    public static final String SWAR_HEADER_SCANNING = "org.glassfish.grizzly.http.SWAR_HEADER_SCANNING";
+
+    /**
+     * @see #setSwarHeaderScanning(boolean)
+     */
+    protected boolean swarHeaderScanning;
+
     /**
      * Method is responsible for parsing initial line of HTTP message (different for {@link HttpRequestPacket} and
      * {@link HttpResponsePacket}).
@@ -323,6 +331,7 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         this.strictHeaderValueValidation =
                 Boolean.parseBoolean(properties.getProperty(STRICT_HEADER_VALUE_VALIDATION_RFC_9110, "false"));
         this.preserveHeaderCase = Boolean.parseBoolean(properties.getProperty(PRESERVE_HEADER_CASE, "false"));
+        this.swarHeaderScanning = Boolean.parseBoolean(properties.getProperty(SWAR_HEADER_SCANNING, "true"));
         transferEncodings.addAll(new FixedLengthTransferEncoding(), new ChunkedTransferEncoding(maxHeadersSize, props));
     }
 
@@ -366,6 +375,27 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         this.preserveHeaderCase = preserveHeaderCase;
     }
 
+    /**
+     * @return <code>true</code> if the plain bytes of the HTTP header are scanned a word at a time, otherwise
+     * <code>false</code>. Default is <code>true</code>.
+     * @since 5.0.1
+     */
+    public boolean isSwarHeaderScanning() {
+        return swarHeaderScanning;
+    }
+
+    /**
+     * Set to <code>true</code> to scan the plain bytes of the request URI, header names and values eight bytes at a time
+     * (see {@link SwarScanner}), or <code>false</code> to scan them byte by byte. The parsing result is the same in both
+     * modes. Default is <code>true</code>.
+     *
+     * @param swarHeaderScanning <code>true</code> to enable the word at a time scanning.
+     * @since 5.0.1
+     */
+    public void setSwarHeaderScanning(boolean swarHeaderScanning) {
+        this.swarHeaderScanning = swarHeaderScanning;
+    }
+
     /**
      * <p>
      * Gets registered {@link TransferEncoding}s.
@@ -800,13 +830,25 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         final int start = arrayOffs + parsingState.start;
         int offset = arrayOffs + parsingState.offset;
 
+        // the strict validation checks every byte against the token table
+        final boolean swar = swarHeaderScanning && !strictHeaderNameValidation;
+
         while (offset < limit) {
+            if (swar) {
+                offset = preserveHeaderCase ? SwarScanner.skipVisible(input, offset, limit, Constants.COLON)
+                        : SwarScanner.skipHeaderNameToLowerCase(input, offset, limit);
+                if (offset == limit) {
+                    break;
+                }
+            }
+
             byte b = input[offset];
             if (b == Constants.COLON) {
 
-                parsingState.headerValueStorage = mimeHeaders.addValue(input, start, offset - start);
+                final Header header = Header.find(input, start, offset);
+                parsingState.headerValueStorage = mimeHeaders.addValue(input, start, offset - start, header);
                 parsingState.offset = offset + 1 - arrayOffs;
-                finalizeKnownHeaderNames(httpHeader, parsingState, input, start, offset);
+                finalizeKnownHeaderNames(httpHeader, parsingState, header);
 
                 return 0;
             } else if (b >= Constants.A && b <= Constants.Z) {
@@ -845,8 +887,21 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         int offset = arrayOffs + parsingState.offset;
 
         final boolean hasShift = offset != arrayOffs + parsingState.checkpoint;
+        final boolean swar = swarHeaderScanning && !hasShift;
 
         while (offset < limit) {
+            if (swar) {
+                final int visibleEnd = SwarScanner.skipVisible(input, offset, limit);
+                if (visibleEnd != offset) {
+                    parsingState.checkpoint += visibleEnd - offset;
+                    parsingState.checkpoint2 = parsingState.checkpoint;
+                    offset = visibleEnd;
+                    if (offset == limit) {
+                        break;
+                    }
+                }
+            }
+
             final byte b = input[offset];
             if (b == Constants.CR) {
                 if (strictHeaderValueValidation) {
@@ -909,26 +964,26 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         return -1;
     }
 
-    private static void finalizeKnownHeaderNames(final HttpHeader httpHeader, final HeaderParsingState parsingState, final byte[] input, final int start,
-            final int end) {
+    private static void finalizeKnownHeaderNames(final HttpHeader httpHeader, final HeaderParsingState parsingState, final Header header) {
+        if (header == null) {
+            return;
+        }
 
-        final int size = end - start;
-        if (size == Header.ContentLength.getLowerCaseBytes().length) {
-            if (ByteChunk.equalsIgnoreCaseLowerCase(input, start, end, Header.ContentLength.getLowerCaseBytes())) {
-                parsingState.isContentLengthHeader = true;
-            }
-        } else if (size == Header.TransferEncoding.getLowerCaseBytes().length) {
-            if (ByteChunk.equalsIgnoreCaseLowerCase(input, start, end, Header.TransferEncoding.getLowerCaseBytes())) {
-                parsingState.isTransferEncodingHeader = true;
-            }
-        } else if (size == Header.Upgrade.getLowerCaseBytes().length) {
-            if (ByteChunk.equalsIgnoreCaseLowerCase(input, start, end, Header.Upgrade.getLowerCaseBytes())) {
-                parsingState.isUpgradeHeader = true;
-            }
-        } else if (size == Header.Expect.getLowerCaseBytes().length) {
-            if (ByteChunk.equalsIgnoreCaseLowerCase(input, start, end, Header.Expect.getLowerCaseBytes())) {
-                ((HttpRequestPacket) httpHeader).requiresAcknowledgement(true);
-            }
+        switch (header) {
+        case ContentLength:
+            parsingState.isContentLengthHeader = true;
+            break;
+        case TransferEncoding:
+            parsingState.isTransferEncodingHeader = true;
+            break;
+        case Upgrade:
+            parsingState.isUpgradeHeader = true;
+            break;
+        case Expect:
+            ((HttpRequestPacket) httpHeader).requiresAcknowledgement(true);
+            break;
+        default:
+            break;
         }
     }
 
@@ -1097,9 +1152,10 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
             byte b = input.get(offset);
             if (b == Constants.COLON) {
 
-                parsingState.headerValueStorage = mimeHeaders.addValue(input, start, offset - start);
+                final Header header = Header.find(input, start, offset);
+                parsingState.headerValueStorage = mimeHeaders.addValue(input, start, offset - start, header);
                 parsingState.offset = offset + 1;
-                finalizeKnownHeaderNames(httpHeader, parsingState, input, start, offset);
+                finalizeKnownHeaderNames(httpHeader, parsingState, header);
 
                 return 0;
             } else if (b >= Constants.A && b <= Constants.Z) {
@@ -1137,8 +1193,22 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         int offset = parsingState.offset;
 
         final boolean hasShift = offset != parsingState.checkpoint;
+        // the composite buffer words may span the buffer components
+        final boolean swar = swarHeaderScanning && !hasShift && !input.isComposite();
 
         while (offset < limit) {
+            if (swar) {
+                final int visibleEnd = SwarScanner.skipVisible(input, offset, limit);
+                if (visibleEnd != offset) {
+                    parsingState.checkpoint += visibleEnd - offset;
+                    parsingState.checkpoint2 = parsingState.checkpoint;
+                    offset = visibleEnd;
+                    if (offset == limit) {
+                        break;
+                    }
+                }
+            }
+
             final byte b = input.get(offset);
             if (b == Constants.CR) {
                 if (strictHeaderValueValidation) {
@@ -1200,29 +1270,6 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         return -1;
     }
 
-    private static void finalizeKnownHeaderNames(final HttpHeader httpHeader, final HeaderParsingState parsingState, final Buffer input, final int start,
-            final int end) {
-
-        final int size = end - start;
-        if (size == Header.ContentLength.getLowerCaseBytes().length) {
-            if (BufferChunk.equalsIgnoreCaseLowerCase(input, start, end, Header.ContentLength.getLowerCaseBytes())) {
-                parsingState.isContentLengthHeader = true;
-            }
-        } else if (size == Header.TransferEncoding.getLowerCaseBytes().length) {
-            if (BufferChunk.equalsIgnoreCaseLowerCase(input, start, end, Header.TransferEncoding.getLowerCaseBytes())) {
-                parsingState.isTransferEncodingHeader = true;
-            }
-        } else if (size == Header.Upgrade.getLowerCaseBytes().length) {
-            if (BufferChunk.equalsIgnoreCaseLowerCase(input, start, end, Header.Upgrade.getLowerCaseBytes())) {
-                parsingState.isUpgradeHeader = true;
-            }
-        } else if (size == Header.Expect.getLowerCaseBytes().length) {
-            if (BufferChunk.equalsIgnoreCaseLowerCase(input, start, end, Header.Expect.getLowerCaseBytes())) {
-                ((HttpRequestPacket) httpHeader).requiresAcknowledgement(true);
-            }
-        }
-    }
-
     private static void finalizeKnownHeaderValues(final HttpHeader httpHeader, final HeaderParsingState parsingState, final Buffer input, final int start,
             final int end) {
 
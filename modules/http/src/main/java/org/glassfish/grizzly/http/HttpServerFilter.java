@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,6 +44,7 @@ import org.glassfish.grizzly.http.util.HttpDateFormat;
 import org.glassfish.grizzly.http.util.HttpStatus;
 import org.glassfish.grizzly.http.util.HttpUtils;
 import org.glassfish.grizzly.http.util.MimeHeaders;
+import org.glassfish.grizzly.http.util.SwarScanner;
 import org.glassfish.grizzly.memory.MemoryManager;
 import org.glassfish.grizzly.utils.DelayedExecutor;
 
@@ -337,7 +338,7 @@ public class HttpServerFilter extends HttpCodecFilter {
             }
 
             case 2: { // parse the requestURI
-                if (!parseRequestURI(httpRequest, parsingState, input, end)) {
+                if (!parseRequestURI(httpRequest, parsingState, input, end, swarHeaderScanning)) {
                     return false;
                 }
             }
@@ -379,7 +380,8 @@ public class HttpServerFilter extends HttpCodecFilter {
         }
     }
 
-    private static boolean parseRequestURI(final ServerHttpRequestImpl httpRequest, final HeaderParsingState state, final byte[] input, final int end) {
+    private static boolean parseRequestURI(final ServerHttpRequestImpl httpRequest, final HeaderParsingState state, final byte[] input, final int end,
+            final boolean swar) {
 
         final int arrayOffs = state.arrayOffset;
         final int limit = Math.min(end, arrayOffs + state.packetLimit);
@@ -389,6 +391,14 @@ public class HttpServerFilter extends HttpCodecFilter {
         boolean found = false;
 
         while (offset < limit) {
+            if (swar) {
+                offset = state.checkpoint == -1 ? SwarScanner.skipVisible(input, offset, limit, Constants.QUESTION)
+                        : SwarScanner.skipVisible(input, offset, limit);
+                if (offset == limit) {
+                    break;
+                }
+            }
+
             final byte b = input[offset];
             if (b == Constants.SP || b == Constants.HT) {
                 found = true;
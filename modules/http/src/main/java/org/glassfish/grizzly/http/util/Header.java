@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,9 +18,8 @@
 package org.glassfish.grizzly.http.util;
 
 import java.util.Locale;
-import java.util.Map;
-import java.util.TreeMap;
 
+import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.utils.Charsets;
 
 /**
@@ -43,11 +43,52 @@ public enum Header {
 
     // ----------------------------------------------------------------- Statics
 
-    private static final Map<String, Header> VALUES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    /**
+     * The perfect hash table of the headers. The hash key is built from the name length and its first, middle and last
+     * characters (case insensitive), the table index is the top bits of the key multiplied by {@link #HASH_MULTIPLIER},
+     * which is chosen at the class initialization to have no collisions.
+     */
+    private static final Header[] HASH_TABLE;
+    private static final int HASH_SHIFT;
+    private static final int HASH_MULTIPLIER;
+
     static {
-        for (final Header h : Header.values()) {
-            VALUES.put(h.toString(), h);
+        final Header[] headers = Header.values();
+        final int[] keys = new int[headers.length];
+        for (int i = 0; i < headers.length; i++) {
+            final byte[] name = headers[i].headerNameBytes;
+            keys[i] = hashKey(name.length, name[0], name[name.length >> 1], name[name.length - 1]);
+        }
+
+        // the load factor under 1/8 lets the search find the multiplier in a few attempts
+        int bits = 32 - Integer.numberOfLeadingZeros(headers.length - 1) + 3;
+        int multiplier = 0x9E3779B1;
+        Header[] table;
+        for (int attempt = 1;; attempt++) {
+            table = new Header[1 << bits];
+            boolean collision = false;
+            for (int i = 0; i < headers.length && !collision; i++) {
+                final int idx = keys[i] * multiplier >>> 32 - bits;
+                collision = table[idx] != null;
+                table[idx] = headers[i];
+            }
+
+            if (!collision) {
+                break;
+            }
+
+            multiplier += 2;
+            if (attempt % 1000 == 0) {
+                // too dense, grow the table
+                if (++bits > 16) {
+                    throw new IllegalStateException("Header names are not distinguishable by the hash key");
+                }
+            }
         }
+
+        HASH_TABLE = table;
+        HASH_SHIFT = 32 - bits;
+        HASH_MULTIPLIER = multiplier;
     }
 
     // --------------------------------------------------------- Per Enum Fields
@@ -155,8 +196,92 @@ public enum Header {
         if (name == null || name.isEmpty()) {
             return null;
         }
-        return VALUES.get(name);
 
+        final int length = name.length();
+        final Header header = HASH_TABLE[hashIdx(length, name.charAt(0), name.charAt(length >> 1), name.charAt(length - 1))];
+        return header != null && header.headerName.equalsIgnoreCase(name) ? header : null;
+    }
+
+    /**
+     * <p>
+     * Attempts to find a HTTP header by its name bytes. Note that this search is case insensitive.
+     * </p>
+     *
+     * @param bytes the byte array, which contains the name of the <code>Header</code>
+     * @param start the name start offset (inclusive)
+     * @param end the name end offset (exclusive)
+     *
+     * @return the <code>Header</code> for the specified name, or <code>null</code> if no <code>Header</code> matches.
+     * @since 5.0.1
+     */
+    public static Header find(final byte[] bytes, final int start, final int end) {
+        final int length = end - start;
+        if (length <= 0) {
+            return null;
+        }
+
+        final Header header = HASH_TABLE[hashIdx(length, bytes[start], bytes[start + (length >> 1)], bytes[end - 1])];
+        return header != null && ByteChunk.equalsIgnoreCaseLowerCase(bytes, start, end, header.headerNameLowerCaseBytes) ? header : null;
+    }
+
+    /**
+     * <p>
+     * Attempts to find a HTTP header by its name bytes. Note that this search is case insensitive.
+     * </p>
+     *
+     * @param buffer the {@link Buffer}, which contains the name of the <code>Header</code>
+     * @param start the name start position (inclusive)
+     * @param end the name end position (exclusive)
+     *
+     * @return the <code>Header</code> for the specified name, or <code>null</code> if no <code>Header</code> matches.
+     * @since 5.0.1
+     */
+    public static Header find(final Buffer buffer, final int start, final int end) {
+        final int length = end - start;
+        if (length <= 0) {
+            return null;
+        }
+
+        final Header header = HASH_TABLE[hashIdx(length, buffer.get(start), buffer.get(start + (length >> 1)), buffer.get(end - 1))];
+        return header != null && BufferChunk.equalsIgnoreCaseLowerCase(buffer, start, end, header.headerNameLowerCaseBytes) ? header : null;
+    }
+
+    /**
+     * <p>
+     * Attempts to find a HTTP header by the {@link DataChunk} content. Note that this search is case insensitive.
+     * </p>
+     *
+     * @param name the {@link DataChunk}, which contains the name of the <code>Header</code>
+     *
+     * @return the <code>Header</code> for the specified name, or <code>null</code> if no <code>Header</code> matches.
+     * @since 5.0.1
+     */
+    public static Header find(final DataChunk name) {
+        switch (name.getType()) {
+        case Bytes: {
+            final ByteChunk bc = name.getByteChunk();
+            return find(bc.getBuffer(), bc.getStart(), bc.getEnd());
+        }
+        case Buffer: {
+            final BufferChunk bc = name.getBufferChunk();
+            return find(bc.getBuffer(), bc.getStart(), bc.getEnd());
+        }
+        case None:
+            return null;
+        default:
+            return find(name.toString());
+        }
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private static int hashIdx(final int length, final int first, final int middle, final int last) {
+        return hashKey(length, first, middle, last) * HASH_MULTIPLIER >>> HASH_SHIFT;
+    }
+
+    private static int hashKey(final int length, final int first, final int middle, final int last) {
+        // 0x20 makes the ASCII letters lower case, the other characters only have to hash consistently
+        return length ^ ((first | 0x20) & 0xFF) << 8 ^ ((middle | 0x20) & 0xFF) << 16 ^ ((last | 0x20) & 0xFF) << 24;
     }
 
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -119,6 +120,11 @@ public class MimeHeaders {
 
     private int maxNumHeaders = MAX_NUM_HEADERS_DEFAULT;
 
+    /**
+     * The index + 1 of the first field for every known {@link Header} ordinal, <tt>0</tt> if there is no such field.
+     */
+    private final int[] knownHeaderIdx = new int[Header.values().length];
+
     /**
      * The header names {@link Iterable}.
      */
@@ -156,7 +162,11 @@ public class MimeHeaders {
      */
     public void clear() {
         for (int i = 0; i < count; i++) {
-            headers[i].recycle();
+            final MimeHeaderField field = headers[i];
+            if (field.header != null) {
+                knownHeaderIdx[field.header.ordinal()] = 0;
+            }
+            field.recycle();
         }
         count = 0;
         mark = 0;
@@ -208,6 +218,7 @@ public class MimeHeaders {
             } else {
                 f.nameB.set(sourceField.nameB);
             }
+            f.header = sourceField.header;
             if (sourceField.valueB.type == DataChunk.Type.Buffer) {
                 copyBufferChunk(sourceField.valueB, f.valueB);
             } else {
@@ -215,6 +226,7 @@ public class MimeHeaders {
             }
         }
 
+        updateKnownHeaderIdx();
     }
 
     private static void copyBufferChunk(DataChunk source, DataChunk dest) {
@@ -246,7 +258,7 @@ public class MimeHeaders {
 
     /**
      * Returns the Nth header name, or null if there is no such header. This may be used to iterate through all header
-     * fields.
+     * fields. The name must not be modified, the known {@link Header} is resolved once, when the field is added.
      */
     public DataChunk getName(int n) {
         return n >= 0 && n < count ? headers[n].getName() : null;
@@ -295,10 +307,27 @@ public class MimeHeaders {
         return value;
     }
 
+    /**
+     * Returns the known {@link Header} the Nth header name matches, or null if there is no such header or its name is
+     * not a known {@link Header}.
+     *
+     * @param n the header index
+     * @return the known {@link Header}
+     * @since 5.0.1
+     */
+    public Header getKnownHeader(int n) {
+        return n >= 0 && n < count ? headers[n].header : null;
+    }
+
     /**
      * Find the index of a header with the given name.
      */
     public int indexOf(String name, int fromIndex) {
+        final Header header = Header.find(name);
+        if (header != null) {
+            return indexOf(header, fromIndex);
+        }
+
         // We can use a hash - but it's not clear how much
         // benefit you can get - there is an overhead
         // and the number of headers is small (4-5 ?)
@@ -318,16 +347,13 @@ public class MimeHeaders {
      * Find the index of a header with the given name.
      */
     public int indexOf(final Header header, final int fromIndex) {
-        // We can use a hash - but it's not clear how much
-        // benefit you can get - there is an overhead
-        // and the number of headers is small (4-5 ?)
-        // Another problem is that we'll pay the overhead
-        // of constructing the hashtable
+        final int firstIdx = knownHeaderIdx[header.ordinal()] - 1;
+        if (firstIdx < 0 || fromIndex <= firstIdx) {
+            return firstIdx;
+        }
 
-        // A custom search tree may be better
-        final byte[] bytes = header.getLowerCaseBytes();
         for (int i = fromIndex; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCaseLowerCase(bytes)) {
+            if (headers[i].header == header) {
                 return i;
             }
         }
@@ -418,6 +444,22 @@ public class MimeHeaders {
         return mh;
     }
 
+    /**
+     * Adds a partially constructed field with the resolved known {@link Header}.
+     */
+    private MimeHeaderField createHeader(final Header header) {
+        final MimeHeaderField mh = createHeader();
+        if (header != null) {
+            mh.header = header;
+            final int ordinal = header.ordinal();
+            if (knownHeaderIdx[ordinal] == 0) {
+                knownHeaderIdx[ordinal] = count;
+            }
+        }
+
+        return mh;
+    }
+
     /**
      * Create a new named header , return the MessageBytes container for the new value
      */
@@ -425,7 +467,7 @@ public class MimeHeaders {
         if (!isValidName(name)) {
             return NOOP_CHUNK;
         }
-        MimeHeaderField mh = createHeader();
+        MimeHeaderField mh = createHeader(Header.find(name));
         mh.getName().setString(name);
         return mh.getValue();
     }
@@ -437,7 +479,7 @@ public class MimeHeaders {
         if (!isValidName(header)) {
             return NOOP_CHUNK;
         }
-        MimeHeaderField mh = createHeader();
+        MimeHeaderField mh = createHeader(header);
         mh.getName().setBytes(header.toByteArray());
         return mh.getValue();
     }
@@ -446,10 +488,25 @@ public class MimeHeaders {
      * Create a new named header using un-translated byte[]. The conversion to chars can be delayed until encoding is known.
      */
     public DataChunk addValue(final byte[] buffer, final int startN, final int len) {
+        return addValue(buffer, startN, len, Header.find(buffer, startN, startN + len));
+    }
+
+    /**
+     * Create a new named header using un-translated byte[]. The conversion to chars can be delayed until encoding is known.
+     *
+     * @param buffer the byte array, which contains the header name
+     * @param startN the name start offset
+     * @param len the name length
+     * @param header the known {@link Header} the name matches (see {@link Header#find(byte[], int, int)}), or null if the
+     * name is not a known {@link Header}
+     * @return the {@link DataChunk} container for the new value
+     * @since 5.0.1
+     */
+    public DataChunk addValue(final byte[] buffer, final int startN, final int len, final Header header) {
         if (!isValidName(buffer)) {
             return NOOP_CHUNK;
         }
-        MimeHeaderField mhf = createHeader();
+        MimeHeaderField mhf = createHeader(header);
         mhf.getName().setBytes(buffer, startN, startN + len);
         return mhf.getValue();
     }
@@ -458,10 +515,25 @@ public class MimeHeaders {
      * Create a new named header using un-translated Buffer. The conversion to chars can be delayed until encoding is known.
      */
     public DataChunk addValue(final Buffer buffer, final int startN, final int len) {
+        return addValue(buffer, startN, len, Header.find(buffer, startN, startN + len));
+    }
+
+    /**
+     * Create a new named header using un-translated Buffer. The conversion to chars can be delayed until encoding is known.
+     *
+     * @param buffer the {@link Buffer}, which contains the header name
+     * @param startN the name start position
+     * @param len the name length
+     * @param header the known {@link Header} the name matches (see {@link Header#find(Buffer, int, int)}), or null if the
+     * name is not a known {@link Header}
+     * @return the {@link DataChunk} container for the new value
+     * @since 5.0.1
+     */
+    public DataChunk addValue(final Buffer buffer, final int startN, final int len, final Header header) {
         if (!isValidName(buffer)) {
             return NOOP_CHUNK;
         }
-        MimeHeaderField mhf = createHeader();
+        MimeHeaderField mhf = createHeader(header);
         mhf.getName().setBuffer(buffer, startN, startN + len);
         return mhf.getValue();
     }
@@ -473,6 +545,19 @@ public class MimeHeaders {
         if (!isValidName(name)) {
             return NOOP_CHUNK;
         }
+
+        final Header header = Header.find(name);
+        if (header != null) {
+            final DataChunk value = setExistingValue(header);
+            if (value != null) {
+                return value;
+            }
+
+            MimeHeaderField mh = createHeader(header);
+            mh.getName().setString(name);
+            return mh.getValue();
+        }
+
         for (int i = 0; i < count; i++) {
             if (headers[i].getName().equalsIgnoreCase(name)) {
                 for (int j = i + 1; j < count; j++) {
@@ -495,29 +580,48 @@ public class MimeHeaders {
         if (!isValidName(header)) {
             return NOOP_CHUNK;
         }
-        final byte[] bytes = header.getLowerCaseBytes();
-        for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCaseLowerCase(bytes)) {
-                for (int j = i + 1; j < count; j++) {
-                    if (headers[j].getName().equalsIgnoreCaseLowerCase(bytes)) {
-                        removeHeader(j--);
-                    }
-                }
-                return headers[i].getValue();
-            }
+
+        final DataChunk value = setExistingValue(header);
+        if (value != null) {
+            return value;
         }
-        MimeHeaderField mh = createHeader();
+
+        MimeHeaderField mh = createHeader(header);
         mh.getName().setBytes(header.toByteArray());
 
         return mh.getValue();
     }
 
+    /**
+     * Removes all the header fields except the first one, and returns its value container, or null if there is no such
+     * header.
+     */
+    private DataChunk setExistingValue(final Header header) {
+        final int idx = indexOf(header, 0);
+        if (idx < 0) {
+            return null;
+        }
+
+        for (int j = idx + 1; j < count; j++) {
+            if (headers[j].header == header) {
+                removeHeader(j--);
+            }
+        }
+
+        return headers[idx].getValue();
+    }
+
     // -------------------- Getting headers --------------------
     /**
      * Finds and returns a header field with the given name. If no such field exists, null is returned. If more than one
      * such field is in the header, an arbitrary one is returned.
      */
     public DataChunk getValue(String name) {
+        final Header header = Header.find(name);
+        if (header != null) {
+            return getValue(header);
+        }
+
         for (int i = 0; i < count; i++) {
             if (headers[i].getName().equalsIgnoreCase(name)) {
                 return headers[i].getValue();
@@ -531,13 +635,8 @@ public class MimeHeaders {
      * such field is in the header, an arbitrary one is returned.
      */
     public DataChunk getValue(final Header header) {
-        final byte[] bytes = header.getLowerCaseBytes();
-        for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCaseLowerCase(bytes)) {
-                return headers[i].getValue();
-            }
-        }
-        return null;
+        final int idx = knownHeaderIdx[header.ordinal()] - 1;
+        return idx >= 0 ? headers[idx].getValue() : null;
     }
 
     // bad shortcut - it'll convert to string ( too early probably,
@@ -572,7 +671,7 @@ public class MimeHeaders {
     public void removeHeader(final Header header) {
 
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCase(header.getBytes())) {
+            if (headers[i].header == header) {
                 removeHeader(i--);
             }
         }
@@ -617,7 +716,7 @@ public class MimeHeaders {
      */
     public void removeHeaderMatches(final Header header, final String regex) {
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCaseLowerCase(header.getLowerCaseBytes()) && getValue(i) != null && getValue(i).toString() != null
+            if (headers[i].header == header && getValue(i) != null && getValue(i).toString() != null
                     && getValue(i).toString().matches(regex)) {
                 removeHeader(i--);
             }
@@ -632,10 +731,28 @@ public class MimeHeaders {
     void removeHeader(int idx) {
         MimeHeaderField mh = headers[idx];
 
+        final boolean isKnownHeader = mh.header != null;
         mh.recycle();
         headers[idx] = headers[count - 1];
         headers[count - 1] = mh;
         count--;
+
+        if (isKnownHeader || idx < count && headers[idx].header != null) {
+            updateKnownHeaderIdx();
+        }
+    }
+
+    /**
+     * Rebuilds the known header index after the fields were moved.
+     */
+    private void updateKnownHeaderIdx() {
+        Arrays.fill(knownHeaderIdx, 0);
+        for (int i = count - 1; i >= 0; i--) {
+            final Header header = headers[i].header;
+            if (header != null) {
+                knownHeaderIdx[header.ordinal()] = i + 1;
+            }
+        }
     }
 
     // ----------------------------------------------------- Max Header Handling
@@ -802,6 +919,9 @@ final class MimeHeaderField {
     protected final DataChunk nameB = DataChunk.newInstance();
     protected final DataChunk valueB = DataChunk.newInstance();
 
+    // the known header the name matches
+    Header header;
+
     private boolean isSerialized;
 
     /**
@@ -812,6 +932,7 @@ final class MimeHeaderField {
 
     public void recycle() {
         isSerialized = false;
+        header = null;
         nameB.recycle();
         valueB.recycle();
     }
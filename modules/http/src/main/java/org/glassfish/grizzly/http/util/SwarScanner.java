@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import org.glassfish.grizzly.Buffer;
+
+/**
+ * SIMD within a register (SWAR) helpers, which let the HTTP codec skip over the plain bytes of the request line and
+ * headers eight bytes at a time.
+ * <p>
+ * A "visible" byte is a printable US-ASCII character, <tt>0x21..0x7E</tt>, i.e. not a space, tab, CR, LF, other
+ * control character, DEL or a non-ASCII byte. The skip methods look only at the complete 8-byte words before the limit
+ * and return the index of the first byte, which needs the byte-by-byte processing, so the callers continue with their
+ * regular state machine from that index.
+ */
+public final class SwarScanner {
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long LOWS = ~HIGHS;
+
+    private SwarScanner() {
+    }
+
+    /**
+     * Skips the visible bytes.
+     *
+     * @param input the byte array
+     * @param offset the offset to start from
+     * @param limit the limit (exclusive)
+     * @return the index of the first byte, which is not visible or which couldn't be checked as a part of a complete word
+     */
+    public static int skipVisible(final byte[] input, int offset, final int limit) {
+        while (offset + Long.BYTES <= limit) {
+            final long mask = nonVisible((long) LONG_LE.get(input, offset));
+            if (mask != 0) {
+                return offset + firstByte(mask);
+            }
+
+            offset += Long.BYTES;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Skips the visible bytes, except the given one.
+     *
+     * @param input the byte array
+     * @param offset the offset to start from
+     * @param limit the limit (exclusive)
+     * @param stop the visible byte to stop on
+     * @return the index of the first byte, which is not visible, or is equal to <tt>stop</tt>, or which couldn't be
+     * checked as a part of a complete word
+     */
+    public static int skipVisible(final byte[] input, int offset, final int limit, final byte stop) {
+        final long pattern = ONES * (stop & 0xFF);
+        while (offset + Long.BYTES <= limit) {
+            final long word = (long) LONG_LE.get(input, offset);
+            final long mask = nonVisible(word) | zeroBytes(word ^ pattern);
+            if (mask != 0) {
+                return offset + firstByte(mask);
+            }
+
+            offset += Long.BYTES;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Skips the visible bytes of the {@link Buffer}.
+     *
+     * @param input the {@link Buffer}
+     * @param offset the offset to start from
+     * @param limit the limit (exclusive)
+     * @return the index of the first byte, which is not visible or which couldn't be checked as a part of a complete word
+     */
+    public static int skipVisible(final Buffer input, int offset, final int limit) {
+        final boolean bigEndian = input.order() == ByteOrder.BIG_ENDIAN;
+        while (offset + Long.BYTES <= limit) {
+            final long word = input.getLong(offset);
+            final long mask = nonVisible(bigEndian ? Long.reverseBytes(word) : word);
+            if (mask != 0) {
+                return offset + firstByte(mask);
+            }
+
+            offset += Long.BYTES;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Skips the visible bytes of the header name up to the colon, converting the upper case letters to lower case in
+     * place.
+     *
+     * @param input the byte array
+     * @param offset the offset to start from
+     * @param limit the limit (exclusive)
+     * @return the index of the first byte, which is not visible, or is a colon, or which couldn't be checked as a part of a
+     * complete word
+     */
+    public static int skipHeaderNameToLowerCase(final byte[] input, int offset, final int limit) {
+        final long colons = ONES * Constants.COLON;
+        while (offset + Long.BYTES <= limit) {
+            final long word = (long) LONG_LE.get(input, offset);
+            final long mask = nonVisible(word) | zeroBytes(word ^ colons);
+            if (mask != 0) {
+                return offset + firstByte(mask);
+            }
+
+            final long upperCase = upperCase(word);
+            if (upperCase != 0) {
+                // 0x80 >>> 2 == 0x20, which is the lower case bit
+                LONG_LE.set(input, offset, word | upperCase >>> 2);
+            }
+
+            offset += Long.BYTES;
+        }
+
+        return offset;
+    }
+
+    // ------------------------------------------------------- Private Methods
+
+    /**
+     * @return the high bit set for every byte, which is not in the <tt>0x21..0x7E</tt> range
+     */
+    private static long nonVisible(final long word) {
+        final long low7 = word & LOWS;
+        // the high bit of (low7 + 0x5F) is set if low7 >= 0x21, the high bit of (low7 + 0x01) is set if low7 == 0x7F
+        return (word | ~(low7 + ONES * 0x5F) | low7 + ONES) & HIGHS;
+    }
+
+    /**
+     * @return the high bit set for every zero byte
+     */
+    private static long zeroBytes(final long word) {
+        return ~((word & LOWS) + LOWS | word) & HIGHS;
+    }
+
+    /**
+     * @return the high bit set for every <tt>A..Z</tt> byte, the word is expected to have only US-ASCII bytes
+     */
+    private static long upperCase(final long word) {
+        // the high bit of (word + 0x3F) is set if word >= 0x41, the high bit of (word + 0x25) is set if word >= 0x5B
+        return (word + ONES * 0x3F & ~(word + ONES * 0x25)) & HIGHS;
+    }
+
+    private static int firstByte(final long mask) {
+        return Long.numberOfTrailingZeros(mask) >>> 3;
+    }
+}
@@ -141,6 +141,21 @@ public class HttpRequestParseTest {
         doHttpRequestTest("POST", "/index.html", "HTTP/1.1", headers, "\r\n", true);
     }
 
+    @Test
+    public void testLongBrowserHeaders() throws Exception {
+        // long header names and values are scanned a word at a time
+        Map<String, Pair<String, String>> headers = new HashMap<>();
+        headers.put("Host", new Pair<>("www.example.com", "www.example.com"));
+        headers.put("User-Agent", new Pair<>("Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 Firefox/128.0",
+                "Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 Firefox/128.0"));
+        headers.put("Accept", new Pair<>("text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8",
+                "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"));
+        headers.put("Sec-Fetch-Dest-And-Some-More-UPPER-CASE", new Pair<>("document\t ", "document"));
+        headers.put("Cookie", new Pair<>("SESSIONID=0123456789ABCDEF0123456789ABCDEF; theme=dark; lang=en-US  ",
+                "SESSIONID=0123456789ABCDEF0123456789ABCDEF; theme=dark; lang=en-US"));
+        doHttpRequestTest("GET", "/catalog/products/category/electronics/index.html", "HTTP/1.1", headers, "\r\n");
+    }
+
     @Test
     public void testLeadingOrTrailingWhitespaceFromHeaderContentValues() throws Exception {
         Map<String, Pair<String, String>> headers = new HashMap<>();
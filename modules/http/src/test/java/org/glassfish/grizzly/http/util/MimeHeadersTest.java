@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -131,4 +132,53 @@ public class MimeHeadersTest {
         Assert.assertArrayEquals(expectedValuesSet2, list.toArray(new String[list.size()]));
     }
 
+    @Test
+    public void testFindHeader() throws Exception {
+        for (final Header header : Header.values()) {
+            Assert.assertSame(header, Header.find(header.toString().toUpperCase()));
+            final byte[] bytes = (" " + header.getLowerCase() + ":").getBytes("ISO-8859-1");
+            Assert.assertSame(header, Header.find(bytes, 1, bytes.length - 1));
+        }
+
+        Assert.assertNull(Header.find("Hosts"));
+        Assert.assertNull(Header.find("Content-Lengti"));
+        Assert.assertNull(Header.find(new byte[0], 0, 0));
+    }
+
+    @Test
+    public void testKnownHeaders() throws Exception {
+        final MimeHeaders headers = new MimeHeaders();
+        final byte[] bytes = "x-custom:content-length:host".getBytes("ISO-8859-1");
+        headers.addValue(bytes, 0, 8).setString("custom");
+        headers.addValue(bytes, 9, 14).setString("10");
+        headers.addValue("HOST").setString("localhost");
+        headers.addValue(Header.Host).setString("example.com");
+
+        Assert.assertNull(headers.getKnownHeader(0));
+        Assert.assertSame(Header.ContentLength, headers.getKnownHeader(1));
+        Assert.assertEquals("10", headers.getHeader(Header.ContentLength));
+        Assert.assertEquals("10", headers.getHeader("Content-Length"));
+        Assert.assertEquals("localhost", headers.getHeader(Header.Host));
+        Assert.assertEquals(2, headers.indexOf(Header.Host, 0));
+        Assert.assertEquals(3, headers.indexOf(Header.Host, 3));
+        Assert.assertEquals(-1, headers.indexOf(Header.Cookie, 0));
+
+        // the remove moves the last field
+        headers.removeHeader(0);
+        Assert.assertEquals("example.com", headers.getHeader(Header.Host));
+        Assert.assertEquals(0, headers.indexOf(Header.Host, 0));
+
+        headers.setValue("host").setString("single");
+        Assert.assertEquals(2, headers.size());
+        Assert.assertEquals("single", headers.getHeader(Header.Host));
+
+        headers.removeHeader(Header.ContentLength);
+        Assert.assertFalse(headers.contains(Header.ContentLength));
+        Assert.assertTrue(headers.contains("Host"));
+
+        headers.clear();
+        Assert.assertNull(headers.getValue(Header.Host));
+        headers.addValue("x-custom").setString("custom");
+        Assert.assertNull(headers.getValue(Header.Host));
+    }
 }
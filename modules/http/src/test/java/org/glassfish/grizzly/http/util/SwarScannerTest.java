@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.memory.ByteBufferWrapper;
+import org.junit.Test;
+
+/**
+ * Test {@link SwarScanner} against the byte at a time scanning.
+ */
+public class SwarScannerTest {
+
+    @Test
+    public void testSkipVisible() {
+        final byte[] input = "Mozilla/5.0 (X11; Linux x86_64)\r\n".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(11, SwarScanner.skipVisible(input, 0, input.length));
+        assertEquals(11, SwarScanner.skipVisible(input, 3, input.length));
+        assertEquals(17, SwarScanner.skipVisible(input, 12, input.length));
+        // less than a word left
+        assertEquals(28, SwarScanner.skipVisible(input, 28, input.length));
+        assertEquals(0, SwarScanner.skipVisible(input, 0, 5));
+    }
+
+    @Test
+    public void testRandomBytes() {
+        final Random random = new Random(11);
+        final byte[] input = new byte[64];
+
+        for (int i = 0; i < 10000; i++) {
+            for (int j = 0; j < input.length; j++) {
+                // mostly visible bytes with some special ones
+                input[j] = (byte) (random.nextInt(8) == 0 ? random.nextInt(256) : 0x21 + random.nextInt(0x5E));
+            }
+
+            final int offset = random.nextInt(input.length);
+            final int expected = expectedEnd(input, offset, input.length, (byte) -1);
+            assertEquals(expected, SwarScanner.skipVisible(input, offset, input.length));
+            assertEquals(expected, SwarScanner.skipVisible(wrap(input, ByteOrder.BIG_ENDIAN), offset, input.length));
+            assertEquals(expected, SwarScanner.skipVisible(wrap(input, ByteOrder.LITTLE_ENDIAN), offset, input.length));
+
+            final byte stop = (byte) (0x21 + random.nextInt(0x5E));
+            assertEquals(expectedEnd(input, offset, input.length, stop), SwarScanner.skipVisible(input, offset, input.length, stop));
+        }
+    }
+
+    @Test
+    public void testAllBytes() {
+        final byte[] input = new byte[8];
+        for (int b = 0; b < 256; b++) {
+            for (int pos = 0; pos < 8; pos++) {
+                Arrays.fill(input, (byte) 'a');
+                input[pos] = (byte) b;
+                final int expected = b >= 0x21 && b <= 0x7E ? 8 : pos;
+                assertEquals(expected, SwarScanner.skipVisible(input, 0, 8));
+                assertEquals(b == ':' ? pos : expected, SwarScanner.skipVisible(input, 0, 8, (byte) ':'));
+            }
+        }
+    }
+
+    @Test
+    public void testHeaderNameToLowerCase() {
+        final byte[] input = "X-Forwarded-For-ALL-@[Z]: 10.0.0.1".getBytes(StandardCharsets.ISO_8859_1);
+        final int colon = SwarScanner.skipHeaderNameToLowerCase(input, 0, input.length);
+        assertEquals(24, colon);
+        assertArrayEquals("x-forwarded-for-all-@[z]: 10.0.0.1".getBytes(StandardCharsets.ISO_8859_1), input);
+
+        // '@' and '[' are next to the upper case letters range
+        final byte[] input2 = "@AZ[`az{@AZ[`az{: v".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(16, SwarScanner.skipHeaderNameToLowerCase(input2, 0, input2.length));
+        assertArrayEquals("@az[`az{@az[`az{: v".getBytes(StandardCharsets.ISO_8859_1), input2);
+    }
+
+    private static Buffer wrap(final byte[] input, final ByteOrder order) {
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(input.length).order(order);
+        byteBuffer.put(input).flip();
+        return new ByteBufferWrapper(byteBuffer);
+    }
+
+    private static int expectedEnd(final byte[] input, int offset, final int limit, final byte stop) {
+        final int wordsEnd = offset + (limit - offset) / 8 * 8;
+        while (offset < wordsEnd) {
+            final int b = input[offset] & 0xFF;
+            if (b < 0x21 || b > 0x7E || b == (stop & 0xFF)) {
+                return offset;
+            }
+            offset++;
+        }
+
+        return offset;
+    }
+}
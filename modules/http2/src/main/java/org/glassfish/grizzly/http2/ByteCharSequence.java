@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.http.util.Ascii;
+import org.glassfish.grizzly.http.util.BufferChunk;
+import org.glassfish.grizzly.http.util.ByteChunk;
+import org.glassfish.grizzly.http.util.DataChunk;
+
+/**
+ * Reusable ISO-8859-1 {@link CharSequence} view of a header name or value bytes, which lets the HPACK encoder work
+ * directly on the {@link DataChunk} content without creating a {@link String} for every header.
+ * <p>
+ * The view either wraps the {@link DataChunk} byte array directly, or copies the bytes into its own growable array, so
+ * it's valid only until it's set again. Header names are always copied, because HTTP/2 requires them in lower case.
+ */
+final class ByteCharSequence implements CharSequence {
+
+    private byte[] scratch = new byte[64];
+
+    private byte[] bytes;
+    private int start;
+    private int length;
+
+    /**
+     * Sets the view to the lower case copy of the {@link DataChunk} content.
+     *
+     * @param chunk the {@link DataChunk}
+     * @return this view
+     */
+    ByteCharSequence setLowerCase(final DataChunk chunk) {
+        final int len = chunk.getLength();
+        final byte[] dst = scratch(len);
+
+        switch (chunk.getType()) {
+        case Bytes: {
+            final ByteChunk byteChunk = chunk.getByteChunk();
+            final byte[] src = byteChunk.getBuffer();
+            final int offs = byteChunk.getStart();
+            for (int i = 0; i < len; i++) {
+                dst[i] = (byte) Ascii.toLower(src[offs + i]);
+            }
+            break;
+        }
+        case Buffer: {
+            final BufferChunk bufferChunk = chunk.getBufferChunk();
+            final Buffer buffer = bufferChunk.getBuffer();
+            final int offs = bufferChunk.getStart();
+            for (int i = 0; i < len; i++) {
+                dst[i] = (byte) Ascii.toLower(buffer.get(offs + i));
+            }
+            break;
+        }
+        default: {
+            final String str = chunk.toString();
+            for (int i = 0; i < len; i++) {
+                dst[i] = (byte) Ascii.toLower(str.charAt(i));
+            }
+        }
+        }
+
+        return wrap(dst, 0, len);
+    }
+
+    /**
+     * Returns the {@link CharSequence} representing the {@link DataChunk} content. The byte content is wrapped (or copied,
+     * if it's not backed by an array) by this view, the {@link String} content is returned as it is.
+     *
+     * @param chunk the {@link DataChunk}
+     * @return the {@link CharSequence} representing the {@link DataChunk} content
+     */
+    CharSequence set(final DataChunk chunk) {
+        switch (chunk.getType()) {
+        case Bytes: {
+            final ByteChunk byteChunk = chunk.getByteChunk();
+            return wrap(byteChunk.getBuffer(), byteChunk.getStart(), byteChunk.getLength());
+        }
+        case Buffer: {
+            final BufferChunk bufferChunk = chunk.getBufferChunk();
+            final Buffer buffer = bufferChunk.getBuffer();
+            final int offs = bufferChunk.getStart();
+            final int len = bufferChunk.getLength();
+            if (buffer.hasArray()) {
+                return wrap(buffer.array(), buffer.arrayOffset() + offs, len);
+            }
+
+            final byte[] dst = scratch(len);
+            for (int i = 0; i < len; i++) {
+                dst[i] = buffer.get(offs + i);
+            }
+
+            return wrap(dst, 0, len);
+        }
+        default:
+            return chunk.toString();
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index=" + index + ", length=" + length);
+        }
+
+        return (char) (bytes[start + index] & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (bytes[start + i] & 0xff);
+        }
+
+        return new String(chars);
+    }
+
+    private ByteCharSequence wrap(final byte[] bytes, final int start, final int length) {
+        this.bytes = bytes;
+        this.start = start;
+        this.length = length;
+        return this;
+    }
+
+    private byte[] scratch(final int len) {
+        if (scratch.length < len) {
+            scratch = new byte[Math.max(len, scratch.length << 1)];
+        }
+
+        return scratch;
+    }
+}
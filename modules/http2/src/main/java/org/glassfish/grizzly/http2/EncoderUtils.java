@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,6 +45,15 @@ class EncoderUtils extends EncoderDecoderUtilsBase {
     private static final String HTTP = "http";
     private static final String HTTPS = "https";
 
+    // the status code strings cache, so the status header doesn't have to be converted for every response
+    private static final String[] STATUS_CODES = new String[600];
+
+    static {
+        for (int i = 100; i < STATUS_CODES.length; i++) {
+            STATUS_CODES[i] = String.valueOf(i);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     static Buffer encodeResponseHeaders(final Http2Session http2Session, final HttpResponsePacket response, final Map<String, String> capture)
             throws IOException {
@@ -63,7 +73,7 @@ class EncoderUtils extends EncoderDecoderUtilsBase {
 //        encoder.encodeHeader(Constants.STATUS_HEADER_BYTES,
 //                response.getHttpStatus().getStatusBytes(), false);
 
-        encoder.encodeHeader(STATUS_HEADER, String.valueOf(response.getHttpStatus().getStatusCode()), capture);
+        encoder.encodeHeader(STATUS_HEADER, statusCode(response.getHttpStatus().getStatusCode()), capture);
 
         encodeUserHeaders(headers, encoder, capture);
 
@@ -177,8 +187,11 @@ class EncoderUtils extends EncoderDecoderUtilsBase {
         }
 
         final HeadersEncoder encoder = http2Session.getHeadersEncoder();
-        for (final String name : trailers.names()) {
-            encoder.encodeHeader(name, trailers.getHeader(name), capture);
+        for (int i = 0, size = trailers.size(); i < size; i++) {
+            final DataChunk value = trailers.getValue(i);
+            if (!value.isNull()) {
+                encoder.encodeHeader(trailers.getName(i), value, capture);
+            }
         }
 
         return encoder.flushHeaders();
@@ -192,16 +205,19 @@ class EncoderUtils extends EncoderDecoderUtilsBase {
         for (int i = 0; i < mimeHeadersCount; i++) {
 
             if (!headers.setSerialized(i, true)) {
-                final String nameStr = nameToLowerCase(headers.getName(i));
                 final DataChunk value = headers.getValue(i);
                 if (!value.isNull()) {
-                    encoder.encodeHeader(nameStr, value.toString(), capture);
+                    encoder.encodeHeader(headers.getName(i), value, capture);
                 }
 
             }
         }
     }
 
+    private static String statusCode(final int statusCode) {
+        return statusCode >= 100 && statusCode < STATUS_CODES.length ? STATUS_CODES[statusCode] : String.valueOf(statusCode);
+    }
+
     @SuppressWarnings("unused")
     private static byte[] nameToLowerCaseByteArray(final DataChunk name) {
         final int length = name.getLength();
@@ -231,34 +247,6 @@ class EncoderUtils extends EncoderDecoderUtilsBase {
         return lowercase;
     }
 
-    private static String nameToLowerCase(final DataChunk name) {
-        final int length = name.getLength();
-        final StringBuilder sb = new StringBuilder(length);
-
-        if (name.getType() == Bytes) {
-            final ByteChunk byteChunk = name.getByteChunk();
-            final byte[] bytes = byteChunk.getBuffer();
-            final int offs = byteChunk.getStart();
-            for (int i = 0; i < length; i++) {
-                sb.append((char) Ascii.toLower(bytes[i + offs]));
-            }
-        } else if (name.getType() == Buffer) {
-            final BufferChunk bufferChunk = name.getBufferChunk();
-            final Buffer buffer = bufferChunk.getBuffer();
-            final int offs = bufferChunk.getStart();
-            for (int i = 0; i < length; i++) {
-                sb.append((char) Ascii.toLower(buffer.get(i + offs)));
-            }
-        } else {
-            final String s = name.toString();
-            for (int i = 0; i < length; i++) {
-                sb.append((char) Ascii.toLower(s.charAt(i)));
-            }
-        }
-
-        return sb.toString();
-    }
-
     @SuppressWarnings("unused")
     private static int valueToByteArray(final DataChunk value, final byte[] dstArray, int arrayOffs) {
 
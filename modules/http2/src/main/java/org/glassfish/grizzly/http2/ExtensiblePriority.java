@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2;
+
+/**
+ * RFC 9218 "Extensible Priorities" stream priority: the urgency (<code>0</code> is the highest, <code>7</code> is the
+ * lowest) and the incremental flag, which tells whether the response can be processed by the client as it arrives, so
+ * its DATA frames may be interleaved with other incremental responses of the same urgency.
+ */
+public final class ExtensiblePriority {
+
+    public static final String PRIORITY_HEADER = "priority";
+
+    public static final int MAX_URGENCY = 7;
+    public static final int DEFAULT_URGENCY = 3;
+
+    public static final ExtensiblePriority DEFAULT = new ExtensiblePriority(DEFAULT_URGENCY, false);
+
+    private static final ExtensiblePriority[] CACHE = new ExtensiblePriority[(MAX_URGENCY + 1) * 2];
+
+    static {
+        for (int u = 0; u <= MAX_URGENCY; u++) {
+            CACHE[u << 1] = u == DEFAULT_URGENCY ? DEFAULT : new ExtensiblePriority(u, false);
+            CACHE[(u << 1) + 1] = new ExtensiblePriority(u, true);
+        }
+    }
+
+    private final int urgency;
+    private final boolean incremental;
+
+    private ExtensiblePriority(final int urgency, final boolean incremental) {
+        this.urgency = urgency;
+        this.incremental = incremental;
+    }
+
+    /**
+     * @param urgency the urgency in the <code>[0, 7]</code> range
+     * @param incremental the incremental flag
+     * @return the {@link ExtensiblePriority}
+     */
+    public static ExtensiblePriority of(final int urgency, final boolean incremental) {
+        if (urgency < 0 || urgency > MAX_URGENCY) {
+            throw new IllegalArgumentException("Urgency has to be in [0, " + MAX_URGENCY + "] range");
+        }
+
+        return CACHE[(urgency << 1) + (incremental ? 1 : 0)];
+    }
+
+    /**
+     * Parses the <code>priority</code> header (structured field dictionary) value. Unknown parameters and the parameters
+     * with invalid values are ignored as RFC 9218 requires.
+     *
+     * @param value the header value, may be <code>null</code>
+     * @return the parsed {@link ExtensiblePriority}, or {@link #DEFAULT} if the value is <code>null</code>
+     */
+    public static ExtensiblePriority parse(final String value) {
+        if (value == null) {
+            return DEFAULT;
+        }
+
+        int urgency = DEFAULT_URGENCY;
+        boolean incremental = false;
+
+        final int length = value.length();
+        int i = 0;
+        while (i < length) {
+            // skip the whitespaces and separators
+            char c = value.charAt(i);
+            if (c == ' ' || c == '\t' || c == ',') {
+                i++;
+                continue;
+            }
+
+            final int keyStart = i;
+            while (i < length && (c = value.charAt(i)) != '=' && c != ',' && c != ';' && c != ' ' && c != '\t') {
+                i++;
+            }
+
+            final int keyEnd = i;
+            final int valueStart = i < length && value.charAt(i) == '=' ? ++i : -1;
+            while (i < length && value.charAt(i) != ',') {
+                i++;
+            }
+
+            if (keyEnd - keyStart != 1) {
+                continue;
+            }
+
+            String member = valueStart == -1 ? null : value.substring(valueStart, i);
+            if (member != null) {
+                // the member parameters are not used
+                final int paramsIdx = member.indexOf(';');
+                member = (paramsIdx == -1 ? member : member.substring(0, paramsIdx)).trim();
+            }
+
+            switch (value.charAt(keyStart)) {
+            case 'u':
+                if (member != null && member.length() == 1) {
+                    final int u = member.charAt(0) - '0';
+                    if (u >= 0 && u <= MAX_URGENCY) {
+                        urgency = u;
+                    }
+                }
+                break;
+            case 'i':
+                if (member == null || "?1".equals(member)) {
+                    incremental = true;
+                } else if ("?0".equals(member)) {
+                    incremental = false;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        return of(urgency, incremental);
+    }
+
+    /**
+     * @return the urgency, <code>0</code> is the highest, <code>7</code> is the lowest
+     */
+    public int getUrgency() {
+        return urgency;
+    }
+
+    /**
+     * @return <code>true</code> if the response DATA frames may be interleaved with the other incremental responses of the
+     * same urgency
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    @Override
+    public String toString() {
+        return incremental ? "u=" + urgency + ", i" : "u=" + urgency;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Orders the queued DATA records of a single {@link Http2Session} according to the RFC 9218 stream priorities.
+ * <p>
+ * The streams with the lower urgency value are served first. Within the same urgency, the non-incremental streams are
+ * served one by one in the order they became active, each one until its queue is drained, then the incremental streams
+ * share the bandwidth in round-robin manner, one DATA frame per stream at a time. The records of one stream are always
+ * served in the order they were queued.
+ * <p>
+ * The scheduler is used by {@link Http2SessionOutputSink} instead of the FIFO output queue, when
+ * {@link Http2Configuration#isExtensiblePrioritiesEnabled()} is set.
+ */
+final class ExtensiblePriorityScheduler {
+
+    private final Map<Integer, StreamQueue> streams = new HashMap<>();
+
+    private final Bucket[] buckets = new Bucket[ExtensiblePriority.MAX_URGENCY + 1];
+
+    // the stream, whose record is being serialized at the moment
+    private StreamQueue current;
+
+    private boolean isClosed;
+
+    ExtensiblePriorityScheduler() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Queues the record of the stream. The stream priority is sampled when the stream becomes active, i.e. when it had
+     * no records queued.
+     *
+     * @param streamId the stream id
+     * @param priority the current stream priority
+     * @param record the record to be queued
+     *
+     * @return <code>false</code> if the scheduler has been closed and the record was not queued
+     */
+    synchronized boolean offer(final int streamId, final ExtensiblePriority priority, final Http2OutputQueueRecord record) {
+        if (isClosed) {
+            return false;
+        }
+
+        StreamQueue streamQueue = streams.get(streamId);
+        if (streamQueue == null) {
+            streamQueue = new StreamQueue(streamId, priority);
+            streams.put(streamId, streamQueue);
+            buckets[streamQueue.priority.getUrgency()].activate(streamQueue);
+        }
+
+        streamQueue.records.offer(record);
+        return true;
+    }
+
+    /**
+     * @return the next record to be written, or <code>null</code> if no records are queued
+     */
+    synchronized Http2OutputQueueRecord poll() {
+        for (final Bucket bucket : buckets) {
+            final StreamQueue streamQueue = bucket.next();
+            if (streamQueue != null) {
+                current = streamQueue;
+                return streamQueue.records.poll();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the record, which has been partially written, to the head of its stream queue.
+     */
+    synchronized void requeue(final Http2OutputQueueRecord record) {
+        final StreamQueue streamQueue = current;
+        if (streamQueue == null || isClosed) {
+            record.notifyFailure(new IOException("Connection closed"));
+            return;
+        }
+
+        streamQueue.records.offerFirst(record);
+        onFrameWritten(streamQueue);
+    }
+
+    /**
+     * Should be called once the record returned by {@link #poll()} has been completely serialized.
+     */
+    synchronized void onRecordFinished() {
+        final StreamQueue streamQueue = current;
+        if (streamQueue == null) {
+            return;
+        }
+
+        if (streamQueue.records.isEmpty()) {
+            // the stream leaves the scheduler, it will be activated again with the up to date priority
+            current = null;
+            if (streams.remove(streamQueue.streamId, streamQueue)) {
+                buckets[streamQueue.priority.getUrgency()].deactivate(streamQueue);
+            }
+        } else {
+            onFrameWritten(streamQueue);
+        }
+    }
+
+    /**
+     * Fails all the queued records.
+     */
+    void close() {
+        final ArrayDeque<Http2OutputQueueRecord> failed = new ArrayDeque<>();
+        synchronized (this) {
+            isClosed = true;
+            for (final StreamQueue streamQueue : streams.values()) {
+                failed.addAll(streamQueue.records);
+            }
+
+            streams.clear();
+            for (final Bucket bucket : buckets) {
+                bucket.clear();
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            final IOException error = new IOException("Connection closed");
+            Http2OutputQueueRecord record;
+            while ((record = failed.poll()) != null) {
+                record.notifyFailure(error);
+            }
+        }
+    }
+
+    private void onFrameWritten(final StreamQueue streamQueue) {
+        current = null;
+        // incremental streams give way to the next incremental stream of the same urgency
+        if (streamQueue.priority.isIncremental()) {
+            buckets[streamQueue.priority.getUrgency()].rotate();
+        }
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    private static final class StreamQueue {
+        private final Integer streamId;
+        private final ExtensiblePriority priority;
+        private final ArrayDeque<Http2OutputQueueRecord> records = new ArrayDeque<>(4);
+
+        private StreamQueue(final Integer streamId, final ExtensiblePriority priority) {
+            this.streamId = streamId;
+            this.priority = priority;
+        }
+    }
+
+    private static final class Bucket {
+        // non-incremental streams are served sequentially
+        private final ArrayDeque<StreamQueue> sequential = new ArrayDeque<>();
+        // incremental streams are served round-robin
+        private final ArrayDeque<StreamQueue> incremental = new ArrayDeque<>();
+
+        void activate(final StreamQueue streamQueue) {
+            (streamQueue.priority.isIncremental() ? incremental : sequential).offer(streamQueue);
+        }
+
+        void deactivate(final StreamQueue streamQueue) {
+            (streamQueue.priority.isIncremental() ? incremental : sequential).remove(streamQueue);
+        }
+
+        StreamQueue next() {
+            StreamQueue streamQueue = sequential.peek();
+            if (streamQueue != null && !streamQueue.records.isEmpty()) {
+                return streamQueue;
+            }
+
+            streamQueue = incremental.peek();
+            return streamQueue != null && !streamQueue.records.isEmpty() ? streamQueue : null;
+        }
+
+        void rotate() {
+            if (incremental.size() > 1) {
+                incremental.offer(incremental.poll());
+            }
+        }
+
+        void clear() {
+            sequential.clear();
+            incremental.clear();
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,6 +20,7 @@ package org.glassfish.grizzly.http2;
 import java.util.Map;
 
 import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.http.util.DataChunk;
 import org.glassfish.grizzly.http2.hpack.Encoder;
 import org.glassfish.grizzly.memory.CompositeBuffer;
 import org.glassfish.grizzly.memory.MemoryManager;
@@ -39,6 +41,10 @@ public class HeadersEncoder {
 
     private CompositeBuffer buffer;
 
+    // reusable views of the header name and value bytes
+    private final ByteCharSequence nameView = new ByteCharSequence();
+    private final ByteCharSequence valueView = new ByteCharSequence();
+
     public HeadersEncoder(final MemoryManager memoryManager, final int maxHeaderTableSize) {
         this.memoryManager = memoryManager;
         hpackEncoder = new Encoder(maxHeaderTableSize);
@@ -48,11 +54,24 @@ public class HeadersEncoder {
         if (capture != null) {
             capture.put(name, value);
         }
-        init();
-        hpackEncoder.header(name, value);
-        while (!hpackEncoder.encode(buffer)) {
-            buffer.append(memoryManager.allocate(DEFAULT_BUFFER_SIZE));
+        encode(name, value);
+    }
+
+    /**
+     * Encodes the header, represented by the {@link DataChunk}s, without converting the name and value to
+     * {@link String}s. The header name is converted to lower case.
+     *
+     * @param name the header name
+     * @param value the header value
+     * @param capture the {@link Map} to capture the encoded header, may be <code>null</code>
+     */
+    public void encodeHeader(final DataChunk name, final DataChunk value, final Map<String, String> capture) {
+        final CharSequence nameSeq = nameView.setLowerCase(name);
+        final CharSequence valueSeq = valueView.set(value);
+        if (capture != null) {
+            capture.put(nameSeq.toString(), valueSeq.toString());
         }
+        encode(nameSeq, valueSeq);
     }
 
     public Buffer flushHeaders() {
@@ -63,6 +82,14 @@ public class HeadersEncoder {
         return bufferLocal;
     }
 
+    private void encode(final CharSequence name, final CharSequence value) {
+        init();
+        hpackEncoder.header(name, value);
+        while (!hpackEncoder.encode(buffer)) {
+            buffer.append(memoryManager.allocate(DEFAULT_BUFFER_SIZE));
+        }
+    }
+
     private void init() {
         if (buffer == null) {
             buffer = CompositeBuffer.newBuffer(memoryManager);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,6 +45,7 @@ public class Http2Configuration {
     private volatile boolean disableCipherCheck;
     private volatile boolean priorKnowledge;
     private volatile boolean pushEnabled;
+    private volatile boolean extensiblePrioritiesEnabled;
     private final ExecutorService executorService;
     private final ThreadPoolConfig threadPoolConfig;
 
@@ -59,6 +61,7 @@ public class Http2Configuration {
         threadPoolConfig = builder.threadPoolConfig;
         executorService = builder.executorService;
         pushEnabled = builder.pushEnabled;
+        extensiblePrioritiesEnabled = builder.extensiblePrioritiesEnabled;
         streamsHighWaterMark = builder.streamsHighWaterMark;
         cleanPercentage = builder.cleanPercentage;
         cleanFrequencyCheck = builder.cleanFrequencyCheck;
@@ -179,6 +182,23 @@ public class Http2Configuration {
         this.pushEnabled = pushEnabled;
     }
 
+    /**
+     * @return <code>true</code> if the DATA frames are ordered according to the RFC 9218 stream priorities, otherwise
+     * <code>false</code>.
+     */
+    public boolean isExtensiblePrioritiesEnabled() {
+        return extensiblePrioritiesEnabled;
+    }
+
+    /**
+     * Configure whether the DATA frames of the concurrent streams should be ordered according to the RFC 9218 stream
+     * priorities (urgency and incremental flag, signaled by the <code>priority</code> request header). By default the
+     * DATA frames are written in FIFO order. The setting is applied to the sessions created afterwards.
+     */
+    public void setExtensiblePrioritiesEnabled(final boolean extensiblePrioritiesEnabled) {
+        this.extensiblePrioritiesEnabled = extensiblePrioritiesEnabled;
+    }
+
     /**
      * @return the high-water mark indicating streams old closed streams should be cleaned up. If not explicitly configured,
      * this returns {@value #DEFAULT_STREAMS_HIGH_WATER_MARK}.
@@ -254,6 +274,7 @@ public class Http2Configuration {
         private boolean disableCipherCheck;
         private boolean priorKnowledge;
         private boolean pushEnabled = true;
+        private boolean extensiblePrioritiesEnabled;
         private float streamsHighWaterMark = DEFAULT_STREAMS_HIGH_WATER_MARK;
         private float cleanPercentage = DEFAULT_STREAMS_CLEAN_PERCENTAGE;
         private int cleanFrequencyCheck = DEFAULT_CLEAN_FREQUENCY_CHECK;
@@ -338,6 +359,14 @@ public class Http2Configuration {
             return this;
         }
 
+        /**
+         * @see #setExtensiblePrioritiesEnabled(boolean)
+         */
+        public Http2ConfigurationBuilder enableExtensiblePriorities(final boolean val) {
+            extensiblePrioritiesEnabled = val;
+            return this;
+        }
+
         /**
          * @see #setStreamsHighWaterMark(float)
          */
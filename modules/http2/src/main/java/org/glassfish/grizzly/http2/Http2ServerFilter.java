@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2015, 2020 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright (c) 2021 Contributors to the Eclipse Foundation
@@ -658,6 +658,10 @@ public class Http2ServerFilter extends Http2BaseFilter {
         onHttpHeadersParsed(request, context);
         request.getHeaders().mark();
 
+        if (http2Session.isExtensiblePrioritiesEnabled()) {
+            stream.setExtensiblePriority(ExtensiblePriority.parse(request.getHeader(ExtensiblePriority.PRIORITY_HEADER)));
+        }
+
         prepareIncomingRequest(stream, request);
 
         final boolean isEOS = headersFrame.isEndStream();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
@@ -20,10 +20,8 @@ package org.glassfish.grizzly.http2;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
@@ -67,6 +65,7 @@ import org.glassfish.grizzly.http2.frames.SettingsFrame;
 import org.glassfish.grizzly.http2.frames.SettingsFrame.SettingsFrameBuilder;
 import org.glassfish.grizzly.http2.frames.UnknownFrame;
 import org.glassfish.grizzly.http2.frames.WindowUpdateFrame;
+import org.glassfish.grizzly.http2.utils.IntObjectHashMap;
 import org.glassfish.grizzly.impl.FutureImpl;
 import org.glassfish.grizzly.memory.Buffers;
 import org.glassfish.grizzly.memory.MemoryManager;
@@ -107,7 +106,8 @@ public class Http2Session {
 
     private final AtomicInteger concurrentStreamsCount = new AtomicInteger(0);
 
-    private final TreeMap<Integer, Http2Stream> streamsMap = new TreeMap<>();
+    // modified under sessionLock, the lookups on the frame processing path are lock-free
+    private final IntObjectHashMap<Http2Stream> streamsMap = new IntObjectHashMap<>();
 
     // (Optimization) We may read several DataFrames belonging to the same
     // Http2Stream, so in order to not process every DataFrame separately -
@@ -492,6 +492,14 @@ public class Http2Session {
         return pushEnabled && http2Configuration.isPushEnabled();
     }
 
+    /**
+     * @return <code>true</code> if the DATA frames of this {@link Http2Session} are ordered according to the RFC 9218
+     * stream priorities, otherwise they are written in FIFO order.
+     */
+    public boolean isExtensiblePrioritiesEnabled() {
+        return http2Configuration.isExtensiblePrioritiesEnabled();
+    }
+
     /**
      * Configure whether or not push is enabled on this {@link Http2Session}.
      *
@@ -638,12 +646,10 @@ public class Http2Session {
         // close streams that rank above the last stream ID specified by the GOAWAY frame.
         // Allow other streams to continue processing. Once the concurrent stream count reaches zero,
         // the session will be closed.
-        Map<Integer, Http2Stream> invalidStreams = streamsMap.subMap(goingAwayLastStreamId, false, Integer.MAX_VALUE, true);
+        // the snapshot copy prevents bug #1995 - ConcurrentModificationException
+        final List<Http2Stream> invalidStreams = streamsMap.tailValues(goingAwayLastStreamId);
         if (!invalidStreams.isEmpty()) {
-            // needs to iterate over copied list to prevent
-            // bug #1995 - ConcurrentModificationException
-            List<Http2Stream> closedStreams = new ArrayList<>(invalidStreams.values());
-            for (final Http2Stream stream : closedStreams) {
+            for (final Http2Stream stream : invalidStreams) {
                 stream.closedRemotely();
                 deregisterStream();
             }
@@ -1070,12 +1076,7 @@ public class Http2Session {
             if (!isCloseSession) {
                 if (checkCount++ > http2Configuration.getCleanFrequencyCheck() && streamsMap.size() > streamsHighWaterMark) {
                     checkCount = 0;
-                    for (final Iterator<Map.Entry<Integer, Http2Stream>> streamIds = streamsMap.entrySet().iterator(); streamIds.hasNext(); ) {
-                        final Map.Entry<Integer, Http2Stream> entry = streamIds.next();
-                        if (entry.getValue().isClosed()) {
-                            streamIds.remove();
-                        }
-                    }
+                    streamsMap.removeIf(Http2Stream::isClosed);
                 }
             }
         }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2014, 2020 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
@@ -20,6 +21,7 @@
 
 package org.glassfish.grizzly.http2;
 
+import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -61,6 +63,9 @@ public class Http2SessionOutputSink {
         }
     });
 
+    // RFC 9218 priority scheduler, which orders the records, if null the output queue is FIFO
+    private final ExtensiblePriorityScheduler priorityScheduler;
+
     private final AtomicInteger availConnectionWindowSize;
     private final List<Http2Frame> tmpFramesList = new LinkedList<>();
     private final AtomicBoolean writerLock = new AtomicBoolean();
@@ -68,6 +73,7 @@ public class Http2SessionOutputSink {
     public Http2SessionOutputSink(Http2Session session) {
         this.http2Session = session;
         availConnectionWindowSize = new AtomicInteger(http2Session.getDefaultConnectionWindowSize());
+        priorityScheduler = session.isExtensiblePrioritiesEnabled() ? new ExtensiblePriorityScheduler() : null;
     }
 
     protected Http2FrameCodec frameCodec() {
@@ -169,7 +175,12 @@ public class Http2SessionOutputSink {
         }
 
         final Http2OutputQueueRecord record = new Http2OutputQueueRecord(stream.getId(), data, completionHandler, isLast);
-        outputQueue.offer(record);
+        if (priorityScheduler == null) {
+            outputQueue.offer(record);
+        } else if (!priorityScheduler.offer(stream.getId(), stream.getExtensiblePriority(), record)) {
+            record.notifyFailure(new IOException("Connection closed"));
+            return;
+        }
         outputQueue.reserveSpace(record.isZeroSizeData() ? 1 : dataSize);
 
         flushOutputQueue();
@@ -203,7 +214,7 @@ public class Http2SessionOutputSink {
             // gather all available output data frames
             while (availWindowSize > bytesToTransfer && queueSize > queueSizeToFree) {
 
-                final Http2OutputQueueRecord record = outputQueue.poll();
+                final Http2OutputQueueRecord record = priorityScheduler == null ? outputQueue.poll() : priorityScheduler.poll();
                 if (record == null) {
                     // keep this warning for now - should be reported when null record is spotted
                     LOGGER.log(Level.WARNING, "UNEXPECTED NULL RECORD. Queue-size: {0} "
@@ -221,8 +232,13 @@ public class Http2SessionOutputSink {
                     if (record.isZeroSizeData()) {
                         queueSizeToFree++;
                     }
-                } else {
+                    if (priorityScheduler != null) {
+                        priorityScheduler.onRecordFinished();
+                    }
+                } else if (priorityScheduler == null) {
                     outputQueue.setCurrentElement(record);
+                } else {
+                    priorityScheduler.requeue(record);
                 }
 
                 final CompletionHandler<WriteResult> recordCompletionHandler = record.getCompletionHandler();
@@ -280,6 +296,9 @@ public class Http2SessionOutputSink {
 
     public void close() {
         outputQueue.onClose();
+        if (priorityScheduler != null) {
+            priorityScheduler.close();
+        }
     }
 
 }
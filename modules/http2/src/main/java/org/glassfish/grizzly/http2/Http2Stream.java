@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -86,6 +87,8 @@ public class Http2Stream implements AttributeStorage, OutputSink, Closeable {
     private final int priority;
     private final boolean exclusive;
 
+    private volatile ExtensiblePriority extensiblePriority = ExtensiblePriority.DEFAULT;
+
     private final Http2Session http2Session;
 
     private final AttributeHolder attributes = AttributeBuilder.DEFAULT_ATTRIBUTE_BUILDER.createSafeAttributeHolder();
@@ -231,6 +234,23 @@ public class Http2Stream implements AttributeStorage, OutputSink, Closeable {
         return priority;
     }
 
+    /**
+     * @return the RFC 9218 priority of this stream, {@link ExtensiblePriority#DEFAULT} if it wasn't signaled
+     */
+    public ExtensiblePriority getExtensiblePriority() {
+        return extensiblePriority;
+    }
+
+    /**
+     * Sets the RFC 9218 priority of this stream. The new priority is applied to the DATA frames queued after the stream's
+     * pending output has been flushed.
+     *
+     * @param extensiblePriority the {@link ExtensiblePriority}
+     */
+    public void setExtensiblePriority(final ExtensiblePriority extensiblePriority) {
+        this.extensiblePriority = extensiblePriority != null ? extensiblePriority : ExtensiblePriority.DEFAULT;
+    }
+
     public boolean isPushStream() {
         return (streamId & 1) == 0;
     }
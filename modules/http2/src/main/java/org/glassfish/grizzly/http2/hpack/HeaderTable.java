@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +19,7 @@ package org.glassfish.grizzly.http2.hpack;
 
 import static java.lang.String.format;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -52,20 +54,7 @@ final class HeaderTable {
 
     private static final int STATIC_TABLE_LENGTH = staticTable.length - 1;
     private static final int ENTRY_SIZE = 32;
-    private static final Map<String, LinkedHashMap<String, Integer>> staticIndexes;
-
-    static {
-        staticIndexes = new HashMap<>(STATIC_TABLE_LENGTH);
-        for (int i = 1; i <= STATIC_TABLE_LENGTH; i++) {
-            HeaderField f = staticTable[i];
-            LinkedHashMap<String, Integer> values = staticIndexes.get(f.name);
-            if (values == null) {
-                values = new LinkedHashMap<>();
-                values.put(f.value, i);
-            }
-            staticIndexes.put(f.name, values);
-        }
-    }
+    private static final StaticIndex staticIndex = new StaticIndex();
 
     private final Table dynamicTable = new Table(0);
     private int maxSize;
@@ -92,38 +81,35 @@ final class HeaderTable {
     // (the idea is the same as in java.util.Arrays.binarySearch(int[], int)).
     //
     public int indexOf(CharSequence name, CharSequence value) {
+        // 1. Try exact match in the static region, the static lookup works on
+        // any CharSequence, so no Strings are allocated for the sake of the search
+        final int sidx = staticIndex.indexOf(name, value);
+        if (sidx > 0) {
+            return sidx;
+        }
+        if (dynamicTable.size() == 0) {
+            // 3. Return name match from the static region (if any)
+            return sidx;
+        }
+
         // Invoking toString() will possibly allocate Strings for the sake of
-        // the search, which doesn't feel right.
+        // the search, which doesn't feel right, but the dynamic table is used
+        // only by the Encoder subclasses
         String n = name.toString();
         String v = value.toString();
 
-        // 1. Try exact match in the static region
-        Map<String, Integer> values = staticIndexes.get(n);
-        if (values != null) {
-            Integer idx = values.get(v);
-            if (idx != null) {
-                return idx;
-            }
-        }
         // 2. Try exact match in the dynamic region
         int didx = dynamicTable.indexOf(n, v);
         if (didx > 0) {
             return STATIC_TABLE_LENGTH + didx;
+        } else if (sidx < 0) {
+            // 3. Return name match from the static region
+            return sidx;
         } else if (didx < 0) {
-            if (values != null) {
-                // 3. Return name match from the static region
-                return -values.values().iterator().next(); // Iterator allocation
-            } else {
-                // 4. Return name match from the dynamic region
-                return -STATIC_TABLE_LENGTH + didx;
-            }
+            // 4. Return name match from the dynamic region
+            return -STATIC_TABLE_LENGTH + didx;
         } else {
-            if (values != null) {
-                // 3. Return name match from the static region
-                return -values.values().iterator().next(); // Iterator allocation
-            } else {
-                return 0;
-            }
+            return 0;
         }
     }
 
@@ -259,6 +245,112 @@ final class HeaderTable {
         }
     }
 
+    //
+    // Perfect hash of the static table header names. The multiplier is chosen
+    // at class initialization, so no two static names share a slot, and a
+    // lookup costs one hash computation over the name chars plus one
+    // comparison. Works on any CharSequence, so the names and values don't have
+    // to be converted to Strings.
+    //
+    private static final class StaticIndex {
+
+        private static final int BITS = 9;
+
+        private final StaticName[] slots = new StaticName[1 << BITS];
+        private final int multiplier;
+
+        StaticIndex() {
+            final Map<String, StaticName> names = new LinkedHashMap<>();
+            for (int i = 1; i <= STATIC_TABLE_LENGTH; i++) {
+                final HeaderField f = staticTable[i];
+                StaticName n = names.get(f.name);
+                if (n == null) {
+                    n = new StaticName(f.name);
+                    names.put(f.name, n);
+                }
+                n.add(f.value, i);
+            }
+
+            int m = 0x9E3779B1;
+            while (!fill(names.values(), m)) {
+                m += 0x3C6EF372;
+                m |= 1;
+            }
+            multiplier = m;
+        }
+
+        private boolean fill(final Iterable<StaticName> names, final int m) {
+            Arrays.fill(slots, null);
+            for (final StaticName n : names) {
+                final int slot = slot(hash(n.name), m);
+                if (slots[slot] != null) {
+                    return false;
+                }
+                slots[slot] = n;
+            }
+            return true;
+        }
+
+        // see HeaderTable.indexOf(CharSequence, CharSequence) for the return value
+        int indexOf(final CharSequence name, final CharSequence value) {
+            final StaticName n = slots[slot(hash(name), multiplier)];
+            if (n == null || !contentEquals(n.name, name)) {
+                return 0;
+            }
+
+            for (int i = 0; i < n.values.length; i++) {
+                if (contentEquals(n.values[i], value)) {
+                    return n.indexes[i];
+                }
+            }
+
+            return -n.indexes[0];
+        }
+
+        private static int hash(final CharSequence s) {
+            int h = 0;
+            for (int i = 0, len = s.length(); i < len; i++) {
+                h = 31 * h + s.charAt(i);
+            }
+            return h;
+        }
+
+        private static int slot(final int hash, final int multiplier) {
+            return (hash * multiplier) >>> (32 - BITS);
+        }
+
+        private static boolean contentEquals(final String s, final CharSequence cs) {
+            final int len = s.length();
+            if (len != cs.length()) {
+                return false;
+            }
+            for (int i = 0; i < len; i++) {
+                if (s.charAt(i) != cs.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class StaticName {
+
+        final String name;
+        String[] values = new String[0];
+        int[] indexes = new int[0];
+
+        StaticName(String name) {
+            this.name = name;
+        }
+
+        void add(String value, int index) {
+            values = Arrays.copyOf(values, values.length + 1);
+            indexes = Arrays.copyOf(indexes, indexes.length + 1);
+            values[values.length - 1] = value;
+            indexes[indexes.length - 1] = index;
+        }
+    }
+
     //
     // To quickly find an index of an entry in the dynamic table with the given
     // contents an effective inverse mapping is needed. Here's a simple idea
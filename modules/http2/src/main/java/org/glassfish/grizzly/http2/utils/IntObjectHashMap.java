@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Open-addressing (linear probing) map with primitive <tt>int</tt> keys, which is used to keep the HTTP/2 streams of a
+ * session.
+ * <p>
+ * {@link #get(int)} and the snapshot methods are lock-free and may be called concurrently with the modifications. The
+ * modifications ({@link #put(int, Object)}, {@link #remove(int)}, {@link #removeIf(Predicate)}) have to be serialized
+ * by the caller.
+ *
+ * @param <V> the value type
+ */
+public final class IntObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    // marks the removed slot, so the probing doesn't stop on it
+    private static final Entry<Object> TOMBSTONE = new Entry<>(0, null);
+
+    private volatile AtomicReferenceArray<Entry<V>> table;
+
+    private int size;
+    private int tombstones;
+
+    public IntObjectHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the expected number of mappings
+     */
+    public IntObjectHashMap(final int expectedSize) {
+        table = new AtomicReferenceArray<>(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return the value mapped to the key, or <tt>null</tt> if there is no mapping
+     */
+    public V get(final int key) {
+        final AtomicReferenceArray<Entry<V>> t = table;
+        final int mask = t.length() - 1;
+
+        for (int i = indexFor(key, mask);; i = (i + 1) & mask) {
+            final Entry<V> entry = t.get(i);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry != TOMBSTONE && entry.key == key) {
+                return entry.value;
+            }
+        }
+    }
+
+    /**
+     * Maps the value to the key.
+     *
+     * @return the previous value mapped to the key, or <tt>null</tt> if there was no mapping
+     */
+    public V put(final int key, final V value) {
+        if (value == null) {
+            throw new NullPointerException("value can't be null");
+        }
+
+        AtomicReferenceArray<Entry<V>> t = table;
+        if ((size + tombstones + 1) << 2 > t.length() * 3) {
+            t = rehash(t);
+        }
+
+        final int mask = t.length() - 1;
+        int insertIdx = -1;
+
+        for (int i = indexFor(key, mask);; i = (i + 1) & mask) {
+            final Entry<V> entry = t.get(i);
+            if (entry == null) {
+                if (insertIdx == -1) {
+                    insertIdx = i;
+                } else {
+                    tombstones--;
+                }
+
+                t.set(insertIdx, new Entry<>(key, value));
+                size++;
+                return null;
+            }
+
+            if (entry == TOMBSTONE) {
+                if (insertIdx == -1) {
+                    insertIdx = i;
+                }
+            } else if (entry.key == key) {
+                t.set(i, new Entry<>(key, value));
+                return entry.value;
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping.
+     *
+     * @return the removed value, or <tt>null</tt> if there was no mapping
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final int key) {
+        final AtomicReferenceArray<Entry<V>> t = table;
+        final int mask = t.length() - 1;
+
+        for (int i = indexFor(key, mask);; i = (i + 1) & mask) {
+            final Entry<V> entry = t.get(i);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry != TOMBSTONE && entry.key == key) {
+                t.set(i, (Entry<V>) TOMBSTONE);
+                size--;
+                tombstones++;
+                return entry.value;
+            }
+        }
+    }
+
+    /**
+     * Removes all the mappings, whose values match the filter.
+     *
+     * @return the number of removed mappings
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(final Predicate<? super V> filter) {
+        final AtomicReferenceArray<Entry<V>> t = table;
+        int removed = 0;
+
+        for (int i = 0; i < t.length(); i++) {
+            final Entry<V> entry = t.get(i);
+            if (entry != null && entry != TOMBSTONE && filter.test(entry.value)) {
+                t.set(i, (Entry<V>) TOMBSTONE);
+                removed++;
+            }
+        }
+
+        size -= removed;
+        tombstones += removed;
+        return removed;
+    }
+
+    /**
+     * @return the number of mappings
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the snapshot of the values, in no particular order
+     */
+    public List<V> values() {
+        final AtomicReferenceArray<Entry<V>> t = table;
+        final List<V> values = new ArrayList<>(Math.max(size, 0));
+
+        for (int i = 0; i < t.length(); i++) {
+            final Entry<V> entry = t.get(i);
+            if (entry != null && entry != TOMBSTONE) {
+                values.add(entry.value);
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns the snapshot of the values, whose keys are greater than the given one, ordered by key. This is the
+     * equivalent of the {@link java.util.NavigableMap#tailMap(Object, boolean)} exclusive view.
+     *
+     * @param fromKey the low endpoint (exclusive) of the keys
+     * @return the snapshot of the values, whose keys are greater than <tt>fromKey</tt>
+     */
+    public List<V> tailValues(final int fromKey) {
+        final AtomicReferenceArray<Entry<V>> t = table;
+        final List<Entry<V>> entries = new ArrayList<>();
+
+        for (int i = 0; i < t.length(); i++) {
+            final Entry<V> entry = t.get(i);
+            if (entry != null && entry != TOMBSTONE && entry.key > fromKey) {
+                entries.add(entry);
+            }
+        }
+
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        entries.sort(Comparator.comparingInt(e -> e.key));
+
+        final List<V> values = new ArrayList<>(entries.size());
+        for (final Entry<V> entry : entries) {
+            values.add(entry.value);
+        }
+
+        return values;
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    /**
+     * Builds the new table without tombstones, growing it if needed, and publishes it. The lock-free readers, which still
+     * probe the old table, observe its state as of the moment of the rehash.
+     */
+    private AtomicReferenceArray<Entry<V>> rehash(final AtomicReferenceArray<Entry<V>> oldTable) {
+        final AtomicReferenceArray<Entry<V>> newTable = new AtomicReferenceArray<>(capacityFor(size + 1));
+        final int mask = newTable.length() - 1;
+
+        for (int i = 0; i < oldTable.length(); i++) {
+            final Entry<V> entry = oldTable.get(i);
+            if (entry != null && entry != TOMBSTONE) {
+                int j = indexFor(entry.key, mask);
+                while (newTable.get(j) != null) {
+                    j = (j + 1) & mask;
+                }
+
+                newTable.set(j, entry);
+            }
+        }
+
+        tombstones = 0;
+        table = newTable;
+        return newTable;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        // keep the load factor under 0.5 after rehash
+        final int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize << 1) - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalStateException("Map is too large");
+        }
+
+        return capacity;
+    }
+
+    private static int indexFor(final int key, final int mask) {
+        // stream ids are sequential odd or even numbers, so they have to be spread
+        final int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static final class Entry<V> {
+        private final int key;
+        private final V value;
+
+        private Entry(final int key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
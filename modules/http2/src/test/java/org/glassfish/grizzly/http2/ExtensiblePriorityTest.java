@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.EmptyCompletionHandler;
+import org.glassfish.grizzly.WriteResult;
+import org.glassfish.grizzly.http2.frames.DataFrame;
+import org.glassfish.grizzly.http2.frames.Http2Frame;
+import org.glassfish.grizzly.memory.Buffers;
+import org.junit.Test;
+
+/**
+ * Test {@link ExtensiblePriority} parsing and {@link ExtensiblePriorityScheduler} ordering.
+ */
+public class ExtensiblePriorityTest {
+
+    @Test
+    public void parse() {
+        assertSame(ExtensiblePriority.DEFAULT, ExtensiblePriority.parse(null));
+        assertSame(ExtensiblePriority.DEFAULT, ExtensiblePriority.parse(""));
+        assertSame(ExtensiblePriority.of(0, false), ExtensiblePriority.parse("u=0"));
+        assertSame(ExtensiblePriority.of(5, true), ExtensiblePriority.parse("u=5, i"));
+        assertSame(ExtensiblePriority.of(1, true), ExtensiblePriority.parse("i,u=1"));
+        assertSame(ExtensiblePriority.of(2, false), ExtensiblePriority.parse("u=2;foo=bar, i=?0"));
+        assertSame(ExtensiblePriority.of(3, true), ExtensiblePriority.parse("i=?1, x=7"));
+
+        // invalid values are ignored
+        assertSame(ExtensiblePriority.DEFAULT, ExtensiblePriority.parse("u=8"));
+        assertSame(ExtensiblePriority.DEFAULT, ExtensiblePriority.parse("u=a, i=1"));
+        assertSame(ExtensiblePriority.DEFAULT, ExtensiblePriority.parse("urgency=1"));
+    }
+
+    @Test
+    public void urgencyOrder() {
+        final ExtensiblePriorityScheduler scheduler = new ExtensiblePriorityScheduler();
+        final Http2OutputQueueRecord low = record(1, 10);
+        final Http2OutputQueueRecord normal = record(3, 10);
+        final Http2OutputQueueRecord high = record(5, 10);
+
+        assertTrue(scheduler.offer(1, ExtensiblePriority.of(6, false), low));
+        assertTrue(scheduler.offer(3, ExtensiblePriority.DEFAULT, normal));
+        assertTrue(scheduler.offer(5, ExtensiblePriority.of(0, false), high));
+
+        assertSame(high, pollAndWrite(scheduler, 100).record);
+        assertSame(normal, pollAndWrite(scheduler, 100).record);
+        assertSame(low, pollAndWrite(scheduler, 100).record);
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void sequentialAndIncremental() {
+        final ExtensiblePriorityScheduler scheduler = new ExtensiblePriorityScheduler();
+
+        scheduler.offer(1, ExtensiblePriority.of(3, true), record(1, 20));
+        scheduler.offer(3, ExtensiblePriority.of(3, true), record(3, 20));
+        scheduler.offer(5, ExtensiblePriority.of(3, false), record(5, 20));
+        scheduler.offer(5, ExtensiblePriority.of(3, false), record(5, 10));
+
+        final List<Integer> order = new ArrayList<>();
+        Written written;
+        while ((written = pollAndWrite(scheduler, 10)) != null) {
+            order.add(written.streamId);
+        }
+
+        // non-incremental stream is served first until drained, then incremental streams are interleaved
+        final List<Integer> expected = new ArrayList<>();
+        expected.add(5);
+        expected.add(5);
+        expected.add(5);
+        expected.add(1);
+        expected.add(3);
+        expected.add(1);
+        expected.add(3);
+        assertEquals(expected, order);
+    }
+
+    @Test
+    public void close() {
+        final ExtensiblePriorityScheduler scheduler = new ExtensiblePriorityScheduler();
+        final AtomicInteger failed = new AtomicInteger();
+
+        scheduler.offer(1, ExtensiblePriority.DEFAULT, record(1, 10, failed));
+        scheduler.offer(3, ExtensiblePriority.DEFAULT, record(3, 10, failed));
+        scheduler.close();
+
+        assertEquals(2, failed.get());
+        assertNull(scheduler.poll());
+        assertFalse(scheduler.offer(5, ExtensiblePriority.DEFAULT, record(5, 10, failed)));
+    }
+
+    private static Written pollAndWrite(final ExtensiblePriorityScheduler scheduler, final int maxDataSize) {
+        final Http2OutputQueueRecord record = scheduler.poll();
+        if (record == null) {
+            return null;
+        }
+
+        final List<Http2Frame> frames = new ArrayList<>();
+        record.serializeTo(frames, maxDataSize);
+        if (record.isFinished()) {
+            scheduler.onRecordFinished();
+        } else {
+            scheduler.requeue(record);
+        }
+
+        return new Written(record, ((DataFrame) frames.get(0)).getStreamId());
+    }
+
+    private static Http2OutputQueueRecord record(final int streamId, final int size) {
+        return record(streamId, size, new AtomicInteger());
+    }
+
+    private static Http2OutputQueueRecord record(final int streamId, final int size, final AtomicInteger failed) {
+        return new Http2OutputQueueRecord(streamId, Buffers.wrap(null, new byte[size]), new EmptyCompletionHandler<WriteResult>() {
+            @Override
+            public void failed(final Throwable throwable) {
+                failed.incrementAndGet();
+            }
+        }, false);
+    }
+
+    private static final class Written {
+        final Http2OutputQueueRecord record;
+        final int streamId;
+
+        Written(final Http2OutputQueueRecord record, final int streamId) {
+            this.record = record;
+            this.streamId = streamId;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.http.util.DataChunk;
+import org.glassfish.grizzly.http2.hpack.Decoder;
+import org.glassfish.grizzly.http2.hpack.DecodingCallback;
+import org.glassfish.grizzly.memory.ByteBufferManager;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.HeapMemoryManager;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.junit.Test;
+
+/**
+ * Test {@link HeadersEncoder} encoding the headers represented by {@link DataChunk}s.
+ */
+public class HeadersEncoderTest {
+
+    private final MemoryManager memoryManager = new HeapMemoryManager();
+
+    @Test
+    public void dataChunkRoundTrip() {
+        final HeadersEncoder encoder = new HeadersEncoder(memoryManager, 4096);
+
+        final DataChunk bytesName = DataChunk.newInstance();
+        bytesName.setBytes("Content-Type".getBytes(StandardCharsets.ISO_8859_1));
+        final DataChunk bytesValue = DataChunk.newInstance();
+        final byte[] padded = "xxtext/htmlxx".getBytes(StandardCharsets.ISO_8859_1);
+        bytesValue.setBytes(padded, 2, padded.length - 2);
+
+        final DataChunk bufferName = DataChunk.newInstance();
+        bufferName.setBuffer(Buffers.wrap(memoryManager, "X-Custom"));
+        final DataChunk bufferValue = DataChunk.newInstance();
+        // not backed by an array
+        final Buffer direct = new ByteBufferManager(true).allocate(16);
+        direct.put("été".getBytes(StandardCharsets.ISO_8859_1)).flip();
+        bufferValue.setBuffer(direct);
+
+        final DataChunk stringName = DataChunk.newInstance();
+        stringName.setString("Accept-Ranges");
+        final DataChunk stringValue = DataChunk.newInstance();
+        stringValue.setString("bytes");
+
+        encoder.encodeHeader(":status", "200", null);
+        encoder.encodeHeader(bytesName, bytesValue, null);
+        encoder.encodeHeader(bufferName, bufferValue, null);
+        encoder.encodeHeader(stringName, stringValue, null);
+
+        final List<String> decoded = decode(encoder.flushHeaders());
+        final List<String> expected = new ArrayList<>();
+        expected.add(":status: 200");
+        expected.add("content-type: text/html");
+        expected.add("x-custom: été");
+        expected.add("accept-ranges: bytes");
+        assertEquals(expected, decoded);
+    }
+
+    @Test
+    public void staticTableIndexed() {
+        final HeadersEncoder encoder = new HeadersEncoder(memoryManager, 4096);
+
+        // every static table entry with a value is encoded as a single byte index
+        encoder.encodeHeader(":method", "POST", null);
+        encoder.encodeHeader(":path", "/index.html", null);
+        encoder.encodeHeader(":status", "404", null);
+        encoder.encodeHeader("accept-encoding", "gzip, deflate", null);
+
+        final Buffer buffer = encoder.flushHeaders();
+        // the block starts with the dynamic table size update
+        assertEquals(5, buffer.remaining());
+        assertEquals((byte) 0x20, buffer.get(0));
+        assertEquals((byte) (0x80 | 3), buffer.get(1));
+        assertEquals((byte) (0x80 | 5), buffer.get(2));
+        assertEquals((byte) (0x80 | 13), buffer.get(3));
+        assertEquals((byte) (0x80 | 16), buffer.get(4));
+    }
+
+    @Test
+    public void capture() {
+        final HeadersEncoder encoder = new HeadersEncoder(memoryManager, 4096);
+        final Map<String, String> capture = new LinkedHashMap<>();
+
+        final DataChunk name = DataChunk.newInstance();
+        name.setBytes("ETag".getBytes(StandardCharsets.ISO_8859_1));
+        final DataChunk value = DataChunk.newInstance();
+        value.setBytes("\"1\"".getBytes(StandardCharsets.ISO_8859_1));
+
+        encoder.encodeHeader(name, value, capture);
+        encoder.flushHeaders();
+        assertEquals("\"1\"", capture.get("etag"));
+    }
+
+    private static List<String> decode(final Buffer buffer) {
+        final List<String> headers = new ArrayList<>();
+        new Decoder(4096).decode(buffer, true, new DecodingCallback() {
+            @Override
+            public void onDecoded(final CharSequence name, final CharSequence value) {
+                headers.add(name + ": " + value);
+            }
+        });
+        return headers;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http2.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Test {@link IntObjectHashMap}.
+ */
+public class IntObjectHashMapTest {
+
+    @Test
+    public void putGetRemove() {
+        final IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertTrue(map.isEmpty());
+
+        for (int i = 1; i < 2000; i += 2) {
+            assertNull(map.put(i, "s" + i));
+        }
+
+        assertEquals(1000, map.size());
+        assertEquals("s1", map.get(1));
+        assertEquals("s1999", map.get(1999));
+        assertNull(map.get(2));
+
+        assertEquals("s1", map.put(1, "x"));
+        assertEquals("x", map.get(1));
+        assertEquals(1000, map.size());
+
+        for (int i = 1; i < 2000; i += 4) {
+            assertEquals(i == 1 ? "x" : "s" + i, map.remove(i));
+        }
+
+        assertEquals(500, map.size());
+        assertNull(map.get(1));
+        assertNull(map.remove(1));
+        assertEquals("s3", map.get(3));
+    }
+
+    @Test
+    public void compareWithHashMap() {
+        final IntObjectHashMap<Integer> map = new IntObjectHashMap<>();
+        final Map<Integer, Integer> expected = new HashMap<>();
+        final Random random = new Random(7);
+
+        // churn, so the tombstones get reused and purged
+        for (int i = 0; i < 100_000; i++) {
+            final int key = random.nextInt(512);
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 512; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    public void tailValuesAndRemoveIf() {
+        final IntObjectHashMap<Integer> map = new IntObjectHashMap<>();
+        for (int i = 99; i > 0; i -= 2) {
+            map.put(i, i);
+        }
+
+        assertEquals(Arrays.asList(93, 95, 97, 99), map.tailValues(91));
+        assertTrue(map.tailValues(99).isEmpty());
+        assertEquals(50, map.values().size());
+
+        assertEquals(25, map.removeIf(v -> v % 4 == 1));
+        assertEquals(25, map.size());
+        assertEquals(Arrays.asList(91, 95, 99), map.tailValues(90));
+        assertFalse(map.values().contains(97));
+    }
+
+    @Test
+    public void lockFreeReads() throws Exception {
+        final IntObjectHashMap<Integer> map = new IntObjectHashMap<>();
+        // the keys, which are never removed
+        for (int i = 0; i < 100; i++) {
+            map.put(-i - 1, i);
+        }
+
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final CountDownLatch readersDone = new CountDownLatch(2);
+        for (int r = 0; r < 2; r++) {
+            final Thread reader = new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        for (int i = 0; i < 100; i++) {
+                            final Integer value = map.get(-i - 1);
+                            if (value == null || value != i) {
+                                failure.set("Key " + (-i - 1) + " is mapped to " + value);
+                                return;
+                            }
+                        }
+                    }
+                } finally {
+                    readersDone.countDown();
+                }
+            });
+            reader.start();
+        }
+
+        // the writer grows the table and churns the other keys
+        for (int i = 1; i < 200_000; i++) {
+            map.put(i, i);
+            if (i > 64) {
+                map.remove(i - 64);
+            }
+        }
+
+        done.set(true);
+        readersDone.await();
+        assertNull(failure.get());
+    }
+}
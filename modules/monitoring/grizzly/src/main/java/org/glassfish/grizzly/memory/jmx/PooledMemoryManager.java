@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.memory.jmx;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.gmbal.Description;
+import org.glassfish.gmbal.GmbalMBean;
+import org.glassfish.gmbal.ManagedAttribute;
+import org.glassfish.gmbal.ManagedObject;
+import org.glassfish.grizzly.jmxbase.GrizzlyJmxManager;
+import org.glassfish.grizzly.memory.MemoryProbe;
+
+/**
+ * {@link org.glassfish.grizzly.memory.PooledMemoryManager} JMX object.
+ */
+@ManagedObject
+@Description("Grizzly Pooled Memory Manager, which uses the pools of fixed size buffers split into slices")
+public class PooledMemoryManager extends MemoryManager {
+
+    private final MemoryProbe sliceProbe;
+
+    private final AtomicLong sliceHitCount = new AtomicLong();
+    private final AtomicLong sliceStealCount = new AtomicLong();
+    private final AtomicLong sliceMissCount = new AtomicLong();
+
+    public PooledMemoryManager(org.glassfish.grizzly.memory.PooledMemoryManager memoryManager) {
+        super(memoryManager);
+        sliceProbe = new JmxSliceProbe();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void onRegister(GrizzlyJmxManager mom, GmbalMBean bean) {
+        super.onRegister(mom, bean);
+        memoryManager.getMonitoringConfig().addProbes(sliceProbe);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void onDeregister(GrizzlyJmxManager mom) {
+        memoryManager.getMonitoringConfig().removeProbes(sliceProbe);
+        super.onDeregister(mom);
+    }
+
+    @ManagedAttribute(id="slice-affinity")
+    @Description("Whether every thread allocates from its own home pool slice")
+    public boolean isSliceAffinity() {
+        return ((org.glassfish.grizzly.memory.PooledMemoryManager) memoryManager).isSliceAffinity();
+    }
+
+    @ManagedAttribute(id="slice-hit-count")
+    @Description("Total number of buffers allocated from the thread's (home) pool slice")
+    public long getSliceHitCount() {
+        return sliceHitCount.get();
+    }
+
+    @ManagedAttribute(id="slice-steal-count")
+    @Description("Total number of buffers stolen from the neighbor pool slices, because the home slice was empty")
+    public long getSliceStealCount() {
+        return sliceStealCount.get();
+    }
+
+    @ManagedAttribute(id="slice-miss-count")
+    @Description("Total number of buffers created, because there was no pooled buffer available")
+    public long getSliceMissCount() {
+        return sliceMissCount.get();
+    }
+
+    private class JmxSliceProbe extends MemoryProbe.Adapter {
+
+        @Override
+        public void onSliceHitEvent(int size) {
+            sliceHitCount.incrementAndGet();
+        }
+
+        @Override
+        public void onSliceStealEvent(int size) {
+            sliceStealCount.incrementAndGet();
+        }
+
+        @Override
+        public void onSliceMissEvent(int size) {
+            sliceMissCount.incrementAndGet();
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2017 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -66,6 +67,11 @@ public class NIOTransport extends JmxObject {
     private final AtomicInteger openConnectionsNum = new AtomicInteger();
     private final AtomicLong totalConnectionsNum = new AtomicLong();
 
+    private final AtomicLong selectsNum = new AtomicLong();
+    private final AtomicLong selectedKeysNum = new AtomicLong();
+    private final AtomicLong selectorTasksNum = new AtomicLong();
+    private final AtomicLong selectorRebuildsNum = new AtomicLong();
+
     private GrizzlyJmxManager mom;
     
     private MemoryManager currentMemoryManager;
@@ -205,6 +211,30 @@ public class NIOTransport extends JmxObject {
         return totalConnectionsNum.get();
     }
 
+    @ManagedAttribute(id="select-count")
+    @Description("The total number of selects done by the selector threads.")
+    public long getSelectCount() {
+        return selectsNum.get();
+    }
+
+    @ManagedAttribute(id="selected-keys-count")
+    @Description("The total number of selected keys; divided by the select-count gives the average keys per select.")
+    public long getSelectedKeysCount() {
+        return selectedKeysNum.get();
+    }
+
+    @ManagedAttribute(id="selector-tasks-count")
+    @Description("The total number of tasks executed by the selector threads between the selects.")
+    public long getSelectorTasksCount() {
+        return selectorTasksNum.get();
+    }
+
+    @ManagedAttribute(id="selector-rebuild-count")
+    @Description("The total number of selectors replaced due to the spin.")
+    public long getSelectorRebuildCount() {
+        return selectorRebuildsNum.get();
+    }
+
     private static String getType(Object o) {
         return o != null ? o.getClass().getName() : "N/A";
     }
@@ -328,6 +358,22 @@ public class NIOTransport extends JmxObject {
                 rebuildSubTree();
             }
         }
+
+        @Override
+        public void onSelectEvent(Transport transport, int selectedKeysCount, int tasksCount) {
+            selectsNum.incrementAndGet();
+            if (selectedKeysCount != 0) {
+                selectedKeysNum.addAndGet(selectedKeysCount);
+            }
+            if (tasksCount != 0) {
+                selectorTasksNum.addAndGet(tasksCount);
+            }
+        }
+
+        @Override
+        public void onSelectorRebuildEvent(Transport transport) {
+            selectorRebuildsNum.incrementAndGet();
+        }
     }
 
     private class JmxConnectionProbe implements ConnectionProbe {
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -29,6 +30,10 @@ public class PUContext {
     boolean isSticky = true;
     PUProtocol protocol;
 
+    // the number of the ProtocolFinder calls and the detection start time, if PUFilter has probes
+    int findersCalls;
+    long detectionStartTime;
+
     // ------------------------------------------------------------ Constructors
 
     public PUContext(final PUFilter filter) {
@@ -52,5 +57,6 @@ public class PUContext {
         protocol = null;
         skippedProtocolFinders = 0;
         protocolMissCount = 0;
+        findersCalls = 0;
     }
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,6 +23,7 @@ import java.util.concurrent.CancellationException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.CompletionHandler;
 import org.glassfish.grizzly.Connection;
 import org.glassfish.grizzly.Context;
@@ -38,6 +40,9 @@ import org.glassfish.grizzly.filterchain.FilterChainContext;
 import org.glassfish.grizzly.filterchain.FilterChainContext.CopyListener;
 import org.glassfish.grizzly.filterchain.FilterChainEvent;
 import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.monitoring.DefaultMonitoringConfig;
+import org.glassfish.grizzly.monitoring.MonitoringAware;
+import org.glassfish.grizzly.monitoring.MonitoringConfig;
 import org.glassfish.grizzly.utils.ArraySet;
 
 /**
@@ -45,7 +50,7 @@ import org.glassfish.grizzly.utils.ArraySet;
  *
  * @author Alexey Stashok
  */
-public class PUFilter extends BaseFilter {
+public class PUFilter extends BaseFilter implements MonitoringAware<PUProbe> {
     private static final Logger LOGGER = Grizzly.logger(PUFilter.class);
 
     private final SuspendedContextCopyListener suspendedContextCopyListener = new SuspendedContextCopyListener();
@@ -58,6 +63,15 @@ public class PUFilter extends BaseFilter {
 
     private final boolean isCloseUnrecognizedConnection;
 
+    private volatile boolean isPrefixDetection;
+    // the decision table compiled for the current protocols
+    private volatile ProtocolTable protocolTable;
+
+    /**
+     * Port unification probes
+     */
+    protected final DefaultMonitoringConfig<PUProbe> monitoringConfig = new DefaultMonitoringConfig<>(PUProbe.class);
+
     public PUFilter() {
         this(true);
     }
@@ -157,6 +171,41 @@ public class PUFilter extends BaseFilter {
         return isCloseUnrecognizedConnection;
     }
 
+    /**
+     * Returns <tt>true</tt> if the {@link ProtocolFinder#getPrefixes()} of the registered protocols are compiled into the
+     * decision table, which tells what {@link ProtocolFinder}s may recognize the incoming bytes, so the other finders
+     * are not called. When more than one protocol is possible, the protocol recently found for the same remote subnet is
+     * checked first, otherwise the finders are called in the registration order.
+     *
+     * @return <tt>true</tt> if the prefix detection is enabled
+     *
+     * @since 5.0.1
+     */
+    public boolean isPrefixDetection() {
+        return isPrefixDetection;
+    }
+
+    /**
+     * Enables or disables the prefix detection.
+     *
+     * @param isPrefixDetection <tt>true</tt> to enable the prefix detection
+     *
+     * @see #isPrefixDetection()
+     *
+     * @since 5.0.1
+     */
+    public void setPrefixDetection(final boolean isPrefixDetection) {
+        this.isPrefixDetection = isPrefixDetection;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MonitoringConfig<PUProbe> getMonitoringConfig() {
+        return monitoringConfig;
+    }
+
     @Override
     public NextAction handleRead(final FilterChainContext ctx) throws IOException {
         final Connection connection = ctx.getConnection();
@@ -171,9 +220,17 @@ public class PUFilter extends BaseFilter {
         PUProtocol protocol = puContext.protocol;
 
         if (protocol == null) {
+            if (puContext.findersCalls == 0 && monitoringConfig.hasProbes()) {
+                puContext.detectionStartTime = System.nanoTime();
+            }
+
             // try to find appropriate protocol
             findProtocol(puContext, ctx);
             protocol = puContext.protocol;
+
+            if (protocol != null) {
+                notifyProbesProtocolFound(this, connection, puContext);
+            }
         }
 
         if (protocol != null) {
@@ -198,6 +255,8 @@ public class PUFilter extends BaseFilter {
         // no matching protocols within the set of known protocols were found,
         // pass the message to the next filter in the chain
         if (puContext.noProtocolsFound()) {
+            notifyProbesProtocolNotFound(this, connection, puContext);
+
             if (isCloseUnrecognizedConnection) {
                 connection.closeSilently();
                 return ctx.getStopAction();
@@ -259,24 +318,107 @@ public class PUFilter extends BaseFilter {
 
     protected void findProtocol(final PUContext puContext, final FilterChainContext ctx) {
         final PUProtocol[] protocolArray = protocols.getArray();
+        if (protocolArray == null) {
+            return;
+        }
+
+        ProtocolTable table = null;
+        int subnetKey = 0;
+        int hint = -1;
+        if (isPrefixDetection && protocolArray.length <= ProtocolTable.MAX_PROTOCOLS) {
+            table = getProtocolTable(protocolArray);
+
+            final Object message = ctx.getMessage();
+            if (message instanceof Buffer) {
+                puContext.skippedProtocolFinders |= table.getExcluded((Buffer) message);
+            }
+
+            if (table.isAmbiguous(puContext.skippedProtocolFinders)) {
+                subnetKey = ProtocolTable.getSubnetKey(ctx.getConnection());
+                if (subnetKey != 0) {
+                    hint = table.getHint(subnetKey);
+                    if (hint >= 0 && (puContext.skippedProtocolFinders & 1 << hint) == 0 && isProtocolFound(puContext, ctx, protocolArray, hint)) {
+                        return;
+                    }
+                }
+            }
+        }
 
         for (int i = 0; i < protocolArray.length; i++) {
-            final PUProtocol protocol = protocolArray[i];
-            if ((puContext.skippedProtocolFinders & 1 << i) != 0) {
+            if (i == hint || (puContext.skippedProtocolFinders & 1 << i) != 0) {
                 continue;
             }
-            try {
-                final ProtocolFinder.Result result = protocol.getProtocolFinder().find(puContext, ctx);
-
-                switch (result) {
-                case FOUND:
-                    puContext.protocol = protocol;
-                    return;
-                case NOT_FOUND:
-                    puContext.skippedProtocolFinders ^= 1 << i;
+
+            if (isProtocolFound(puContext, ctx, protocolArray, i)) {
+                if (subnetKey != 0) {
+                    table.putHint(subnetKey, i);
                 }
-            } catch (Exception e) {
-                LOGGER.log(Level.WARNING, "ProtocolFinder " + protocol.getProtocolFinder() + " reported error", e);
+
+                return;
+            }
+        }
+    }
+
+    private static boolean isProtocolFound(final PUContext puContext, final FilterChainContext ctx, final PUProtocol[] protocolArray, final int i) {
+        final PUProtocol protocol = protocolArray[i];
+        puContext.findersCalls++;
+        try {
+            final ProtocolFinder.Result result = protocol.getProtocolFinder().find(puContext, ctx);
+
+            switch (result) {
+            case FOUND:
+                puContext.protocol = protocol;
+                return true;
+            case NOT_FOUND:
+                puContext.skippedProtocolFinders ^= 1 << i;
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "ProtocolFinder " + protocol.getProtocolFinder() + " reported error", e);
+        }
+
+        return false;
+    }
+
+    private ProtocolTable getProtocolTable(final PUProtocol[] protocolArray) {
+        ProtocolTable table = protocolTable;
+        if (table == null || table.protocols != protocolArray) {
+            table = new ProtocolTable(protocolArray);
+            protocolTable = table;
+        }
+
+        return table;
+    }
+
+    /**
+     * Notify registered {@link PUProbe}s about the "protocol found" event.
+     *
+     * @param filter the <tt>PUFilter</tt> event occurred on.
+     * @param connection the {@link Connection} event occurred on.
+     * @param puContext the {@link Connection} {@link PUContext}.
+     */
+    protected static void notifyProbesProtocolFound(final PUFilter filter, final Connection connection, final PUContext puContext) {
+        final PUProbe[] probes = filter.monitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            final long detectionTime = puContext.detectionStartTime != 0 ? System.nanoTime() - puContext.detectionStartTime : 0;
+            for (PUProbe probe : probes) {
+                probe.onProtocolFoundEvent(filter, connection, puContext.protocol, detectionTime, puContext.findersCalls);
+            }
+        }
+    }
+
+    /**
+     * Notify registered {@link PUProbe}s about the "protocol not found" event.
+     *
+     * @param filter the <tt>PUFilter</tt> event occurred on.
+     * @param connection the {@link Connection} event occurred on.
+     * @param puContext the {@link Connection} {@link PUContext}.
+     */
+    protected static void notifyProbesProtocolNotFound(final PUFilter filter, final Connection connection, final PUContext puContext) {
+        final PUProbe[] probes = filter.monitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            final long detectionTime = puContext.detectionStartTime != 0 ? System.nanoTime() - puContext.detectionStartTime : 0;
+            for (PUProbe probe : probes) {
+                probe.onProtocolNotFoundEvent(filter, connection, detectionTime, puContext.findersCalls);
             }
         }
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.portunif;
+
+import org.glassfish.grizzly.Connection;
+
+/**
+ * Monitoring probe providing callbacks that may be invoked by {@link PUFilter}, when it detects the {@link Connection}
+ * protocol.
+ *
+ * @see PUStatistics
+ *
+ * @since 5.0.1
+ */
+public interface PUProbe {
+    /**
+     * Method will be called, when the {@link Connection} protocol is found.
+     *
+     * @param filter {@link PUFilter}, the event belongs to.
+     * @param connection {@link Connection}, the event belongs to.
+     * @param protocol the found {@link PUProtocol}.
+     * @param detectionTime the time (in nanoseconds) since the first bytes of the {@link Connection} have been checked.
+     * @param findersCalls the number of the {@link ProtocolFinder} calls.
+     */
+    void onProtocolFoundEvent(PUFilter filter, Connection connection, PUProtocol protocol, long detectionTime, int findersCalls);
+
+    /**
+     * Method will be called, when none of the registered protocols recognized the {@link Connection}.
+     *
+     * @param filter {@link PUFilter}, the event belongs to.
+     * @param connection {@link Connection}, the event belongs to.
+     * @param detectionTime the time (in nanoseconds) since the first bytes of the {@link Connection} have been checked.
+     * @param findersCalls the number of the {@link ProtocolFinder} calls.
+     */
+    void onProtocolNotFoundEvent(PUFilter filter, Connection connection, long detectionTime, int findersCalls);
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * {@link PUProbe} adapter that provides no-op implementations for all interface methods allowing easy extension by the
+     * developer.
+     */
+    class Adapter implements PUProbe {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onProtocolFoundEvent(PUFilter filter, Connection connection, PUProtocol protocol, long detectionTime, int findersCalls) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onProtocolNotFoundEvent(PUFilter filter, Connection connection, long detectionTime, int findersCalls) {
+        }
+    }
+}
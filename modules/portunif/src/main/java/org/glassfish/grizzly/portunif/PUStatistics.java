@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.portunif;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.grizzly.Connection;
+
+/**
+ * {@link PUProbe}, which counts the detected protocols, the time the detection takes and the {@link ProtocolFinder}
+ * calls.
+ *
+ * <pre>
+ * final PUStatistics statistics = new PUStatistics();
+ * puFilter.getMonitoringConfig().addProbes(statistics);
+ * </pre>
+ *
+ * @since 5.0.1
+ */
+public class PUStatistics implements PUProbe {
+
+    private final ConcurrentMap<PUProtocol, LongAdder> hits = new ConcurrentHashMap<>();
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder detectionsCount = new LongAdder();
+    private final LongAdder detectionTime = new LongAdder();
+    private final LongAdder findersCalls = new LongAdder();
+
+    @Override
+    public void onProtocolFoundEvent(final PUFilter filter, final Connection connection, final PUProtocol protocol, final long detectionTime,
+            final int findersCalls) {
+        hits.computeIfAbsent(protocol, k -> new LongAdder()).increment();
+        onDetection(detectionTime, findersCalls);
+    }
+
+    @Override
+    public void onProtocolNotFoundEvent(final PUFilter filter, final Connection connection, final long detectionTime, final int findersCalls) {
+        misses.increment();
+        onDetection(detectionTime, findersCalls);
+    }
+
+    /**
+     * @param protocol {@link PUProtocol}
+     * @return the number of the {@link Connection}s recognized as the protocol
+     */
+    public long getHitCount(final PUProtocol protocol) {
+        final LongAdder count = hits.get(protocol);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * @return the number of the {@link Connection}s, which haven't been recognized
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @param unit the time unit
+     * @return the average protocol detection time
+     */
+    public long getAverageDetectionTime(final TimeUnit unit) {
+        final long count = detectionsCount.sum();
+        return count != 0 ? unit.convert(detectionTime.sum() / count, TimeUnit.NANOSECONDS) : 0;
+    }
+
+    /**
+     * @return the average number of the {@link ProtocolFinder} calls per protocol detection
+     */
+    public double getAverageFindersCalls() {
+        final long count = detectionsCount.sum();
+        return count != 0 ? (double) findersCalls.sum() / count : 0;
+    }
+
+    /**
+     * Resets the statistics.
+     */
+    public void reset() {
+        hits.clear();
+        misses.reset();
+        detectionsCount.reset();
+        detectionTime.reset();
+        findersCalls.reset();
+    }
+
+    private void onDetection(final long time, final int calls) {
+        detectionsCount.increment();
+        detectionTime.add(time);
+        findersCalls.add(calls);
+    }
+}
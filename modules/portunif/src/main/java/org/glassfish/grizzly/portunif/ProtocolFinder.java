@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -37,4 +38,18 @@ public interface ProtocolFinder {
      * @return {@link Result}
      */
     Result find(final PUContext puContext, final FilterChainContext ctx);
+
+    /**
+     * Returns the byte sequences, one of which the protocol data always starts with. The finder must not return
+     * {@link Result#FOUND} for the {@link org.glassfish.grizzly.Buffer}, which doesn't start with any of them, so the
+     * {@link PUFilter} with {@link PUFilter#isPrefixDetection() prefix detection} doesn't call the finder for such data.
+     * The returned arrays must not be modified.
+     *
+     * @return the byte sequences, or <tt>null</tt> if the protocol data may start with any bytes
+     *
+     * @since 5.0.1
+     */
+    default byte[][] getPrefixes() {
+        return null;
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.portunif;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+
+/**
+ * The decision table compiled from the {@link ProtocolFinder#getPrefixes()} of the registered protocols, which tells
+ * which {@link ProtocolFinder}s may recognize the incoming bytes, so the rest of them are not called. The table also
+ * remembers the protocol recently found for the remote subnet, so it can be checked first, when several protocols are
+ * possible.
+ * <p>
+ * The protocols are represented by the bits of the masks, like in {@link PUContext#skippedProtocolFinders}.
+ */
+final class ProtocolTable {
+
+    /**
+     * The max number of the protocols the table may be compiled for.
+     */
+    static final int MAX_PROTOCOLS = Short.SIZE - 1;
+
+    private static final int HINTS_COUNT = 1024;
+
+    final PUProtocol[] protocols;
+
+    private final Node root = new Node();
+    private final int allProtocols;
+    // the protocols, whose finders don't declare prefixes
+    private final int unprefixedProtocols;
+
+    // subnet key << 32 | protocol index + 1
+    private final AtomicLongArray hints = new AtomicLongArray(HINTS_COUNT);
+
+    ProtocolTable(final PUProtocol[] protocols) {
+        this.protocols = protocols;
+
+        int unprefixed = 0;
+        for (int i = 0; i < protocols.length; i++) {
+            final int bit = 1 << i;
+            final byte[][] prefixes = protocols[i].getProtocolFinder().getPrefixes();
+            if (prefixes == null) {
+                unprefixed |= bit;
+                continue;
+            }
+
+            for (byte[] prefix : prefixes) {
+                Node node = root;
+                node.candidates |= bit;
+                for (byte b : prefix) {
+                    node = node.child(b);
+                    node.candidates |= bit;
+                }
+
+                node.matched |= bit;
+            }
+        }
+
+        allProtocols = (1 << protocols.length) - 1;
+        unprefixedProtocols = unprefixed;
+    }
+
+    /**
+     * @param buffer the incoming bytes
+     * @return the mask of the protocols, which can't be recognized in the incoming bytes
+     */
+    int getExcluded(final Buffer buffer) {
+        int candidates = unprefixedProtocols;
+
+        Node node = root;
+        int position = buffer.position();
+        final int limit = buffer.limit();
+        while (true) {
+            candidates |= node.matched;
+            if (position == limit) {
+                // not enough bytes, the protocols with the longer prefixes are possible
+                candidates |= node.candidates;
+                break;
+            }
+
+            final Node[] children = node.children;
+            if (children == null || (node = children[buffer.get(position++) & 0xff]) == null) {
+                break;
+            }
+        }
+
+        return allProtocols & ~candidates;
+    }
+
+    /**
+     * @param skipped the mask of the protocols, which have been excluded already
+     * @return <tt>true</tt> if more than one protocol is possible
+     */
+    boolean isAmbiguous(final int skipped) {
+        final int remaining = allProtocols & ~skipped;
+        return (remaining & remaining - 1) != 0;
+    }
+
+    /**
+     * @param connection the {@link Connection}, may be <tt>null</tt>
+     * @return the remote subnet key, or <tt>0</tt> if the remote address is unknown
+     */
+    static int getSubnetKey(final Connection<?> connection) {
+        final Object peerAddress = connection != null ? connection.getPeerAddress() : null;
+        if (!(peerAddress instanceof InetSocketAddress)) {
+            return 0;
+        }
+
+        final InetAddress address = ((InetSocketAddress) peerAddress).getAddress();
+        if (address == null) {
+            return 0;
+        }
+
+        int key;
+        if (address instanceof Inet4Address) {
+            // the hash code is the address itself, take /24
+            key = address.hashCode() & 0xffffff00;
+        } else {
+            // take /64
+            final byte[] bytes = address.getAddress();
+            key = 1;
+            for (int i = 0; i < 8; i++) {
+                key = 31 * key + bytes[i];
+            }
+        }
+
+        return key != 0 ? key : 1;
+    }
+
+    /**
+     * @param subnetKey the remote subnet key
+     * @return the index of the protocol recently found for the subnet, or <tt>-1</tt>
+     */
+    int getHint(final int subnetKey) {
+        final long hint = hints.get(hintIndex(subnetKey));
+        return (int) (hint >>> 32) == subnetKey ? (int) hint - 1 : -1;
+    }
+
+    /**
+     * Remembers the protocol found for the subnet.
+     *
+     * @param subnetKey the remote subnet key
+     * @param protocolIndex the index of the found protocol
+     */
+    void putHint(final int subnetKey, final int protocolIndex) {
+        final int index = hintIndex(subnetKey);
+        final long hint = (long) subnetKey << 32 | protocolIndex + 1;
+        if (hints.get(index) != hint) {
+            hints.lazySet(index, hint);
+        }
+    }
+
+    private static int hintIndex(final int subnetKey) {
+        return (subnetKey * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(HINTS_COUNT - 1);
+    }
+
+    private static final class Node {
+        // the protocols, which have a prefix starting with the bytes leading to the node
+        private int candidates;
+        // the protocols, which have a prefix ending at the node
+        private int matched;
+        private Node[] children;
+
+        private Node child(final byte b) {
+            if (children == null) {
+                children = new Node[256];
+            }
+
+            Node child = children[b & 0xff];
+            if (child == null) {
+                child = new Node();
+                children[b & 0xff] = child;
+            }
+
+            return child;
+        }
+    }
+}
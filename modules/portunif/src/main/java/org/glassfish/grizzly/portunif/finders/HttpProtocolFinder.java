@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2007, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -39,6 +40,14 @@ import org.glassfish.grizzly.portunif.ProtocolFinder;
  */
 public class HttpProtocolFinder implements ProtocolFinder {
     private static final char[] METHOD_FIRST_LETTERS = new char[] { 'G', 'P', 'O', 'H', 'D', 'T', 'C' };
+    private static final byte[][] PREFIXES = new byte[METHOD_FIRST_LETTERS.length][];
+
+    static {
+        for (int i = 0; i < METHOD_FIRST_LETTERS.length; i++) {
+            PREFIXES[i] = new byte[] { (byte) METHOD_FIRST_LETTERS[i] };
+        }
+    }
+
     private final Attribute<ParsingState> parsingStateAttribute = Grizzly.DEFAULT_ATTRIBUTE_BUILDER
             .createAttribute(HttpProtocolFinder.class + "-" + hashCode() + ".parsingStateAttribute");
 
@@ -145,6 +154,11 @@ public class HttpProtocolFinder implements ProtocolFinder {
         return Result.NEED_MORE_DATA;
     }
 
+    @Override
+    public byte[][] getPrefixes() {
+        return PREFIXES;
+    }
+
     private static final class ParsingState {
         int position;
         int state;
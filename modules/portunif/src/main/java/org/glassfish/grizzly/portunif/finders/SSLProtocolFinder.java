@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2009, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -38,6 +39,20 @@ public class SSLProtocolFinder implements ProtocolFinder {
 
     private static final Logger LOGGER = Grizzly.logger(SSLProtocolFinder.class);
 
+    // the SSLv3/TLS record content types and the SSLv2 record header bytes
+    private static final byte[][] PREFIXES = new byte[4 + 0x80][];
+
+    static {
+        int i = 0;
+        for (int b = 0x14; b <= 0x17; b++) {
+            PREFIXES[i++] = new byte[] { (byte) b };
+        }
+
+        for (int b = 0x80; b <= 0xff; b++) {
+            PREFIXES[i++] = new byte[] { (byte) b };
+        }
+    }
+
     private final SSLEngineConfigurator sslEngineConfigurator;
 
     public SSLProtocolFinder(final SSLEngineConfigurator sslEngineConfigurator) {
@@ -59,4 +74,9 @@ public class SSLProtocolFinder implements ProtocolFinder {
 
         return Result.FOUND;
     }
+
+    @Override
+    public byte[][] getPrefixes() {
+        return PREFIXES;
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.grizzly.portunif;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.SocketConnectorHandler;
+import org.glassfish.grizzly.filterchain.BaseFilter;
+import org.glassfish.grizzly.filterchain.FilterChain;
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.impl.FutureImpl;
+import org.glassfish.grizzly.impl.SafeFutureImpl;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.glassfish.grizzly.nio.transport.TCPNIOConnectorHandler;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.glassfish.grizzly.portunif.finders.HttpProtocolFinder;
+import org.glassfish.grizzly.portunif.finders.SSLProtocolFinder;
+import org.glassfish.grizzly.utils.EchoFilter;
+import org.junit.Test;
+
+/**
+ * Test the {@link PUFilter} prefix detection.
+ */
+public class PrefixDetectionPUTest {
+    public static final int PORT = 17401;
+
+    @Test
+    public void prefixesExcludeFinders() {
+        final PUFilter puFilter = new PUFilter();
+        puFilter.setPrefixDetection(true);
+
+        final PrefixFinder ab = register(puFilter, new PrefixFinder("AB"));
+        final PrefixFinder ac = register(puFilter, new PrefixFinder("AC"));
+        final PrefixFinder any = register(puFilter, new PrefixFinder(null));
+
+        PUContext puContext = find(puFilter, "ABC");
+        assertSame(ab, puContext.protocol.getProtocolFinder());
+        assertEquals(1, ab.invocationCount);
+        assertEquals(0, ac.invocationCount);
+        assertEquals(0, any.invocationCount);
+
+        // both prefixed finders are skipped
+        puContext = find(puFilter, "AD");
+        assertSame(any, puContext.protocol.getProtocolFinder());
+        assertEquals(1, ab.invocationCount);
+        assertEquals(0, ac.invocationCount);
+        assertEquals(1, any.invocationCount);
+
+        // both prefixes are possible
+        puContext = find(puFilter, "A");
+        assertSame(any, puContext.protocol.getProtocolFinder());
+        assertEquals(2, ab.invocationCount);
+        assertEquals(1, ac.invocationCount);
+        assertEquals(2, any.invocationCount);
+        assertEquals(3, puContext.findersCalls);
+    }
+
+    @Test
+    public void noProtocolsFound() {
+        final PUFilter puFilter = new PUFilter();
+        puFilter.setPrefixDetection(true);
+
+        final PrefixFinder x = register(puFilter, new PrefixFinder("X"));
+        final PrefixFinder y = register(puFilter, new PrefixFinder("Y"));
+
+        final PUContext puContext = find(puFilter, "Z");
+        assertTrue(puContext.noProtocolsFound());
+        assertEquals(0, puContext.findersCalls);
+        assertEquals(0, x.invocationCount);
+        assertEquals(0, y.invocationCount);
+    }
+
+    @Test
+    public void protocolsChange() {
+        final PUFilter puFilter = new PUFilter();
+        puFilter.setPrefixDetection(true);
+
+        register(puFilter, new PrefixFinder("X"));
+        assertTrue(find(puFilter, "Y").noProtocolsFound());
+
+        final PrefixFinder y = register(puFilter, new PrefixFinder("Y"));
+        assertSame(y, find(puFilter, "Y").protocol.getProtocolFinder());
+    }
+
+    @Test
+    public void httpAndSslPrefixes() {
+        final PUFilter puFilter = new PUFilter();
+        puFilter.register(new SSLProtocolFinder(null), puFilter.getPUFilterChainBuilder().build());
+        puFilter.register(new HttpProtocolFinder(), puFilter.getPUFilterChainBuilder().build());
+
+        final ProtocolTable table = new ProtocolTable(puFilter.getProtocols().toArray(new PUProtocol[0]));
+        assertEquals(0b01, table.getExcluded(wrap("GET / HTTP/1.1\r\n")));
+        assertEquals(0b01, table.getExcluded(wrap("OPTIONS * HTTP/1.1\r\n")));
+        assertEquals(0b10, table.getExcluded(wrap("\u0016\u0003\u0001")));
+        assertEquals(0b10, table.getExcluded(wrap("\u0080\u002e\u0001")));
+        assertEquals(0b11, table.getExcluded(wrap("\u0012\u0034")));
+        assertEquals(0b00, table.getExcluded(wrap("")));
+        assertFalse(table.isAmbiguous(0b01));
+        assertTrue(table.isAmbiguous(0b00));
+    }
+
+    @Test
+    public void subnetHint() {
+        final ProtocolTable table = new ProtocolTable(new PUProtocol[0]);
+        assertEquals(-1, table.getHint(1));
+
+        table.putHint(1, 3);
+        assertEquals(3, table.getHint(1));
+        assertEquals(-1, table.getHint(2));
+    }
+
+    @Test
+    public void statistics() throws Exception {
+        final PUFilter puFilter = new PUFilter();
+        puFilter.setPrefixDetection(true);
+
+        final PUStatistics statistics = new PUStatistics();
+        puFilter.getMonitoringConfig().addProbes(statistics);
+
+        final PUProtocol x = puFilter.register(new PrefixFinder("X"), puFilter.getPUFilterChainBuilder().add(new EchoFilter()).build());
+        final PUProtocol y = puFilter.register(new PrefixFinder("Y"), puFilter.getPUFilterChainBuilder().add(new EchoFilter()).build());
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(FilterChainBuilder.stateless().add(new TransportFilter()).add(puFilter).build());
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            for (String message : new String[] { "X1", "Y1", "X2" }) {
+                final FutureImpl<String> resultFuture = SafeFutureImpl.create();
+                final Connection<?> connection = openConnection(transport, resultFuture);
+                try {
+                    connection.write(Buffers.wrap(transport.getMemoryManager(), message));
+                    assertEquals(message, resultFuture.get(10, TimeUnit.SECONDS));
+                } finally {
+                    connection.closeSilently();
+                }
+            }
+        } finally {
+            transport.shutdownNow();
+        }
+
+        assertEquals(2, statistics.getHitCount(x));
+        assertEquals(1, statistics.getHitCount(y));
+        assertEquals(0, statistics.getMissCount());
+        assertEquals(1, statistics.getAverageFindersCalls(), 0);
+        assertTrue(statistics.getAverageDetectionTime(TimeUnit.NANOSECONDS) >= 0);
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private static PrefixFinder register(final PUFilter puFilter, final PrefixFinder finder) {
+        puFilter.register(finder, puFilter.getPUFilterChainBuilder().build());
+        return finder;
+    }
+
+    private static PUContext find(final PUFilter puFilter, final String message) {
+        final FilterChainContext ctx = new FilterChainContext();
+        ctx.setMessage(wrap(message));
+
+        final PUContext puContext = new PUContext(puFilter);
+        puFilter.findProtocol(puContext, ctx);
+        return puContext;
+    }
+
+    private static Buffer wrap(final String message) {
+        return Buffers.wrap(MemoryManager.DEFAULT_MEMORY_MANAGER, message, StandardCharsets.ISO_8859_1);
+    }
+
+    private static Connection<?> openConnection(final TCPNIOTransport transport, final FutureImpl<String> resultFuture) throws Exception {
+        final FilterChain clientFilterChain = FilterChainBuilder.stateless().add(new TransportFilter()).add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+                final Buffer buffer = ctx.getMessage();
+                resultFuture.result(buffer.toStringContent(StandardCharsets.ISO_8859_1));
+                return ctx.getStopAction();
+            }
+        }).build();
+
+        final SocketConnectorHandler connectorHandler = TCPNIOConnectorHandler.builder(transport).processor(clientFilterChain).build();
+        return connectorHandler.connect("localhost", PORT).get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Finds the protocol, whose data starts with the prefix, or any data, if the prefix is <tt>null</tt>.
+     */
+    private static final class PrefixFinder implements ProtocolFinder {
+        private final String prefix;
+        private int invocationCount;
+
+        private PrefixFinder(final String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Result find(final PUContext puContext, final FilterChainContext ctx) {
+            invocationCount++;
+            if (prefix == null) {
+                return Result.FOUND;
+            }
+
+            final Buffer buffer = ctx.getMessage();
+            final String data = buffer.toStringContent(StandardCharsets.ISO_8859_1);
+            if (data.startsWith(prefix)) {
+                return Result.FOUND;
+            }
+
+            return prefix.startsWith(data) ? Result.NEED_MORE_DATA : Result.NOT_FOUND;
+        }
+
+        @Override
+        public byte[][] getPrefixes() {
+            return prefix != null ? new byte[][] { prefix.getBytes(StandardCharsets.ISO_8859_1) } : null;
+        }
+    }
+}
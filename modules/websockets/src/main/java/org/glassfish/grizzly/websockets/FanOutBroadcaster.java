@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.websockets;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.EmptyCompletionHandler;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.nio.NIOConnection;
+import org.glassfish.grizzly.nio.SelectorHandler;
+import org.glassfish.grizzly.nio.SelectorRunner;
+
+/**
+ * {@link Broadcaster}, which encodes the frame once into a shared {@link Buffer}, and writes the read-only views of the
+ * {@link Buffer} to the recipients, so there is no per-recipient framing or copy. The writes to the connections served
+ * by the same {@link SelectorRunner} are batched into a single task, executed by the {@link SelectorRunner} thread.
+ * <p>
+ * The recipients, whose async write queue already holds more than {@link #getMaxPendingBytes()} bytes (or which can't
+ * be written to at all), are considered slow, and the frame is dropped for them. Once all the writes of a broadcast are
+ * completed, the {@link Listener} gets notified with the fan-out latency and the number of the dropped frames.
+ * <p>
+ * The frames broadcast by the same thread are delivered to a recipient in order, but they are not ordered with the
+ * frames sent to the recipient directly. The recipients, which negotiated the permessage-deflate extension, get their
+ * own frame. NOTE: works with {@link SimpleWebSocket}s and inherited classes.
+ */
+public class FanOutBroadcaster implements Broadcaster {
+
+    private static final Logger LOGGER = Grizzly.logger(FanOutBroadcaster.class);
+
+    /**
+     * The broadcast statistics listener.
+     */
+    public interface Listener {
+        /**
+         * Notifies that all the writes of the broadcast have been completed.
+         *
+         * @param recipients the number of the connected recipients.
+         * @param dropped the number of the recipients, which didn't get the frame, because they are slow or failed.
+         * @param fanOutNanos the time, in nanoseconds, from the beginning of the broadcast till the last write completion.
+         */
+        void onBroadcastCompleted(int recipients, int dropped, long fanOutNanos);
+    }
+
+    private final int maxPendingBytes;
+    private final Listener listener;
+
+    private final AtomicLong broadcastsCount = new AtomicLong();
+    private final AtomicLong droppedFramesCount = new AtomicLong();
+
+    /**
+     * Constructs the {@link FanOutBroadcaster}, which drops the frames only for the recipients, whose async write queue
+     * is full.
+     */
+    public FanOutBroadcaster() {
+        this(-1, null);
+    }
+
+    /**
+     * @param maxPendingBytes the max number of bytes pending in the recipient's async write queue, after which the
+     * broadcast frames are dropped for the recipient, or <tt>-1</tt> to use the async write queue limit.
+     * @param listener the {@link Listener} to be notified about every broadcast completion, may be <tt>null</tt>.
+     */
+    public FanOutBroadcaster(final int maxPendingBytes, final Listener listener) {
+        this.maxPendingBytes = maxPendingBytes;
+        this.listener = listener;
+    }
+
+    /**
+     * @return the max number of bytes pending in the recipient's async write queue, after which the broadcast frames are
+     * dropped for the recipient, or <tt>-1</tt> if the async write queue limit is used.
+     */
+    public int getMaxPendingBytes() {
+        return maxPendingBytes;
+    }
+
+    /**
+     * @return the number of broadcasts, which had at least one connected recipient.
+     */
+    public long getBroadcastsCount() {
+        return broadcastsCount.get();
+    }
+
+    /**
+     * @return the number of frames dropped for the slow or failed recipients.
+     */
+    public long getDroppedFramesCount() {
+        return droppedFramesCount.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void broadcast(final Iterable<? extends WebSocket> recipients, final String text) {
+        broadcastFragment(recipients, text, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void broadcast(final Iterable<? extends WebSocket> recipients, final byte[] binary) {
+        broadcastFragment(recipients, binary, true);
+    }
+
+    @Override
+    public void broadcastFragment(final Iterable<? extends WebSocket> recipients, final String text, final boolean last) {
+        final long start = System.nanoTime();
+        final List<SimpleWebSocket> webSockets = connected(recipients, webSocket -> webSocket.stream(last, text));
+        if (!webSockets.isEmpty()) {
+            fanOut(webSockets, webSockets.get(0).toRawData(text, last), start);
+        }
+    }
+
+    @Override
+    public void broadcastFragment(final Iterable<? extends WebSocket> recipients, final byte[] binary, final boolean last) {
+        final long start = System.nanoTime();
+        final List<SimpleWebSocket> webSockets = connected(recipients, webSocket -> webSocket.stream(last, binary, 0, binary.length));
+        if (!webSockets.isEmpty()) {
+            fanOut(webSockets, webSockets.get(0).toRawData(binary, last), start);
+        }
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    /**
+     * Returns the connected recipients, which can share the frame. The frames compressed by the permessage-deflate
+     * extension are connection specific, so they are sent to the recipients one by one.
+     */
+    private List<SimpleWebSocket> connected(final Iterable<? extends WebSocket> recipients, final Consumer<SimpleWebSocket> sender) {
+        final List<SimpleWebSocket> webSockets = new ArrayList<>();
+        for (WebSocket webSocket : recipients) {
+            final ProtocolHandler handler = ((SimpleWebSocket) webSocket).protocolHandler;
+            if (!webSocket.isConnected() || handler.getConnection() == null) {
+                continue;
+            }
+
+            if (handler.isPerMessageDeflate()) {
+                try {
+                    sender.accept((SimpleWebSocket) webSocket);
+                } catch (WebSocketException e) {
+                    droppedFramesCount.incrementAndGet();
+                }
+            } else {
+                webSockets.add((SimpleWebSocket) webSocket);
+            }
+        }
+
+        return webSockets;
+    }
+
+    private void fanOut(final List<SimpleWebSocket> webSockets, final byte[] rawData, final long start) {
+        broadcastsCount.incrementAndGet();
+
+        final Connection<?> first = webSockets.get(0).protocolHandler.getConnection();
+        final Broadcast broadcast = new Broadcast(Buffers.wrap(first.getMemoryManager(), rawData), webSockets.size(), start);
+
+        // group the connections by the SelectorRunner, which serves them
+        final Map<SelectorRunner, List<Connection<?>>> batches = new IdentityHashMap<>();
+        for (SimpleWebSocket webSocket : webSockets) {
+            final Connection<?> connection = webSocket.protocolHandler.getConnection();
+            if (connection == null || isSlow(connection)) {
+                broadcast.dropped();
+                continue;
+            }
+
+            if (connection instanceof NIOConnection && ((NIOConnection) connection).getSelectorRunner() != null) {
+                batches.computeIfAbsent(((NIOConnection) connection).getSelectorRunner(), runner -> new ArrayList<>()).add(connection);
+            } else {
+                broadcast.write(connection);
+            }
+        }
+
+        for (Map.Entry<SelectorRunner, List<Connection<?>>> batch : batches.entrySet()) {
+            final SelectorRunner runner = batch.getKey();
+            final List<Connection<?>> connections = batch.getValue();
+            runner.getTransport().getSelectorHandler().execute(runner, new SelectorHandler.Task() {
+                @Override
+                public boolean run() {
+                    for (Connection<?> connection : connections) {
+                        broadcast.write(connection);
+                    }
+                    return true;
+                }
+            }, new EmptyCompletionHandler<SelectorHandler.Task>() {
+                @Override
+                public void failed(final Throwable throwable) {
+                    // the SelectorRunner is stopped, the remaining writes will never complete
+                    for (Connection<?> connection : connections) {
+                        broadcast.completed(false);
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean isSlow(final Connection<?> connection) {
+        if (!connection.canWrite()) {
+            return true;
+        }
+
+        return maxPendingBytes >= 0 && connection instanceof NIOConnection
+                && ((NIOConnection) connection).getAsyncWriteQueue().spaceInBytes() > maxPendingBytes;
+    }
+
+    /**
+     * The state of a single broadcast: the shared frame {@link Buffer} and the number of the writes to be completed.
+     */
+    private final class Broadcast {
+        private final Buffer frame;
+        private final int recipients;
+        private final long start;
+
+        private final AtomicInteger pending;
+        private final AtomicInteger dropped = new AtomicInteger();
+
+        private Broadcast(final Buffer frame, final int recipients, final long start) {
+            this.frame = frame;
+            this.recipients = recipients;
+            this.start = start;
+            this.pending = new AtomicInteger(recipients);
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void write(final Connection connection) {
+            // the view shares the frame content, but has its own position and limit
+            final Buffer view = frame.asReadOnlyBuffer();
+            view.allowBufferDispose(false);
+
+            try {
+                connection.write(view, new EmptyCompletionHandler() {
+                    @Override
+                    public void completed(final Object result) {
+                        Broadcast.this.completed(true);
+                    }
+
+                    @Override
+                    public void failed(final Throwable throwable) {
+                        Broadcast.this.completed(false);
+                    }
+                });
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Broadcast to " + connection + " failed", e);
+                completed(false);
+            }
+        }
+
+        private void dropped() {
+            completed(false);
+        }
+
+        private void completed(final boolean success) {
+            if (!success) {
+                dropped.incrementAndGet();
+                droppedFramesCount.incrementAndGet();
+            }
+
+            if (pending.decrementAndGet() == 0) {
+                frame.tryDispose();
+                if (listener != null) {
+                    listener.onBroadcastCompleted(recipients, dropped.get(), System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -52,6 +53,8 @@ public abstract class HandShake {
     // private final Map<String, String[]> queryParams = new TreeMap<String, String[]>();
     private List<String> subProtocol = new ArrayList<>();
     private List<Extension> extensions = new ArrayList<>(); // client extensions
+    private PerMessageDeflate perMessageDeflate; // client permessage-deflate configuration
+    private PerMessageDeflate.Session deflateSession; // negotiated permessage-deflate
 
     public HandShake(URI url) {
         builder = HttpRequestPacket.builder().protocol(Protocol.HTTP_1_1).method(Method.GET).header(Header.Connection, "Upgrade").upgrade("WebSocket");
@@ -162,6 +165,33 @@ public abstract class HandShake {
         this.extensions = extensions;
     }
 
+    public PerMessageDeflate getPerMessageDeflate() {
+        return perMessageDeflate;
+    }
+
+    /**
+     * Offers the permessage-deflate extension to the server, using the specified configuration. The offer replaces the
+     * previous permessage-deflate offer, if any; <tt>null</tt> removes it.
+     *
+     * @param perMessageDeflate the permessage-deflate configuration.
+     *
+     * @since 5.0.1
+     */
+    public void setPerMessageDeflate(PerMessageDeflate perMessageDeflate) {
+        this.perMessageDeflate = perMessageDeflate;
+        extensions.removeIf(extension -> PerMessageDeflate.NAME.equals(extension.getName()));
+        if (perMessageDeflate != null) {
+            extensions.add(perMessageDeflate.createOffer());
+        }
+    }
+
+    /**
+     * @return the negotiated permessage-deflate state, or <tt>null</tt> if the extension wasn't negotiated.
+     */
+    PerMessageDeflate.Session getDeflateSession() {
+        return deflateSession;
+    }
+
     protected final String joinExtensions(List<Extension> extensions) {
         StringBuilder sb = new StringBuilder();
         for (Extension e : extensions) {
@@ -290,6 +320,21 @@ public abstract class HandShake {
         checkForHeader(headers, Constants.UPGRADE, Constants.WEBSOCKET);
         checkForHeader(headers, Constants.CONNECTION, Constants.UPGRADE);
         checkForSubProtocol(headers);
+        checkForPerMessageDeflate(headers);
+    }
+
+    private void checkForPerMessageDeflate(final HttpResponsePacket headers) {
+        final String value = headers.getHeader(Constants.SEC_WS_EXTENSIONS_HEADER);
+        if (perMessageDeflate == null || value == null) {
+            return;
+        }
+
+        for (Extension extension : parseExtensionsHeader(value)) {
+            if (PerMessageDeflate.NAME.equals(extension.getName())) {
+                deflateSession = perMessageDeflate.accepted(extension);
+                return;
+            }
+        }
     }
 
     public void respond(final FilterChainContext ctx, final WebSocketApplication application, final HttpResponsePacket response) {
@@ -304,8 +349,16 @@ public abstract class HandShake {
         }
         if (!application.getSupportedExtensions().isEmpty() && !getExtensions().isEmpty()) {
             List<Extension> intersection = intersection(getExtensions(), application.getSupportedExtensions());
+            negotiatePerMessageDeflate(application, intersection);
             if (!intersection.isEmpty()) {
                 application.onExtensionNegotiation(intersection);
+            }
+            if (deflateSession != null && !intersection.contains(deflateSession.getResponse())) {
+                // the application has declined the negotiated extension
+                deflateSession.release();
+                deflateSession = null;
+            }
+            if (!intersection.isEmpty()) {
                 response.setHeader(Constants.SEC_WS_EXTENSIONS_HEADER, joinExtensions(intersection));
             }
         }
@@ -313,6 +366,28 @@ public abstract class HandShake {
         ctx.write(HttpContent.builder(response).build());
     }
 
+    /**
+     * Replaces the first acceptable permessage-deflate offer with the response, and removes the other offers.
+     */
+    private void negotiatePerMessageDeflate(final WebSocketApplication application, final List<Extension> extensions) {
+        for (int i = 0; i < extensions.size(); i++) {
+            final Extension extension = extensions.get(i);
+            if (!PerMessageDeflate.NAME.equals(extension.getName())) {
+                continue;
+            }
+
+            if (deflateSession == null) {
+                deflateSession = application.getPerMessageDeflate().accept(extension);
+                if (deflateSession != null) {
+                    extensions.set(i, deflateSession.getResponse());
+                    continue;
+                }
+            }
+
+            extensions.remove(i--);
+        }
+    }
+
     protected abstract void setHeaders(HttpResponsePacket response);
 
     protected final List<String> split(final String header) {
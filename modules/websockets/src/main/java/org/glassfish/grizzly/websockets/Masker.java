@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,11 +17,19 @@
 
 package org.glassfish.grizzly.websockets;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.security.SecureRandom;
 
 import org.glassfish.grizzly.Buffer;
 
 public class Masker {
+    // reads and writes 8 bytes of a byte array at once
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    // SecureRandom is thread-safe, and it's costly to seed a new one for every frame
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private Buffer buffer;
     private byte[] mask;
     private int index = 0;
@@ -45,15 +54,13 @@ public class Masker {
 
     public byte unmask() {
         final byte b = get();
-        return mask == null ? b : (byte) (b ^ mask[index++ % Constants.MASK_SIZE]);
+        return mask == null ? b : (byte) (b ^ mask[index++ & (Constants.MASK_SIZE - 1)]);
     }
 
     public byte[] unmask(int count) {
         byte[] bytes = get(count);
         if (mask != null) {
-            for (int i = 0; i < bytes.length; i++) {
-                bytes[i] ^= mask[index++ % Constants.MASK_SIZE];
-            }
+            xor(bytes, 0, bytes.length);
         }
 
         return bytes;
@@ -61,21 +68,54 @@ public class Masker {
 
     public void generateMask() {
         mask = new byte[Constants.MASK_SIZE];
-        new SecureRandom().nextBytes(mask);
+        RANDOM.nextBytes(mask);
     }
 
     public void mask(byte[] bytes, int location, byte b) {
-        bytes[location] = mask == null ? b : (byte) (b ^ mask[index++ % Constants.MASK_SIZE]);
+        bytes[location] = mask == null ? b : (byte) (b ^ mask[index++ & (Constants.MASK_SIZE - 1)]);
     }
 
     public void mask(byte[] target, int location, byte[] bytes) {
         if (bytes != null && target != null) {
-            for (int i = 0; i < bytes.length; i++) {
-                target[location + i] = mask == null ? bytes[i] : (byte) (bytes[i] ^ mask[index++ % Constants.MASK_SIZE]);
+            System.arraycopy(bytes, 0, target, location, bytes.length);
+            if (mask != null) {
+                xor(target, location, bytes.length);
             }
         }
     }
 
+    /**
+     * Masks (or unmasks) the {@link Buffer} content in place, without changing the {@link Buffer} position and limit.
+     *
+     * @param buffer the {@link Buffer}
+     * @param position the position of the first byte to mask
+     * @param length the number of bytes to mask
+     *
+     * @since 5.0.1
+     */
+    public void mask(Buffer buffer, int position, int length) {
+        if (mask == null) {
+            return;
+        }
+
+        if (buffer.hasArray()) {
+            xor(buffer.array(), buffer.arrayOffset() + position, length);
+            return;
+        }
+
+        int i = 0;
+        if (length >= 8) {
+            final long word = buffer.order() == ByteOrder.LITTLE_ENDIAN ? maskWord() : Long.reverseBytes(maskWord());
+            for (; i <= length - 8; i += 8) {
+                buffer.putLong(position + i, buffer.getLong(position + i) ^ word);
+            }
+        }
+        for (; i < length; i++) {
+            buffer.put(position + i, (byte) (buffer.get(position + i) ^ mask[(index + i) & (Constants.MASK_SIZE - 1)]));
+        }
+        index += length;
+    }
+
     public byte[] maskAndPrepend(byte[] packet) {
         byte[] masked = new byte[packet.length + Constants.MASK_SIZE];
         System.arraycopy(getMask(), 0, masked, 0, Constants.MASK_SIZE);
@@ -94,4 +134,33 @@ public class Masker {
     public void readMask() {
         mask = get(Constants.MASK_SIZE);
     }
+
+    /**
+     * XORs the bytes with the mask, 8 bytes at a time.
+     */
+    private void xor(final byte[] bytes, final int offset, final int length) {
+        int i = 0;
+        if (length >= 8) {
+            final long word = maskWord();
+            for (; i <= length - 8; i += 8) {
+                LONG_LE.set(bytes, offset + i, (long) LONG_LE.get(bytes, offset + i) ^ word);
+            }
+        }
+        // the index modulo the mask size isn't changed by the 8 bytes steps
+        for (; i < length; i++) {
+            bytes[offset + i] ^= mask[(index + i) & (Constants.MASK_SIZE - 1)];
+        }
+        index += length;
+    }
+
+    /**
+     * @return the mask repeated twice, starting from the current index, in the little-endian order
+     */
+    private long maskWord() {
+        long word = 0;
+        for (int k = 7; k >= 0; k--) {
+            word = word << 8 | (mask[(index + k) & (Constants.MASK_SIZE - 1)] & 0xFFL);
+        }
+        return word;
+    }
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -36,6 +37,15 @@ public class OptimizedBroadcaster implements Broadcaster {
             final DefaultWebSocket defaultWebSocket = (DefaultWebSocket) websocket;
 
             if (websocket.isConnected()) {
+                if (defaultWebSocket.protocolHandler.isPerMessageDeflate()) {
+                    // the compressed frames are connection specific
+                    try {
+                        websocket.send(text);
+                    } catch (WebSocketException ignored) {
+                    }
+                    continue;
+                }
+
                 if (rawDataToSend == null) {
                     rawDataToSend = defaultWebSocket.toRawData(text);
                 }
@@ -60,6 +70,15 @@ public class OptimizedBroadcaster implements Broadcaster {
             final DefaultWebSocket defaultWebSocket = (DefaultWebSocket) websocket;
 
             if (websocket.isConnected()) {
+                if (defaultWebSocket.protocolHandler.isPerMessageDeflate()) {
+                    // the compressed frames are connection specific
+                    try {
+                        websocket.send(binary);
+                    } catch (WebSocketException ignored) {
+                    }
+                    continue;
+                }
+
                 if (rawDataToSend == null) {
                     rawDataToSend = defaultWebSocket.toRawData(binary);
                 }
@@ -80,6 +99,15 @@ public class OptimizedBroadcaster implements Broadcaster {
             final DefaultWebSocket defaultWebSocket = (DefaultWebSocket) websocket;
 
             if (websocket.isConnected()) {
+                if (defaultWebSocket.protocolHandler.isPerMessageDeflate()) {
+                    // the compressed frames are connection specific
+                    try {
+                        websocket.stream(last, text);
+                    } catch (WebSocketException ignored) {
+                    }
+                    continue;
+                }
+
                 if (rawDataToSend == null) {
                     rawDataToSend = defaultWebSocket.toRawData(text, last);
                 }
@@ -100,6 +128,15 @@ public class OptimizedBroadcaster implements Broadcaster {
             final DefaultWebSocket defaultWebSocket = (DefaultWebSocket) websocket;
 
             if (websocket.isConnected()) {
+                if (defaultWebSocket.protocolHandler.isPerMessageDeflate()) {
+                    // the compressed frames are connection specific
+                    try {
+                        websocket.stream(last, binary, 0, binary.length);
+                    } catch (WebSocketException ignored) {
+                    }
+                    continue;
+                }
+
                 if (rawDataToSend == null) {
                     rawDataToSend = defaultWebSocket.toRawData(binary, last);
                 }
@@ -0,0 +1,530 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.websockets;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.glassfish.grizzly.compression.zip.ZlibPool;
+
+/**
+ * The configuration of the permessage-deflate extension (RFC 7692), which compresses the payload of every websocket
+ * message.
+ * <p>
+ * On the server side the extension is negotiated, if {@link #NAME} is one of the
+ * {@link WebSocketApplication#getSupportedExtensions() supported extensions} of the application; on the client side,
+ * if the configuration is {@link HandShake#setPerMessageDeflate(PerMessageDeflate) set} on the {@link HandShake}.
+ * <p>
+ * The {@link Deflater}s and {@link Inflater}s are taken from the {@link ZlibPool#DEFAULT_POOL}. If no context takeover
+ * is negotiated for a direction, they are returned to the pool as soon as the message is processed, so idle
+ * connections don't hold any native memory. The number of connections, which keep the compression context between
+ * messages, is limited by {@link #getMaxContextTakeoverSessions()}: once the limit is reached, the server negotiates no
+ * context takeover for both directions.
+ * <p>
+ * NOTE: the JDK {@link Deflater} always uses the 15-bit window, so the offers limiting the window of the local
+ * compressor to less than 15 bits are declined. Any window size of the peer compressor is supported.
+ *
+ * @since 5.0.1
+ */
+public class PerMessageDeflate {
+
+    /**
+     * The extension name.
+     */
+    public static final String NAME = "permessage-deflate";
+
+    static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+
+    /**
+     * The default max size of the decompressed message, 16 MiB.
+     */
+    public static final int DEFAULT_MAX_MESSAGE_SIZE = 16 * 1024 * 1024;
+
+    private static final int MIN_WINDOW_BITS = 8;
+    private static final int MAX_WINDOW_BITS = 15;
+
+    // the empty stored block, which terminates every compressed message
+    private static final byte[] TAIL = { 0x00, 0x00, (byte) 0xff, (byte) 0xff };
+
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private boolean contextTakeover = true;
+    private boolean peerContextTakeover = true;
+    private int peerMaxWindowBits = MAX_WINDOW_BITS;
+    private int maxContextTakeoverSessions = Integer.MAX_VALUE;
+    private int maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+
+    private final AtomicInteger contextTakeoverSessions = new AtomicInteger();
+
+    /**
+     * @return the compression level of the local compressor.
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Sets the compression level of the local compressor, {@link Deflater#DEFAULT_COMPRESSION} by default.
+     *
+     * @param compressionLevel the compression level (0-9), or {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    public void setCompressionLevel(final int compressionLevel) {
+        if ((compressionLevel < 0 || compressionLevel > 9) && compressionLevel != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+        }
+
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * @return <tt>true</tt> if the local compressor may keep the compression context between messages.
+     */
+    public boolean isContextTakeover() {
+        return contextTakeover;
+    }
+
+    /**
+     * Sets whether the local compressor may keep the compression context between messages, <tt>true</tt> by default.
+     * Without context takeover the messages compress worse, but no compressor is held between messages.
+     */
+    public void setContextTakeover(final boolean contextTakeover) {
+        this.contextTakeover = contextTakeover;
+    }
+
+    /**
+     * @return <tt>true</tt> if the peer compressor is allowed to keep the compression context between messages.
+     */
+    public boolean isPeerContextTakeover() {
+        return peerContextTakeover;
+    }
+
+    /**
+     * Sets whether the peer compressor is allowed to keep the compression context between messages, <tt>true</tt> by
+     * default. Without context takeover no decompressor is held between messages.
+     */
+    public void setPeerContextTakeover(final boolean peerContextTakeover) {
+        this.peerContextTakeover = peerContextTakeover;
+    }
+
+    /**
+     * @return the max window bits requested for the peer compressor.
+     */
+    public int getPeerMaxWindowBits() {
+        return peerMaxWindowBits;
+    }
+
+    /**
+     * Sets the max window bits (8-15) requested for the peer compressor, 15 (no limit) by default. The server requests
+     * the limit only if the client offers to support it.
+     */
+    public void setPeerMaxWindowBits(final int peerMaxWindowBits) {
+        if (peerMaxWindowBits < MIN_WINDOW_BITS || peerMaxWindowBits > MAX_WINDOW_BITS) {
+            throw new IllegalArgumentException("Invalid window bits: " + peerMaxWindowBits);
+        }
+
+        this.peerMaxWindowBits = peerMaxWindowBits;
+    }
+
+    /**
+     * @return the max number of connections, which keep the compression context between messages.
+     */
+    public int getMaxContextTakeoverSessions() {
+        return maxContextTakeoverSessions;
+    }
+
+    /**
+     * Sets the max number of connections, which keep the compression context between messages, unlimited by default.
+     * Each of them holds the native memory of a {@link Deflater} and/or an {@link Inflater} as long as it's open.
+     */
+    public void setMaxContextTakeoverSessions(final int maxContextTakeoverSessions) {
+        this.maxContextTakeoverSessions = maxContextTakeoverSessions;
+    }
+
+    /**
+     * @return the max size of the decompressed message.
+     */
+    public int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    /**
+     * Sets the max size of the decompressed message, {@link #DEFAULT_MAX_MESSAGE_SIZE} by default. A message, which
+     * decompresses to more bytes, closes the connection with the 1009 (message too big) code, so a small compressed
+     * message can't make the server allocate an unbounded amount of memory.
+     *
+     * @param maxMessageSize the max size of the decompressed message in bytes.
+     */
+    public void setMaxMessageSize(final int maxMessageSize) {
+        if (maxMessageSize <= 0) {
+            throw new IllegalArgumentException("Invalid max message size: " + maxMessageSize);
+        }
+
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    /**
+     * @return the number of open connections, which keep the compression context between messages.
+     */
+    public int getContextTakeoverSessionsCount() {
+        return contextTakeoverSessions.get();
+    }
+
+    // ------------------------------------------------------- Protected Methods
+
+    /**
+     * @return the client offer.
+     */
+    Extension createOffer() {
+        final Extension offer = new Extension(NAME);
+        if (!contextTakeover) {
+            offer.getParameters().add(new Extension.Parameter(CLIENT_NO_CONTEXT_TAKEOVER, null));
+        }
+        if (!peerContextTakeover) {
+            offer.getParameters().add(new Extension.Parameter(SERVER_NO_CONTEXT_TAKEOVER, null));
+        }
+        if (peerMaxWindowBits < MAX_WINDOW_BITS) {
+            offer.getParameters().add(new Extension.Parameter(SERVER_MAX_WINDOW_BITS, Integer.toString(peerMaxWindowBits)));
+        }
+
+        return offer;
+    }
+
+    /**
+     * Negotiates the client offer on the server side.
+     *
+     * @return the {@link Session}, whose {@link Session#getResponse()} has to be sent back, or <tt>null</tt> if the offer
+     * is declined.
+     */
+    Session accept(final Extension offer) {
+        boolean serverNoContextTakeover = !contextTakeover;
+        boolean clientNoContextTakeover = !peerContextTakeover;
+        int clientMaxWindowBits = -1;
+
+        final Set<String> names = new HashSet<>();
+        for (Extension.Parameter parameter : offer.getParameters()) {
+            final String name = parameter.getName();
+            if (!names.add(name)) {
+                return null;
+            }
+
+            switch (name) {
+            case SERVER_NO_CONTEXT_TAKEOVER:
+                if (parameter.getValue() != null) {
+                    return null;
+                }
+                serverNoContextTakeover = true;
+                break;
+            case CLIENT_NO_CONTEXT_TAKEOVER:
+                if (parameter.getValue() != null) {
+                    return null;
+                }
+                clientNoContextTakeover = true;
+                break;
+            case SERVER_MAX_WINDOW_BITS:
+                // the local compressor window can't be limited
+                if (windowBits(parameter.getValue()) != MAX_WINDOW_BITS) {
+                    return null;
+                }
+                break;
+            case CLIENT_MAX_WINDOW_BITS:
+                final int offered = parameter.getValue() == null ? MAX_WINDOW_BITS : windowBits(parameter.getValue());
+                if (offered < 0) {
+                    return null;
+                }
+                clientMaxWindowBits = Math.min(offered, peerMaxWindowBits);
+                break;
+            default:
+                return null;
+            }
+        }
+
+        // no more room for the connections keeping the context
+        final boolean counted = !serverNoContextTakeover || !clientNoContextTakeover;
+        if (counted && !reserveContextTakeover()) {
+            serverNoContextTakeover = true;
+            clientNoContextTakeover = true;
+        }
+
+        final Extension response = new Extension(NAME);
+        if (serverNoContextTakeover) {
+            response.getParameters().add(new Extension.Parameter(SERVER_NO_CONTEXT_TAKEOVER, null));
+        }
+        if (clientNoContextTakeover) {
+            response.getParameters().add(new Extension.Parameter(CLIENT_NO_CONTEXT_TAKEOVER, null));
+        }
+        if (clientMaxWindowBits != -1 && clientMaxWindowBits < MAX_WINDOW_BITS) {
+            response.getParameters().add(new Extension.Parameter(CLIENT_MAX_WINDOW_BITS, Integer.toString(clientMaxWindowBits)));
+        }
+
+        return new Session(this, response, !serverNoContextTakeover, !clientNoContextTakeover, !serverNoContextTakeover || !clientNoContextTakeover);
+    }
+
+    /**
+     * Validates the server response on the client side.
+     *
+     * @return the negotiated {@link Session}.
+     * @throws HandshakeException if the response is not valid for the offer.
+     */
+    Session accepted(final Extension response) {
+        boolean serverNoContextTakeover = false;
+        boolean clientNoContextTakeover = !contextTakeover;
+
+        final Set<String> names = new HashSet<>();
+        for (Extension.Parameter parameter : response.getParameters()) {
+            final String name = parameter.getName();
+            if (!names.add(name)) {
+                throw new HandshakeException("Duplicate " + NAME + " parameter: " + name);
+            }
+
+            switch (name) {
+            case SERVER_NO_CONTEXT_TAKEOVER:
+                serverNoContextTakeover = true;
+                break;
+            case CLIENT_NO_CONTEXT_TAKEOVER:
+                clientNoContextTakeover = true;
+                break;
+            case SERVER_MAX_WINDOW_BITS:
+                // any window is fine for the local decompressor
+                if (windowBits(parameter.getValue()) < 0) {
+                    throw new HandshakeException("Invalid " + NAME + " parameter: " + parameter);
+                }
+                break;
+            default:
+                // client_max_window_bits is never offered
+                throw new HandshakeException("Unexpected " + NAME + " parameter: " + parameter);
+            }
+        }
+
+        if (!peerContextTakeover && !serverNoContextTakeover) {
+            throw new HandshakeException("Missing " + NAME + " parameter: " + SERVER_NO_CONTEXT_TAKEOVER);
+        }
+
+        final boolean counted = (!clientNoContextTakeover || !serverNoContextTakeover) && reserveContextTakeover();
+        return new Session(this, response, !clientNoContextTakeover && counted, !serverNoContextTakeover, counted);
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private boolean reserveContextTakeover() {
+        for (;;) {
+            final int count = contextTakeoverSessions.get();
+            if (count >= maxContextTakeoverSessions) {
+                return false;
+            }
+            if (contextTakeoverSessions.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static int windowBits(final String value) {
+        try {
+            final int bits = value == null ? -1 : Integer.parseInt(value);
+            return bits >= MIN_WINDOW_BITS && bits <= MAX_WINDOW_BITS ? bits : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * The per-connection compression state.
+     */
+    static final class Session {
+        private final PerMessageDeflate config;
+        private final Extension response;
+        private final boolean compressContextTakeover;
+        private final boolean decompressContextTakeover;
+        private final boolean counted;
+
+        private final Object compressLock = new Object();
+        private final Object decompressLock = new Object();
+
+        private Deflater deflater;
+        private Inflater inflater;
+        private boolean released;
+
+        // the decompressed message fragment
+        private byte[] output;
+        private int outputLength;
+
+        // the max size of the decompressed fragment, the rest of the max message size
+        private int outputLimit;
+        // the size of the decompressed message fragments, which were returned already
+        private int messageLength;
+
+        private Session(final PerMessageDeflate config, final Extension response, final boolean compressContextTakeover,
+                final boolean decompressContextTakeover, final boolean counted) {
+            this.config = config;
+            this.response = response;
+            this.compressContextTakeover = compressContextTakeover;
+            this.decompressContextTakeover = decompressContextTakeover;
+            this.counted = counted;
+        }
+
+        /**
+         * @return the negotiated extension, as it's sent by the server.
+         */
+        Extension getResponse() {
+            return response;
+        }
+
+        /**
+         * Compresses the next fragment of the message.
+         */
+        byte[] compress(final byte[] payload, final boolean last) {
+            synchronized (compressLock) {
+                if (released) {
+                    throw new WebSocketException("Connection is closed");
+                }
+                if (deflater == null) {
+                    deflater = ZlibPool.DEFAULT_POOL.takeDeflater(config.compressionLevel, Deflater.DEFAULT_STRATEGY, true);
+                }
+
+                deflater.setInput(payload);
+                byte[] out = new byte[Math.max(64, (payload.length >> 1) + 16)];
+                int length = 0;
+                for (;;) {
+                    length += deflater.deflate(out, length, out.length - length, Deflater.SYNC_FLUSH);
+                    if (length < out.length) {
+                        break;
+                    }
+                    out = Arrays.copyOf(out, out.length << 1);
+                }
+
+                if (last) {
+                    if (length >= TAIL.length && endsWithTail(out, length)) {
+                        length -= TAIL.length;
+                    }
+                    if (!compressContextTakeover) {
+                        ZlibPool.DEFAULT_POOL.offerDeflater(deflater, true);
+                        deflater = null;
+                    }
+                }
+
+                return Arrays.copyOf(out, length);
+            }
+        }
+
+        /**
+         * Decompresses the next fragment of the message.
+         */
+        byte[] decompress(final byte[] payload, final boolean last) {
+            synchronized (decompressLock) {
+                if (released) {
+                    throw new WebSocketException("Connection is closed");
+                }
+                if (inflater == null) {
+                    inflater = ZlibPool.DEFAULT_POOL.takeInflater(true);
+                }
+
+                outputLimit = config.maxMessageSize - messageLength;
+                output = new byte[(int) Math.min(Math.max(64, (long) payload.length << 2), outputLimit + 1L)];
+                outputLength = 0;
+                final byte[] result;
+                try {
+                    inflate(payload);
+                    if (last && !inflater.finished()) {
+                        inflate(TAIL);
+                    }
+
+                    result = Arrays.copyOf(output, outputLength);
+                } catch (DataFormatException e) {
+                    throw new ProtocolError("Invalid compressed message", e);
+                } finally {
+                    output = null;
+                }
+
+                messageLength = last ? 0 : messageLength + result.length;
+
+                if (inflater.finished()) {
+                    // the peer ended the stream with the final block, so there is no context to keep
+                    inflater.reset();
+                }
+                if (last && !decompressContextTakeover) {
+                    ZlibPool.DEFAULT_POOL.offerInflater(inflater, true);
+                    inflater = null;
+                }
+
+                return result;
+            }
+        }
+
+        /**
+         * Returns the {@link Deflater} and {@link Inflater} to the pool.
+         */
+        void release() {
+            synchronized (compressLock) {
+                synchronized (decompressLock) {
+                    if (released) {
+                        return;
+                    }
+                    released = true;
+
+                    if (deflater != null) {
+                        ZlibPool.DEFAULT_POOL.offerDeflater(deflater, true);
+                        deflater = null;
+                    }
+                    if (inflater != null) {
+                        ZlibPool.DEFAULT_POOL.offerInflater(inflater, true);
+                        inflater = null;
+                    }
+                }
+            }
+
+            if (counted) {
+                config.contextTakeoverSessions.decrementAndGet();
+            }
+        }
+
+        private void inflate(final byte[] input) throws DataFormatException {
+            inflater.setInput(input);
+            for (;;) {
+                if (outputLength == output.length) {
+                    // one byte over the limit is enough to see the message is too big
+                    output = Arrays.copyOf(output, (int) Math.min((long) output.length << 1, outputLimit + 1L));
+                }
+
+                final int n = inflater.inflate(output, outputLength, output.length - outputLength);
+                outputLength += n;
+                if (outputLength > outputLimit) {
+                    throw new MessageTooBigError("The decompressed message exceeds " + config.maxMessageSize + " bytes");
+                }
+                if (n == 0 && (inflater.needsInput() || inflater.finished() || inflater.needsDictionary())) {
+                    return;
+                }
+            }
+        }
+
+        private static boolean endsWithTail(final byte[] out, final int length) {
+            for (int i = 0; i < TAIL.length; i++) {
+                if (out[length - TAIL.length + i] != TAIL[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,8 +23,12 @@ import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
 
 import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.CloseListener;
+import org.glassfish.grizzly.CloseType;
+import org.glassfish.grizzly.Closeable;
 import org.glassfish.grizzly.CompletionHandler;
 import org.glassfish.grizzly.Connection;
 import org.glassfish.grizzly.EmptyCompletionHandler;
@@ -50,6 +55,7 @@ public abstract class ProtocolHandler {
     protected final CharsetDecoder currentDecoder = utf8.newDecoder();
     protected ByteBuffer remainder;
     protected WebSocketMappingData mappingData;
+    private volatile PerMessageDeflate.Session deflateSession;
 
     public ProtocolHandler(boolean maskData) {
         this.maskData = maskData;
@@ -63,6 +69,7 @@ public abstract class ProtocolHandler {
         final HttpResponsePacket response = ((HttpRequestPacket) request.getHttpHeader()).getResponse();
 
         handshake.respond(ctx, app, response);
+        setDeflateSession(handshake.getDeflateSession());
         return handshake;
     }
 
@@ -110,6 +117,42 @@ public abstract class ProtocolHandler {
         return maskData;
     }
 
+    /**
+     * @return <tt>true</tt> if the permessage-deflate extension has been negotiated for the connection, so the frames
+     * are connection specific and can't be shared with the other connections.
+     */
+    public boolean isPerMessageDeflate() {
+        return deflateSession != null;
+    }
+
+    void setDeflateSession(final PerMessageDeflate.Session session) {
+        if (session == null) {
+            return;
+        }
+
+        deflateSession = session;
+        connection.addCloseListener(new CloseListener<Closeable, CloseType>() {
+            @Override
+            public void onClosed(final Closeable closeable, final CloseType type) {
+                session.release();
+            }
+        });
+    }
+
+    /**
+     * Compresses the payload of the next message fragment, if the permessage-deflate extension has been negotiated.
+     */
+    protected byte[] deflate(final byte[] payload, final boolean last) {
+        return deflateSession.compress(payload, last);
+    }
+
+    /**
+     * Decompresses the payload of the next message fragment, if the permessage-deflate extension has been negotiated.
+     */
+    protected byte[] inflate(final byte[] payload, final boolean last) {
+        return deflateSession.decompress(payload, last);
+    }
+
     public abstract byte[] frame(DataFrame frame);
     /*
      * public void readFrame() { while (connection.ready()) { try { unframe(buffer, parsingFrame).respond(getWebSocket()); }
@@ -180,8 +223,7 @@ public abstract class ProtocolHandler {
         }
 
         final FutureImpl<DataFrame> localFuture = SafeFutureImpl.create();
-
-        localConnection.write(frame, new EmptyCompletionHandler() {
+        final EmptyCompletionHandler writeCompletionHandler = new EmptyCompletionHandler() {
             @Override
             public void completed(final Object result) {
                 if (completionHandler != null) {
@@ -199,7 +241,16 @@ public abstract class ProtocolHandler {
 
                 localFuture.failure(throwable);
             }
-        });
+        };
+
+        if (deflateSession != null) {
+            // the frames have to be queued in the order they were compressed
+            synchronized (this) {
+                localConnection.write(frame, writeCompletionHandler);
+            }
+        } else {
+            localConnection.write(frame, writeCompletionHandler);
+        }
 
         return localFuture;
     }
@@ -288,6 +339,16 @@ public abstract class ProtocolHandler {
     }
 
     protected void utf8Decode(boolean finalFragment, byte[] data, DataFrame dataFrame) {
+        if (remainder == null && Utf8Utils.isAscii(data, 0, data.length)) {
+            // ASCII is valid UTF-8, and it doesn't leave any decoder state behind
+            dataFrame.setPayload(new String(data, StandardCharsets.ISO_8859_1));
+            dataFrame.setPayload(data);
+            if (finalFragment) {
+                currentDecoder.reset();
+            }
+            return;
+        }
+
         final ByteBuffer b = getByteBuffer(data);
         int n = (int) (b.remaining() * currentDecoder.averageCharsPerByte());
         CharBuffer cb = CharBuffer.allocate(n);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,7 +19,10 @@ package org.glassfish.grizzly.websockets;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
@@ -29,6 +33,36 @@ import org.glassfish.grizzly.utils.Charsets;
 
 public class Utf8Utils {
     private static final byte[] EMPTY_ARRAY = new byte[0];
+    // reads 8 bytes of a byte array at once
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    // the high bit of every byte in a word
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
+    /**
+     * Checks whether all the bytes are 7-bit ASCII characters, which are valid UTF-8 as they are. The bytes are checked 8
+     * at a time.
+     *
+     * @param bytes the bytes to check
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return <tt>true</tt> if all the bytes are ASCII characters
+     *
+     * @since 5.0.1
+     */
+    public static boolean isAscii(final byte[] bytes, final int offset, final int length) {
+        int i = 0;
+        for (; i <= length - 8; i += 8) {
+            if (((long) LONG_LE.get(bytes, offset + i) & NON_ASCII_MASK) != 0) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (bytes[offset + i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
 
     public static byte[] encode(Charset charset, String string) {
         if (string.length() == 0) {
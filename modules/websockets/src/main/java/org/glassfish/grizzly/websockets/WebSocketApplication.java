@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -39,6 +40,7 @@ public abstract class WebSocketApplication extends WebSocketAdapter {
 
     private final List<Extension> supportedExtensions = new ArrayList<>(2);
     private final List<String> supportedProtocols = new ArrayList<>(2);
+    private PerMessageDeflate perMessageDeflate = new PerMessageDeflate();
 
     // ---------------------------------------------------------- Public Methods
 
@@ -161,6 +163,39 @@ public abstract class WebSocketApplication extends WebSocketAdapter {
         return supportedExtensions;
     }
 
+    /**
+     * Return the configuration of the permessage-deflate extension, which is used if {@link PerMessageDeflate#NAME} is
+     * one of the {@link #getSupportedExtensions() supported extensions}.
+     *
+     * @return the permessage-deflate configuration.
+     *
+     * @since 5.0.1
+     */
+    public PerMessageDeflate getPerMessageDeflate() {
+        return perMessageDeflate;
+    }
+
+    /**
+     * Enables the permessage-deflate extension with the specified configuration.
+     *
+     * @param perMessageDeflate the permessage-deflate configuration.
+     *
+     * @since 5.0.1
+     */
+    public void setPerMessageDeflate(PerMessageDeflate perMessageDeflate) {
+        if (perMessageDeflate == null) {
+            throw new IllegalArgumentException("perMessageDeflate can't be null");
+        }
+
+        this.perMessageDeflate = perMessageDeflate;
+        for (Extension extension : supportedExtensions) {
+            if (PerMessageDeflate.NAME.equals(extension.getName())) {
+                return;
+            }
+        }
+        supportedExtensions.add(new Extension(PerMessageDeflate.NAME));
+    }
+
     /**
      *
      *
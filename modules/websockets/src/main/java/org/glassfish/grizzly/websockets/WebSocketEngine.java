@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -48,6 +49,10 @@ public class WebSocketEngine {
     public static final Version DEFAULT_VERSION = Version.RFC6455;
     public static final int DEFAULT_TIMEOUT = 30;
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    /**
+     * The number of recently resolved request URIs, whose mapping is cached.
+     */
+    private static final int MAPPING_CACHE_SIZE = 64;
     private static final WebSocketEngine engine = new WebSocketEngine();
     static final Logger logger = Logger.getLogger(Constants.WEBSOCKET);
 
@@ -68,6 +73,7 @@ public class WebSocketEngine {
 
     private WebSocketEngine() {
         mapper.setDefaultHostName("localhost");
+        mapper.setMappingCacheSize(MAPPING_CACHE_SIZE);
         unsupportedVersionsResponseBuilder = new HttpResponsePacket.Builder();
         unsupportedVersionsResponseBuilder.status(HttpStatus.BAD_REQUEST_400.getStatusCode());
         unsupportedVersionsResponseBuilder.header(Constants.SEC_WS_VERSION, Version.getSupportedWireProtocolVersions());
@@ -295,6 +301,7 @@ public class WebSocketEngine {
         applications.clear();
         mapper = new Mapper();
         mapper.setDefaultHostName("localhost");
+        mapper.setMappingCacheSize(MAPPING_CACHE_SIZE);
     }
 
     private void handleUnsupportedVersion(final FilterChainContext ctx, final HttpRequestPacket request) throws IOException {
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -27,6 +28,7 @@ import org.glassfish.grizzly.websockets.DataFrame;
 import org.glassfish.grizzly.websockets.FrameType;
 import org.glassfish.grizzly.websockets.HandShake;
 import org.glassfish.grizzly.websockets.Masker;
+import org.glassfish.grizzly.websockets.MessageTooBigError;
 import org.glassfish.grizzly.websockets.ProtocolError;
 import org.glassfish.grizzly.websockets.ProtocolHandler;
 import org.glassfish.grizzly.websockets.frametypes.BinaryFrameType;
@@ -39,6 +41,8 @@ import org.glassfish.grizzly.websockets.frametypes.TextFrameType;
 public class RFC6455Handler extends ProtocolHandler {
 
     private final ParsingState state = new ParsingState();
+    // true, if the message being parsed is compressed
+    private boolean inCompressed;
 
     // ------------------------------------------------------------ Constructors
 
@@ -60,8 +64,17 @@ public class RFC6455Handler extends ProtocolHandler {
 
     @Override
     public byte[] frame(DataFrame frame) {
-        byte opcode = checkForLastFrame(frame, getOpcode(frame.getType()));
-        final byte[] bytes = frame.getType().getBytes(frame);
+        final byte frameOpcode = getOpcode(frame.getType());
+        final boolean firstFragment = outFragmentedType == 0;
+        byte opcode = checkForLastFrame(frame, frameOpcode);
+        byte[] bytes = frame.getType().getBytes(frame);
+        if (isPerMessageDeflate() && !isControlFrame(frameOpcode)) {
+            bytes = deflate(bytes, frame.isLast());
+            if (firstFragment) {
+                // RSV1 marks the compressed message
+                opcode |= 0x40;
+            }
+        }
         final byte[] lengthBytes = encodeLength(bytes.length);
 
         int length = 1 + lengthBytes.length + bytes.length + (maskData ? Constants.MASK_SIZE : 0);
@@ -93,19 +106,28 @@ public class RFC6455Handler extends ProtocolHandler {
                 }
 
                 byte opcode = buffer.get();
-                boolean rsvBitSet = isBitSet(opcode, 6) || isBitSet(opcode, 5) || isBitSet(opcode, 4);
+                final boolean compressed = isBitSet(opcode, 6);
+                boolean rsvBitSet = compressed && !isPerMessageDeflate() || isBitSet(opcode, 5) || isBitSet(opcode, 4);
                 if (rsvBitSet) {
                     throw new ProtocolError("RSV bit(s) incorrectly set.");
                 }
                 state.finalFragment = isBitSet(opcode, 7);
                 state.controlFrame = isControlFrame(opcode);
-                state.opcode = (byte) (opcode & 0x7f);
+                state.opcode = (byte) (opcode & 0x0f);
                 state.frameType = valueOf(inFragmentedType, state.opcode);
                 if (!state.finalFragment && state.controlFrame) {
                     throw new ProtocolError("Fragmented control frame");
                 }
+                if (compressed && state.controlFrame) {
+                    throw new ProtocolError("RSV1 bit set on control frame.");
+                }
 
                 if (!state.controlFrame) {
+                    if (!isContinuationFrame(state.opcode)) {
+                        inCompressed = compressed;
+                    } else if (compressed) {
+                        throw new ProtocolError("RSV1 bit set on continuation frame.");
+                    }
                     if (isContinuationFrame(state.opcode) && !processingFragment) {
                         throw new ProtocolError("End fragment sent, but wasn't processing any previous fragments");
                     }
@@ -147,6 +169,10 @@ public class RFC6455Handler extends ProtocolHandler {
                     }
                     state.masker.setBuffer(buffer);
                     state.length = decodeLength(state.masker.unmask(lengthBytes));
+                    // the most significant bit of the 64-bit length has to be 0, and the payload is read into an array
+                    if (state.length < 0 || state.length > Integer.MAX_VALUE) {
+                        throw new MessageTooBigError("Frame payload too large: " + Long.toUnsignedString(state.length) + " bytes");
+                    }
                 }
                 state.state++;
             case 2:
@@ -164,10 +190,13 @@ public class RFC6455Handler extends ProtocolHandler {
                     return null;
                 }
 
-                state.masker.setBuffer(buffer);
-                final byte[] data = state.masker.unmask((int) state.length);
-                if (data.length != state.length) {
-                    throw new ProtocolError(String.format("Data read (%s) is not the expected" + " size (%s)", data.length, state.length));
+                final int length = (int) state.length;
+                // unmask the payload in place, and copy it out only once
+                state.masker.mask(buffer, buffer.position(), length);
+                byte[] data = new byte[length];
+                buffer.get(data);
+                if (!state.controlFrame && inCompressed) {
+                    data = inflate(data, state.finalFragment);
                 }
                 dataFrame = state.frameType.create(state.finalFragment, data);
 
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.websockets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Test the {@link FanOutBroadcaster} slow consumer handling.
+ */
+public class FanOutBroadcasterTest extends BaseWebSocketTestUtilities {
+
+    @Test
+    public void slowConsumerDropped() throws Exception {
+        final AtomicInteger recipientsNotified = new AtomicInteger();
+        final CountDownLatch droppedLatch = new CountDownLatch(1);
+        final FanOutBroadcaster broadcaster = new FanOutBroadcaster(64 * 1024, (recipients, dropped, fanOutNanos) -> {
+            if (dropped > 0) {
+                recipientsNotified.set(recipients);
+                droppedLatch.countDown();
+            }
+        });
+
+        final WebSocketApplication app = new WebSocketApplication() {
+        };
+
+        final WebSocketServer server = WebSocketServer.createServer(PORT);
+        server.register("", "/slow", app);
+        server.start();
+
+        final Socket socket = new Socket();
+        try {
+            // the peer completes the handshake and never reads anything after it
+            socket.setReceiveBufferSize(4096);
+            socket.connect(new InetSocketAddress("localhost", PORT), 10000);
+            handshake(socket);
+
+            for (int i = 0; i < 100 && app.getWebSockets().isEmpty(); i++) {
+                Thread.sleep(50);
+            }
+            assertEquals(1, app.getWebSockets().size());
+
+            final byte[] frame = new byte[64 * 1024];
+            int broadcasts = 0;
+            while (broadcaster.getDroppedFramesCount() == 0 && broadcasts < 5000) {
+                broadcaster.broadcast(app.getWebSockets(), frame);
+                if (++broadcasts % 10 == 0) {
+                    // let the selector thread move the frames to the async write queue
+                    Thread.sleep(10);
+                }
+            }
+
+            assertTrue(broadcaster.getDroppedFramesCount() > 0);
+            assertEquals(broadcasts, broadcaster.getBroadcastsCount());
+
+            // the broadcast, which dropped the frame, is completed at once
+            assertTrue(droppedLatch.await(10, TimeUnit.SECONDS));
+            assertEquals(1, recipientsNotified.get());
+        } finally {
+            socket.close();
+            server.stop();
+        }
+    }
+
+    private static void handshake(final Socket socket) throws Exception {
+        final OutputStream out = socket.getOutputStream();
+        out.write(("GET /slow HTTP/1.1\r\n" + "Host: localhost:" + PORT + "\r\n" + "Upgrade: websocket\r\n" + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n" + "Sec-WebSocket-Version: 13\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+
+        // read the response headers only
+        final InputStream in = socket.getInputStream();
+        final StringBuilder response = new StringBuilder();
+        while (response.length() < 4 || !"\r\n\r\n".equals(response.substring(response.length() - 4))) {
+            final int b = in.read();
+            if (b == -1) {
+                break;
+            }
+            response.append((char) b);
+        }
+
+        assertTrue(response.toString(), response.toString().startsWith("HTTP/1.1 101"));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.websockets;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.memory.ByteBufferManager;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.HeapMemoryManager;
+import org.junit.Test;
+
+/**
+ * Test {@link Masker} masking 8 bytes at a time against the byte by byte masking.
+ */
+public class MaskerTest {
+
+    private final Random random = new Random(13);
+
+    @Test
+    public void maskArray() {
+        for (int length = 0; length < 40; length++) {
+            final byte[] payload = randomBytes(length);
+
+            final Masker masker = new Masker();
+            final byte[] target = new byte[length + 1];
+            // shift the index, so the mask word doesn't start at the mask beginning
+            masker.mask(target, 0, (byte) 0);
+            masker.mask(target, 1, payload);
+
+            assertArrayEquals(reference(payload, masker.getMask(), 1), Arrays.copyOfRange(target, 1, length + 1));
+        }
+    }
+
+    @Test
+    public void unmaskArray() {
+        for (int length = 0; length < 40; length++) {
+            final byte[] mask = randomBytes(Constants.MASK_SIZE);
+            final byte[] payload = randomBytes(length);
+            final byte[] frame = new byte[Constants.MASK_SIZE + length];
+            System.arraycopy(mask, 0, frame, 0, Constants.MASK_SIZE);
+            System.arraycopy(reference(payload, mask, 0), 0, frame, Constants.MASK_SIZE, length);
+
+            final Masker masker = new Masker(Buffers.wrap(new HeapMemoryManager(), frame));
+            masker.readMask();
+            assertArrayEquals(payload, masker.unmask(length));
+        }
+    }
+
+    @Test
+    public void maskBufferInPlace() {
+        final Buffer[] buffers = { new HeapMemoryManager().allocate(64), new ByteBufferManager(true).allocate(64) };
+        for (Buffer buffer : buffers) {
+            final byte[] mask = randomBytes(Constants.MASK_SIZE);
+            final byte[] payload = randomBytes(37);
+            buffer.put(mask).put(payload).flip();
+
+            final Masker masker = new Masker(buffer);
+            masker.readMask();
+            masker.mask(buffer, buffer.position(), 3);
+            masker.mask(buffer, buffer.position() + 3, payload.length - 3);
+
+            final byte[] masked = new byte[payload.length];
+            buffer.get(masked);
+            assertArrayEquals(reference(payload, mask, 0), masked);
+        }
+    }
+
+    private static byte[] reference(final byte[] payload, final byte[] mask, final int index) {
+        final byte[] masked = new byte[payload.length];
+        for (int i = 0; i < payload.length; i++) {
+            masked[i] = (byte) (payload[i] ^ mask[(index + i) % Constants.MASK_SIZE]);
+        }
+        return masked;
+    }
+
+    private byte[] randomBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
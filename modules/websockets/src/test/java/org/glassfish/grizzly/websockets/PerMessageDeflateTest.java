@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.websockets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.websockets.rfc6455.RFC6455HandShake;
+import org.junit.Test;
+
+/**
+ * Test the permessage-deflate extension.
+ */
+public class PerMessageDeflateTest extends BaseWebSocketTestUtilities {
+
+    private static final String MESSAGE = "{\"type\":\"telemetry\",\"sensor\":\"temperature\",\"unit\":\"celsius\",\"value\":21.5}";
+
+    @Test
+    public void negotiation() {
+        final PerMessageDeflate server = new PerMessageDeflate();
+        server.setPeerMaxWindowBits(10);
+
+        final Extension offer = new Extension(PerMessageDeflate.NAME);
+        offer.getParameters().add(new Extension.Parameter(PerMessageDeflate.CLIENT_MAX_WINDOW_BITS, null));
+        offer.getParameters().add(new Extension.Parameter(PerMessageDeflate.SERVER_NO_CONTEXT_TAKEOVER, null));
+        final PerMessageDeflate.Session session = server.accept(offer);
+        assertNotNull(session);
+        assertEquals("permessage-deflate; server_no_context_takeover; client_max_window_bits=10", session.getResponse().toString());
+        assertEquals(1, server.getContextTakeoverSessionsCount());
+        session.release();
+        assertEquals(0, server.getContextTakeoverSessionsCount());
+
+        // the local compressor window can't be limited
+        final Extension limited = new Extension(PerMessageDeflate.NAME);
+        limited.getParameters().add(new Extension.Parameter(PerMessageDeflate.SERVER_MAX_WINDOW_BITS, "10"));
+        assertNull(server.accept(limited));
+
+        final Extension unknown = new Extension(PerMessageDeflate.NAME);
+        unknown.getParameters().add(new Extension.Parameter("x", null));
+        assertNull(server.accept(unknown));
+
+        // no more connections keeping the context
+        server.setMaxContextTakeoverSessions(0);
+        assertEquals("permessage-deflate; server_no_context_takeover; client_no_context_takeover",
+                server.accept(new Extension(PerMessageDeflate.NAME)).getResponse().toString());
+    }
+
+    @Test
+    public void contextTakeover() {
+        final PerMessageDeflate server = new PerMessageDeflate();
+        final PerMessageDeflate client = new PerMessageDeflate();
+
+        final PerMessageDeflate.Session serverSession = server.accept(client.createOffer());
+        final PerMessageDeflate.Session clientSession = client.accepted(serverSession.getResponse());
+
+        final byte[] message = MESSAGE.getBytes(StandardCharsets.UTF_8);
+        final byte[] first = serverSession.compress(message, true);
+        final byte[] second = serverSession.compress(message, true);
+        // the second message refers to the first one
+        assertTrue(second.length < first.length);
+        assertArrayEquals(message, clientSession.decompress(first, true));
+        assertArrayEquals(message, clientSession.decompress(second, true));
+
+        // fragmented message
+        final byte[] head = clientSession.compress(Arrays.copyOf(message, 10), false);
+        final byte[] tail = clientSession.compress(Arrays.copyOfRange(message, 10, message.length), true);
+        final byte[] headOut = serverSession.decompress(head, false);
+        final byte[] tailOut = serverSession.decompress(tail, true);
+        final byte[] joined = Arrays.copyOf(headOut, headOut.length + tailOut.length);
+        System.arraycopy(tailOut, 0, joined, headOut.length, tailOut.length);
+        assertArrayEquals(message, joined);
+
+        // empty message
+        assertArrayEquals(new byte[0], clientSession.decompress(serverSession.compress(new byte[0], true), true));
+
+        serverSession.release();
+        clientSession.release();
+    }
+
+    @Test
+    public void maxMessageSize() {
+        final PerMessageDeflate server = new PerMessageDeflate();
+        server.setMaxMessageSize(1024);
+        final PerMessageDeflate client = new PerMessageDeflate();
+
+        final PerMessageDeflate.Session serverSession = server.accept(client.createOffer());
+        final PerMessageDeflate.Session clientSession = client.accepted(serverSession.getResponse());
+
+        // exactly the max size is fine
+        assertEquals(1024, serverSession.decompress(clientSession.compress(new byte[1024], true), true).length);
+
+        // a few bytes, which decompress to much more than the max size
+        final byte[] bomb = clientSession.compress(new byte[1024 * 1024], true);
+        assertTrue(bomb.length < 2048);
+        assertTooBig(serverSession, bomb, true);
+
+        // the limit is for the whole message, not for a fragment
+        final PerMessageDeflate.Session fragmentedSession = server.accept(client.createOffer());
+        final PerMessageDeflate.Session fragmentingSession = client.accepted(fragmentedSession.getResponse());
+        assertEquals(1000, fragmentedSession.decompress(fragmentingSession.compress(new byte[1000], false), false).length);
+        assertTooBig(fragmentedSession, fragmentingSession.compress(new byte[1000], true), true);
+
+        serverSession.release();
+        clientSession.release();
+        fragmentedSession.release();
+        fragmentingSession.release();
+    }
+
+    @Test
+    public void singleOffer() throws Exception {
+        final HandShake handshake = new RFC6455HandShake(new URI("ws://localhost/echo"));
+        handshake.setPerMessageDeflate(new PerMessageDeflate());
+        handshake.setPerMessageDeflate(new PerMessageDeflate());
+        assertEquals(1, handshake.getExtensions().size());
+
+        handshake.setPerMessageDeflate(null);
+        assertTrue(handshake.getExtensions().isEmpty());
+    }
+
+    @Test
+    public void echo() throws Exception {
+        final PerMessageDeflate serverDeflate = new PerMessageDeflate();
+        final WebSocketApplication app = new WebSocketApplication() {
+            @Override
+            public void onMessage(WebSocket socket, String data) {
+                socket.send(data);
+            }
+
+            @Override
+            public void onMessage(WebSocket socket, byte[] data) {
+                socket.send(data);
+            }
+        };
+        app.setPerMessageDeflate(serverDeflate);
+
+        final WebSocketServer server = WebSocketServer.createServer(PORT);
+        server.register("", "/echo", app);
+        server.start();
+
+        final int count = 10;
+        final Queue<Object> received = new ConcurrentLinkedQueue<>();
+        final CountDownLatch latch = new CountDownLatch(count + 1);
+        final WebSocketClient client = new WebSocketClient(String.format("ws://localhost:%s/echo", PORT), new WebSocketAdapter() {
+            @Override
+            public void onMessage(WebSocket socket, String text) {
+                received.add(text);
+                latch.countDown();
+            }
+
+            @Override
+            public void onMessage(WebSocket socket, byte[] bytes) {
+                received.add(new String(bytes, StandardCharsets.UTF_8));
+                latch.countDown();
+            }
+        });
+        client.setPerMessageDeflate(new PerMessageDeflate());
+        try {
+            client.connect();
+            assertTrue(client.protocolHandler.isPerMessageDeflate());
+            for (int i = 0; i < count; i++) {
+                client.send(MESSAGE + i);
+            }
+            client.send(MESSAGE.getBytes(StandardCharsets.UTF_8));
+
+            assertTrue(latch.await(WebSocketEngine.DEFAULT_TIMEOUT, TimeUnit.SECONDS));
+            for (int i = 0; i < count; i++) {
+                assertEquals(MESSAGE + i, received.poll());
+            }
+            assertEquals(MESSAGE, received.poll());
+            assertEquals(1, serverDeflate.getContextTakeoverSessionsCount());
+        } finally {
+            client.close();
+            server.stop();
+        }
+    }
+
+    private static void assertTooBig(final PerMessageDeflate.Session session, final byte[] payload, final boolean last) {
+        try {
+            session.decompress(payload, last);
+            fail("MessageTooBigError is expected");
+        } catch (MessageTooBigError e) {
+            assertEquals(1009, e.getClosingCode());
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -37,7 +38,7 @@ public class ServerSideBroadcastTest extends BaseWebSocketTestUtilities {
 
     @Parameterized.Parameters
     public static List<Object[]> parameters() {
-        final Broadcaster[] broadcasters = { new DummyBroadcaster(), new OptimizedBroadcaster() };
+        final Broadcaster[] broadcasters = { new DummyBroadcaster(), new OptimizedBroadcaster(), new FanOutBroadcaster() };
 
         final List<Object[]> versions = BaseWebSocketTestUtilities.parameters();
         final List<Object[]> resultList = new ArrayList<>();
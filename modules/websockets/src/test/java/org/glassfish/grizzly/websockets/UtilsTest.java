@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2025 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,11 +17,17 @@
 
 package org.glassfish.grizzly.websockets;
 
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.HeapMemoryManager;
+import org.glassfish.grizzly.websockets.rfc6455.RFC6455Handler;
 import org.junit.Test;
 
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class UtilsTest {
 
@@ -75,4 +82,34 @@ public class UtilsTest {
             assertEquals(0, list.size());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testIsAscii() {
+        final byte[] bytes = "0123456789abcdefghij".getBytes();
+        assertTrue(Utf8Utils.isAscii(bytes, 0, bytes.length));
+        assertTrue(Utf8Utils.isAscii(bytes, 3, 0));
+
+        // non-ASCII byte in the word and in the tail
+        for (int i : new int[] { 2, 18 }) {
+            final byte[] copy = bytes.clone();
+            copy[i] = (byte) 0xC3;
+            assertFalse(Utf8Utils.isAscii(copy, 0, copy.length));
+            assertTrue(Utf8Utils.isAscii(copy, i + 1, copy.length - i - 1));
+        }
+    }
+
+    @Test
+    public void testFramePayloadTooLarge() {
+        // masked binary frames with the 2^40 and 2^63 bytes long payloads, rejected before the payload arrives
+        final byte[][] frames = { { (byte) 0x82, (byte) 0xFF, 0, 0, 1, 0, 0, 0, 0, 0, 1, 2, 3, 4 },
+                { (byte) 0x82, (byte) 0xFF, (byte) 0x80, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4 } };
+        for (byte[] frame : frames) {
+            try {
+                new RFC6455Handler(false).parse(Buffers.wrap(new HeapMemoryManager(), frame));
+                fail("MessageTooBigError is expected");
+            } catch (MessageTooBigError e) {
+                assertEquals(1009, e.getClosingCode());
+            }
+        }
+    }
+}
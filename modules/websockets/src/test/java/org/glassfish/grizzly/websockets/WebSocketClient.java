@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -46,6 +47,7 @@ public class WebSocketClient extends SimpleWebSocket {
     private final URI address;
     private final ExecutorService executorService = Executors.newFixedThreadPool(2);
     protected TCPNIOTransport transport;
+    private PerMessageDeflate perMessageDeflate;
 
     public WebSocketClient(String uri, WebSocketListener... listeners) {
         this(uri, WebSocketEngine.DEFAULT_VERSION, listeners);
@@ -62,6 +64,10 @@ public class WebSocketClient extends SimpleWebSocket {
         add(new WebSocketCloseAdapter());
     }
 
+    public void setPerMessageDeflate(PerMessageDeflate perMessageDeflate) {
+        this.perMessageDeflate = perMessageDeflate;
+    }
+
     public URI getAddress() {
         return address;
     }
@@ -98,6 +104,9 @@ public class WebSocketClient extends SimpleWebSocket {
                     protocolHandler.setConnection(conn);
                     final WebSocketHolder holder = WebSocketHolder.set(conn, protocolHandler, WebSocketClient.this);
                     holder.handshake = protocolHandler.createClientHandShake(address);
+                    if (perMessageDeflate != null) {
+                        holder.handshake.setPerMessageDeflate(perMessageDeflate);
+                    }
                 }
             };
             final FutureImpl<Boolean> completeFuture = Futures.createSafeFuture();